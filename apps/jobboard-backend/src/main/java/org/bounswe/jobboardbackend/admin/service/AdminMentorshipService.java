@@ -12,6 +12,7 @@ import org.bounswe.jobboardbackend.mentorship.repository.MentorReviewRepository;
 import org.bounswe.jobboardbackend.mentorship.repository.MentorshipRequestRepository;
 import org.bounswe.jobboardbackend.mentorship.repository.MessageRepository;
 import org.bounswe.jobboardbackend.mentorship.repository.ResumeReviewRepository;
+import org.bounswe.jobboardbackend.mentorship.service.ConversationParticipantCache;
 import org.springframework.stereotype.Service;
 
 @Service
@@ -22,6 +23,7 @@ public class AdminMentorshipService {
     private final MentorReviewRepository mentorReviewRepository;
     private final MessageRepository messageRepository;
     private final ResumeReviewRepository resumeReviewRepository;
+    private final ConversationParticipantCache participantCache;
 
     @Transactional
     public void deleteMentorshipRequest(Long requestId) {
@@ -52,6 +54,9 @@ public class AdminMentorshipService {
         ResumeReview resumeReview = resumeReviewRepository.findById(resumeReviewId)
                 .orElseThrow(() -> new HandleException(ErrorCode.RESUME_REVIEW_NOT_FOUND, "Resume review not found"));
 
+        if (resumeReview.getConversation() != null) {
+            participantCache.evict(resumeReview.getConversation().getId());
+        }
         resumeReviewRepository.delete(resumeReview);
     }
 }
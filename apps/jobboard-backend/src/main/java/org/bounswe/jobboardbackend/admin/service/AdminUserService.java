@@ -9,11 +9,13 @@ import org.springframework.context.annotation.Lazy;
 import org.bounswe.jobboardbackend.auth.model.Role;
 import org.bounswe.jobboardbackend.auth.model.User;
 import org.bounswe.jobboardbackend.auth.repository.UserRepository;
+import org.bounswe.jobboardbackend.auth.security.PrincipalCache;
 import org.bounswe.jobboardbackend.jobapplication.repository.JobApplicationRepository;
 import org.bounswe.jobboardbackend.mentorship.repository.MentorProfileRepository;
 import org.bounswe.jobboardbackend.mentorship.repository.MentorshipRequestRepository;
 import org.bounswe.jobboardbackend.profile.repository.ProfileRepository;
 import org.bounswe.jobboardbackend.badge.repository.BadgeRepository;
+import org.bounswe.jobboardbackend.storage.service.ObjectDeletionQueue;
 import org.bounswe.jobboardbackend.workplace.model.enums.EmployerRole;
 import org.bounswe.jobboardbackend.workplace.repository.EmployerWorkplaceRepository;
 import org.bounswe.jobboardbackend.workplace.repository.WorkplaceRepository;
@@ -37,6 +39,8 @@ public class AdminUserService {
     private final AdminWorkplaceService adminWorkplaceService;
     private final WorkplaceRepository workplaceRepository;
     private final BadgeRepository badgeRepository;
+    private final PrincipalCache principalCache;
+    private final ObjectDeletionQueue deletionQueue;
 
     public Page<UserListResponse> listUsers(Pageable pageable, Role role, Boolean isBanned) {
         Page<User> users;
@@ -67,10 +71,13 @@ public class AdminUserService {
         user.setBanReason(request.getReason());
         userRepository.save(user);
         userRepository.flush();
+        principalCache.evict(user.getUsername());
 
         // CASCADE DELETIONS
         // 1. Delete profile
         profileRepository.findByUserId(userId).ifPresent(profile -> {
+            deletionQueue.enqueue(profile.getImageObjectName(),
+                    profile.getImageThumbnailObjectName(), profile.getImageMediumObjectName());
             profileRepository.delete(profile);
             profileRepository.flush();
         });
@@ -82,6 +89,7 @@ public class AdminUserService {
             mentorProfileRepository.delete(mentor);
         });
 
+        deletionQueue.enqueueAll(jobApplicationRepository.findCvObjectNamesByJobSeekerId(userId));
         jobApplicationRepository.deleteAllByJobSeekerId(userId);
 
         employerWorkplaceRepository.findByUser_IdAndRole(userId, EmployerRole.OWNER)
@@ -103,6 +111,7 @@ public class AdminUserService {
         user.setBanReason(null);
 
         userRepository.save(user);
+        principalCache.evict(user.getUsername());
     }
 
     @Transactional
@@ -111,6 +120,7 @@ public class AdminUserService {
                 .orElseThrow(() -> new HandleException(ErrorCode.USER_NOT_FOUND, "User not found"));
 
         userRepository.delete(user);
+        principalCache.evict(user.getUsername());
     }
 
     private UserListResponse mapToUserListResponse(User user) {
@@ -6,6 +6,7 @@ import org.bounswe.jobboardbackend.exception.ErrorCode;
 import org.bounswe.jobboardbackend.exception.HandleException;
 import org.bounswe.jobboardbackend.jobpost.repository.JobPostRepository;
 import org.bounswe.jobboardbackend.jobapplication.repository.JobApplicationRepository;
+import org.bounswe.jobboardbackend.storage.service.ObjectDeletionQueue;
 import java.util.List;
 import org.bounswe.jobboardbackend.workplace.model.Review;
 import org.bounswe.jobboardbackend.workplace.model.ReviewReply;
@@ -32,12 +33,14 @@ public class AdminWorkplaceService {
     private final EmployerWorkplaceRepository employerWorkplaceRepository;
     private final EmployerRequestRepository employerRequestRepository;
     private final JobApplicationRepository jobApplicationRepository;
+    private final ObjectDeletionQueue deletionQueue;
 
     @Transactional
     public void deleteWorkplace(Long workplaceId, String reason) {
         Workplace workplace = workplaceRepository.findById(workplaceId)
                 .orElseThrow(() -> new HandleException(ErrorCode.WORKPLACE_NOT_FOUND, "Workplace not found"));
 
+        deletionQueue.enqueueAll(jobApplicationRepository.findCvObjectNamesByWorkplaceId(workplaceId));
         jobApplicationRepository.deleteAllByJobPost_Workplace_Id(workplaceId);
 
         jobPostRepository.deleteAllByWorkplaceId(workplaceId);
@@ -50,6 +53,8 @@ public class AdminWorkplaceService {
 
         reviewRepository.deleteAllByWorkplace_Id(workplaceId);
 
+        deletionQueue.enqueue(workplace.getImageObjectName(),
+                workplace.getImageThumbnailObjectName(), workplace.getImageMediumObjectName());
         workplaceRepository.delete(workplace);
 
     }
@@ -9,12 +9,15 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.DynamicUpdate;
 
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
 @Data
 @Entity
+@DynamicUpdate
 @Table(name = "users", indexes = {
         @Index(name = "ix_users_username", columnList = "username"),
         @Index(name = "ix_users_email", columnList = "email")
@@ -67,6 +70,13 @@ public class User {
     @Column(length = 500)
     private String mentorBanReason;
 
+    // Global notifications up to this id count as read for the user
+    @JsonIgnore
+    @Column(nullable = false)
+    @ColumnDefault("0")
+    @Builder.Default
+    private long globalNotificationsReadUpTo = 0L;
+
     public User(String username, String email, String password) {
         this.username = username;
         this.email = email;
@@ -35,15 +35,12 @@ public class AuthTokenFilter extends OncePerRequestFilter {
             throws ServletException, IOException {
         try {
             String token = parseJwt(request);
+            // parse and verify once; everything below works on the verified claims
+            VerifiedJwt jwt = StringUtils.hasText(token) ? jwtUtils.tryVerify(token) : null;
 
-            if (StringUtils.hasText(token) && jwtUtils.validateJwtToken(token)) {
-
-                if (!jwtUtils.isAccessToken(token)) {
-                    filterChain.doFilter(request, response);
-                    return;
-                }
-
-                Authentication authentication = jwtUtils.buildAuthenticationFromAccessToken(token, userDetailsService);
+            // other token kinds (e.g. OTP pre-auth) pass through unauthenticated
+            if (jwt != null && jwt.isAccessToken()) {
+                Authentication authentication = jwtUtils.buildAuthentication(jwt, userDetailsService);
 
                 if (authentication instanceof org.springframework.security.authentication.AbstractAuthenticationToken aat) {
                     aat.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
@@ -5,8 +5,7 @@ import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
 import io.jsonwebtoken.security.SignatureException;
 
-import org.bounswe.jobboardbackend.auth.repository.UserRepository;
-import org.bounswe.jobboardbackend.auth.model.User;
+import jakarta.annotation.PostConstruct;
 import org.bounswe.jobboardbackend.auth.service.UserDetailsImpl;
 import org.bounswe.jobboardbackend.exception.ErrorCode;
 import org.bounswe.jobboardbackend.exception.HandleException;
@@ -15,11 +14,11 @@ import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.stereotype.Component;
 
-import java.security.Key;
+import javax.crypto.SecretKey;
+import java.time.Instant;
 import java.util.Date;
 
 @Component
@@ -33,10 +32,55 @@ public class JwtUtils {
     @Value("${app.jwtExpirationInMs}")
     private int jwtExpirationMs;
 
-    private final UserRepository userRepository;
+    @Value("${app.jwtVerifiedCacheSize:1024}")
+    private int verifiedCacheSize;
 
-    public JwtUtils(UserRepository userRepository) {
-        this.userRepository = userRepository;
+    private final PrincipalCache principalCache;
+
+    // Built once from the secret; both are immutable and thread-safe
+    private SecretKey signingKey;
+    private JwtParser jwtParser;
+    private VerifiedTokenCache verifiedTokens;
+
+    public JwtUtils(PrincipalCache principalCache) {
+        this.principalCache = principalCache;
+    }
+
+    @PostConstruct
+    void init() {
+        signingKey = Keys.hmacShaKeyFor(Decoders.BASE64.decode(jwtSecret));
+        jwtParser = Jwts.parserBuilder().setSigningKey(signingKey).build();
+        verifiedTokens = new VerifiedTokenCache(verifiedCacheSize);
+    }
+
+    /**
+     * Parses and verifies {@code token} once, or returns the cached result of an earlier
+     * verification of the exact same token.
+     *
+     * @throws JwtException if the token is malformed, expired or wrongly signed
+     */
+    public VerifiedJwt verify(String token) {
+        VerifiedJwt cached = verifiedTokens.get(token, Instant.now());
+        if (cached != null) {
+            return cached;
+        }
+        VerifiedJwt verified = VerifiedJwt.from(jwtParser.parseClaimsJws(token).getBody());
+        verifiedTokens.put(token, verified);
+        return verified;
+    }
+
+    /**
+     * Like {@link #verify(String)} but returns null for an invalid token.
+     */
+    public VerifiedJwt tryVerify(String token) {
+        try {
+            return verify(token);
+        } catch (SignatureException ex) {
+            logger.debug("Invalid JWT signature: {}", ex.getMessage());
+        } catch (JwtException | IllegalArgumentException ex) {
+            logger.debug("Invalid JWT token: {}", ex.getMessage());
+        }
+        return null;
     }
 
     public String generateOtpToken(Authentication authentication) {
@@ -52,20 +96,17 @@ public class JwtUtils {
     }
 
     public Authentication buildAuthenticationFromAccessToken(String token, UserDetailsService uds) {
-        Claims claims = getClaims(token);
-        if (!"ACCESS".equals(claims.get("purpose")) || !"auth".equals(claims.getAudience())) {
+        return buildAuthentication(verify(token), uds);
+    }
+
+    public Authentication buildAuthentication(VerifiedJwt jwt, UserDetailsService uds) {
+        if (!jwt.isAccessToken()) {
             throw new HandleException(ErrorCode.INVALID_CREDENTIALS, "Token purpose/audience invalid");
         }
 
-        String subject = claims.getSubject();
-
-        UserDetails userDetails = uds.loadUserByUsername(subject);
-
-        String username = userDetails.getUsername();
-
-        User user = userRepository.findByUsername(username)
-                .orElseThrow(() -> new HandleException(ErrorCode.USER_NOT_FOUND, "User not found"));
-        if (user.getIsBanned()) {
+        UserDetailsImpl userDetails = principalCache.get(jwt.subject(),
+                username -> (UserDetailsImpl) uds.loadUserByUsername(username));
+        if (Boolean.TRUE.equals(userDetails.getIsBanned())) {
             throw new HandleException(ErrorCode.USER_BANNED, "User is banned");
         }
 
@@ -76,38 +117,23 @@ public class JwtUtils {
     }
 
     public boolean validateJwtToken(String authToken) {
-        try {
-            jwtParser().parseClaimsJws(authToken);
-            logger.info("Valid JWT token.");
-            return true;
-        } catch (SignatureException ex) {
-            logger.debug("Invalid JWT signature: {}", ex.getMessage());
-        } catch (JwtException | IllegalArgumentException ex) {
-            logger.debug("Invalid JWT token: {}", ex.getMessage());
-        }
-        return false;
+        return tryVerify(authToken) != null;
     }
 
     public Claims getClaims(String token) {
-        return jwtParser().parseClaimsJws(token).getBody();
+        return jwtParser.parseClaimsJws(token).getBody();
     }
 
     public boolean isAccessToken(String token) {
-        Claims claim = getClaims(token);
-        return "ACCESS".equals(claim.get("purpose")) && "auth".equals(claim.getAudience());
+        return verify(token).isAccessToken();
     }
 
     public boolean isPreauthToken(String token) {
-        Claims claim = getClaims(token);
-        return "OTP".equals(claim.get("purpose")) && "preauth".equals(claim.getAudience());
+        return verify(token).isPreauthToken();
     }
 
     public String getUserNameFromJwtToken(String token) {
-        return getClaims(token).getSubject();
-    }
-
-    private Key key() {
-        return Keys.hmacShaKeyFor(Decoders.BASE64.decode(jwtSecret));
+        return verify(token).subject();
     }
 
     private String JwtGenerator(String username, int expirationTime, String audience, String purpose) {
@@ -120,11 +146,7 @@ public class JwtUtils {
                 .setExpiration(exp)
                 .setAudience(audience)
                 .claim("purpose", purpose)
-                .signWith(key(), SignatureAlgorithm.HS256)
+                .signWith(signingKey, SignatureAlgorithm.HS256)
                 .compact();
     }
-
-    private JwtParser jwtParser() {
-        return Jwts.parserBuilder().setSigningKey(key()).build();
-    }
 }
@@ -0,0 +1,71 @@
+package org.bounswe.jobboardbackend.auth.security;
+
+import org.bounswe.jobboardbackend.auth.service.UserDetailsImpl;
+import org.bounswe.jobboardbackend.common.cache.TtlLruCache;
+import org.bounswe.jobboardbackend.websocket.service.ClusterCacheInvalidation;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Instant;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Short-lived, bounded LRU of authenticated principals keyed by username.
+ * Lets token authentication skip the user table on steady-state requests; anything that
+ * changes a user's ban state, role or existence must call {@link #evict(String)}, which also
+ * drops the entry on the other replicas. The TTL bounds how long an eviction lost on the way
+ * to another node can go unnoticed.
+ */
+@Component
+public class PrincipalCache {
+
+    static final String CLUSTER_CACHE = "principals";
+
+    private final TtlLruCache<String, UserDetailsImpl> entries;
+    private final ClusterCacheInvalidation clusterInvalidation;
+
+    public PrincipalCache(@Value("${app.principalCacheSize:1024}") int capacity,
+                          @Value("${app.principalCacheTtlMs:30000}") long ttlMs,
+                          ClusterCacheInvalidation clusterInvalidation) {
+        this(capacity, ttlMs, Instant::now, clusterInvalidation);
+    }
+
+    PrincipalCache(int capacity, long ttlMs, Supplier<Instant> clock, ClusterCacheInvalidation clusterInvalidation) {
+        this.entries = new TtlLruCache<>(capacity, ttlMs, clock);
+        this.clusterInvalidation = clusterInvalidation;
+        clusterInvalidation.register(CLUSTER_CACHE, entries::invalidate);
+    }
+
+    /**
+     * Returns the cached principal for {@code username}, loading and caching it on a miss
+     * or after the entry has expired. The loader runs outside the lock.
+     */
+    public UserDetailsImpl get(String username, Function<String, UserDetailsImpl> loader) {
+        return entries.get(username, loader);
+    }
+
+    /**
+     * Drops the cached principal for {@code username}. Inside a transaction the entry is
+     * dropped again after commit, so a request that reloads the user in between cannot
+     * keep the pre-commit state alive for a full TTL.
+     */
+    public void evict(String username) {
+        entries.invalidate(username);
+        clusterInvalidation.publish(CLUSTER_CACHE, username);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    entries.invalidate(username);
+                }
+            });
+        }
+    }
+
+    int size() {
+        return entries.size();
+    }
+}
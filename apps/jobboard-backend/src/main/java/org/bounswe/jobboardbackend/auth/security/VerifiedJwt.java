@@ -0,0 +1,32 @@
+package org.bounswe.jobboardbackend.auth.security;
+
+import io.jsonwebtoken.Claims;
+
+import java.time.Instant;
+
+/**
+ * The parts of a signature-checked JWT that request handling needs.
+ * Produced once per token by {@link JwtUtils#verify(String)} and passed around instead of the raw token.
+ */
+public record VerifiedJwt(String subject, String audience, String purpose, Instant expiresAt) {
+
+    static VerifiedJwt from(Claims claims) {
+        return new VerifiedJwt(
+                claims.getSubject(),
+                claims.getAudience(),
+                claims.get("purpose", String.class),
+                claims.getExpiration() != null ? claims.getExpiration().toInstant() : null);
+    }
+
+    public boolean isAccessToken() {
+        return "ACCESS".equals(purpose) && "auth".equals(audience);
+    }
+
+    public boolean isPreauthToken() {
+        return "OTP".equals(purpose) && "preauth".equals(audience);
+    }
+
+    public boolean isExpiredAt(Instant now) {
+        return expiresAt != null && !now.isBefore(expiresAt);
+    }
+}
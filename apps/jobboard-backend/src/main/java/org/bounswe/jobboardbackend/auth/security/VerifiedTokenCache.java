@@ -0,0 +1,37 @@
+package org.bounswe.jobboardbackend.auth.security;
+
+import org.bounswe.jobboardbackend.common.cache.TtlLruCache;
+
+import java.time.Instant;
+
+/**
+ * Bounded LRU of tokens whose signature has already been checked.
+ * Entries are keyed by the full compact token, so a hit can never vouch for a different
+ * header or payload, and expired entries are dropped on lookup.
+ */
+class VerifiedTokenCache {
+
+    // entries live until the token's own expiry, which is checked against the caller's clock
+    private final TtlLruCache<String, VerifiedJwt> entries;
+
+    VerifiedTokenCache(int capacity) {
+        this.entries = new TtlLruCache<>(capacity, 0, Instant::now);
+    }
+
+    VerifiedJwt get(String token, Instant now) {
+        VerifiedJwt jwt = entries.getIfPresent(token);
+        if (jwt != null && jwt.isExpiredAt(now)) {
+            entries.invalidate(token);
+            return null;
+        }
+        return jwt;
+    }
+
+    void put(String token, VerifiedJwt jwt) {
+        entries.put(token, jwt, null);
+    }
+
+    int size() {
+        return entries.size();
+    }
+}
@@ -12,6 +12,7 @@ import org.bounswe.jobboardbackend.auth.repository.PasswordResetTokenRepository;
 import org.bounswe.jobboardbackend.auth.repository.TokenRepository;
 import org.bounswe.jobboardbackend.auth.repository.UserRepository;
 import org.bounswe.jobboardbackend.auth.security.JwtUtils;
+import org.bounswe.jobboardbackend.auth.security.PrincipalCache;
 import org.bounswe.jobboardbackend.activity.service.ActivityService;
 import org.bounswe.jobboardbackend.activity.model.ActivityType;
 import org.bounswe.jobboardbackend.exception.ErrorCode;
@@ -67,6 +68,7 @@ public class AuthService {
     private final NotificationService notificationService;
     private final EmployerWorkplaceRepository employerWorkplaceRepository;
     private final WorkplaceService workplaceService;
+    private final PrincipalCache principalCache;
 
     @Transactional
     public OtpRequestResponse initiateLogin(@Valid LoginRequest loginRequest) {
@@ -173,7 +175,7 @@ public class AuthService {
                 .lastName(registerRequest.getLastName())
                 .bio(registerRequest.getBio())
                 .pronounSet(PronounSet.valueOf(registerRequest.getPronounSet().toUpperCase()))
-                .imageUrl(null)
+                .imageObjectName(null)
                 .build();
 
         profileRepository.save(profile);
@@ -310,5 +312,6 @@ public class AuthService {
         employerWorkplaceRepository.deleteByUser_Id(userId);
 
         userRepository.delete(user);
+        principalCache.evict(username);
     }
 }
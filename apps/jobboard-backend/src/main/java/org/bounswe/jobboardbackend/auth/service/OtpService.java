@@ -1,7 +1,6 @@
 package org.bounswe.jobboardbackend.auth.service;
 
 
-import io.jsonwebtoken.Claims;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import org.bounswe.jobboardbackend.auth.model.Otp;
@@ -9,6 +8,7 @@ import org.bounswe.jobboardbackend.auth.model.User;
 import org.bounswe.jobboardbackend.auth.repository.OtpRepository;
 import org.bounswe.jobboardbackend.auth.repository.UserRepository;
 import org.bounswe.jobboardbackend.auth.security.JwtUtils;
+import org.bounswe.jobboardbackend.auth.security.VerifiedJwt;
 import org.bounswe.jobboardbackend.exception.ErrorCode;
 import org.bounswe.jobboardbackend.exception.HandleException;
 import org.springframework.stereotype.Service;
@@ -55,12 +55,12 @@ public class OtpService {
     @Transactional
     public Otp validateOtpAndToken(String username, String otpCode, String temporaryToken) {
 
-        if (!jwtUtils.validateJwtToken(temporaryToken) || !jwtUtils.isPreauthToken(temporaryToken)) {
+        VerifiedJwt jwt = jwtUtils.tryVerify(temporaryToken);
+        if (jwt == null || !jwt.isPreauthToken()) {
             throw new HandleException(ErrorCode.INVALID_TOKEN, "Invalid or unsupported temporary token");
         }
 
-        Claims claims = jwtUtils.getClaims(temporaryToken);
-        String tokenSub = claims.getSubject();
+        String tokenSub = jwt.subject();
 
         if (!username.equals(tokenSub)) {
             throw new HandleException(ErrorCode.INVALID_CREDENTIALS, "Token subject does not match user");
@@ -0,0 +1,113 @@
+package org.bounswe.jobboardbackend.common.cache;
+
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Bounded, thread-safe LRU map whose entries expire after a time to live.
+ * Loaders run outside the lock, so a slow load never blocks other keys. Every load takes a
+ * generation when it starts and only stores its result if no {@link #invalidate} and no newer
+ * load of the same key happened in the meantime; a value read before a change committed can
+ * therefore never be cached after the invalidation that followed the change.
+ * A capacity of 0 disables caching; a TTL of 0 only disables caching of loaded values.
+ */
+public final class TtlLruCache<K, V> {
+
+    private record Entry<V>(V value, Instant expiresAt) {
+    }
+
+    private final int capacity;
+    private final long ttlMs;
+    private final Supplier<Instant> clock;
+    private final Map<K, Entry<V>> entries;
+    /** Generation of the load in flight per key; bounded by the number of concurrent loads. */
+    private final Map<K, Long> loads = new HashMap<>();
+    private long generation;
+
+    public TtlLruCache(int capacity, long ttlMs, Supplier<Instant> clock) {
+        this.capacity = capacity;
+        this.ttlMs = ttlMs;
+        this.clock = clock;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+                return size() > TtlLruCache.this.capacity;
+            }
+        };
+    }
+
+    /**
+     * Returns the cached value for {@code key}, loading it on a miss or after the entry has
+     * expired. Null results and loader exceptions are not cached.
+     */
+    public V get(K key, Function<? super K, ? extends V> loader) {
+        Instant now = clock.get();
+        long loadGeneration;
+        synchronized (this) {
+            Entry<V> entry = live(key, now);
+            if (entry != null) {
+                return entry.value();
+            }
+            loadGeneration = ++generation;
+            loads.put(key, loadGeneration);
+        }
+        V value = null;
+        try {
+            value = loader.apply(key);
+            return value;
+        } finally {
+            synchronized (this) {
+                if (loads.remove(key, loadGeneration) && value != null && capacity > 0 && ttlMs > 0) {
+                    entries.put(key, new Entry<>(value, now.plusMillis(ttlMs)));
+                }
+            }
+        }
+    }
+
+    /** The cached value for {@code key}, or null when there is none or it has expired. */
+    public synchronized V getIfPresent(K key) {
+        Entry<V> entry = live(key, clock.get());
+        return entry != null ? entry.value() : null;
+    }
+
+    /**
+     * Stores a value computed elsewhere, replacing any cached one.
+     *
+     * @param expiresAt end of the entry's life, or null to keep it until it is evicted
+     */
+    public synchronized void put(K key, V value, Instant expiresAt) {
+        if (capacity > 0 && value != null) {
+            loads.remove(key);
+            entries.put(key, new Entry<>(value, expiresAt));
+        }
+    }
+
+    /** Drops the entry for {@code key} and discards the result of any load still running for it. */
+    public synchronized void invalidate(K key) {
+        entries.remove(key);
+        loads.remove(key);
+    }
+
+    /** Drops every entry and discards the results of all running loads. */
+    public synchronized void invalidateAll() {
+        entries.clear();
+        loads.clear();
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    private Entry<V> live(K key, Instant now) {
+        Entry<V> entry = entries.get(key);
+        if (entry != null && entry.expiresAt() != null && !now.isBefore(entry.expiresAt())) {
+            entries.remove(key);
+            return null;
+        }
+        return entry;
+    }
+}
@@ -0,0 +1,47 @@
+package org.bounswe.jobboardbackend.common.dto;
+
+import org.bounswe.jobboardbackend.exception.ErrorCode;
+import org.bounswe.jobboardbackend.exception.HandleException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.function.BiFunction;
+
+/**
+ * Token format of the keyset cursors handed out in {@link CursorPage#getNextCursor()}:
+ * the sort key and the id joined by {@code |}, Base64 URL-encoded without padding.
+ * Clients treat the token as opaque.
+ * Shared by {@code JobPostCursor}, {@code ForumPostCursor}, {@code ForumCommentCursor},
+ * {@code NotificationCursor} and {@code ChatMessageCursor}; each only parses its own sort key.
+ */
+public final class CursorCodec {
+
+    private static final String SEPARATOR = "|";
+
+    private CursorCodec() {
+    }
+
+    public static String encode(Object key, Long id) {
+        String raw = key + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Parses {@code token} with {@code factory}, which gets the sort key as written by
+     * {@link #encode} and the id. A missing token yields {@code start}; a malformed one is
+     * rejected with {@link ErrorCode#INVALID_CURSOR}.
+     */
+    public static <C> C decode(String token, C start, BiFunction<String, Long, C> factory) {
+        if (token == null || token.isBlank()) {
+            return start;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int sep = raw.lastIndexOf(SEPARATOR);
+            return factory.apply(raw.substring(0, sep), Long.parseLong(raw.substring(sep + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new HandleException(ErrorCode.INVALID_CURSOR, "Invalid cursor");
+        }
+    }
+}
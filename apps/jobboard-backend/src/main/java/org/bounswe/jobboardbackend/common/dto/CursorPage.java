@@ -0,0 +1,35 @@
+package org.bounswe.jobboardbackend.common.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Generic cursor-paginated response wrapper")
+public class CursorPage<T> {
+    @Schema(description = "List of items in the current page")
+    private List<T> items;
+
+    @Schema(description = "Opaque cursor to pass back to fetch the next page, null on the last page", example = "MjAyNS0xMS0wMVQxMDowMDo0Mnw0Mg")
+    private String nextCursor;
+
+    @Schema(description = "Whether there is a next page", example = "true")
+    private boolean hasNext;
+
+    @Schema(description = "Estimated total number of matching items, only present when requested", example = "1250")
+    private Long totalEstimate;
+
+    public static <T> CursorPage<T> of(List<T> items, String nextCursor, Long totalEstimate) {
+        return CursorPage.<T>builder()
+                .items(items)
+                .nextCursor(nextCursor)
+                .hasNext(nextCursor != null)
+                .totalEstimate(totalEstimate)
+                .build();
+    }
+}
@@ -66,6 +66,11 @@ public enum ErrorCode {
     JOB_APPLICATION_NOT_FOUND(HttpStatus.NOT_FOUND),
     APPLICATION_ALREADY_EXISTS(HttpStatus.CONFLICT),
     MISSING_FILTER_PARAMETER(HttpStatus.BAD_REQUEST),
+    INVALID_CURSOR(HttpStatus.BAD_REQUEST),
+
+    UPLOAD_TICKET_INVALID(HttpStatus.BAD_REQUEST),
+    UPLOAD_NOT_RECEIVED(HttpStatus.CONFLICT),
+    UPLOAD_REJECTED(HttpStatus.BAD_REQUEST),
 
     JOB_POST_NOT_FOUND(HttpStatus.NOT_FOUND),
     JOB_POST_FORBIDDEN(HttpStatus.FORBIDDEN),
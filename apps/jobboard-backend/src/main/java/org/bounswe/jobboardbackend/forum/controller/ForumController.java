@@ -11,8 +11,10 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import org.bounswe.jobboardbackend.auth.model.User;
 import org.bounswe.jobboardbackend.auth.repository.UserRepository;
+import org.bounswe.jobboardbackend.common.dto.CursorPage;
 import org.bounswe.jobboardbackend.exception.ApiError;
 import org.bounswe.jobboardbackend.forum.dto.*;
+import org.bounswe.jobboardbackend.forum.service.ForumCommentTreeService;
 import org.bounswe.jobboardbackend.forum.service.ForumService;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -31,6 +33,7 @@ import java.util.List;
 public class ForumController {
 
         private final ForumService forumService;
+        private final ForumCommentTreeService commentTreeService;
         private final UserRepository userRepository;
 
         private User getUser(UserDetails userDetails) {
@@ -75,6 +78,20 @@ public class ForumController {
                 return ResponseEntity.ok(forumService.findAllPosts(currentUserId));
         }
 
+        @Operation(summary = "Forum Feed (cursor-paginated)", description = "Retrieves one page of post summaries, newest first. Summaries carry comment and vote counts but no content or comments; use Get Post by ID for the full thread. Pass the returned nextCursor to fetch the following page.")
+        @ApiResponses(value = {
+                        @ApiResponse(responseCode = "200", description = "Feed page retrieved successfully"),
+                        @ApiResponse(responseCode = "400", description = "Invalid cursor", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ApiError.class), examples = @ExampleObject(value = "{\"timestamp\": \"2023-10-01T12:00:00\", \"status\": 400, \"error\": \"Bad Request\", \"code\": \"INVALID_CURSOR\", \"message\": \"Invalid cursor\", \"path\": \"/api/forum/posts/feed\" }")))
+        })
+        @GetMapping("/posts/feed")
+        public ResponseEntity<CursorPage<PostSummaryResponse>> findFeed(
+                        @Parameter(description = "Cursor returned by the previous page") @RequestParam(required = false) String cursor,
+                        @Parameter(description = "Page size (default 20, max 100)") @RequestParam(required = false) Integer limit,
+                        @Parameter(hidden = true) @AuthenticationPrincipal UserDetails userDetails) {
+                Long currentUserId = getUserIdOrNull(userDetails);
+                return ResponseEntity.ok(forumService.findFeed(cursor, limit, currentUserId));
+        }
+
         @Operation(summary = "Get Post by ID", description = "Retrieves a specific forum post by its ID. Includes user vote status if authenticated.")
         @ApiResponses(value = {
                         @ApiResponse(responseCode = "200", description = "Post retrieved successfully"),
@@ -189,6 +206,36 @@ public class ForumController {
                 return ResponseEntity.status(HttpStatus.CREATED).body(forumService.createComment(id, user, request));
         }
 
+        @Operation(summary = "List Comment Threads (cursor-paginated)", description = "Retrieves one page of top-level comments of a post, oldest first. Each comment embeds the first part of its reply tree; use List Replies with the returned repliesCursor to expand the rest.")
+        @ApiResponses(value = {
+                        @ApiResponse(responseCode = "200", description = "Comments retrieved successfully"),
+                        @ApiResponse(responseCode = "400", description = "Invalid cursor", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ApiError.class), examples = @ExampleObject(value = "{\"timestamp\": \"2023-10-01T12:00:00\", \"status\": 400, \"error\": \"Bad Request\", \"code\": \"INVALID_CURSOR\", \"message\": \"Invalid cursor\", \"path\": \"/api/forum/posts/1/comments\" }"))),
+                        @ApiResponse(responseCode = "404", description = "Post not found", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ApiError.class), examples = @ExampleObject(value = "{\"timestamp\": \"2023-10-01T12:00:00\", \"status\": 404, \"error\": \"Not Found\", \"code\": \"NOT_FOUND\", \"message\": \"Post not found\", \"path\": \"/api/forum/posts/1/comments\" }")))
+        })
+        @GetMapping("/posts/{id}/comments")
+        public ResponseEntity<CursorPage<CommentNodeResponse>> findCommentTree(@PathVariable Long id,
+                        @Parameter(description = "Cursor returned by the previous page") @RequestParam(required = false) String cursor,
+                        @Parameter(description = "Page size (default 20, max 100)") @RequestParam(required = false) Integer limit,
+                        @Parameter(hidden = true) @AuthenticationPrincipal UserDetails userDetails) {
+                Long currentUserId = getUserIdOrNull(userDetails);
+                return ResponseEntity.ok(commentTreeService.getCommentTree(id, cursor, limit, currentUserId));
+        }
+
+        @Operation(summary = "List Replies (cursor-paginated)", description = "Retrieves one page of direct replies to a comment, oldest first. Replies carry their reply count so deeper levels can be expanded the same way.")
+        @ApiResponses(value = {
+                        @ApiResponse(responseCode = "200", description = "Replies retrieved successfully"),
+                        @ApiResponse(responseCode = "400", description = "Invalid cursor", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ApiError.class), examples = @ExampleObject(value = "{\"timestamp\": \"2023-10-01T12:00:00\", \"status\": 400, \"error\": \"Bad Request\", \"code\": \"INVALID_CURSOR\", \"message\": \"Invalid cursor\", \"path\": \"/api/forum/comments/1/replies\" }"))),
+                        @ApiResponse(responseCode = "404", description = "Comment not found", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ApiError.class), examples = @ExampleObject(value = "{\"timestamp\": \"2023-10-01T12:00:00\", \"status\": 404, \"error\": \"Not Found\", \"code\": \"NOT_FOUND\", \"message\": \"Comment not found\", \"path\": \"/api/forum/comments/1/replies\" }")))
+        })
+        @GetMapping("/comments/{commentId}/replies")
+        public ResponseEntity<CursorPage<CommentNodeResponse>> findReplies(@PathVariable Long commentId,
+                        @Parameter(description = "Cursor returned by the previous page or the parent's repliesCursor") @RequestParam(required = false) String cursor,
+                        @Parameter(description = "Page size (default 20, max 100)") @RequestParam(required = false) Integer limit,
+                        @Parameter(hidden = true) @AuthenticationPrincipal UserDetails userDetails) {
+                Long currentUserId = getUserIdOrNull(userDetails);
+                return ResponseEntity.ok(commentTreeService.getReplies(commentId, cursor, limit, currentUserId));
+        }
+
         @Operation(summary = "Update a Comment", description = "Updates an existing comment. Only the author can update their comment.")
         @ApiResponses(value = {
                         @ApiResponse(responseCode = "200", description = "Comment updated successfully"),
@@ -0,0 +1,28 @@
+package org.bounswe.jobboardbackend.forum.dto;
+
+import com.fasterxml.jackson.annotation.JsonUnwrapped;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@Builder
+@Schema(description = "A comment in a threaded view, with the first part of its reply tree embedded")
+public class CommentNodeResponse {
+    @JsonUnwrapped
+    private CommentResponse comment;
+
+    @Schema(description = "Direct replies embedded in this response, oldest first")
+    private List<CommentNodeResponse> replies;
+
+    @Schema(description = "Total number of direct replies", example = "12")
+    private int replyCount;
+
+    @Schema(description = "Whether more direct replies exist than are embedded", example = "true")
+    private boolean hasMoreReplies;
+
+    @Schema(description = "Cursor for the replies endpoint to continue after the embedded replies, null to start from the first reply", example = "MjAyNS0xMS0wMVQxMDowMDo0Mlp8NDI")
+    private String repliesCursor;
+}
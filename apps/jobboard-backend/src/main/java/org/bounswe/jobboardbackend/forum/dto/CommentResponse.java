@@ -4,8 +4,6 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.Builder;
 import lombok.Data;
 import org.bounswe.jobboardbackend.forum.model.ForumComment;
-import org.bounswe.jobboardbackend.forum.repository.ForumCommentUpvoteRepository;
-import org.bounswe.jobboardbackend.forum.repository.ForumCommentDownvoteRepository;
 
 import java.time.Instant;
 
@@ -50,21 +48,13 @@ public class CommentResponse {
     private Boolean hasUserDownvoted;
 
     public static CommentResponse from(ForumComment comment, long upvoteCount, long downvoteCount) {
-        return from(comment, upvoteCount, downvoteCount, null, null, null);
+        return from(comment, upvoteCount, downvoteCount, ViewerVotes.NONE);
     }
 
     public static CommentResponse from(ForumComment comment, long upvoteCount, long downvoteCount,
-            Long userId, ForumCommentUpvoteRepository upvoteRepo, ForumCommentDownvoteRepository downvoteRepo) {
+            ViewerVotes viewerVotes) {
         boolean isBanned = Boolean.TRUE.equals(comment.getAuthor().getIsBanned());
 
-        // Check user vote status if userId and repositories provided
-        Boolean hasUpvoted = null;
-        Boolean hasDownvoted = null;
-        if (userId != null && upvoteRepo != null && downvoteRepo != null) {
-            hasUpvoted = upvoteRepo.findByUserIdAndCommentId(userId, comment.getId()).isPresent();
-            hasDownvoted = downvoteRepo.findByUserIdAndCommentId(userId, comment.getId()).isPresent();
-        }
-
         return CommentResponse.builder()
                 .id(comment.getId())
                 .content(comment.getContent())
@@ -76,8 +66,8 @@ public class CommentResponse {
                 .updatedAt(comment.getUpdatedAt())
                 .upvoteCount(upvoteCount)
                 .downvoteCount(downvoteCount)
-                .hasUserUpvoted(hasUpvoted)
-                .hasUserDownvoted(hasDownvoted)
+                .hasUserUpvoted(viewerVotes.hasUpvoted(comment.getId()))
+                .hasUserDownvoted(viewerVotes.hasDownvoted(comment.getId()))
                 .build();
     }
 }
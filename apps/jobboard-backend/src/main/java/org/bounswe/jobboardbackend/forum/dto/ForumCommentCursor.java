@@ -0,0 +1,27 @@
+package org.bounswe.jobboardbackend.forum.dto;
+
+import org.bounswe.jobboardbackend.common.dto.CursorCodec;
+import org.bounswe.jobboardbackend.forum.model.ForumComment;
+
+import java.time.Instant;
+
+/**
+ * Keyset position in the (createdAt ASC, id ASC) ordering of forum comments.
+ */
+public record ForumCommentCursor(Instant createdAt, Long id) {
+
+    /** Position before the first row, used when the client sends no cursor. */
+    public static final ForumCommentCursor START = new ForumCommentCursor(Instant.EPOCH, 0L);
+
+    public static ForumCommentCursor after(ForumComment comment) {
+        return new ForumCommentCursor(comment.getCreatedAt(), comment.getId());
+    }
+
+    public static ForumCommentCursor decode(String token) {
+        return CursorCodec.decode(token, START, (key, id) -> new ForumCommentCursor(Instant.parse(key), id));
+    }
+
+    public String encode() {
+        return CursorCodec.encode(createdAt, id);
+    }
+}
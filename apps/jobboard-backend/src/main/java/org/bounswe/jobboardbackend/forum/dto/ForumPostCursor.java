@@ -0,0 +1,27 @@
+package org.bounswe.jobboardbackend.forum.dto;
+
+import org.bounswe.jobboardbackend.common.dto.CursorCodec;
+import org.bounswe.jobboardbackend.forum.model.ForumPost;
+
+import java.time.Instant;
+
+/**
+ * Keyset position in the (createdAt DESC, id DESC) ordering of forum posts.
+ */
+public record ForumPostCursor(Instant createdAt, Long id) {
+
+    /** Position before the first row, used when the client sends no cursor. */
+    public static final ForumPostCursor START = new ForumPostCursor(Instant.parse("9999-12-31T23:59:59Z"), Long.MAX_VALUE);
+
+    public static ForumPostCursor after(ForumPost post) {
+        return new ForumPostCursor(post.getCreatedAt(), post.getId());
+    }
+
+    public static ForumPostCursor decode(String token) {
+        return CursorCodec.decode(token, START, (key, id) -> new ForumPostCursor(Instant.parse(key), id));
+    }
+
+    public String encode() {
+        return CursorCodec.encode(createdAt, id);
+    }
+}
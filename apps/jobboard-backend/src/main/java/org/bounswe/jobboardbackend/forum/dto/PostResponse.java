@@ -4,8 +4,6 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.Builder;
 import lombok.Data;
 import org.bounswe.jobboardbackend.forum.model.ForumPost;
-import org.bounswe.jobboardbackend.forum.repository.ForumPostUpvoteRepository;
-import org.bounswe.jobboardbackend.forum.repository.ForumPostDownvoteRepository;
 
 import java.time.Instant;
 import java.util.List;
@@ -58,22 +56,13 @@ public class PostResponse {
 
     public static PostResponse from(ForumPost post, long upvoteCount, long downvoteCount,
             List<CommentResponse> comments) {
-        return from(post, upvoteCount, downvoteCount, comments, null, null, null);
+        return from(post, upvoteCount, downvoteCount, comments, ViewerVotes.NONE);
     }
 
     public static PostResponse from(ForumPost post, long upvoteCount, long downvoteCount,
-            List<CommentResponse> comments, Long userId,
-            ForumPostUpvoteRepository upvoteRepo, ForumPostDownvoteRepository downvoteRepo) {
+            List<CommentResponse> comments, ViewerVotes viewerVotes) {
         boolean isBanned = Boolean.TRUE.equals(post.getAuthor().getIsBanned());
 
-        // Check user vote status if userId and repositories provided
-        Boolean hasUpvoted = null;
-        Boolean hasDownvoted = null;
-        if (userId != null && upvoteRepo != null && downvoteRepo != null) {
-            hasUpvoted = upvoteRepo.findByUserIdAndPostId(userId, post.getId()).isPresent();
-            hasDownvoted = downvoteRepo.findByUserIdAndPostId(userId, post.getId()).isPresent();
-        }
-
         return PostResponse.builder()
                 .id(post.getId())
                 .title(post.getTitle())
@@ -87,8 +76,8 @@ public class PostResponse {
                 .upvoteCount(upvoteCount)
                 .downvoteCount(downvoteCount)
                 .comments(comments)
-                .hasUserUpvoted(hasUpvoted)
-                .hasUserDownvoted(hasDownvoted)
+                .hasUserUpvoted(viewerVotes.hasUpvoted(post.getId()))
+                .hasUserDownvoted(viewerVotes.hasDownvoted(post.getId()))
                 .build();
     }
 }
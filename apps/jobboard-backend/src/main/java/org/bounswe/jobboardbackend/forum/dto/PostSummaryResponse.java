@@ -0,0 +1,70 @@
+package org.bounswe.jobboardbackend.forum.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Data;
+import org.bounswe.jobboardbackend.forum.model.ForumPost;
+
+import java.time.Instant;
+import java.util.List;
+
+@Data
+@Builder
+@Schema(description = "Summary of a forum post as shown in the feed, without content or comments")
+public class PostSummaryResponse {
+    @Schema(description = "Unique identifier of the post", example = "10")
+    private Long id;
+
+    @Schema(description = "Title of the post", example = "How to ace a job interview?")
+    private String title;
+
+    @Schema(description = "ID of the author", example = "5")
+    private Long authorId;
+
+    @Schema(description = "Username of the author", example = "jobseeker123")
+    private String authorUsername;
+
+    @Schema(description = "Tags associated with the post", example = "[\"interview\", \"tips\"]")
+    private List<String> tags;
+
+    @Schema(description = "Timestamp when the post was created")
+    private Instant createdAt;
+
+    @Schema(description = "Timestamp when the post was last updated")
+    private Instant updatedAt;
+
+    @Schema(description = "Number of comments on the post", example = "5")
+    private long commentCount;
+
+    @Schema(description = "Number of upvotes", example = "10")
+    private long upvoteCount;
+
+    @Schema(description = "Number of downvotes", example = "1")
+    private long downvoteCount;
+
+    @Schema(description = "Whether the current user has upvoted this post (null if user not authenticated)")
+    private Boolean hasUserUpvoted;
+
+    @Schema(description = "Whether the current user has downvoted this post (null if user not authenticated)")
+    private Boolean hasUserDownvoted;
+
+    public static PostSummaryResponse from(ForumPost post, List<String> tags, long commentCount,
+            ViewerVotes viewerVotes) {
+        boolean isBanned = Boolean.TRUE.equals(post.getAuthor().getIsBanned());
+
+        return PostSummaryResponse.builder()
+                .id(post.getId())
+                .title(post.getTitle())
+                .authorId(isBanned ? null : post.getAuthor().getId())
+                .authorUsername(isBanned ? "Banned User" : post.getAuthor().getUsername())
+                .tags(tags)
+                .createdAt(post.getCreatedAt())
+                .updatedAt(post.getUpdatedAt())
+                .commentCount(commentCount)
+                .upvoteCount(post.getUpvoteCount())
+                .downvoteCount(post.getDownvoteCount())
+                .hasUserUpvoted(viewerVotes.hasUpvoted(post.getId()))
+                .hasUserDownvoted(viewerVotes.hasDownvoted(post.getId()))
+                .build();
+    }
+}
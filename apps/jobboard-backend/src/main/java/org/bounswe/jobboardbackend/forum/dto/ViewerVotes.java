@@ -0,0 +1,21 @@
+package org.bounswe.jobboardbackend.forum.dto;
+
+import java.util.Set;
+
+/**
+ * The current user's votes on one batch of posts or comments, loaded up front
+ * so that response mapping does not query per item.
+ * {@link #NONE} stands for an anonymous viewer and yields null vote flags.
+ */
+public record ViewerVotes(Set<Long> upvotedIds, Set<Long> downvotedIds) {
+
+    public static final ViewerVotes NONE = new ViewerVotes(null, null);
+
+    public Boolean hasUpvoted(Long id) {
+        return upvotedIds == null ? null : upvotedIds.contains(id);
+    }
+
+    public Boolean hasDownvoted(Long id) {
+        return downvotedIds == null ? null : downvotedIds.contains(id);
+    }
+}
@@ -3,7 +3,9 @@ package org.bounswe.jobboardbackend.forum.model;
 import jakarta.persistence.*;
 import lombok.*;
 import org.bounswe.jobboardbackend.auth.model.User;
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.DynamicUpdate;
 import org.hibernate.annotations.UpdateTimestamp;
 
 import java.time.Instant;
@@ -11,12 +13,16 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "forum_comments")
+@Table(name = "forum_comments", indexes = {
+        @Index(name = "idx_forum_comments_post_created_at_id", columnList = "post_id, created_at, id"),
+        @Index(name = "idx_forum_comments_parent_created_at_id", columnList = "parent_comment_id, created_at, id")
+})
 @Getter
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
+@DynamicUpdate
 public class ForumComment {
 
     @Id
@@ -46,6 +52,17 @@ public class ForumComment {
     @Builder.Default
     private List<ForumCommentDownvote> downvotes = new ArrayList<>();
 
+    // Vote totals, maintained the same way as on ForumPost
+    @Column(nullable = false)
+    @ColumnDefault("0")
+    @Builder.Default
+    private long upvoteCount = 0L;
+
+    @Column(nullable = false)
+    @ColumnDefault("0")
+    @Builder.Default
+    private long downvoteCount = 0L;
+
     @CreationTimestamp
     @Column(nullable = false, updatable = false)
     private Instant createdAt;
@@ -3,7 +3,9 @@ package org.bounswe.jobboardbackend.forum.model;
 import jakarta.persistence.*;
 import lombok.*;
 import org.bounswe.jobboardbackend.auth.model.User;
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.DynamicUpdate;
 import org.hibernate.annotations.UpdateTimestamp;
 
 import java.time.Instant;
@@ -11,12 +13,15 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "forum_posts")
+@Table(name = "forum_posts", indexes = {
+        @Index(name = "idx_forum_posts_created_at_id", columnList = "created_at DESC, id DESC")
+})
 @Getter
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
+@DynamicUpdate
 public class ForumPost {
 
     @Id
@@ -51,6 +56,18 @@ public class ForumPost {
     @Builder.Default
     private List<ForumPostDownvote> downvotes = new ArrayList<>();
 
+    // Vote totals, changed only by the atomic UPDATEs in the repository.
+    // @DynamicUpdate keeps entity saves from writing back a stale copy.
+    @Column(nullable = false)
+    @ColumnDefault("0")
+    @Builder.Default
+    private long upvoteCount = 0L;
+
+    @Column(nullable = false)
+    @ColumnDefault("0")
+    @Builder.Default
+    private long downvoteCount = 0L;
+
     @CreationTimestamp
     @Column(nullable = false, updatable = false)
     private Instant createdAt;
@@ -2,15 +2,38 @@ package org.bounswe.jobboardbackend.forum.repository;
 
 import org.bounswe.jobboardbackend.forum.model.ForumCommentDownvote;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface ForumCommentDownvoteRepository extends JpaRepository<ForumCommentDownvote, Long> {
     Optional<ForumCommentDownvote> findByUserIdAndCommentId(Long userId, Long commentId);
 
-    long countByCommentId(Long commentId);
+    /**
+     * Deletes the user's vote on the comment, if any.
+     * Returns the number of rows removed, so callers know whether to adjust the stored totals.
+     */
+    @Modifying
+    @Query("DELETE FROM ForumCommentDownvote v WHERE v.user.id = :userId AND v.comment.id = :commentId")
+    int deleteByUserIdAndCommentId(@Param("userId") Long userId, @Param("commentId") Long commentId);
 
     void deleteByUserId(Long userId);
+
+    /**
+     * Ids of the given comments that {@code userId} has downvoted.
+     */
+    @Query("SELECT v.comment.id FROM ForumCommentDownvote v WHERE v.user.id = :userId AND v.comment.id IN :commentIds")
+    List<Long> findCommentIdsByUserIdAndCommentIdIn(@Param("userId") Long userId, @Param("commentIds") Collection<Long> commentIds);
+
+    /**
+     * Ids of every comment that {@code userId} has downvoted.
+     */
+    @Query("SELECT v.comment.id FROM ForumCommentDownvote v WHERE v.user.id = :userId")
+    List<Long> findCommentIdsByUserId(@Param("userId") Long userId);
 }
@@ -1,10 +1,16 @@
 package org.bounswe.jobboardbackend.forum.repository;
 
 import org.bounswe.jobboardbackend.forum.model.ForumComment;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
 
 @Repository
 public interface ForumCommentRepository extends JpaRepository<ForumComment, Long> {
@@ -17,4 +23,79 @@ public interface ForumCommentRepository extends JpaRepository<ForumComment, Long
     long countByAuthorId(Long authorId);
 
     void deleteByAuthorId(Long authorId);
+
+    /**
+     * All comments of the given posts with their authors, oldest first.
+     * Parent and post are only read by id, so they stay unloaded.
+     */
+    @Query("SELECT c FROM ForumComment c JOIN FETCH c.author WHERE c.post.id IN :postIds ORDER BY c.createdAt, c.id")
+    List<ForumComment> findAllWithAuthorByPostIdIn(@Param("postIds") Collection<Long> postIds);
+
+    /** Every comment with its author, oldest first. */
+    @Query("SELECT c FROM ForumComment c JOIN FETCH c.author ORDER BY c.createdAt, c.id")
+    List<ForumComment> findAllWithAuthor();
+
+    /**
+     * One page of direct replies to a comment in (createdAt, id) order, strictly after the cursor.
+     */
+    @Query("""
+            SELECT c FROM ForumComment c JOIN FETCH c.author
+            WHERE c.parentComment.id = :parentId
+              AND (c.createdAt > :cursorDate OR (c.createdAt = :cursorDate AND c.id > :cursorId))
+            ORDER BY c.createdAt, c.id
+            """)
+    List<ForumComment> findRepliesPage(@Param("parentId") Long parentId,
+                                       @Param("cursorDate") Instant cursorDate,
+                                       @Param("cursorId") Long cursorId,
+                                       Pageable pageable);
+
+    /**
+     * Direct reply counts of the given comments as [commentId, count] rows.
+     */
+    @Query("SELECT c.parentComment.id, COUNT(c) FROM ForumComment c WHERE c.parentComment.id IN :parentIds GROUP BY c.parentComment.id")
+    List<Object[]> countRepliesByParentIdIn(@Param("parentIds") Collection<Long> parentIds);
+
+    /**
+     * Comment counts of the given posts as [postId, count] rows.
+     * Posts without comments are absent from the result.
+     */
+    @Query("SELECT c.post.id, COUNT(c) FROM ForumComment c WHERE c.post.id IN :postIds GROUP BY c.post.id")
+    List<Object[]> countByPostIdIn(@Param("postIds") Collection<Long> postIds);
+
+    /**
+     * Atomically shifts the stored vote totals of one comment.
+     * Runs as a single UPDATE so concurrent votes never overwrite each other.
+     */
+    @Modifying
+    @Query("UPDATE ForumComment c SET c.upvoteCount = c.upvoteCount + :upDelta, c.downvoteCount = c.downvoteCount + :downDelta WHERE c.id = :commentId")
+    int adjustVoteCounts(@Param("commentId") Long commentId, @Param("upDelta") long upDelta, @Param("downDelta") long downDelta);
+
+    /**
+     * Takes back the votes of a user who is about to be deleted.
+     * Must run before the user's vote rows are removed.
+     */
+    @Modifying
+    @Query("UPDATE ForumComment c SET c.upvoteCount = c.upvoteCount - 1 WHERE c.id IN (SELECT v.comment.id FROM ForumCommentUpvote v WHERE v.user.id = :userId)")
+    int releaseUpvotesOfUser(@Param("userId") Long userId);
+
+    @Modifying
+    @Query("UPDATE ForumComment c SET c.downvoteCount = c.downvoteCount - 1 WHERE c.id IN (SELECT v.comment.id FROM ForumCommentDownvote v WHERE v.user.id = :userId)")
+    int releaseDownvotesOfUser(@Param("userId") Long userId);
+
+    /**
+     * Rewrites totals that no longer match the vote tables and returns how many rows were fixed.
+     */
+    @Modifying
+    @Query("""
+            UPDATE ForumComment c SET c.upvoteCount = (SELECT COUNT(v) FROM ForumCommentUpvote v WHERE v.comment.id = c.id)
+            WHERE c.upvoteCount <> (SELECT COUNT(v) FROM ForumCommentUpvote v WHERE v.comment.id = c.id)
+            """)
+    int repairUpvoteCounts();
+
+    @Modifying
+    @Query("""
+            UPDATE ForumComment c SET c.downvoteCount = (SELECT COUNT(v) FROM ForumCommentDownvote v WHERE v.comment.id = c.id)
+            WHERE c.downvoteCount <> (SELECT COUNT(v) FROM ForumCommentDownvote v WHERE v.comment.id = c.id)
+            """)
+    int repairDownvoteCounts();
 }
@@ -1,9 +1,15 @@
 package org.bounswe.jobboardbackend.forum.repository;
 
 import org.bounswe.jobboardbackend.forum.model.ForumPost;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -11,6 +17,25 @@ public interface ForumPostRepository extends JpaRepository<ForumPost, Long> {
 
     List<ForumPost> findAllByAuthorIdOrderByCreatedAtDesc(Long authorId);
 
+    /**
+     * One feed page in (createdAt DESC, id DESC) order, strictly after the cursor.
+     * The author is fetched in the same query; comments and votes are not touched.
+     */
+    @Query("""
+            SELECT p FROM ForumPost p JOIN FETCH p.author
+            WHERE p.createdAt < :cursorDate OR (p.createdAt = :cursorDate AND p.id < :cursorId)
+            ORDER BY p.createdAt DESC, p.id DESC
+            """)
+    List<ForumPost> findFeedPage(@Param("cursorDate") Instant cursorDate,
+                                 @Param("cursorId") Long cursorId,
+                                 Pageable pageable);
+
+    /**
+     * Tags of the given posts as [postId, tag] rows.
+     */
+    @Query("SELECT p.id, t FROM ForumPost p JOIN p.tags t WHERE p.id IN :postIds")
+    List<Object[]> findTagsByPostIdIn(@Param("postIds") Collection<Long> postIds);
+
     /**
      * Count total posts created by a user.
      * Used for badge criteria checking.
@@ -24,4 +49,41 @@ public interface ForumPostRepository extends JpaRepository<ForumPost, Long> {
     long countByCreatedAtAfter(java.time.Instant date);
 
     void deleteByAuthorId(Long authorId);
+
+    /**
+     * Atomically shifts the stored vote totals of one post.
+     * Runs as a single UPDATE so concurrent votes never overwrite each other.
+     */
+    @Modifying
+    @Query("UPDATE ForumPost p SET p.upvoteCount = p.upvoteCount + :upDelta, p.downvoteCount = p.downvoteCount + :downDelta WHERE p.id = :postId")
+    int adjustVoteCounts(@Param("postId") Long postId, @Param("upDelta") long upDelta, @Param("downDelta") long downDelta);
+
+    /**
+     * Takes back the votes of a user who is about to be deleted.
+     * Must run before the user's vote rows are removed.
+     */
+    @Modifying
+    @Query("UPDATE ForumPost p SET p.upvoteCount = p.upvoteCount - 1 WHERE p.id IN (SELECT v.post.id FROM ForumPostUpvote v WHERE v.user.id = :userId)")
+    int releaseUpvotesOfUser(@Param("userId") Long userId);
+
+    @Modifying
+    @Query("UPDATE ForumPost p SET p.downvoteCount = p.downvoteCount - 1 WHERE p.id IN (SELECT v.post.id FROM ForumPostDownvote v WHERE v.user.id = :userId)")
+    int releaseDownvotesOfUser(@Param("userId") Long userId);
+
+    /**
+     * Rewrites totals that no longer match the vote tables and returns how many rows were fixed.
+     */
+    @Modifying
+    @Query("""
+            UPDATE ForumPost p SET p.upvoteCount = (SELECT COUNT(v) FROM ForumPostUpvote v WHERE v.post.id = p.id)
+            WHERE p.upvoteCount <> (SELECT COUNT(v) FROM ForumPostUpvote v WHERE v.post.id = p.id)
+            """)
+    int repairUpvoteCounts();
+
+    @Modifying
+    @Query("""
+            UPDATE ForumPost p SET p.downvoteCount = (SELECT COUNT(v) FROM ForumPostDownvote v WHERE v.post.id = p.id)
+            WHERE p.downvoteCount <> (SELECT COUNT(v) FROM ForumPostDownvote v WHERE v.post.id = p.id)
+            """)
+    int repairDownvoteCounts();
 }
@@ -2,13 +2,36 @@ package org.bounswe.jobboardbackend.forum.repository;
 
 import org.bounswe.jobboardbackend.forum.model.ForumPostUpvote;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface ForumPostUpvoteRepository extends JpaRepository<ForumPostUpvote, Long> {
     Optional<ForumPostUpvote> findByUserIdAndPostId(Long userId, Long postId);
 
-    long countByPostId(Long postId);
+    /**
+     * Deletes the user's vote on the post, if any.
+     * Returns the number of rows removed, so callers know whether to adjust the stored totals.
+     */
+    @Modifying
+    @Query("DELETE FROM ForumPostUpvote v WHERE v.user.id = :userId AND v.post.id = :postId")
+    int deleteByUserIdAndPostId(@Param("userId") Long userId, @Param("postId") Long postId);
 
     void deleteByUserId(Long userId);
+
+    /**
+     * Ids of the given posts that {@code userId} has upvoted.
+     */
+    @Query("SELECT v.post.id FROM ForumPostUpvote v WHERE v.user.id = :userId AND v.post.id IN :postIds")
+    List<Long> findPostIdsByUserIdAndPostIdIn(@Param("userId") Long userId, @Param("postIds") Collection<Long> postIds);
+
+    /**
+     * Ids of every post that {@code userId} has upvoted.
+     */
+    @Query("SELECT v.post.id FROM ForumPostUpvote v WHERE v.user.id = :userId")
+    List<Long> findPostIdsByUserId(@Param("userId") Long userId);
 }
@@ -0,0 +1,183 @@
+package org.bounswe.jobboardbackend.forum.service;
+
+import lombok.RequiredArgsConstructor;
+import org.bounswe.jobboardbackend.common.dto.CursorPage;
+import org.bounswe.jobboardbackend.exception.ErrorCode;
+import org.bounswe.jobboardbackend.exception.HandleException;
+import org.bounswe.jobboardbackend.forum.dto.CommentNodeResponse;
+import org.bounswe.jobboardbackend.forum.dto.CommentResponse;
+import org.bounswe.jobboardbackend.forum.dto.ForumCommentCursor;
+import org.bounswe.jobboardbackend.forum.dto.ViewerVotes;
+import org.bounswe.jobboardbackend.forum.model.ForumComment;
+import org.bounswe.jobboardbackend.forum.repository.ForumCommentRepository;
+import org.bounswe.jobboardbackend.forum.repository.ForumPostRepository;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Threaded view of a post's comments.
+ * Top-level comments are paged by cursor and each one carries a bounded part of its
+ * reply tree; anything beyond that is fetched lazily through {@link #getReplies}.
+ */
+@Service
+@RequiredArgsConstructor
+public class ForumCommentTreeService {
+
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 100;
+
+    /** Reply levels embedded below a top-level comment. */
+    static final int INLINE_DEPTH = 3;
+
+    /** Direct replies embedded per comment before the rest is left to paging. */
+    static final int INLINE_REPLIES = 5;
+
+    private final ForumPostRepository postRepository;
+    private final ForumCommentRepository commentRepository;
+    private final ForumVoteStateLoader voteStateLoader;
+
+    /**
+     * One page of top-level comments of a post, oldest first, with their reply trees
+     * embedded up to {@link #INLINE_DEPTH} levels and {@link #INLINE_REPLIES} replies per comment.
+     * The whole thread is read in one ordered query and assembled in memory.
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<CommentNodeResponse> getCommentTree(Long postId, String cursor, Integer limit, Long viewerId) {
+        if (!postRepository.existsById(postId)) {
+            throw new HandleException(ErrorCode.NOT_FOUND, "Post not found");
+        }
+        int pageSize = resolvePageSize(limit);
+        ForumCommentCursor after = ForumCommentCursor.decode(cursor);
+
+        List<ForumComment> thread = commentRepository.findAllWithAuthorByPostIdIn(List.of(postId));
+        Set<Long> threadIds = new HashSet<>();
+        for (ForumComment comment : thread) {
+            threadIds.add(comment.getId());
+        }
+        Map<Long, List<ForumComment>> children = new HashMap<>();
+        List<ForumComment> roots = new ArrayList<>();
+        for (ForumComment comment : thread) {
+            Long parentId = comment.getParentComment() != null ? comment.getParentComment().getId() : null;
+            if (parentId == null || !threadIds.contains(parentId)) {
+                roots.add(comment);
+            } else {
+                children.computeIfAbsent(parentId, id -> new ArrayList<>()).add(comment);
+            }
+        }
+
+        List<ForumComment> rows = new ArrayList<>(pageSize + 1);
+        for (ForumComment root : roots) {
+            if (isAfter(root, after)) {
+                rows.add(root);
+                if (rows.size() > pageSize) {
+                    break;
+                }
+            }
+        }
+        boolean hasNext = rows.size() > pageSize;
+        List<ForumComment> window = hasNext ? rows.subList(0, pageSize) : rows;
+
+        List<Long> renderedIds = new ArrayList<>();
+        collectInlined(window, children, 0, renderedIds);
+        ViewerVotes votes = voteStateLoader.forComments(viewerId, renderedIds);
+
+        List<CommentNodeResponse> items = window.stream()
+                .map(root -> toNode(root, children, 0, votes))
+                .toList();
+        String nextCursor = hasNext ? ForumCommentCursor.after(window.getLast()).encode() : null;
+        return CursorPage.of(items, nextCursor, null);
+    }
+
+    /**
+     * One page of direct replies to a comment, oldest first.
+     * Replies come without their own subtrees; {@code replyCount} tells the client whether to expand further.
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<CommentNodeResponse> getReplies(Long commentId, String cursor, Integer limit, Long viewerId) {
+        if (!commentRepository.existsById(commentId)) {
+            throw new HandleException(ErrorCode.NOT_FOUND, "Comment not found");
+        }
+        int pageSize = resolvePageSize(limit);
+        ForumCommentCursor after = ForumCommentCursor.decode(cursor);
+        List<ForumComment> rows = commentRepository.findRepliesPage(commentId, after.createdAt(), after.id(), PageRequest.of(0, pageSize + 1));
+
+        boolean hasNext = rows.size() > pageSize;
+        List<ForumComment> window = hasNext ? rows.subList(0, pageSize) : rows;
+        if (window.isEmpty()) {
+            return CursorPage.of(List.of(), null, null);
+        }
+
+        List<Long> ids = window.stream().map(ForumComment::getId).toList();
+        Map<Long, Integer> replyCounts = new HashMap<>();
+        for (Object[] row : commentRepository.countRepliesByParentIdIn(ids)) {
+            replyCounts.put((Long) row[0], ((Number) row[1]).intValue());
+        }
+        ViewerVotes votes = voteStateLoader.forComments(viewerId, ids);
+
+        List<CommentNodeResponse> items = window.stream()
+                .map(reply -> {
+                    int replyCount = replyCounts.getOrDefault(reply.getId(), 0);
+                    return CommentNodeResponse.builder()
+                            .comment(toCommentResponse(reply, votes))
+                            .replies(List.of())
+                            .replyCount(replyCount)
+                            .hasMoreReplies(replyCount > 0)
+                            .build();
+                })
+                .toList();
+        String nextCursor = hasNext ? ForumCommentCursor.after(window.getLast()).encode() : null;
+        return CursorPage.of(items, nextCursor, null);
+    }
+
+    private static void collectInlined(List<ForumComment> comments, Map<Long, List<ForumComment>> children,
+                                       int depth, List<Long> out) {
+        for (ForumComment comment : comments) {
+            out.add(comment.getId());
+            if (depth < INLINE_DEPTH) {
+                collectInlined(inlinedReplies(comment, children), children, depth + 1, out);
+            }
+        }
+    }
+
+    private static List<ForumComment> inlinedReplies(ForumComment comment, Map<Long, List<ForumComment>> children) {
+        List<ForumComment> replies = children.getOrDefault(comment.getId(), List.of());
+        return replies.size() > INLINE_REPLIES ? replies.subList(0, INLINE_REPLIES) : replies;
+    }
+
+    private CommentNodeResponse toNode(ForumComment comment, Map<Long, List<ForumComment>> children,
+                                       int depth, ViewerVotes votes) {
+        List<ForumComment> replies = children.getOrDefault(comment.getId(), List.of());
+        List<ForumComment> inlined = depth < INLINE_DEPTH ? inlinedReplies(comment, children) : List.of();
+        boolean hasMore = inlined.size() < replies.size();
+
+        return CommentNodeResponse.builder()
+                .comment(toCommentResponse(comment, votes))
+                .replies(inlined.stream().map(reply -> toNode(reply, children, depth + 1, votes)).toList())
+                .replyCount(replies.size())
+                .hasMoreReplies(hasMore)
+                .repliesCursor(hasMore && !inlined.isEmpty() ? ForumCommentCursor.after(inlined.getLast()).encode() : null)
+                .build();
+    }
+
+    private static CommentResponse toCommentResponse(ForumComment comment, ViewerVotes votes) {
+        return CommentResponse.from(comment, comment.getUpvoteCount(), comment.getDownvoteCount(), votes);
+    }
+
+    private static boolean isAfter(ForumComment comment, ForumCommentCursor cursor) {
+        int byDate = comment.getCreatedAt().compareTo(cursor.createdAt());
+        return byDate > 0 || (byDate == 0 && comment.getId() > cursor.id());
+    }
+
+    private static int resolvePageSize(Integer limit) {
+        if (limit == null || limit <= 0) return DEFAULT_PAGE_SIZE;
+        return Math.min(limit, MAX_PAGE_SIZE);
+    }
+}
@@ -3,6 +3,7 @@ package org.bounswe.jobboardbackend.forum.service;
 import lombok.RequiredArgsConstructor;
 import org.bounswe.jobboardbackend.auth.model.Role;
 import org.bounswe.jobboardbackend.auth.model.User;
+import org.bounswe.jobboardbackend.common.dto.CursorPage;
 import org.bounswe.jobboardbackend.exception.ErrorCode;
 import org.bounswe.jobboardbackend.exception.HandleException;
 import org.bounswe.jobboardbackend.forum.dto.*;
@@ -25,17 +26,24 @@ import org.bounswe.jobboardbackend.notification.notifier.ForumNotifier;
 import org.bounswe.jobboardbackend.activity.service.ActivityService;
 import org.bounswe.jobboardbackend.activity.model.ActivityType;
 import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class ForumService {
 
+    private static final int DEFAULT_FEED_PAGE_SIZE = 20;
+    private static final int MAX_FEED_PAGE_SIZE = 100;
+
     private final ForumPostRepository postRepository;
     private final ForumCommentRepository commentRepository;
     private final ForumCommentUpvoteRepository upvoteRepository;
@@ -45,6 +53,7 @@ public class ForumService {
     private final ForumPostDownvoteRepository postDownvoteRepository;
     private final ForumNotifier notifier;
     private final ActivityService activityService;
+    private final ForumVoteStateLoader voteStateLoader;
 
     @Transactional
     public PostResponse createPost(User author, CreatePostRequest request) {
@@ -72,9 +81,33 @@ public class ForumService {
 
     @Transactional(readOnly = true)
     public List<PostResponse> findAllPosts(Long currentUserId) {
-        return postRepository.findAll().stream()
-                .map(post -> toPostResponse(post, currentUserId))
-                .collect(Collectors.toList());
+        List<ForumPost> posts = postRepository.findAll();
+        if (posts.isEmpty()) {
+            return List.of();
+        }
+        // comments and votes of the whole table are read without id lists, which would
+        // outgrow the driver's bind parameter limit
+        return toPostResponses(posts, groupByPost(commentRepository.findAllWithAuthor()),
+                voteStateLoader.allPostVotes(currentUserId), voteStateLoader.allCommentVotes(currentUserId));
+    }
+
+    /**
+     * One page of the forum feed, newest first.
+     * Runs a fixed number of queries per page regardless of its size: the page itself
+     * (with authors and stored vote totals), tags, comment counts and, when
+     * {@code currentUserId} is given, the viewer's votes.
+     * Comments are only loaded by {@link #findPostById}.
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<PostSummaryResponse> findFeed(String cursor, Integer limit, Long currentUserId) {
+        int pageSize = resolveFeedPageSize(limit);
+        ForumPostCursor after = ForumPostCursor.decode(cursor);
+        List<ForumPost> rows = postRepository.findFeedPage(after.createdAt(), after.id(), PageRequest.of(0, pageSize + 1));
+
+        boolean hasNext = rows.size() > pageSize;
+        List<ForumPost> window = hasNext ? rows.subList(0, pageSize) : rows;
+        String nextCursor = hasNext ? ForumPostCursor.after(window.getLast()).encode() : null;
+        return CursorPage.of(toPostSummaries(window, currentUserId), nextCursor, null);
     }
 
     @Transactional(readOnly = true)
@@ -84,9 +117,7 @@ public class ForumService {
 
     @Transactional(readOnly = true)
     public List<PostResponse> findPostsByUserId(Long userId, Long currentUserId) {
-        return postRepository.findAllByAuthorIdOrderByCreatedAtDesc(userId).stream()
-                .map(post -> toPostResponse(post, currentUserId))
-                .collect(Collectors.toList());
+        return toPostResponses(postRepository.findAllByAuthorIdOrderByCreatedAtDesc(userId), currentUserId);
     }
 
     @Transactional(readOnly = true)
@@ -221,14 +252,14 @@ public class ForumService {
         }
 
         // Remove downvote if exists
-        downvoteRepository.findByUserIdAndCommentId(user.getId(), commentId)
-                .ifPresent(downvoteRepository::delete);
+        int removedDownvotes = downvoteRepository.deleteByUserIdAndCommentId(user.getId(), commentId);
 
         ForumCommentUpvote upvote = ForumCommentUpvote.builder()
                 .user(user)
                 .comment(comment)
                 .build();
         upvoteRepository.save(upvote);
+        commentRepository.adjustVoteCounts(commentId, 1, -removedDownvotes);
 
         // Publish event for badge checking (for the comment author, not the voter)
         eventPublisher.publishEvent(new CommentUpvotedEvent(comment.getAuthor().getId(), commentId));
@@ -236,8 +267,9 @@ public class ForumService {
 
     @Transactional
     public void removeUpvote(Long commentId, User user) {
-        upvoteRepository.findByUserIdAndCommentId(user.getId(), commentId)
-                .ifPresent(upvoteRepository::delete);
+        if (upvoteRepository.deleteByUserIdAndCommentId(user.getId(), commentId) > 0) {
+            commentRepository.adjustVoteCounts(commentId, -1, 0);
+        }
     }
 
     @Transactional
@@ -250,30 +282,29 @@ public class ForumService {
         }
 
         // Remove upvote if exists
-        upvoteRepository.findByUserIdAndCommentId(user.getId(), commentId)
-                .ifPresent(upvoteRepository::delete);
+        int removedUpvotes = upvoteRepository.deleteByUserIdAndCommentId(user.getId(), commentId);
 
         ForumCommentDownvote downvote = ForumCommentDownvote.builder()
                 .user(user)
                 .comment(comment)
                 .build();
         downvoteRepository.save(downvote);
+        commentRepository.adjustVoteCounts(commentId, -removedUpvotes, 1);
     }
 
     @Transactional
     public void removeDownvote(Long commentId, User user) {
-        downvoteRepository.findByUserIdAndCommentId(user.getId(), commentId)
-                .ifPresent(downvoteRepository::delete);
+        if (downvoteRepository.deleteByUserIdAndCommentId(user.getId(), commentId) > 0) {
+            commentRepository.adjustVoteCounts(commentId, 0, -1);
+        }
     }
 
     private CommentResponse toCommentResponse(ForumComment comment) {
-        return toCommentResponse(comment, null);
+        return toCommentResponse(comment, ViewerVotes.NONE);
     }
 
-    private CommentResponse toCommentResponse(ForumComment comment, Long userId) {
-        long upvotes = upvoteRepository.countByCommentId(comment.getId());
-        long downvotes = downvoteRepository.countByCommentId(comment.getId());
-        return CommentResponse.from(comment, upvotes, downvotes, userId, upvoteRepository, downvoteRepository);
+    private CommentResponse toCommentResponse(ForumComment comment, ViewerVotes viewerVotes) {
+        return CommentResponse.from(comment, comment.getUpvoteCount(), comment.getDownvoteCount(), viewerVotes);
     }
 
     private PostResponse toPostResponse(ForumPost post) {
@@ -281,12 +312,75 @@ public class ForumService {
     }
 
     private PostResponse toPostResponse(ForumPost post, Long userId) {
-        long upvotes = postUpvoteRepository.countByPostId(post.getId());
-        long downvotes = postDownvoteRepository.countByPostId(post.getId());
-        List<CommentResponse> comments = post.getComments().stream()
-                .map(comment -> toCommentResponse(comment, userId))
+        return toPostResponses(List.of(post), userId).getFirst();
+    }
+
+    /**
+     * Maps posts with their comments. Comments of all posts are read in one query with
+     * their authors, and the viewer's votes with one query per vote table.
+     */
+    private List<PostResponse> toPostResponses(List<ForumPost> posts, Long userId) {
+        if (posts.isEmpty()) {
+            return List.of();
+        }
+        List<Long> postIds = posts.stream().map(ForumPost::getId).toList();
+        List<ForumComment> comments = commentRepository.findAllWithAuthorByPostIdIn(postIds);
+        List<Long> commentIds = comments.stream().map(ForumComment::getId).toList();
+        return toPostResponses(posts, groupByPost(comments),
+                voteStateLoader.forPosts(userId, postIds), voteStateLoader.forComments(userId, commentIds));
+    }
+
+    private List<PostResponse> toPostResponses(List<ForumPost> posts, Map<Long, List<ForumComment>> commentsByPost,
+                                               ViewerVotes postVotes, ViewerVotes commentVotes) {
+        return posts.stream()
+                .map(post -> {
+                    List<CommentResponse> comments = commentsByPost.getOrDefault(post.getId(), List.of()).stream()
+                            .map(comment -> toCommentResponse(comment, commentVotes))
+                            .collect(Collectors.toList());
+                    return PostResponse.from(post, post.getUpvoteCount(), post.getDownvoteCount(), comments, postVotes);
+                })
                 .collect(Collectors.toList());
-        return PostResponse.from(post, upvotes, downvotes, comments, userId, postUpvoteRepository, postDownvoteRepository);
+    }
+
+    private static Map<Long, List<ForumComment>> groupByPost(List<ForumComment> comments) {
+        Map<Long, List<ForumComment>> commentsByPost = new HashMap<>();
+        for (ForumComment comment : comments) {
+            commentsByPost.computeIfAbsent(comment.getPost().getId(), id -> new ArrayList<>()).add(comment);
+        }
+        return commentsByPost;
+    }
+
+    private List<PostSummaryResponse> toPostSummaries(List<ForumPost> posts, Long userId) {
+        if (posts.isEmpty()) {
+            return List.of();
+        }
+        List<Long> postIds = posts.stream().map(ForumPost::getId).toList();
+
+        Map<Long, List<String>> tags = new HashMap<>();
+        for (Object[] row : postRepository.findTagsByPostIdIn(postIds)) {
+            tags.computeIfAbsent((Long) row[0], id -> new ArrayList<>()).add((String) row[1]);
+        }
+        Map<Long, Long> commentCounts = new HashMap<>();
+        for (Object[] row : commentRepository.countByPostIdIn(postIds)) {
+            commentCounts.put((Long) row[0], ((Number) row[1]).longValue());
+        }
+
+        ViewerVotes viewerVotes = voteStateLoader.forPosts(userId, postIds);
+
+        List<PostSummaryResponse> summaries = new ArrayList<>(posts.size());
+        for (ForumPost post : posts) {
+            Long id = post.getId();
+            summaries.add(PostSummaryResponse.from(post,
+                    tags.getOrDefault(id, List.of()),
+                    commentCounts.getOrDefault(id, 0L),
+                    viewerVotes));
+        }
+        return summaries;
+    }
+
+    private static int resolveFeedPageSize(Integer limit) {
+        if (limit == null || limit <= 0) return DEFAULT_FEED_PAGE_SIZE;
+        return Math.min(limit, MAX_FEED_PAGE_SIZE);
     }
 
     @Transactional
@@ -298,22 +392,23 @@ public class ForumService {
             return;
         }
 
-        postDownvoteRepository.findByUserIdAndPostId(user.getId(), postId)
-                .ifPresent(postDownvoteRepository::delete);
+        int removedDownvotes = postDownvoteRepository.deleteByUserIdAndPostId(user.getId(), postId);
 
         ForumPostUpvote upvote = ForumPostUpvote.builder()
                 .user(user)
                 .post(post)
                 .build();
         postUpvoteRepository.save(upvote);
+        postRepository.adjustVoteCounts(postId, 1, -removedDownvotes);
 
         activityService.logActivity(user, ActivityType.UPVOTE_THREAD, postId, "ForumPost");
     }
 
     @Transactional
     public void removePostUpvote(Long postId, User user) {
-        postUpvoteRepository.findByUserIdAndPostId(user.getId(), postId)
-                .ifPresent(postUpvoteRepository::delete);
+        if (postUpvoteRepository.deleteByUserIdAndPostId(user.getId(), postId) > 0) {
+            postRepository.adjustVoteCounts(postId, -1, 0);
+        }
     }
 
     @Transactional
@@ -325,27 +420,44 @@ public class ForumService {
             return;
         }
 
-        postUpvoteRepository.findByUserIdAndPostId(user.getId(), postId)
-                .ifPresent(postUpvoteRepository::delete);
+        int removedUpvotes = postUpvoteRepository.deleteByUserIdAndPostId(user.getId(), postId);
 
         ForumPostDownvote downvote = ForumPostDownvote.builder()
                 .user(user)
                 .post(post)
                 .build();
         postDownvoteRepository.save(downvote);
+        postRepository.adjustVoteCounts(postId, -removedUpvotes, 1);
 
         activityService.logActivity(user, ActivityType.DOWNVOTE_THREAD, postId, "ForumPost");
     }
 
     @Transactional
     public void removePostDownvote(Long postId, User user) {
-        postDownvoteRepository.findByUserIdAndPostId(user.getId(), postId)
-                .ifPresent(postDownvoteRepository::delete);
+        if (postDownvoteRepository.deleteByUserIdAndPostId(user.getId(), postId) > 0) {
+            postRepository.adjustVoteCounts(postId, 0, -1);
+        }
+    }
+
+    /**
+     * Rewrites stored vote totals that drifted from the vote tables.
+     * Returns the number of corrected counters.
+     */
+    @Transactional
+    public int repairVoteCounts() {
+        return postRepository.repairUpvoteCounts()
+                + postRepository.repairDownvoteCounts()
+                + commentRepository.repairUpvoteCounts()
+                + commentRepository.repairDownvoteCounts();
     }
 
     @Transactional
     public void deleteUserData(Long userId) {
-        // Delete votes
+        // Take the user's votes out of the stored totals, then delete them
+        postRepository.releaseUpvotesOfUser(userId);
+        postRepository.releaseDownvotesOfUser(userId);
+        commentRepository.releaseUpvotesOfUser(userId);
+        commentRepository.releaseDownvotesOfUser(userId);
         postUpvoteRepository.deleteByUserId(userId);
         postDownvoteRepository.deleteByUserId(userId);
         upvoteRepository.deleteByUserId(userId);
@@ -0,0 +1,33 @@
+package org.bounswe.jobboardbackend.forum.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Periodically checks the stored forum vote totals against the vote tables.
+ * The first run after startup also backfills posts and comments created before the totals existed.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ForumVoteCountRepairJob {
+
+    private final ForumService forumService;
+
+    @Scheduled(initialDelayString = "${app.forum.votes.repairInitialDelayMs:60000}",
+            fixedDelayString = "${app.forum.votes.repairIntervalMs:21600000}")
+    public void repair() {
+        long start = System.currentTimeMillis();
+        try {
+            int repaired = forumService.repairVoteCounts();
+            if (repaired > 0) {
+                log.warn("Repaired {} forum vote counters", repaired);
+            }
+        } catch (Exception e) {
+            log.error("Forum vote counter repair failed: {}", e.getMessage());
+        }
+        log.debug("Forum vote counter repair finished in {} ms", System.currentTimeMillis() - start);
+    }
+}
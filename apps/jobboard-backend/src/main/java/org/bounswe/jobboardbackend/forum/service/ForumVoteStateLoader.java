@@ -0,0 +1,69 @@
+package org.bounswe.jobboardbackend.forum.service;
+
+import lombok.RequiredArgsConstructor;
+import org.bounswe.jobboardbackend.forum.dto.ViewerVotes;
+import org.bounswe.jobboardbackend.forum.repository.ForumCommentDownvoteRepository;
+import org.bounswe.jobboardbackend.forum.repository.ForumCommentUpvoteRepository;
+import org.bounswe.jobboardbackend.forum.repository.ForumPostDownvoteRepository;
+import org.bounswe.jobboardbackend.forum.repository.ForumPostUpvoteRepository;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Loads the viewer's votes for a whole batch of posts or comments with one query per vote table.
+ * The {@code all*} variants read every vote of the viewer, for callers mapping the whole table.
+ */
+@Component
+@RequiredArgsConstructor
+public class ForumVoteStateLoader {
+
+    private final ForumPostUpvoteRepository postUpvoteRepository;
+    private final ForumPostDownvoteRepository postDownvoteRepository;
+    private final ForumCommentUpvoteRepository commentUpvoteRepository;
+    private final ForumCommentDownvoteRepository commentDownvoteRepository;
+
+    public ViewerVotes forPosts(Long userId, Collection<Long> postIds) {
+        if (userId == null) {
+            return ViewerVotes.NONE;
+        }
+        if (postIds.isEmpty()) {
+            return new ViewerVotes(Set.of(), Set.of());
+        }
+        return new ViewerVotes(
+                new HashSet<>(postUpvoteRepository.findPostIdsByUserIdAndPostIdIn(userId, postIds)),
+                new HashSet<>(postDownvoteRepository.findPostIdsByUserIdAndPostIdIn(userId, postIds)));
+    }
+
+    public ViewerVotes allPostVotes(Long userId) {
+        if (userId == null) {
+            return ViewerVotes.NONE;
+        }
+        return new ViewerVotes(
+                new HashSet<>(postUpvoteRepository.findPostIdsByUserId(userId)),
+                new HashSet<>(postDownvoteRepository.findPostIdsByUserId(userId)));
+    }
+
+    public ViewerVotes allCommentVotes(Long userId) {
+        if (userId == null) {
+            return ViewerVotes.NONE;
+        }
+        return new ViewerVotes(
+                new HashSet<>(commentUpvoteRepository.findCommentIdsByUserId(userId)),
+                new HashSet<>(commentDownvoteRepository.findCommentIdsByUserId(userId)));
+    }
+
+    public ViewerVotes forComments(Long userId, Collection<Long> commentIds) {
+        if (userId == null) {
+            return ViewerVotes.NONE;
+        }
+        if (commentIds.isEmpty()) {
+            return new ViewerVotes(Set.of(), Set.of());
+        }
+        return new ViewerVotes(
+                new HashSet<>(commentUpvoteRepository.findCommentIdsByUserIdAndCommentIdIn(userId, commentIds)),
+                new HashSet<>(commentDownvoteRepository.findCommentIdsByUserIdAndCommentIdIn(userId, commentIds)));
+    }
+}
@@ -17,6 +17,9 @@ import org.bounswe.jobboardbackend.jobapplication.dto.CvUploadResponse;
 import org.bounswe.jobboardbackend.jobapplication.dto.JobApplicationResponse;
 import org.bounswe.jobboardbackend.jobapplication.dto.UpdateJobApplicationRequest;
 import org.bounswe.jobboardbackend.jobapplication.service.JobApplicationService;
+import org.bounswe.jobboardbackend.storage.dto.UploadConfirmRequest;
+import org.bounswe.jobboardbackend.storage.dto.UploadTicketResponse;
+import org.bounswe.jobboardbackend.storage.dto.UploadUrlRequest;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -187,6 +190,36 @@ public class JobApplicationController {
         return ResponseEntity.ok(service.uploadCv(id, file));
     }
 
+    @Operation(summary = "Request CV Upload URL", description = "Issues a short-lived signed URL the client uploads the CV to directly, bypassing this server. Finish with the confirm endpoint.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Upload URL issued"),
+            @ApiResponse(responseCode = "400", description = "Invalid file type or size", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ApiError.class), examples = @ExampleObject(value = "{\"timestamp\": \"2023-10-01T12:00:00\", \"status\": 400, \"error\": \"Bad Request\", \"code\": \"BAD_REQUEST\", \"message\": \"Only PDF, DOC, and DOCX files are allowed\", \"path\": \"/api/applications/1/cv/upload-url\" }"))),
+            @ApiResponse(responseCode = "401", description = "Unauthorized", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ApiError.class), examples = @ExampleObject(value = "{\"timestamp\": \"2023-10-01T12:00:00\", \"status\": 401, \"error\": \"Unauthorized\", \"code\": \"USER_UNAUTHORIZED\", \"message\": \"Only the applicant can upload CV for their application\", \"path\": \"/api/applications/1/cv/upload-url\" }"))),
+            @ApiResponse(responseCode = "404", description = "Application not found", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ApiError.class), examples = @ExampleObject(value = "{\"timestamp\": \"2023-10-01T12:00:00\", \"status\": 404, \"error\": \"Not Found\", \"code\": \"JOB_APPLICATION_NOT_FOUND\", \"message\": \"Application with ID 1 not found\", \"path\": \"/api/applications/1/cv/upload-url\" }")))
+    })
+    @PreAuthorize("isAuthenticated()")
+    @PostMapping("/{id}/cv/upload-url")
+    public ResponseEntity<UploadTicketResponse> requestCvUpload(
+            @Parameter(description = "ID of the application") @PathVariable Long id,
+            @RequestBody @Valid UploadUrlRequest request) {
+        return ResponseEntity.ok(service.requestCvUpload(id, request));
+    }
+
+    @Operation(summary = "Confirm CV Upload", description = "Checks the file uploaded with an upload ticket and attaches it to the application.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "CV attached successfully"),
+            @ApiResponse(responseCode = "400", description = "Invalid ticket or rejected file", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ApiError.class), examples = @ExampleObject(value = "{\"timestamp\": \"2023-10-01T12:00:00\", \"status\": 400, \"error\": \"Bad Request\", \"code\": \"UPLOAD_REJECTED\", \"message\": \"Uploaded file is empty or too large\", \"path\": \"/api/applications/1/cv/confirm\" }"))),
+            @ApiResponse(responseCode = "401", description = "Unauthorized", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ApiError.class), examples = @ExampleObject(value = "{\"timestamp\": \"2023-10-01T12:00:00\", \"status\": 401, \"error\": \"Unauthorized\", \"code\": \"USER_UNAUTHORIZED\", \"message\": \"Only the applicant can upload CV for their application\", \"path\": \"/api/applications/1/cv/confirm\" }"))),
+            @ApiResponse(responseCode = "409", description = "File not uploaded yet", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ApiError.class), examples = @ExampleObject(value = "{\"timestamp\": \"2023-10-01T12:00:00\", \"status\": 409, \"error\": \"Conflict\", \"code\": \"UPLOAD_NOT_RECEIVED\", \"message\": \"File has not been uploaded yet\", \"path\": \"/api/applications/1/cv/confirm\" }")))
+    })
+    @PreAuthorize("isAuthenticated()")
+    @PostMapping("/{id}/cv/confirm")
+    public ResponseEntity<CvUploadResponse> confirmCvUpload(
+            @Parameter(description = "ID of the application") @PathVariable Long id,
+            @RequestBody @Valid UploadConfirmRequest request) {
+        return ResponseEntity.ok(service.confirmCvUpload(id, request));
+    }
+
     @Operation(summary = "Get CV URL", description = "Retrieves the public URL of the uploaded CV.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "CV URL retrieved successfully"),
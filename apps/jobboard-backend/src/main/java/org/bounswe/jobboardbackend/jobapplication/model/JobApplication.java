@@ -37,8 +37,8 @@ public class JobApplication {
     @Column(length = 1000)
     private String feedback;  // Optional: employer feedback when approving/rejecting
 
-    @Column(length = 1024)
-    private String cvUrl;  // Optional: CV/Resume file URL stored in GCS
+    @Column(name = "cv_url", length = 1024)
+    private String cvObjectName;  // Optional: storage object name of the CV/Resume file
 
     @Column(length = 2000)
     private String coverLetter;  // Optional: Cover letter / motivation letter
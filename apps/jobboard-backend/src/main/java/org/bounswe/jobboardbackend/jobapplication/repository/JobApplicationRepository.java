@@ -2,6 +2,9 @@ package org.bounswe.jobboardbackend.jobapplication.repository;
 
 import org.bounswe.jobboardbackend.jobapplication.model.JobApplication;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -19,6 +22,17 @@ public interface JobApplicationRepository extends JpaRepository<JobApplication,
 
     void deleteAllByJobSeekerId(Long jobSeekerId);
 
+    @Query("SELECT a.cvObjectName FROM JobApplication a WHERE a.jobSeeker.id = :jobSeekerId AND a.cvObjectName IS NOT NULL")
+    List<String> findCvObjectNamesByJobSeekerId(@Param("jobSeekerId") Long jobSeekerId);
+
+    @Query("SELECT a.cvObjectName FROM JobApplication a WHERE a.jobPost.workplace.id = :workplaceId AND a.cvObjectName IS NOT NULL")
+    List<String> findCvObjectNamesByWorkplaceId(@Param("workplaceId") Long workplaceId);
+
+    /** Single-statement delete; the derived {@link #deleteAllByJobSeekerId} loads and removes rows one by one. */
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM JobApplication a WHERE a.jobSeeker.id = :jobSeekerId")
+    int deleteAllByJobSeekerIdInBulk(@Param("jobSeekerId") Long jobSeekerId);
+
     void deleteAllByJobPostId(Long jobPostId);
 
     void deleteAllByJobPost_Workplace_Id(Long workplaceId);
@@ -13,6 +13,7 @@ import org.bounswe.jobboardbackend.jobapplication.repository.JobApplicationRepos
 import org.bounswe.jobboardbackend.jobpost.model.JobPost;
 import org.bounswe.jobboardbackend.jobpost.repository.JobPostRepository;
 import org.bounswe.jobboardbackend.notification.notifier.JobApplicationNotifier;
+import org.bounswe.jobboardbackend.workplace.dto.WorkplaceBriefResponse;
 import org.bounswe.jobboardbackend.workplace.service.WorkplaceService;
 import org.bounswe.jobboardbackend.workplace.repository.EmployerWorkplaceRepository;
 import org.bounswe.jobboardbackend.workplace.repository.WorkplaceRepository;
@@ -20,6 +21,13 @@ import org.bounswe.jobboardbackend.badge.event.JobApplicationCreatedEvent;
 import org.bounswe.jobboardbackend.badge.event.JobApplicationApprovedEvent;
 import org.bounswe.jobboardbackend.activity.service.ActivityService;
 import org.bounswe.jobboardbackend.activity.model.ActivityType;
+import org.bounswe.jobboardbackend.storage.dto.UploadConfirmRequest;
+import org.bounswe.jobboardbackend.storage.dto.UploadTicketResponse;
+import org.bounswe.jobboardbackend.storage.dto.UploadUrlRequest;
+import org.bounswe.jobboardbackend.storage.model.UploadPurpose;
+import org.bounswe.jobboardbackend.storage.service.ObjectDeletionQueue;
+import org.bounswe.jobboardbackend.storage.service.ObjectStorage;
+import org.bounswe.jobboardbackend.storage.service.UploadTicketService;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -29,13 +37,11 @@ import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
-import com.google.cloud.storage.*;
 
 import java.io.IOException;
-import java.net.URL;
-import java.util.concurrent.TimeUnit;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.time.LocalDateTime;
 import java.util.stream.Collectors;
 
@@ -52,22 +58,14 @@ public class JobApplicationService {
     private final JobApplicationNotifier notifier;
     private final ActivityService activityService;
 
-    // === GCS config ===
-    @Value("${app.gcs.bucket:bounswe-jobboard}")
-    private String gcsBucket;
-
-    @Value("${app.gcs.public:true}")
-    private boolean gcsPublic;
-
-    @Value("${app.gcs.publicBaseUrl:https://storage.googleapis.com}")
-    private String gcsPublicBaseUrl;
+    // === Storage config ===
+    private final ObjectStorage objectStorage;
+    private final UploadTicketService uploadTicketService;
+    private final ObjectDeletionQueue deletionQueue;
 
     @Value("${app.env}")
     private String appEnv;
 
-    // Google Cloud Storage client
-    private final Storage storage = StorageOptions.getDefaultInstance().getService();
-
     public JobApplicationService(
         JobApplicationRepository applicationRepository,
         UserRepository userRepository,
@@ -77,7 +75,10 @@ public class JobApplicationService {
         WorkplaceRepository workplaceRepository,
         ApplicationEventPublisher eventPublisher,
         JobApplicationNotifier notifier,
-        ActivityService activityService
+        ActivityService activityService,
+        ObjectStorage objectStorage,
+        UploadTicketService uploadTicketService,
+        ObjectDeletionQueue deletionQueue
     ) {
         this.applicationRepository = applicationRepository;
         this.userRepository = userRepository;
@@ -88,6 +89,9 @@ public class JobApplicationService {
         this.eventPublisher = eventPublisher;
         this.notifier = notifier;
         this.activityService = activityService;
+        this.objectStorage = objectStorage;
+        this.uploadTicketService = uploadTicketService;
+        this.deletionQueue = deletionQueue;
     }
 
     @Transactional(readOnly = true)
@@ -96,9 +100,7 @@ public class JobApplicationService {
         userRepository.findById(jobSeekerId)
                 .orElseThrow(() -> new HandleException(ErrorCode.USER_NOT_FOUND, "Job seeker with ID " + jobSeekerId + " not found"));
         
-        return applicationRepository.findByJobSeekerId(jobSeekerId).stream()
-                .map(this::toResponseDto)
-                .collect(Collectors.toList());
+        return toResponseDtos(applicationRepository.findByJobSeekerId(jobSeekerId));
     }
 
     @Transactional(readOnly = true)
@@ -107,9 +109,7 @@ public class JobApplicationService {
         jobPostRepository.findById(jobPostId)
                 .orElseThrow(() -> new HandleException(ErrorCode.JOB_POST_NOT_FOUND, "Job post with ID " + jobPostId + " not found"));
         
-        return applicationRepository.findByJobPostId(jobPostId).stream()
-                .map(this::toResponseDto)
-                .collect(Collectors.toList());
+        return toResponseDtos(applicationRepository.findByJobPostId(jobPostId));
     }
 
     @Transactional(readOnly = true)
@@ -118,9 +118,7 @@ public class JobApplicationService {
         workplaceRepository.findById(workplaceId)
                 .orElseThrow(() -> new HandleException(ErrorCode.WORKPLACE_NOT_FOUND, "Workplace with ID " + workplaceId + " not found"));
         
-        return applicationRepository.findByJobPost_Workplace_Id(workplaceId).stream()
-                .map(this::toResponseDto)
-                .collect(Collectors.toList());
+        return toResponseDtos(applicationRepository.findByJobPost_Workplace_Id(workplaceId));
     }
 
     @Transactional(readOnly = true)
@@ -240,6 +238,21 @@ public class JobApplicationService {
     }
 
     private JobApplicationResponse toResponseDto(JobApplication application) {
+        return toResponseDto(application, workplaceService.toBriefResponse(application.getJobPost().getWorkplace()));
+    }
+
+    /**
+     * Maps a list of applications, assembling all workplace summaries with one batch lookup.
+     */
+    private List<JobApplicationResponse> toResponseDtos(List<JobApplication> applications) {
+        Map<Long, WorkplaceBriefResponse> briefs = workplaceService.toBriefResponses(
+                applications.stream().map(a -> a.getJobPost().getWorkplace().getId()).collect(Collectors.toSet()));
+        return applications.stream()
+                .map(a -> toResponseDto(a, briefs.get(a.getJobPost().getWorkplace().getId())))
+                .collect(Collectors.toList());
+    }
+
+    private JobApplicationResponse toResponseDto(JobApplication application, WorkplaceBriefResponse workplace) {
         JobPost jobPost = application.getJobPost();
         User jobSeeker = application.getJobSeeker();
 
@@ -249,11 +262,11 @@ public class JobApplicationService {
                 .applicantName(jobSeeker.getUsername())
                 .jobPostId(jobPost.getId())
                 .title(jobPost.getTitle())
-                .workplace(workplaceService.toBriefResponse(jobPost.getWorkplace()))
+                .workplace(workplace)
                 .status(application.getStatus())
                 .specialNeeds(application.getSpecialNeeds())
                 .feedback(application.getFeedback())
-                .cvUrl(application.getCvUrl())
+                .cvUrl(objectStorage.url(application.getCvObjectName()))
                 .coverLetter(application.getCoverLetter())
                 .appliedDate(application.getAppliedDate())
                 .build();
@@ -279,9 +292,11 @@ public class JobApplicationService {
     }
 
     // =========================
-    // CV / RESUME (GCS integration)
+    // CV / RESUME (object storage)
     // =========================
 
+    private static final long MAX_CV_BYTES = 5L * 1024 * 1024;
+
     private String buildCvObjectName(Long applicationId, String originalFilename) {
         String ext = (originalFilename != null && originalFilename.contains("."))
                 ? originalFilename.substring(originalFilename.lastIndexOf('.'))
@@ -291,44 +306,6 @@ public class JobApplicationService {
         return appEnv + "/" + "cvs/" + "application_" + applicationId + "_" + timestamp + ext;
     }
 
-    private String publicUrl(String objectName) {
-        return gcsPublicBaseUrl + "/" + gcsBucket + "/" + objectName;
-    }
-
-    private String extractObjectNameFromUrl(String url) {
-        String prefix = gcsPublicBaseUrl + "/" + gcsBucket + "/";
-        if (url != null && url.startsWith(prefix)) {
-            return url.substring(prefix.length());
-        }
-        return null;
-    }
-
-    private String uploadToGcs(byte[] content, String contentType, String objectName) {
-        BlobInfo info = BlobInfo.newBuilder(gcsBucket, objectName)
-                .setContentType(contentType != null ? contentType : "application/octet-stream")
-                .build();
-        storage.create(info, content);
-        if (gcsPublic) {
-            return publicUrl(objectName);
-        } else {
-            URL signed = storage.signUrl(
-                    BlobInfo.newBuilder(gcsBucket, objectName).build(),
-                    15, TimeUnit.MINUTES,
-                    Storage.SignUrlOption.withV4Signature(),
-                    Storage.SignUrlOption.httpMethod(HttpMethod.GET)
-            );
-            return signed.toString();
-        }
-    }
-
-    private void deleteFromGcs(String objectName) {
-        if (objectName == null) return;
-        try {
-            storage.delete(gcsBucket, objectName);
-        } catch (StorageException ignore) {
-        }
-    }
-
     private boolean isValidCvContentType(String contentType) {
         if (contentType == null) return false;
         List<String> allowedTypes = Arrays.asList(
@@ -339,54 +316,89 @@ public class JobApplicationService {
         return allowedTypes.contains(contentType);
     }
 
-    @Transactional
-    public CvUploadResponse uploadCv(Long applicationId, MultipartFile file) {
-        if (file == null || file.isEmpty()) {
-            throw new HandleException(ErrorCode.BAD_REQUEST, "CV file is required");
-        }
-
-        String ct = file.getContentType();
-        if (!isValidCvContentType(ct)) {
+    private void validateCv(String contentType, long size) {
+        if (!isValidCvContentType(contentType)) {
             throw new HandleException(ErrorCode.BAD_REQUEST, "Only PDF, DOC, and DOCX files are allowed");
         }
-
-        // File size limit: 5MB
-        if (file.getSize() > 5 * 1024 * 1024) {
+        if (size > MAX_CV_BYTES) {
             throw new HandleException(ErrorCode.BAD_REQUEST, "CV file too large (max 5MB)");
         }
+    }
 
+    private JobApplication getApplicationOfCurrentApplicant(Long applicationId, User currentUser) {
         JobApplication application = applicationRepository.findById(applicationId)
                 .orElseThrow(() -> new HandleException(ErrorCode.JOB_APPLICATION_NOT_FOUND, "Application with ID " + applicationId + " not found"));
 
         // Check authorization: only the applicant can upload their CV
-        User currentUser = getCurrentUser();
         if (!application.getJobSeeker().getId().equals(currentUser.getId())) {
             throw new HandleException(ErrorCode.USER_UNAUTHORIZED, "Only the applicant can upload CV for their application");
         }
+        return application;
+    }
+
+    /** Points the application at a newly stored CV and removes the one it replaces. */
+    private CvUploadResponse attachCv(JobApplication application, String objectName, String url) {
+        String oldObject = objectStorage.toObjectName(application.getCvObjectName());
+        if (oldObject != null && !oldObject.equals(objectName)) {
+            deletionQueue.enqueue(oldObject);
+        }
+
+        application.setCvObjectName(objectName);
+        applicationRepository.save(application);
+
+        return CvUploadResponse.builder()
+                .cvUrl(url)
+                .uploadedAt(LocalDateTime.now())
+                .build();
+    }
 
-        // Delete old CV if exists
-        if (application.getCvUrl() != null) {
-            String oldObject = extractObjectNameFromUrl(application.getCvUrl());
-            if (oldObject != null) {
-                deleteFromGcs(oldObject);
-            }
+    @Transactional
+    public CvUploadResponse uploadCv(Long applicationId, MultipartFile file) {
+        if (file == null || file.isEmpty()) {
+            throw new HandleException(ErrorCode.BAD_REQUEST, "CV file is required");
         }
 
+        String ct = file.getContentType();
+        validateCv(ct, file.getSize());
+
+        JobApplication application = getApplicationOfCurrentApplicant(applicationId, getCurrentUser());
+
         String objectName = buildCvObjectName(applicationId, file.getOriginalFilename());
         String url;
         try {
-            url = uploadToGcs(file.getBytes(), ct, objectName);
+            // a deletion queued for an earlier CV under this name must not hit the new one
+            deletionQueue.cancel(objectName);
+            url = objectStorage.upload(objectName, file, ct);
         } catch (IOException e) {
             throw new HandleException(ErrorCode.INTERNAL_ERROR, "CV upload failed");
         }
 
-        application.setCvUrl(url);
-        applicationRepository.save(application);
+        return attachCv(application, objectName, url);
+    }
 
-        return CvUploadResponse.builder()
-                .cvUrl(url)
-                .uploadedAt(LocalDateTime.now())
-                .build();
+    /**
+     * First step of a direct CV upload: returns a signed URL the client PUTs the file to.
+     * The upload is attached to the application by {@link #confirmCvUpload}.
+     */
+    @Transactional
+    public UploadTicketResponse requestCvUpload(Long applicationId, UploadUrlRequest request) {
+        validateCv(request.getContentType(), request.getSize() != null ? request.getSize() : 0L);
+
+        User currentUser = getCurrentUser();
+        getApplicationOfCurrentApplicant(applicationId, currentUser);
+
+        String objectName = buildCvObjectName(applicationId, request.getFileName());
+        return uploadTicketService.issue(UploadPurpose.CV, applicationId, currentUser.getId(),
+                objectName, request.getContentType(), MAX_CV_BYTES);
+    }
+
+    @Transactional
+    public CvUploadResponse confirmCvUpload(Long applicationId, UploadConfirmRequest request) {
+        User currentUser = getCurrentUser();
+        JobApplication application = getApplicationOfCurrentApplicant(applicationId, currentUser);
+
+        String objectName = uploadTicketService.redeem(request.getTicketId(), UploadPurpose.CV, applicationId, currentUser.getId());
+        return attachCv(application, objectName, objectStorage.url(objectName));
     }
 
     @Transactional(readOnly = true)
@@ -403,11 +415,11 @@ public class JobApplicationService {
             throw new HandleException(ErrorCode.USER_UNAUTHORIZED, "You are not authorized to view this CV");
         }
 
-        if (application.getCvUrl() == null) {
+        if (application.getCvObjectName() == null) {
             throw new HandleException(ErrorCode.JOB_APPLICATION_NOT_FOUND, "No CV uploaded for this application");
         }
 
-        return application.getCvUrl();
+        return objectStorage.url(application.getCvObjectName());
     }
 
     @Transactional
@@ -421,27 +433,17 @@ public class JobApplicationService {
             throw new HandleException(ErrorCode.USER_UNAUTHORIZED, "Only the applicant can delete their CV");
         }
 
-        if (application.getCvUrl() != null) {
-            String objectName = extractObjectNameFromUrl(application.getCvUrl());
-            if (objectName != null) {
-                deleteFromGcs(objectName);
-            }
-            application.setCvUrl(null);
+        if (application.getCvObjectName() != null) {
+            deletionQueue.enqueue(application.getCvObjectName());
+            application.setCvObjectName(null);
             applicationRepository.save(application);
         }
     }
 
     @Transactional
     public void deleteUserData(Long userId) {
-        List<JobApplication> apps = applicationRepository.findByJobSeekerId(userId);
-        for (JobApplication app : apps) {
-            if (app.getCvUrl() != null) {
-                String objectName = extractObjectNameFromUrl(app.getCvUrl());
-                if (objectName != null)
-                    deleteFromGcs(objectName);
-            }
-            applicationRepository.delete(app);
-        }
+        deletionQueue.enqueueAll(applicationRepository.findCvObjectNamesByJobSeekerId(userId));
+        applicationRepository.deleteAllByJobSeekerIdInBulk(userId);
     }
 
     private void assertEmployerOfWorkplace(Long workplaceId, Long userId) {
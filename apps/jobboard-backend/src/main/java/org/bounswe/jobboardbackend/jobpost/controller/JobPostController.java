@@ -9,6 +9,7 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import org.bounswe.jobboardbackend.common.dto.CursorPage;
 import org.bounswe.jobboardbackend.exception.ApiError;
 import org.bounswe.jobboardbackend.jobpost.dto.CreateJobPostRequest;
 import org.bounswe.jobboardbackend.jobpost.dto.UpdateJobPostRequest;
@@ -32,7 +33,7 @@ public class JobPostController {
                 this.service = service;
         }
 
-        @Operation(summary = "Search Job Posts", description = "Retrieves a list of job posts filtered by various criteria.")
+        @Operation(summary = "Search Job Posts", description = "Retrieves a list of job posts filtered by various criteria. Text criteria are prefix and typo tolerant; when any are given, results are ordered by relevance.")
         @ApiResponses(value = {
                         @ApiResponse(responseCode = "200", description = "Job posts retrieved successfully"),
                         @ApiResponse(responseCode = "401", description = "Unauthorized", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ApiError.class), examples = @ExampleObject(value = "{\"timestamp\": \"2023-10-01T12:00:00\", \"status\": 401, \"error\": \"Unauthorized\", \"code\": \"USER_UNAUTHORIZED\", \"message\": \"Full authentication is required\", \"path\": \"/api/jobs\" }")))
@@ -40,6 +41,7 @@ public class JobPostController {
         @PreAuthorize("isAuthenticated()")
         @GetMapping
         public ResponseEntity<List<JobPostResponse>> getFiltered(
+                        @Parameter(description = "Free-text search over title, description, company, sector and location") @RequestParam(required = false) String q,
                         @Parameter(description = "Filter by job title (contains)") @RequestParam(required = false) String title,
                         @Parameter(description = "Filter by company name (contains)") @RequestParam(required = false) String companyName,
                         @Parameter(description = "Filter by location") @RequestParam(required = false) String location,
@@ -51,10 +53,38 @@ public class JobPostController {
                         @Parameter(description = "Filter by inclusive opportunity") @RequestParam(required = false) Boolean inclusiveOpportunity,
                         @Parameter(description = "Filter by non-profit status") @RequestParam(required = false) Boolean nonProfit) {
                 return ResponseEntity
-                                .ok(service.getFiltered(title, companyName, location, sector, ethicalTags, minSalary,
+                                .ok(service.getFiltered(q, title, companyName, location, sector, ethicalTags, minSalary,
                                                 maxSalary, isRemote, inclusiveOpportunity, nonProfit));
         }
 
+        @Operation(summary = "Search Job Posts (cursor-paginated)", description = "Retrieves one page of job posts filtered by various criteria, newest first. Pass the returned nextCursor to fetch the following page.")
+        @ApiResponses(value = {
+                        @ApiResponse(responseCode = "200", description = "Job posts retrieved successfully"),
+                        @ApiResponse(responseCode = "400", description = "Invalid cursor", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ApiError.class), examples = @ExampleObject(value = "{\"timestamp\": \"2023-10-01T12:00:00\", \"status\": 400, \"error\": \"Bad Request\", \"code\": \"INVALID_CURSOR\", \"message\": \"Invalid cursor\", \"path\": \"/api/jobs/page\" }"))),
+                        @ApiResponse(responseCode = "401", description = "Unauthorized", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ApiError.class), examples = @ExampleObject(value = "{\"timestamp\": \"2023-10-01T12:00:00\", \"status\": 401, \"error\": \"Unauthorized\", \"code\": \"USER_UNAUTHORIZED\", \"message\": \"Full authentication is required\", \"path\": \"/api/jobs/page\" }")))
+        })
+        @PreAuthorize("isAuthenticated()")
+        @GetMapping("/page")
+        public ResponseEntity<CursorPage<JobPostResponse>> getFilteredPage(
+                        @Parameter(description = "Free-text search over title, description, company, sector and location") @RequestParam(required = false) String q,
+                        @Parameter(description = "Filter by job title (contains)") @RequestParam(required = false) String title,
+                        @Parameter(description = "Filter by company name (contains)") @RequestParam(required = false) String companyName,
+                        @Parameter(description = "Filter by location") @RequestParam(required = false) String location,
+                        @Parameter(description = "Filter by sector") @RequestParam(required = false) String sector,
+                        @Parameter(description = "Filter by ethical tags") @RequestParam(required = false) List<String> ethicalTags,
+                        @Parameter(description = "Minimum salary") @RequestParam(required = false) Integer minSalary,
+                        @Parameter(description = "Maximum salary") @RequestParam(required = false) Integer maxSalary,
+                        @Parameter(description = "Filter by remote availability") @RequestParam(required = false) Boolean isRemote,
+                        @Parameter(description = "Filter by inclusive opportunity") @RequestParam(required = false) Boolean inclusiveOpportunity,
+                        @Parameter(description = "Filter by non-profit status") @RequestParam(required = false) Boolean nonProfit,
+                        @Parameter(description = "Cursor returned by the previous page") @RequestParam(required = false) String cursor,
+                        @Parameter(description = "Page size (default 20, max 100)") @RequestParam(required = false) Integer limit,
+                        @Parameter(description = "Include an estimate of the total number of matches") @RequestParam(defaultValue = "false") boolean includeTotal) {
+                return ResponseEntity
+                                .ok(service.getFilteredPage(q, title, companyName, location, sector, ethicalTags, minSalary,
+                                                maxSalary, isRemote, inclusiveOpportunity, nonProfit, cursor, limit, includeTotal));
+        }
+
         @Operation(summary = "List Job Posts by Employer", description = "Retrieves all job posts created by a specific employer.")
         @ApiResponses(value = {
                         @ApiResponse(responseCode = "200", description = "Job posts retrieved successfully"),
@@ -81,6 +111,38 @@ public class JobPostController {
                 return ResponseEntity.ok(service.getByWorkplaceId(workplaceId));
         }
 
+        @Operation(summary = "List Job Posts by Employer (cursor-paginated)", description = "Retrieves one page of job posts created by a specific employer, newest first.")
+        @ApiResponses(value = {
+                        @ApiResponse(responseCode = "200", description = "Job posts retrieved successfully"),
+                        @ApiResponse(responseCode = "400", description = "Invalid cursor", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ApiError.class), examples = @ExampleObject(value = "{\"timestamp\": \"2023-10-01T12:00:00\", \"status\": 400, \"error\": \"Bad Request\", \"code\": \"INVALID_CURSOR\", \"message\": \"Invalid cursor\", \"path\": \"/api/jobs/employer/1/page\" }"))),
+                        @ApiResponse(responseCode = "401", description = "Unauthorized", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ApiError.class), examples = @ExampleObject(value = "{\"timestamp\": \"2023-10-01T12:00:00\", \"status\": 401, \"error\": \"Unauthorized\", \"code\": \"USER_UNAUTHORIZED\", \"message\": \"Full authentication is required\", \"path\": \"/api/jobs/employer/1/page\" }")))
+        })
+        @PreAuthorize("isAuthenticated()")
+        @GetMapping("/employer/{employerId}/page")
+        public ResponseEntity<CursorPage<JobPostResponse>> getByEmployerIdPage(
+                        @Parameter(description = "ID of the employer") @PathVariable Long employerId,
+                        @Parameter(description = "Cursor returned by the previous page") @RequestParam(required = false) String cursor,
+                        @Parameter(description = "Page size (default 20, max 100)") @RequestParam(required = false) Integer limit,
+                        @Parameter(description = "Include the total number of job posts") @RequestParam(defaultValue = "false") boolean includeTotal) {
+                return ResponseEntity.ok(service.getByEmployerIdPage(employerId, cursor, limit, includeTotal));
+        }
+
+        @Operation(summary = "List Job Posts by Workplace (cursor-paginated)", description = "Retrieves one page of job posts associated with a specific workplace, newest first.")
+        @ApiResponses(value = {
+                        @ApiResponse(responseCode = "200", description = "Job posts retrieved successfully"),
+                        @ApiResponse(responseCode = "400", description = "Invalid cursor", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ApiError.class), examples = @ExampleObject(value = "{\"timestamp\": \"2023-10-01T12:00:00\", \"status\": 400, \"error\": \"Bad Request\", \"code\": \"INVALID_CURSOR\", \"message\": \"Invalid cursor\", \"path\": \"/api/jobs/workplace/1/page\" }"))),
+                        @ApiResponse(responseCode = "401", description = "Unauthorized", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ApiError.class), examples = @ExampleObject(value = "{\"timestamp\": \"2023-10-01T12:00:00\", \"status\": 401, \"error\": \"Unauthorized\", \"code\": \"USER_UNAUTHORIZED\", \"message\": \"Full authentication is required\", \"path\": \"/api/jobs/workplace/1/page\" }")))
+        })
+        @PreAuthorize("isAuthenticated()")
+        @GetMapping("/workplace/{workplaceId}/page")
+        public ResponseEntity<CursorPage<JobPostResponse>> getByWorkplaceIdPage(
+                        @Parameter(description = "ID of the workplace") @PathVariable Long workplaceId,
+                        @Parameter(description = "Cursor returned by the previous page") @RequestParam(required = false) String cursor,
+                        @Parameter(description = "Page size (default 20, max 100)") @RequestParam(required = false) Integer limit,
+                        @Parameter(description = "Include the total number of job posts") @RequestParam(defaultValue = "false") boolean includeTotal) {
+                return ResponseEntity.ok(service.getByWorkplaceIdPage(workplaceId, cursor, limit, includeTotal));
+        }
+
         @Operation(summary = "Get Job Post by ID", description = "Retrieves a specific job post by its ID.")
         @ApiResponses(value = {
                         @ApiResponse(responseCode = "200", description = "Job post retrieved successfully"),
@@ -0,0 +1,27 @@
+package org.bounswe.jobboardbackend.jobpost.dto;
+
+import org.bounswe.jobboardbackend.common.dto.CursorCodec;
+import org.bounswe.jobboardbackend.jobpost.model.JobPost;
+
+import java.time.LocalDateTime;
+
+/**
+ * Keyset position in the (postedDate DESC, id DESC) ordering of job posts.
+ */
+public record JobPostCursor(LocalDateTime postedDate, Long id) {
+
+    /** Position before the first row, used when the client sends no cursor. */
+    public static final JobPostCursor START = new JobPostCursor(LocalDateTime.of(9999, 12, 31, 23, 59, 59), Long.MAX_VALUE);
+
+    public static JobPostCursor after(JobPost job) {
+        return new JobPostCursor(job.getPostedDate(), job.getId());
+    }
+
+    public static JobPostCursor decode(String token) {
+        return CursorCodec.decode(token, START, (key, id) -> new JobPostCursor(LocalDateTime.parse(key), id));
+    }
+
+    public String encode() {
+        return CursorCodec.encode(postedDate, id);
+    }
+}
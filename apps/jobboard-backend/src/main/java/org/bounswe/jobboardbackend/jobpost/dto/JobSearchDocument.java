@@ -0,0 +1,30 @@
+package org.bounswe.jobboardbackend.jobpost.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * Flat projection of the searchable fields of a job post and its workplace, plus the
+ * attributes search results are ordered and filtered by.
+ * Loaded with a single JPQL constructor expression so that indexing never
+ * touches lazy associations.
+ */
+@Getter
+@AllArgsConstructor
+public class JobSearchDocument {
+    private final Long jobPostId;
+    private final String title;
+    private final String description;
+    private final String companyName;
+    private final String sector;
+    private final String location;
+    private final Long workplaceId;
+    private final LocalDateTime postedDate;
+    private final Integer minSalary;
+    private final Integer maxSalary;
+    private final boolean remote;
+    private final boolean inclusiveOpportunity;
+    private final boolean nonProfit;
+}
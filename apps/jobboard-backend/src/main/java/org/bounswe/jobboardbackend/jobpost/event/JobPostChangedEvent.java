@@ -0,0 +1,15 @@
+package org.bounswe.jobboardbackend.jobpost.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Event published when a job post is created, updated or deleted.
+ * Used to keep the in-memory job search index in sync.
+ */
+@Getter
+@AllArgsConstructor
+public class JobPostChangedEvent {
+    private final Long jobPostId;
+    private final boolean deleted;
+}
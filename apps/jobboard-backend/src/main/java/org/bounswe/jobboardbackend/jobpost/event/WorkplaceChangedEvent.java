@@ -0,0 +1,14 @@
+package org.bounswe.jobboardbackend.jobpost.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Event published when the searchable fields of a workplace (company name,
+ * sector, location) change. Used to re-index the job posts of that workplace.
+ */
+@Getter
+@AllArgsConstructor
+public class WorkplaceChangedEvent {
+    private final Long workplaceId;
+}
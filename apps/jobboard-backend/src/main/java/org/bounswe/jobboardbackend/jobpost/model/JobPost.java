@@ -13,7 +13,11 @@ import java.time.LocalDateTime;
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
-@Table(name = "job_posts")
+@Table(name = "job_posts", indexes = {
+        @Index(name = "idx_job_posts_posted_date_id", columnList = "posted_date DESC, id DESC"),
+        @Index(name = "idx_job_posts_employer_posted_date_id", columnList = "employer_id, posted_date DESC, id DESC"),
+        @Index(name = "idx_job_posts_workplace_posted_date_id", columnList = "workplace_id, posted_date DESC, id DESC")
+})
 public class JobPost {
 
     @Id
@@ -1,11 +1,17 @@
 package org.bounswe.jobboardbackend.jobpost.repository;
 
+import org.bounswe.jobboardbackend.jobpost.dto.JobSearchDocument;
 import org.bounswe.jobboardbackend.jobpost.model.JobPost;
+import org.bounswe.jobboardbackend.workplace.model.enums.EthicalPolicy;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 public interface JobPostRepository extends JpaRepository<JobPost, Long> {
 
@@ -13,8 +19,8 @@ public interface JobPostRepository extends JpaRepository<JobPost, Long> {
 
         List<JobPost> findByWorkplaceId(Long workplaceId);
 
-        @Query(value = """
-                        SELECT j.* FROM job_posts j
+        String FILTERED_FROM = """
+                        FROM job_posts j
                         LEFT JOIN workplace w ON j.workplace_id = w.id
                         WHERE (:title IS NULL OR LOWER(CAST(j.title AS varchar)) LIKE LOWER(CONCAT(CAST(:title AS varchar), '%')))
                         AND (:companyName IS NULL OR LOWER(CAST(w.company_name AS varchar)) LIKE LOWER(CONCAT(CAST(:companyName AS varchar), '%')))
@@ -25,7 +31,35 @@ public interface JobPostRepository extends JpaRepository<JobPost, Long> {
                         AND (:isRemote IS NULL OR CAST(j.remote AS boolean) = CAST(:isRemote AS boolean))
                         AND (:inclusiveOpportunity IS NULL OR CAST(j.inclusive_opportunity AS boolean) = CAST(:inclusiveOpportunity AS boolean))
                         AND (:nonProfit IS NULL OR CAST(j.non_profit AS boolean) = CAST(:nonProfit AS boolean))
-                        """, nativeQuery = true)
+                        AND (:ethicalTagCount = 0 OR j.workplace_id IN (
+                                SELECT t.workplace_id FROM workplace_ethical_tags t
+                                WHERE t.policy IN (:ethicalTags)
+                                GROUP BY t.workplace_id
+                                HAVING COUNT(*) = :ethicalTagCount))
+                        """;
+
+        // callers keep :ids well below the driver's bind parameter limit
+        String FILTERED_BY_IDS_FROM = """
+                        FROM JobPost j
+                        WHERE j.id IN :ids
+                        AND (:minSalary IS NULL OR j.minSalary >= :minSalary)
+                        AND (:maxSalary IS NULL OR j.maxSalary <= :maxSalary)
+                        AND (:isRemote IS NULL OR j.remote = :isRemote)
+                        AND (:inclusiveOpportunity IS NULL OR j.inclusiveOpportunity = :inclusiveOpportunity)
+                        AND (:nonProfit IS NULL OR j.nonProfit = :nonProfit)
+                        AND (:ethicalTagCount = 0 OR j.workplace.id IN (
+                                SELECT w.id FROM Workplace w JOIN w.ethicalTags t
+                                WHERE t IN :ethicalTags
+                                GROUP BY w.id
+                                HAVING COUNT(t) = :ethicalTagCount))
+                        """;
+
+        String KEYSET_AFTER = """
+                        AND (j.postedDate < :cursorDate OR (j.postedDate = :cursorDate AND j.id < :cursorId))
+                        ORDER BY j.postedDate DESC, j.id DESC
+                        """;
+
+        @Query(value = "SELECT j.* " + FILTERED_FROM, nativeQuery = true)
         List<JobPost> findFiltered(
                         @Param("title") String title,
                         @Param("companyName") String companyName,
@@ -35,18 +69,112 @@ public interface JobPostRepository extends JpaRepository<JobPost, Long> {
                         @Param("maxSalary") Integer maxSalary,
                         @Param("isRemote") Boolean isRemote,
                         @Param("inclusiveOpportunity") Boolean inclusiveOpportunity,
-                        @Param("nonProfit") Boolean nonProfit);
+                        @Param("nonProfit") Boolean nonProfit,
+                        @Param("ethicalTags") Collection<String> ethicalTags,
+                        @Param("ethicalTagCount") long ethicalTagCount);
+
+        @Query(value = "SELECT j.* " + FILTERED_FROM + """
+                        AND (j.posted_date < CAST(:cursorDate AS timestamp)
+                             OR (j.posted_date = CAST(:cursorDate AS timestamp) AND j.id < CAST(:cursorId AS bigint)))
+                        ORDER BY j.posted_date DESC, j.id DESC
+                        LIMIT :limit
+                        """, nativeQuery = true)
+        List<JobPost> findFilteredPage(
+                        @Param("title") String title,
+                        @Param("companyName") String companyName,
+                        @Param("location") String location,
+                        @Param("sector") String sector,
+                        @Param("minSalary") Integer minSalary,
+                        @Param("maxSalary") Integer maxSalary,
+                        @Param("isRemote") Boolean isRemote,
+                        @Param("inclusiveOpportunity") Boolean inclusiveOpportunity,
+                        @Param("nonProfit") Boolean nonProfit,
+                        @Param("ethicalTags") Collection<String> ethicalTags,
+                        @Param("ethicalTagCount") long ethicalTagCount,
+                        @Param("cursorDate") LocalDateTime cursorDate,
+                        @Param("cursorId") Long cursorId,
+                        @Param("limit") int limit);
+
+        @Query(value = "SELECT COUNT(*) " + FILTERED_FROM, nativeQuery = true)
+        long countFiltered(
+                        @Param("title") String title,
+                        @Param("companyName") String companyName,
+                        @Param("location") String location,
+                        @Param("sector") String sector,
+                        @Param("minSalary") Integer minSalary,
+                        @Param("maxSalary") Integer maxSalary,
+                        @Param("isRemote") Boolean isRemote,
+                        @Param("inclusiveOpportunity") Boolean inclusiveOpportunity,
+                        @Param("nonProfit") Boolean nonProfit,
+                        @Param("ethicalTags") Collection<String> ethicalTags,
+                        @Param("ethicalTagCount") long ethicalTagCount);
+
+        @Query("SELECT j " + FILTERED_BY_IDS_FROM)
+        List<JobPost> findFilteredByIds(
+                        @Param("ids") List<Long> ids,
+                        @Param("minSalary") Integer minSalary,
+                        @Param("maxSalary") Integer maxSalary,
+                        @Param("isRemote") Boolean isRemote,
+                        @Param("inclusiveOpportunity") Boolean inclusiveOpportunity,
+                        @Param("nonProfit") Boolean nonProfit,
+                        @Param("ethicalTags") Collection<EthicalPolicy> ethicalTags,
+                        @Param("ethicalTagCount") long ethicalTagCount);
+
+        @Query("SELECT j FROM JobPost j WHERE j.employer.id = :employerId " + KEYSET_AFTER)
+        List<JobPost> findPageByEmployerId(
+                        @Param("employerId") Long employerId,
+                        @Param("cursorDate") LocalDateTime cursorDate,
+                        @Param("cursorId") Long cursorId,
+                        Pageable pageable);
+
+        @Query("SELECT j FROM JobPost j WHERE j.workplace.id = :workplaceId " + KEYSET_AFTER)
+        List<JobPost> findPageByWorkplaceId(
+                        @Param("workplaceId") Long workplaceId,
+                        @Param("cursorDate") LocalDateTime cursorDate,
+                        @Param("cursorId") Long cursorId,
+                        Pageable pageable);
+
+        // needed for the search index
+        @Query("""
+                        SELECT new org.bounswe.jobboardbackend.jobpost.dto.JobSearchDocument(
+                                j.id, j.title, j.description, w.companyName, w.sector, w.location,
+                                w.id, j.postedDate, j.minSalary, j.maxSalary, j.remote, j.inclusiveOpportunity, j.nonProfit)
+                        FROM JobPost j JOIN j.workplace w
+                        WHERE j.id > :afterId
+                        ORDER BY j.id
+                        """)
+        List<JobSearchDocument> findSearchDocumentsAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+        @Query("""
+                        SELECT new org.bounswe.jobboardbackend.jobpost.dto.JobSearchDocument(
+                                j.id, j.title, j.description, w.companyName, w.sector, w.location,
+                                w.id, j.postedDate, j.minSalary, j.maxSalary, j.remote, j.inclusiveOpportunity, j.nonProfit)
+                        FROM JobPost j JOIN j.workplace w
+                        WHERE j.id = :id
+                        """)
+        Optional<JobSearchDocument> findSearchDocumentById(@Param("id") Long id);
+
+        @Query("""
+                        SELECT new org.bounswe.jobboardbackend.jobpost.dto.JobSearchDocument(
+                                j.id, j.title, j.description, w.companyName, w.sector, w.location,
+                                w.id, j.postedDate, j.minSalary, j.maxSalary, j.remote, j.inclusiveOpportunity, j.nonProfit)
+                        FROM JobPost j JOIN j.workplace w
+                        WHERE w.id = :workplaceId
+                        """)
+        List<JobSearchDocument> findSearchDocumentsByWorkplaceId(@Param("workplaceId") Long workplaceId);
 
         // needed for stats
         long countByRemoteTrue();
 
         long countByInclusiveOpportunityTrue();
 
-        long countByPostedDateAfter(java.time.LocalDateTime date);
+        long countByPostedDateAfter(LocalDateTime date);
 
         void deleteAllByWorkplaceId(Long workplaceId);
 
         long countByEmployerId(Long employerId);
 
+        long countByWorkplaceId(Long workplaceId);
+
         void deleteByEmployerId(Long employerId);
 }
@@ -2,14 +2,19 @@ package org.bounswe.jobboardbackend.jobpost.service;
 
 import org.bounswe.jobboardbackend.auth.model.User;
 import org.bounswe.jobboardbackend.auth.repository.UserRepository;
+import org.bounswe.jobboardbackend.common.dto.CursorPage;
 import org.bounswe.jobboardbackend.exception.ErrorCode;
 import org.bounswe.jobboardbackend.exception.HandleException;
 import org.bounswe.jobboardbackend.jobpost.dto.CreateJobPostRequest;
+import org.bounswe.jobboardbackend.jobpost.dto.JobPostCursor;
 import org.bounswe.jobboardbackend.jobpost.dto.UpdateJobPostRequest;
 import org.bounswe.jobboardbackend.jobpost.dto.JobPostResponse;
+import org.bounswe.jobboardbackend.jobpost.event.JobPostChangedEvent;
 import org.bounswe.jobboardbackend.jobpost.model.JobPost;
 import org.bounswe.jobboardbackend.jobpost.repository.JobPostRepository;
+import org.bounswe.jobboardbackend.workplace.dto.WorkplaceBriefResponse;
 import org.bounswe.jobboardbackend.workplace.model.Workplace;
+import org.bounswe.jobboardbackend.workplace.model.enums.EthicalPolicy;
 import org.bounswe.jobboardbackend.workplace.repository.WorkplaceRepository;
 import org.bounswe.jobboardbackend.workplace.repository.EmployerWorkplaceRepository;
 import org.bounswe.jobboardbackend.workplace.service.WorkplaceService;
@@ -17,6 +22,7 @@ import org.bounswe.jobboardbackend.badge.event.JobPostCreatedEvent;
 import org.bounswe.jobboardbackend.activity.service.ActivityService;
 import org.bounswe.jobboardbackend.activity.model.ActivityType;
 import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
@@ -27,12 +33,24 @@ import org.springframework.transaction.annotation.Transactional;
 
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
 public class JobPostService {
 
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 100;
+
     private final JobPostRepository jobPostRepository;
     private final UserRepository userRepository;
     private final WorkplaceRepository workplaceRepository;
@@ -40,6 +58,7 @@ public class JobPostService {
     private final WorkplaceService workplaceService;
     private final ApplicationEventPublisher eventPublisher;
     private final ActivityService activityService;
+    private final JobSearchIndex jobSearchIndex;
 
     public JobPostService(
         JobPostRepository jobPostRepository,
@@ -48,7 +67,8 @@ public class JobPostService {
         EmployerWorkplaceRepository employerWorkplaceRepository,
         WorkplaceService workplaceService,
         ApplicationEventPublisher eventPublisher,
-        ActivityService activityService
+        ActivityService activityService,
+        JobSearchIndex jobSearchIndex
     ) {
         this.jobPostRepository = jobPostRepository;
         this.userRepository = userRepository;
@@ -57,28 +77,100 @@ public class JobPostService {
         this.workplaceService = workplaceService;
         this.eventPublisher = eventPublisher;
         this.activityService = activityService;
+        this.jobSearchIndex = jobSearchIndex;
     }
 
     @Transactional(readOnly = true)
-    public List<JobPostResponse> getFiltered(String title, String companyName, String location, String sector, List<String> ethicalTags, Integer minSalary, Integer maxSalary, Boolean isRemote, Boolean inclusiveOpportunity, Boolean nonProfit) {
-        List<JobPost> jobs = jobPostRepository.findFiltered(title, companyName, location, sector, minSalary, maxSalary, isRemote, inclusiveOpportunity, nonProfit);
-        return jobs.stream()
-                .filter(j -> {
-                    // Filter by workplace ethical tags if specified
-                    if (ethicalTags == null || ethicalTags.isEmpty()) return true;
-                    if (j.getWorkplace() == null || j.getWorkplace().getEthicalTags() == null) return false;
-                    
-                    // Check if ALL requested tags match workplace's tags (AND logic)
-                    for (String requestedTag : ethicalTags) {
-                        boolean tagFound = j.getWorkplace().getEthicalTags().stream()
-                                .anyMatch(policy -> policy.getLabel().equalsIgnoreCase(requestedTag));
-                        if (!tagFound) {
-                            return false;  // If any tag is missing, exclude this job
-                        }
-                    }
-                    return true;  // All tags found
-                })
-                .map(this::toResponseDto).collect(Collectors.toList());
+    public List<JobPostResponse> getFiltered(String query, String title, String companyName, String location, String sector, List<String> ethicalTags, Integer minSalary, Integer maxSalary, Boolean isRemote, Boolean inclusiveOpportunity, Boolean nonProfit) {
+        Set<EthicalPolicy> requiredTags = parseEthicalTags(ethicalTags);
+        if (requiredTags == null) return List.of(); // unknown tag can never match
+
+        List<JobPost> jobs;
+        boolean textSearch = hasText(query) || hasText(title) || hasText(companyName) || hasText(location) || hasText(sector);
+        if (textSearch && jobSearchIndex.isReady()) {
+            // Text criteria are resolved by the search index, the rest is filtered in SQL by id
+            List<Long> rankedIds = jobSearchIndex.search(query, title, companyName, location, sector);
+            if (rankedIds.isEmpty()) return List.of();
+
+            Map<Long, Integer> rank = new HashMap<>();
+            for (int i = 0; i < rankedIds.size(); i++) rank.put(rankedIds.get(i), i);
+
+            jobs = new ArrayList<>(jobPostRepository.findFilteredByIds(rankedIds, minSalary, maxSalary, isRemote, inclusiveOpportunity, nonProfit,
+                    tagParam(requiredTags), requiredTags.size()));
+            jobs.sort(Comparator.comparing(j -> rank.get(j.getId())));
+        } else {
+            // Index not built yet: fall back to prefix matching in SQL
+            String titleFilter = hasText(title) ? title : query;
+            jobs = jobPostRepository.findFiltered(titleFilter, companyName, location, sector, minSalary, maxSalary, isRemote, inclusiveOpportunity, nonProfit,
+                    tagNameParam(requiredTags), requiredTags.size());
+        }
+        return toResponseDtos(jobs);
+    }
+
+    /**
+     * Keyset-paginated variant of {@link #getFiltered}, ordered by (postedDate DESC, id DESC).
+     * Text criteria only select the matching set; ordering stays chronological so that cursors are stable.
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<JobPostResponse> getFilteredPage(String query, String title, String companyName, String location, String sector, List<String> ethicalTags, Integer minSalary, Integer maxSalary, Boolean isRemote, Boolean inclusiveOpportunity, Boolean nonProfit, String cursor, Integer limit, boolean includeTotal) {
+        int pageSize = resolvePageSize(limit);
+        JobPostCursor after = JobPostCursor.decode(cursor);
+        Set<EthicalPolicy> requiredTags = parseEthicalTags(ethicalTags);
+        if (requiredTags == null) return CursorPage.of(List.of(), null, includeTotal ? 0L : null);
+
+        List<JobPost> rows;
+        Long total = null;
+
+        boolean textSearch = hasText(query) || hasText(title) || hasText(companyName) || hasText(location) || hasText(sector);
+        if (textSearch && jobSearchIndex.isReady()) {
+            // the index walks its date-ordered postings from the cursor and applies the other filters itself
+            Set<Long> workplaceIds = requiredTags.isEmpty() ? null
+                    : new HashSet<>(workplaceRepository.findIdsWithAllEthicalTags(requiredTags, requiredTags.size()));
+            JobSearchIndex.KeysetPage page = jobSearchIndex.page(query, title, companyName, location, sector,
+                    new JobSearchIndex.Filter(minSalary, maxSalary, isRemote, inclusiveOpportunity, nonProfit, workplaceIds),
+                    after.postedDate(), after.id(), pageSize + 1, includeTotal);
+
+            Map<Long, JobPost> byId = new HashMap<>();
+            for (JobPost job : jobPostRepository.findAllById(page.ids())) byId.put(job.getId(), job);
+            rows = page.ids().stream().map(byId::get).filter(Objects::nonNull).toList();
+            total = page.total();
+        } else {
+            String titleFilter = hasText(title) ? title : query;
+            rows = jobPostRepository.findFilteredPage(titleFilter, companyName, location, sector, minSalary, maxSalary, isRemote, inclusiveOpportunity, nonProfit,
+                    tagNameParam(requiredTags), requiredTags.size(), after.postedDate(), after.id(), pageSize + 1);
+            if (includeTotal) total = jobPostRepository.countFiltered(titleFilter, companyName, location, sector, minSalary, maxSalary, isRemote, inclusiveOpportunity, nonProfit,
+                    tagNameParam(requiredTags), requiredTags.size());
+        }
+
+        return toCursorPage(rows, pageSize, total);
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPage<JobPostResponse> getByEmployerIdPage(Long employerId, String cursor, Integer limit, boolean includeTotal) {
+
+        // Verify employer exists
+        userRepository.findById(employerId)
+                .orElseThrow(() -> new HandleException(ErrorCode.USER_NOT_FOUND, "Employer with ID " + employerId + " not found"));
+
+        int pageSize = resolvePageSize(limit);
+        JobPostCursor after = JobPostCursor.decode(cursor);
+        List<JobPost> rows = jobPostRepository.findPageByEmployerId(employerId, after.postedDate(), after.id(), PageRequest.of(0, pageSize + 1));
+        Long total = includeTotal ? jobPostRepository.countByEmployerId(employerId) : null;
+        return toCursorPage(rows, pageSize, total);
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPage<JobPostResponse> getByWorkplaceIdPage(Long workplaceId, String cursor, Integer limit, boolean includeTotal) {
+
+        // Verify workplace exists
+        workplaceRepository.findById(workplaceId)
+                .orElseThrow(() -> new HandleException(ErrorCode.WORKPLACE_NOT_FOUND, "Workplace with ID " + workplaceId + " not found"));
+
+        int pageSize = resolvePageSize(limit);
+        JobPostCursor after = JobPostCursor.decode(cursor);
+        List<JobPost> rows = jobPostRepository.findPageByWorkplaceId(workplaceId, after.postedDate(), after.id(), PageRequest.of(0, pageSize + 1));
+        Long total = includeTotal ? jobPostRepository.countByWorkplaceId(workplaceId) : null;
+        return toCursorPage(rows, pageSize, total);
     }
 
     @Transactional(readOnly = true)
@@ -88,7 +180,7 @@ public class JobPostService {
         userRepository.findById(employerId)
                 .orElseThrow(() -> new HandleException(ErrorCode.USER_NOT_FOUND, "Employer with ID " + employerId + " not found"));
         
-        return jobPostRepository.findByEmployerId(employerId).stream().map(this::toResponseDto).collect(Collectors.toList());
+        return toResponseDtos(jobPostRepository.findByEmployerId(employerId));
     }
 
     @Transactional(readOnly = true)
@@ -98,7 +190,7 @@ public class JobPostService {
         workplaceRepository.findById(workplaceId)
                 .orElseThrow(() -> new HandleException(ErrorCode.WORKPLACE_NOT_FOUND, "Workplace with ID " + workplaceId + " not found"));
         
-        return jobPostRepository.findByWorkplaceId(workplaceId).stream().map(this::toResponseDto).collect(Collectors.toList());
+        return toResponseDtos(jobPostRepository.findByWorkplaceId(workplaceId));
     }
 
     @Transactional(readOnly = true)
@@ -146,6 +238,8 @@ public class JobPostService {
 
         activityService.logActivity(employer, ActivityType.CREATE_JOB, savedJob.getId(), "JobPost");
 
+        eventPublisher.publishEvent(new JobPostChangedEvent(savedJob.getId(), false));
+
         return toResponseDto(savedJob);
     }
 
@@ -159,15 +253,31 @@ public class JobPostService {
         assertEmployerOfWorkplace(job.getWorkplace().getId(), currentUser.getId());
         
         jobPostRepository.delete(job);
+        eventPublisher.publishEvent(new JobPostChangedEvent(id, true));
     }
 
     private JobPostResponse toResponseDto(JobPost job) {
+        return toResponseDto(job, workplaceService.toBriefResponse(job.getWorkplace()));
+    }
+
+    /**
+     * Maps a list of jobs, assembling all workplace summaries with one batch lookup.
+     */
+    private List<JobPostResponse> toResponseDtos(List<JobPost> jobs) {
+        Map<Long, WorkplaceBriefResponse> briefs = workplaceService.toBriefResponses(
+                jobs.stream().map(job -> job.getWorkplace().getId()).collect(Collectors.toSet()));
+        return jobs.stream()
+                .map(job -> toResponseDto(job, briefs.get(job.getWorkplace().getId())))
+                .collect(Collectors.toList());
+    }
+
+    private JobPostResponse toResponseDto(JobPost job, WorkplaceBriefResponse workplace) {
         return JobPostResponse.builder()
                 .id(job.getId())
                 .employerId(job.getEmployer().getId())
                 .title(job.getTitle())
                 .description(job.getDescription())
-                .workplace(workplaceService.toBriefResponse(job.getWorkplace()))
+                .workplace(workplace)
                 .remote(job.isRemote())
                 .inclusiveOpportunity(job.isInclusiveOpportunity())
                 .nonProfit(job.isNonProfit())
@@ -224,7 +334,55 @@ public class JobPostService {
         
         if (dto.getContact() != null) job.setContact(dto.getContact());
 
-        return toResponseDto(jobPostRepository.save(job));
+        JobPost savedJob = jobPostRepository.save(job);
+        eventPublisher.publishEvent(new JobPostChangedEvent(savedJob.getId(), false));
+        return toResponseDto(savedJob);
+    }
+
+    /**
+     * Resolves ethical tag labels to policies.
+     * Returns null when a label is unknown, since no workplace can carry it.
+     */
+    private static Set<EthicalPolicy> parseEthicalTags(List<String> labels) {
+        Set<EthicalPolicy> policies = EnumSet.noneOf(EthicalPolicy.class);
+        if (labels == null) return policies;
+        try {
+            for (String label : labels) {
+                if (hasText(label)) policies.add(EthicalPolicy.fromLabel(label));
+            }
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+        return policies;
+    }
+
+    // "IN ()" is not valid SQL, so bind every policy when none is required; the predicate is then skipped by count = 0
+    private static Collection<EthicalPolicy> tagParam(Set<EthicalPolicy> requiredTags) {
+        return requiredTags.isEmpty() ? EnumSet.allOf(EthicalPolicy.class) : requiredTags;
+    }
+
+    private static Collection<String> tagNameParam(Set<EthicalPolicy> requiredTags) {
+        return tagParam(requiredTags).stream().map(Enum::name).toList();
+    }
+
+    /**
+     * Builds a page from {@code rows} fetched with one extra row of look-ahead.
+     */
+    private CursorPage<JobPostResponse> toCursorPage(List<JobPost> rows, int pageSize, Long total) {
+        boolean hasNext = rows.size() > pageSize;
+        List<JobPost> window = hasNext ? rows.subList(0, pageSize) : rows;
+        List<JobPostResponse> items = toResponseDtos(window);
+        String nextCursor = hasNext ? JobPostCursor.after(window.getLast()).encode() : null;
+        return CursorPage.of(items, nextCursor, total);
+    }
+
+    private static int resolvePageSize(Integer limit) {
+        if (limit == null || limit <= 0) return DEFAULT_PAGE_SIZE;
+        return Math.min(limit, MAX_PAGE_SIZE);
+    }
+
+    private static boolean hasText(String value) {
+        return value != null && !value.isBlank();
     }
 
     private User getCurrentUser() {
@@ -0,0 +1,508 @@
+package org.bounswe.jobboardbackend.jobpost.service;
+
+import org.bounswe.jobboardbackend.jobpost.dto.JobSearchDocument;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.text.Normalizer;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.ObjDoubleConsumer;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+
+/**
+ * In-memory inverted index over job posts.
+ * Covers title, description, company name, sector and location with
+ * field-weighted relevance ranking, prefix matching and small-typo tolerance.
+ * Posting lists are kept in (postedDate DESC, id DESC) order, so chronological pages of
+ * matches are read straight from them.
+ * Kept in sync by {@link JobSearchIndexer}; the database stays the source of truth,
+ * so stale ids returned from here are simply dropped by the follow-up SQL query.
+ */
+@Component
+public class JobSearchIndex {
+
+    public enum Field {
+        TITLE(3.0),
+        COMPANY(2.0),
+        SECTOR(1.5),
+        LOCATION(1.5),
+        DESCRIPTION(1.0);
+
+        private final double weight;
+
+        Field(double weight) {
+            this.weight = weight;
+        }
+    }
+
+    private static final double EXACT_MATCH = 1.0;
+    private static final double PREFIX_MATCH = 0.8;
+    private static final double FUZZY_MATCH = 0.5;
+
+    private static final Pattern TOKEN_SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}]+");
+    private static final Pattern COMBINING_MARKS = Pattern.compile("\\p{M}+");
+
+    @Value("${app.search.jobs.maxResults:1000}")
+    private int maxResults = 1000;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private Postings postings = new Postings();
+    /**
+     * Documents indexed (or removed, mapped to null) while a rebuild reads its snapshot;
+     * null when no rebuild is running. Replayed onto the rebuilt postings before the swap.
+     */
+    private Map<Long, JobSearchDocument> changedDuringRebuild;
+    private volatile boolean ready = false;
+
+    /**
+     * Whether the index has been fully built at least once.
+     * Until then callers should fall back to the SQL search path.
+     */
+    public boolean isReady() {
+        return ready;
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return postings.documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public void index(JobSearchDocument doc) {
+        lock.writeLock().lock();
+        try {
+            postings.remove(doc.getJobPostId());
+            postings.add(doc);
+            if (changedDuringRebuild != null) {
+                changedDuringRebuild.put(doc.getJobPostId(), doc);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long jobPostId) {
+        lock.writeLock().lock();
+        try {
+            postings.remove(jobPostId);
+            if (changedDuringRebuild != null) {
+                changedDuringRebuild.put(jobPostId, null);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /** Replaces the whole index with the given documents. */
+    public void replaceAll(Iterable<JobSearchDocument> docs) {
+        rebuild(() -> docs);
+    }
+
+    /**
+     * Replaces the whole index with the documents returned by {@code snapshot}.
+     * The new postings are built outside the lock and swapped in atomically; changes
+     * indexed while the snapshot was being read are replayed on top of it first, so a
+     * rebuild never brings back the state a concurrent update has just replaced.
+     */
+    public void rebuild(Supplier<? extends Iterable<JobSearchDocument>> snapshot) {
+        lock.writeLock().lock();
+        try {
+            changedDuringRebuild = new HashMap<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+        Postings rebuilt = new Postings();
+        try {
+            for (JobSearchDocument doc : snapshot.get()) {
+                rebuilt.add(doc);
+            }
+        } catch (RuntimeException e) {
+            lock.writeLock().lock();
+            try {
+                changedDuringRebuild = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            throw e;
+        }
+        lock.writeLock().lock();
+        try {
+            changedDuringRebuild.forEach((id, doc) -> {
+                rebuilt.remove(id);
+                if (doc != null) {
+                    rebuilt.add(doc);
+                }
+            });
+            changedDuringRebuild = null;
+            postings = rebuilt;
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Returns job post ids ordered by relevance (best first).
+     * {@code text} is matched against every field, the other arguments only against
+     * their own field. Every query term must match (AND semantics).
+     * Returns an empty list when no criteria are given.
+     */
+    public List<Long> search(String text, String title, String companyName, String location, String sector) {
+        return score(text, title, companyName, location, sector).entrySet().stream()
+                .sorted(Map.Entry.<Long, Double>comparingByValue().reversed()
+                        .thenComparing(Map.Entry.<Long, Double>comparingByKey().reversed()))
+                .limit(maxResults)
+                .map(Map.Entry::getKey)
+                .toList();
+    }
+
+    /**
+     * One keyset page of the job posts matching the criteria of {@link #search} and {@code filter},
+     * in (postedDate DESC, id DESC) order: the ids of the first {@code limit} matches after the
+     * cursor position. Walks the postings of the most selective criterion in order, so the work
+     * stops once the page is full unless {@code countAll} asks for the number of all matches.
+     */
+    public KeysetPage page(String text, String title, String companyName, String location, String sector,
+                           Filter filter, LocalDateTime afterDate, long afterId, int limit, boolean countAll) {
+        List<Criterion> criteria = criteria(text, title, companyName, location, sector);
+        KeysetPage empty = new KeysetPage(List.of(), countAll ? 0L : null);
+        if (criteria.isEmpty()) {
+            return empty;
+        }
+        DocKey cursor = new DocKey(afterDate, afterId);
+
+        lock.readLock().lock();
+        try {
+            List<List<NavigableSet<DocKey>>> matches = new ArrayList<>();
+            for (Criterion criterion : criteria) {
+                List<NavigableSet<DocKey>> postingLists = new ArrayList<>();
+                for (Field field : criterion.fields()) {
+                    forEachMatch(postings.dictionaries.get(field), criterion.term(), (keys, quality) -> postingLists.add(keys));
+                }
+                if (postingLists.isEmpty()) {
+                    return empty;
+                }
+                matches.add(postingLists);
+            }
+            matches.sort(Comparator.comparingInt(lists -> lists.stream().mapToInt(Set::size).sum()));
+
+            List<Long> ids = new ArrayList<>();
+            long total = 0;
+            Iterator<DocKey> keys = new MergedKeys(matches.getFirst(), countAll ? null : cursor);
+            while (keys.hasNext()) {
+                DocKey key = keys.next();
+                if (!matchesRest(matches, key) || !filter.matches(postings.documents.get(key.id()).attributes())) {
+                    continue;
+                }
+                total++;
+                if (ids.size() < limit && key.compareTo(cursor) > 0) {
+                    ids.add(key.id());
+                    if (ids.size() == limit && !countAll) {
+                        break;
+                    }
+                }
+            }
+            return new KeysetPage(ids, countAll ? total : null);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static boolean matchesRest(List<List<NavigableSet<DocKey>>> matches, DocKey key) {
+        for (List<NavigableSet<DocKey>> postingLists : matches.subList(1, matches.size())) {
+            if (postingLists.stream().noneMatch(keys -> keys.contains(key))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private Map<Long, Double> score(String text, String title, String companyName, String location, String sector) {
+        List<Criterion> criteria = criteria(text, title, companyName, location, sector);
+        if (criteria.isEmpty()) {
+            return Map.of();
+        }
+
+        Map<Long, Double> scores = null;
+        lock.readLock().lock();
+        try {
+            int docCount = postings.documents.size();
+            for (Criterion criterion : criteria) {
+                Map<Long, Double> matches = new HashMap<>();
+                for (Field field : criterion.fields()) {
+                    collect(postings.dictionaries.get(field), criterion.term(), field.weight, docCount, matches);
+                }
+                if (scores == null) {
+                    scores = matches;
+                } else {
+                    scores.keySet().retainAll(matches.keySet());
+                    scores.replaceAll((id, score) -> score + matches.get(id));
+                }
+                if (scores.isEmpty()) {
+                    return Map.of();
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return scores;
+    }
+
+    private static List<Criterion> criteria(String text, String title, String companyName, String location, String sector) {
+        List<Criterion> criteria = new ArrayList<>();
+        addCriteria(criteria, text, EnumSet.allOf(Field.class));
+        addCriteria(criteria, title, EnumSet.of(Field.TITLE));
+        addCriteria(criteria, companyName, EnumSet.of(Field.COMPANY));
+        addCriteria(criteria, location, EnumSet.of(Field.LOCATION));
+        addCriteria(criteria, sector, EnumSet.of(Field.SECTOR));
+        return criteria;
+    }
+
+    private static void addCriteria(List<Criterion> criteria, String value, Set<Field> fields) {
+        for (String term : tokenize(value)) {
+            criteria.add(new Criterion(term, fields));
+        }
+    }
+
+    private static void collect(NavigableMap<String, NavigableSet<DocKey>> dictionary, String term, double weight,
+                                int docCount, Map<Long, Double> out) {
+        forEachMatch(dictionary, term, (keys, quality) -> add(out, keys, weight * quality * idf(docCount, keys.size())));
+    }
+
+    /** Calls {@code action} with the posting list and match quality of every term matching {@code term}. */
+    private static void forEachMatch(NavigableMap<String, NavigableSet<DocKey>> dictionary, String term,
+                                     ObjDoubleConsumer<NavigableSet<DocKey>> action) {
+        // exact and prefix matches
+        for (Map.Entry<String, NavigableSet<DocKey>> e : dictionary.subMap(term, true, term + Character.MAX_VALUE, false).entrySet()) {
+            action.accept(e.getValue(), e.getKey().length() == term.length() ? EXACT_MATCH : PREFIX_MATCH);
+        }
+
+        // typo tolerance: only terms sharing the first character are considered
+        int maxEdits = maxEdits(term);
+        if (maxEdits == 0) {
+            return;
+        }
+        String first = term.substring(0, 1);
+        for (Map.Entry<String, NavigableSet<DocKey>> e : dictionary.subMap(first, true, first + Character.MAX_VALUE, false).entrySet()) {
+            String candidate = e.getKey();
+            if (candidate.startsWith(term) || Math.abs(candidate.length() - term.length()) > maxEdits) {
+                continue;
+            }
+            if (editDistance(term, candidate, maxEdits) <= maxEdits) {
+                action.accept(e.getValue(), FUZZY_MATCH);
+            }
+        }
+    }
+
+    private static void add(Map<Long, Double> out, Set<DocKey> keys, double score) {
+        for (DocKey key : keys) {
+            out.merge(key.id(), score, Math::max);
+        }
+    }
+
+    private static double idf(int docCount, int docFrequency) {
+        return Math.log(1.0 + (double) docCount / docFrequency);
+    }
+
+    private static int maxEdits(String term) {
+        if (term.length() < 4) return 0;
+        if (term.length() < 8) return 1;
+        return 2;
+    }
+
+    /**
+     * Optimal string alignment distance (Levenshtein plus adjacent transpositions).
+     * Stops early and returns {@code max + 1} once the distance is known to exceed {@code max}.
+     */
+    static int editDistance(String a, String b, int max) {
+        int n = a.length();
+        int m = b.length();
+        int[] prevPrev = new int[m + 1];
+        int[] prev = new int[m + 1];
+        int[] curr = new int[m + 1];
+        for (int j = 0; j <= m; j++) {
+            prev[j] = j;
+        }
+        for (int i = 1; i <= n; i++) {
+            curr[0] = i;
+            int rowMin = i;
+            for (int j = 1; j <= m; j++) {
+                int cost = a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1;
+                int value = Math.min(Math.min(prev[j] + 1, curr[j - 1] + 1), prev[j - 1] + cost);
+                if (i > 1 && j > 1 && a.charAt(i - 1) == b.charAt(j - 2) && a.charAt(i - 2) == b.charAt(j - 1)) {
+                    value = Math.min(value, prevPrev[j - 2] + 1);
+                }
+                curr[j] = value;
+                rowMin = Math.min(rowMin, value);
+            }
+            if (rowMin > max) {
+                return max + 1;
+            }
+            int[] tmp = prevPrev;
+            prevPrev = prev;
+            prev = curr;
+            curr = tmp;
+        }
+        return prev[m];
+    }
+
+    static Set<String> tokenize(String value) {
+        if (value == null || value.isBlank()) {
+            return Set.of();
+        }
+        String normalized = Normalizer.normalize(value, Normalizer.Form.NFD);
+        normalized = COMBINING_MARKS.matcher(normalized).replaceAll("")
+                .replace('\u0131', 'i') // dotless i
+                .toLowerCase(Locale.ROOT);
+        Set<String> tokens = new LinkedHashSet<>();
+        for (String token : TOKEN_SEPARATOR.split(normalized)) {
+            if (!token.isEmpty()) {
+                tokens.add(token);
+            }
+        }
+        return tokens;
+    }
+
+    /**
+     * Non-text criteria checked against indexed documents; null components match anything.
+     * {@code workplaceIds} restricts matches to posts of those workplaces.
+     */
+    public record Filter(Integer minSalary, Integer maxSalary, Boolean remote, Boolean inclusiveOpportunity,
+                         Boolean nonProfit, Set<Long> workplaceIds) {
+
+        private boolean matches(Attributes doc) {
+            return (minSalary == null || doc.minSalary() != null && doc.minSalary() >= minSalary)
+                    && (maxSalary == null || doc.maxSalary() != null && doc.maxSalary() <= maxSalary)
+                    && (remote == null || doc.remote() == remote)
+                    && (inclusiveOpportunity == null || doc.inclusiveOpportunity() == inclusiveOpportunity)
+                    && (nonProfit == null || doc.nonProfit() == nonProfit)
+                    && (workplaceIds == null || workplaceIds.contains(doc.workplaceId()));
+        }
+    }
+
+    /**
+     * @param ids   ids of the page in (postedDate DESC, id DESC) order
+     * @param total number of all matches, null unless requested
+     */
+    public record KeysetPage(List<Long> ids, Long total) {
+    }
+
+    private record Criterion(String term, Set<Field> fields) {
+    }
+
+    /** Position of a document in the (postedDate DESC, id DESC) order postings are kept in. */
+    private record DocKey(LocalDateTime postedDate, long id) implements Comparable<DocKey> {
+
+        private static final Comparator<DocKey> NEWEST_FIRST =
+                Comparator.comparing(DocKey::postedDate).thenComparingLong(DocKey::id).reversed();
+
+        @Override
+        public int compareTo(DocKey other) {
+            return NEWEST_FIRST.compare(this, other);
+        }
+    }
+
+    private record Attributes(Long workplaceId, Integer minSalary, Integer maxSalary, boolean remote,
+                              boolean inclusiveOpportunity, boolean nonProfit) {
+    }
+
+    private record Indexed(DocKey key, Attributes attributes, EnumMap<Field, Set<String>> terms) {
+    }
+
+    /** Merges posting lists into one ordered, duplicate-free walk, optionally starting after a key. */
+    private static final class MergedKeys implements Iterator<DocKey> {
+
+        private record Head(DocKey key, Iterator<DocKey> rest) {
+        }
+
+        private final PriorityQueue<Head> heads = new PriorityQueue<>(Comparator.comparing(Head::key));
+        private DocKey last;
+
+        private MergedKeys(List<NavigableSet<DocKey>> postingLists, DocKey after) {
+            for (NavigableSet<DocKey> keys : postingLists) {
+                push(after == null ? keys.iterator() : keys.tailSet(after, false).iterator());
+            }
+        }
+
+        private void push(Iterator<DocKey> rest) {
+            if (rest.hasNext()) {
+                heads.add(new Head(rest.next(), rest));
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (!heads.isEmpty() && heads.peek().key().equals(last)) {
+                push(heads.poll().rest());
+            }
+            return !heads.isEmpty();
+        }
+
+        @Override
+        public DocKey next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            Head head = heads.poll();
+            push(head.rest());
+            last = head.key();
+            return last;
+        }
+    }
+
+    private static final class Postings {
+        private final EnumMap<Field, TreeMap<String, NavigableSet<DocKey>>> dictionaries = new EnumMap<>(Field.class);
+        private final Map<Long, Indexed> documents = new HashMap<>();
+
+        private Postings() {
+            for (Field field : Field.values()) {
+                dictionaries.put(field, new TreeMap<>());
+            }
+        }
+
+        private void add(JobSearchDocument doc) {
+            EnumMap<Field, Set<String>> terms = new EnumMap<>(Field.class);
+            terms.put(Field.TITLE, tokenize(doc.getTitle()));
+            terms.put(Field.COMPANY, tokenize(doc.getCompanyName()));
+            terms.put(Field.SECTOR, tokenize(doc.getSector()));
+            terms.put(Field.LOCATION, tokenize(doc.getLocation()));
+            terms.put(Field.DESCRIPTION, tokenize(doc.getDescription()));
+
+            DocKey key = new DocKey(doc.getPostedDate(), doc.getJobPostId());
+            terms.forEach((field, fieldTerms) -> {
+                TreeMap<String, NavigableSet<DocKey>> dictionary = dictionaries.get(field);
+                for (String term : fieldTerms) {
+                    dictionary.computeIfAbsent(term, k -> new TreeSet<>()).add(key);
+                }
+            });
+            Attributes attributes = new Attributes(doc.getWorkplaceId(), doc.getMinSalary(), doc.getMaxSalary(),
+                    doc.isRemote(), doc.isInclusiveOpportunity(), doc.isNonProfit());
+            documents.put(doc.getJobPostId(), new Indexed(key, attributes, terms));
+        }
+
+        private void remove(Long jobPostId) {
+            Indexed indexed = documents.remove(jobPostId);
+            if (indexed == null) {
+                return;
+            }
+            indexed.terms().forEach((field, fieldTerms) -> {
+                TreeMap<String, NavigableSet<DocKey>> dictionary = dictionaries.get(field);
+                for (String term : fieldTerms) {
+                    NavigableSet<DocKey> keys = dictionary.get(term);
+                    if (keys != null) {
+                        keys.remove(indexed.key());
+                        if (keys.isEmpty()) {
+                            dictionary.remove(term);
+                        }
+                    }
+                }
+            });
+        }
+    }
+}
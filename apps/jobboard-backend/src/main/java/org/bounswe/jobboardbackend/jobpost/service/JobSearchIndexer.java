@@ -0,0 +1,78 @@
+package org.bounswe.jobboardbackend.jobpost.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bounswe.jobboardbackend.jobpost.dto.JobSearchDocument;
+import org.bounswe.jobboardbackend.jobpost.event.JobPostChangedEvent;
+import org.bounswe.jobboardbackend.jobpost.event.WorkplaceChangedEvent;
+import org.bounswe.jobboardbackend.jobpost.repository.JobPostRepository;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Keeps {@link JobSearchIndex} in sync with the database.
+ * Single job / workplace changes are applied after the writing transaction commits,
+ * and the whole index is periodically rebuilt to pick up bulk deletes and
+ * changes made on other instances.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class JobSearchIndexer {
+
+    private static final int REBUILD_CHUNK_SIZE = 500;
+
+    private final JobSearchIndex jobSearchIndex;
+    private final JobPostRepository jobPostRepository;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onJobPostChanged(JobPostChangedEvent event) {
+        try {
+            if (event.isDeleted()) {
+                jobSearchIndex.remove(event.getJobPostId());
+                return;
+            }
+            jobPostRepository.findSearchDocumentById(event.getJobPostId())
+                    .ifPresentOrElse(jobSearchIndex::index, () -> jobSearchIndex.remove(event.getJobPostId()));
+        } catch (Exception e) {
+            log.error("Search index update failed for job post {}: {}", event.getJobPostId(), e.getMessage());
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onWorkplaceChanged(WorkplaceChangedEvent event) {
+        try {
+            jobPostRepository.findSearchDocumentsByWorkplaceId(event.getWorkplaceId())
+                    .forEach(jobSearchIndex::index);
+        } catch (Exception e) {
+            log.error("Search index update failed for workplace {}: {}", event.getWorkplaceId(), e.getMessage());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.search.jobs.refreshIntervalMs:300000}")
+    public void rebuild() {
+        long start = System.currentTimeMillis();
+        jobSearchIndex.rebuild(this::loadAllDocuments);
+        log.debug("Job search index rebuilt with {} documents in {} ms", jobSearchIndex.size(), System.currentTimeMillis() - start);
+    }
+
+    private List<JobSearchDocument> loadAllDocuments() {
+        List<JobSearchDocument> docs = new ArrayList<>();
+        Long afterId = 0L;
+        List<JobSearchDocument> chunk;
+        do {
+            chunk = jobPostRepository.findSearchDocumentsAfter(afterId, PageRequest.of(0, REBUILD_CHUNK_SIZE));
+            docs.addAll(chunk);
+            if (!chunk.isEmpty()) {
+                afterId = chunk.getLast().getJobPostId();
+            }
+        } while (chunk.size() == REBUILD_CHUNK_SIZE);
+        return docs;
+    }
+}
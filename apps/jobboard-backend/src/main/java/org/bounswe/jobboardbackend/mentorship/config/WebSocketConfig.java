@@ -1,6 +1,7 @@
 package org.bounswe.jobboardbackend.mentorship.config;
 
 import lombok.RequiredArgsConstructor;
+import org.bounswe.jobboardbackend.websocket.config.ClusterBrokerRelay;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
@@ -15,6 +16,7 @@ import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerCo
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
     private final ChannelInterceptor jwtChannelInterceptor;
+    private final ClusterBrokerRelay clusterBrokerRelay;
 
     @Override
     public void configureClientInboundChannel(ChannelRegistration registration) {
@@ -23,8 +25,9 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
     @Override
     public void configureMessageBroker(MessageBrokerRegistry registry) {
-        registry.enableSimpleBroker("/topic");
+        registry.enableSimpleBroker("/topic", "/queue");
         registry.setApplicationDestinationPrefixes("/app");
+        registry.configureBrokerChannel().interceptors(clusterBrokerRelay);
     }
 
     @Override
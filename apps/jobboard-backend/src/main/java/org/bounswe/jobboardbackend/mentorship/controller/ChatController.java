@@ -10,6 +10,7 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import org.bounswe.jobboardbackend.auth.service.UserDetailsImpl;
+import org.bounswe.jobboardbackend.common.dto.CursorPage;
 import org.bounswe.jobboardbackend.exception.ApiError;
 import org.bounswe.jobboardbackend.mentorship.dto.ChatMessageDTO;
 import org.bounswe.jobboardbackend.mentorship.dto.CreateMessageDTO;
@@ -23,6 +24,7 @@ import org.springframework.security.core.Authentication;
 
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.util.List;
@@ -61,4 +63,24 @@ public class ChatController {
         List<ChatMessageDTO> history = chatService.getMessageHistory(conversationId, userDetails.getId());
         return ResponseEntity.ok(history);
     }
+
+    @Operation(summary = "Get Chat History (cursor-paginated)", description = "Retrieves one page of a conversation's messages, newest first. Pass the returned nextCursor to load older messages.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Chat history page retrieved successfully"),
+            @ApiResponse(responseCode = "400", description = "Invalid cursor", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ApiError.class), examples = @ExampleObject(value = "{\"status\": 400, \"error\": \"Bad Request\", \"message\": \"Invalid cursor\", \"timestamp\": \"2023-12-14T12:00:00\"}"))),
+            @ApiResponse(responseCode = "401", description = "Unauthorized", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ApiError.class), examples = @ExampleObject(value = "{\"status\": 401, \"error\": \"Unauthorized\", \"message\": \"Full authentication is required\", \"timestamp\": \"2023-12-14T12:00:00\"}"))),
+            @ApiResponse(responseCode = "403", description = "Forbidden (Not a participant)", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ApiError.class), examples = @ExampleObject(value = "{\"status\": 403, \"error\": \"Forbidden\", \"message\": \"You are not a participant in this conversation\", \"timestamp\": \"2023-12-14T12:00:00\"}"))),
+            @ApiResponse(responseCode = "404", description = "Conversation not found", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ApiError.class), examples = @ExampleObject(value = "{\"status\": 404, \"error\": \"Not Found\", \"message\": \"Conversation not found\", \"timestamp\": \"2023-12-14T12:00:00\"}")))
+    })
+    @GetMapping("/api/chat/history/{conversationId}/page")
+    public ResponseEntity<CursorPage<ChatMessageDTO>> getChatHistoryPage(
+            @Parameter(description = "ID of the conversation") @PathVariable Long conversationId,
+            @Parameter(description = "Cursor returned by the previous page") @RequestParam(required = false) String cursor,
+            @Parameter(description = "Page size (default 20, max 100)") @RequestParam(required = false) Integer limit,
+            Authentication auth) {
+
+        UserDetailsImpl userDetails = (UserDetailsImpl) auth.getPrincipal();
+
+        return ResponseEntity.ok(chatService.getMessageHistoryPage(conversationId, cursor, limit, userDetails.getId()));
+    }
 }
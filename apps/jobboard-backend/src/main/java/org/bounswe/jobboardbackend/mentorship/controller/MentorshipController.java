@@ -13,6 +13,9 @@ import org.bounswe.jobboardbackend.auth.service.UserDetailsImpl;
 import org.bounswe.jobboardbackend.exception.ApiError;
 import org.bounswe.jobboardbackend.mentorship.dto.*;
 import org.bounswe.jobboardbackend.mentorship.service.MentorshipService;
+import org.bounswe.jobboardbackend.storage.dto.UploadConfirmRequest;
+import org.bounswe.jobboardbackend.storage.dto.UploadTicketResponse;
+import org.bounswe.jobboardbackend.storage.dto.UploadUrlRequest;
 import jakarta.validation.Valid;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -46,6 +49,38 @@ public class MentorshipController {
                 return ResponseEntity.ok(dto);
         }
 
+        @Operation(summary = "Request Resume Upload URL", description = "Issues a short-lived signed URL the client uploads the resume to directly, bypassing this server. Finish with the confirm endpoint.")
+        @ApiResponses(value = {
+                        @ApiResponse(responseCode = "200", description = "Upload URL issued"),
+                        @ApiResponse(responseCode = "401", description = "Unauthorized", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ApiError.class), examples = @ExampleObject(value = "{\"timestamp\": \"2023-10-01T12:00:00\", \"status\": 401, \"error\": \"Unauthorized\", \"code\": \"USER_UNAUTHORIZED\", \"message\": \"Full authentication is required\", \"path\": \"/api/mentorship/1/file/upload-url\" }"))),
+                        @ApiResponse(responseCode = "404", description = "Resume review not found", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ApiError.class), examples = @ExampleObject(value = "{\"timestamp\": \"2023-10-01T12:00:00\", \"status\": 404, \"error\": \"Not Found\", \"code\": \"RESUME_REVIEW_NOT_FOUND\", \"message\": \"Resume review not found\", \"path\": \"/api/mentorship/1/file/upload-url\" }"))),
+                        @ApiResponse(responseCode = "415", description = "Not a PDF", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ApiError.class), examples = @ExampleObject(value = "{\"timestamp\": \"2023-10-01T12:00:00\", \"status\": 415, \"error\": \"Unsupported Media Type\", \"code\": \"RESUME_FILE_CONTENT_TYPE_INVALID\", \"message\": \"Only PDF files are allowed\", \"path\": \"/api/mentorship/1/file/upload-url\" }")))
+        })
+        @PostMapping("/{resumeReviewId}/file/upload-url")
+        public ResponseEntity<UploadTicketResponse> requestResumeUpload(
+                        @Parameter(description = "ID of the resume review") @PathVariable Long resumeReviewId,
+                        @RequestBody @Valid UploadUrlRequest request,
+                        Authentication auth) {
+                UserDetailsImpl userDetails = (UserDetailsImpl) auth.getPrincipal();
+                return ResponseEntity.ok(mentorshipService.requestResumeUpload(resumeReviewId, request, userDetails.getId()));
+        }
+
+        @Operation(summary = "Confirm Resume Upload", description = "Checks the file uploaded with an upload ticket and attaches it to the review session.")
+        @ApiResponses(value = {
+                        @ApiResponse(responseCode = "200", description = "Resume attached successfully"),
+                        @ApiResponse(responseCode = "400", description = "Invalid ticket or rejected file", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ApiError.class), examples = @ExampleObject(value = "{\"timestamp\": \"2023-10-01T12:00:00\", \"status\": 400, \"error\": \"Bad Request\", \"code\": \"UPLOAD_TICKET_INVALID\", \"message\": \"Upload ticket not found\", \"path\": \"/api/mentorship/1/file/confirm\" }"))),
+                        @ApiResponse(responseCode = "404", description = "Resume review not found", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ApiError.class), examples = @ExampleObject(value = "{\"timestamp\": \"2023-10-01T12:00:00\", \"status\": 404, \"error\": \"Not Found\", \"code\": \"RESUME_REVIEW_NOT_FOUND\", \"message\": \"Resume review not found\", \"path\": \"/api/mentorship/1/file/confirm\" }"))),
+                        @ApiResponse(responseCode = "409", description = "File not uploaded yet", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ApiError.class), examples = @ExampleObject(value = "{\"timestamp\": \"2023-10-01T12:00:00\", \"status\": 409, \"error\": \"Conflict\", \"code\": \"UPLOAD_NOT_RECEIVED\", \"message\": \"File has not been uploaded yet\", \"path\": \"/api/mentorship/1/file/confirm\" }")))
+        })
+        @PostMapping("/{resumeReviewId}/file/confirm")
+        public ResponseEntity<ResumeFileResponseDTO> confirmResumeUpload(
+                        @Parameter(description = "ID of the resume review") @PathVariable Long resumeReviewId,
+                        @RequestBody @Valid UploadConfirmRequest request,
+                        Authentication auth) {
+                UserDetailsImpl userDetails = (UserDetailsImpl) auth.getPrincipal();
+                return ResponseEntity.ok(mentorshipService.confirmResumeUpload(resumeReviewId, request, userDetails.getId()));
+        }
+
         @Operation(summary = "Get Resume File URL", description = "Retrieves the public URL of the uploaded resume.")
         @ApiResponses(value = {
                         @ApiResponse(responseCode = "200", description = "URL retrieved successfully"),
@@ -0,0 +1,27 @@
+package org.bounswe.jobboardbackend.mentorship.dto;
+
+import org.bounswe.jobboardbackend.common.dto.CursorCodec;
+import org.bounswe.jobboardbackend.mentorship.model.Message;
+
+import java.time.LocalDateTime;
+
+/**
+ * Keyset position in the (timestamp DESC, id DESC) ordering of a conversation's messages.
+ */
+public record ChatMessageCursor(LocalDateTime timestamp, Long id) {
+
+    /** Position after the newest message, used when the client sends no cursor. */
+    public static final ChatMessageCursor START = new ChatMessageCursor(LocalDateTime.of(9999, 12, 31, 23, 59, 59), Long.MAX_VALUE);
+
+    public static ChatMessageCursor after(Message message) {
+        return new ChatMessageCursor(message.getTimestamp(), message.getId());
+    }
+
+    public static ChatMessageCursor decode(String token) {
+        return CursorCodec.decode(token, START, (key, id) -> new ChatMessageCursor(LocalDateTime.parse(key), id));
+    }
+
+    public String encode() {
+        return CursorCodec.encode(timestamp, id);
+    }
+}
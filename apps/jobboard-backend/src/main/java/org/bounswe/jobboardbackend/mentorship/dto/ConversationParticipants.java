@@ -0,0 +1,31 @@
+package org.bounswe.jobboardbackend.mentorship.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * The two sides of a mentorship conversation, as needed to authorize and route a chat message.
+ */
+public record ConversationParticipants(
+        Long conversationId,
+        Long mentorUserId,
+        String mentorUsername,
+        Long jobSeekerId,
+        String jobSeekerUsername,
+        LocalDateTime closedAt) {
+
+    public boolean isParticipant(Long userId) {
+        return userId.equals(mentorUserId) || userId.equals(jobSeekerId);
+    }
+
+    public boolean isClosed() {
+        return closedAt != null;
+    }
+
+    public String usernameOf(Long userId) {
+        return userId.equals(mentorUserId) ? mentorUsername : jobSeekerUsername;
+    }
+
+    public String counterpartOf(Long userId) {
+        return userId.equals(mentorUserId) ? jobSeekerUsername : mentorUsername;
+    }
+}
@@ -7,6 +7,9 @@ import org.bounswe.jobboardbackend.auth.model.User;
 import java.time.LocalDateTime;
 
 @Entity
+@Table(indexes = {
+        @Index(name = "idx_message_conversation_ts_id", columnList = "conversation_id, timestamp, id")
+})
 @Data
 public class Message {
     @Id
@@ -35,7 +35,8 @@ public class ResumeReview {
     @OneToOne(mappedBy = "resumeReview", cascade = CascadeType.ALL)
     private Conversation conversation;
 
-    private String resumeUrl;
+    @Column(name = "resume_url")
+    private String resumeObjectName;
 
     private LocalDateTime resumeUploadedAt;
 
@@ -1,7 +1,10 @@
 package org.bounswe.jobboardbackend.mentorship.repository;
 
+import org.bounswe.jobboardbackend.mentorship.dto.ConversationParticipants;
 import org.bounswe.jobboardbackend.mentorship.model.Conversation;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
@@ -11,4 +14,12 @@ import java.util.Optional;
 public interface ConversationRepository extends JpaRepository<Conversation, Long> {
 
     Optional<Conversation> findByResumeReviewId(Long id);
+
+    @Query("SELECT new org.bounswe.jobboardbackend.mentorship.dto.ConversationParticipants(" +
+            "c.id, mu.id, mu.username, js.id, js.username, c.closedAt) " +
+            "FROM Conversation c JOIN c.resumeReview r JOIN r.mentor m JOIN m.user mu JOIN r.jobSeeker js " +
+            "WHERE c.id = :conversationId")
+    Optional<ConversationParticipants> findParticipants(@Param("conversationId") Long conversationId);
+
+    boolean existsByIdAndClosedAtIsNull(Long id);
 }
@@ -1,13 +1,31 @@
 package org.bounswe.jobboardbackend.mentorship.repository;
 
 import org.bounswe.jobboardbackend.mentorship.model.Message;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Repository
 public interface MessageRepository extends JpaRepository<Message, String> {
 
-    List<Message> findByConversationIdOrderByTimestampAsc(Long conversationId);
+    @Query("SELECT m FROM Message m LEFT JOIN FETCH m.sender WHERE m.conversation.id = :conversationId ORDER BY m.timestamp ASC, m.id ASC")
+    List<Message> findByConversationIdOrderByTimestampAsc(@Param("conversationId") Long conversationId);
+
+    /**
+     * Messages of a conversation older than the cursor, newest first, with their senders.
+     * Served by the (conversation_id, timestamp, id) index.
+     */
+    @Query("SELECT m FROM Message m LEFT JOIN FETCH m.sender " +
+            "WHERE m.conversation.id = :conversationId " +
+            "AND (m.timestamp < :cursorTimestamp OR (m.timestamp = :cursorTimestamp AND m.id < :cursorId)) " +
+            "ORDER BY m.timestamp DESC, m.id DESC")
+    List<Message> findHistoryPage(@Param("conversationId") Long conversationId,
+                                  @Param("cursorTimestamp") LocalDateTime cursorTimestamp,
+                                  @Param("cursorId") Long cursorId,
+                                  Pageable pageable);
 }
@@ -2,7 +2,10 @@ package org.bounswe.jobboardbackend.mentorship.repository;
 
 import org.bounswe.jobboardbackend.mentorship.model.ResumeReview;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -11,4 +14,7 @@ public interface ResumeReviewRepository extends JpaRepository<ResumeReview, Long
     Optional<ResumeReview> findByConversationId(Long conversationId);
 
     void deleteByJobSeekerId(Long jobSeekerId);
+
+    @Query("SELECT r.resumeObjectName FROM ResumeReview r WHERE r.jobSeeker.id = :jobSeekerId AND r.resumeObjectName IS NOT NULL")
+    List<String> findResumeObjectNamesByJobSeekerId(@Param("jobSeekerId") Long jobSeekerId);
 }
\ No newline at end of file
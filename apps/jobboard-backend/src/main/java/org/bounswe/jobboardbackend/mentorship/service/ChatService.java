@@ -1,5 +1,6 @@
 package org.bounswe.jobboardbackend.mentorship.service;
 
+import org.bounswe.jobboardbackend.common.dto.CursorPage;
 import org.bounswe.jobboardbackend.mentorship.dto.ChatMessageDTO;
 import org.bounswe.jobboardbackend.mentorship.dto.CreateMessageDTO;
 import org.bounswe.jobboardbackend.mentorship.model.Conversation;
@@ -12,5 +13,6 @@ public interface ChatService {
     Conversation createConversationForReview(ResumeReview review);
     ChatMessageDTO saveAndBroadcastMessage(Long conversationId, CreateMessageDTO createMessageDTO, Long userId);
     List<ChatMessageDTO> getMessageHistory(Long conversationId, Long userId);
+    CursorPage<ChatMessageDTO> getMessageHistoryPage(Long conversationId, String cursor, Integer limit, Long userId);
 
 }
\ No newline at end of file
@@ -2,19 +2,20 @@ package org.bounswe.jobboardbackend.mentorship.service;
 
 
 import lombok.RequiredArgsConstructor;
-import org.bounswe.jobboardbackend.auth.model.User;
+import org.bounswe.jobboardbackend.common.dto.CursorPage;
 import org.bounswe.jobboardbackend.exception.ErrorCode;
 import org.bounswe.jobboardbackend.exception.HandleException;
+import org.bounswe.jobboardbackend.mentorship.dto.ChatMessageCursor;
 import org.bounswe.jobboardbackend.mentorship.dto.ChatMessageDTO;
+import org.bounswe.jobboardbackend.mentorship.dto.ConversationParticipants;
 import org.bounswe.jobboardbackend.mentorship.dto.CreateMessageDTO;
 import org.bounswe.jobboardbackend.mentorship.model.*;
 import org.bounswe.jobboardbackend.mentorship.repository.ConversationRepository;
 import org.bounswe.jobboardbackend.mentorship.repository.MessageRepository;
 import org.bounswe.jobboardbackend.auth.repository.UserRepository;
-import org.bounswe.jobboardbackend.mentorship.repository.ResumeReviewRepository;
 import org.bounswe.jobboardbackend.notification.notifier.ChatNotifier;
-import org.springframework.messaging.simp.user.SimpUser;
-import org.springframework.messaging.simp.user.SimpUserRegistry;
+import org.bounswe.jobboardbackend.websocket.service.SubscriptionDirectory;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -26,11 +27,14 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class ChatServiceImpl implements ChatService {
 
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 100;
+
     private final ConversationRepository conversationRepository;
     private final MessageRepository messageRepository;
     private final UserRepository userRepository;
-    private final ResumeReviewRepository resumeReviewRepository;
-    private final SimpUserRegistry simpUserRegistry;
+    private final ConversationParticipantCache participantCache;
+    private final SubscriptionDirectory subscriptionDirectory;
     private final ChatNotifier notifier;
 
 
@@ -45,35 +49,49 @@ public class ChatServiceImpl implements ChatService {
         return conversationRepository.save(conversation);
     }
 
+    /**
+     * Stores a message and notifies the other participant unless they are watching the conversation.
+     * Participants come from {@link ConversationParticipantCache}; whether the conversation is
+     * still open is always checked against the database, since it may have been closed on
+     * another node whose eviction has not arrived yet.
+     */
     @Override
     @Transactional
     public ChatMessageDTO saveAndBroadcastMessage(Long conversationId, CreateMessageDTO createMessageDTO, Long userId) {
 
-        User sender = userRepository.findById(userId)
-                .orElseThrow(() -> new HandleException(ErrorCode.USER_NOT_FOUND, "User not found"));
-        Conversation conversation = conversationRepository.findById(conversationId)
-                .orElseThrow(() -> new HandleException(ErrorCode.CONVERSATION_NOT_FOUND, "Conversation not found"));
-
-        validateUserAccess(conversationId, userId);
+        ConversationParticipants participants = validateUserAccess(conversationId, userId);
+        if (participants.isClosed()) {
+            throw new HandleException(ErrorCode.MENTORSHIP_NOT_ACTIVE, "This conversation is closed");
+        }
+        if (!conversationRepository.existsByIdAndClosedAtIsNull(conversationId)) {
+            participantCache.evict(conversationId);
+            throw new HandleException(ErrorCode.MENTORSHIP_NOT_ACTIVE, "This conversation is closed");
+        }
 
         Message message = new Message();
-        message.setConversation(conversation);
-        message.setSender(sender);
+        message.setConversation(conversationRepository.getReferenceById(conversationId));
+        message.setSender(userRepository.getReferenceById(userId));
         message.setContent(createMessageDTO.content());
         message.setTimestamp(LocalDateTime.now());
 
         Message savedMessage = messageRepository.save(message);
 
-        String mentorName = conversation.getResumeReview().getMentor().getUser().getUsername();
-        String jobSeekerName = conversation.getResumeReview().getJobSeeker().getUsername();
-        String receiverName = sender.getUsername().equals(mentorName) ? jobSeekerName : mentorName;
+        String senderName = participants.usernameOf(userId);
+        String receiverName = participants.counterpartOf(userId);
 
         String conversationDestination = "/topic/conversation/" + conversationId;
-        boolean isSubscribed = isUserSubscribedToDestination(receiverName, conversationDestination);
+        boolean isSubscribed = subscriptionDirectory.isSubscribed(receiverName, conversationDestination);
 
-        notifier.notifyNewMessage(savedMessage, isSubscribed);
+        notifier.notifyNewMessage(savedMessage, senderName, receiverName, isSubscribed);
 
-        return toChatMessageDTO(savedMessage);
+        return new ChatMessageDTO(
+                savedMessage.getId().toString(),
+                conversationId.toString(),
+                userId.toString(),
+                senderName,
+                savedMessage.getContent(),
+                savedMessage.getTimestamp()
+        );
     }
 
     @Override
@@ -88,22 +106,45 @@ public class ChatServiceImpl implements ChatService {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * One page of a conversation's messages, newest first; pass {@code nextCursor} back to load older ones.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPage<ChatMessageDTO> getMessageHistoryPage(Long conversationId, String cursor, Integer limit, Long userId) {
 
+        validateUserAccess(conversationId, userId);
+        int pageSize = resolvePageSize(limit);
+        ChatMessageCursor before = ChatMessageCursor.decode(cursor);
+        List<Message> rows = messageRepository.findHistoryPage(conversationId, before.timestamp(), before.id(), PageRequest.of(0, pageSize + 1));
+
+        boolean hasNext = rows.size() > pageSize;
+        List<Message> window = hasNext ? rows.subList(0, pageSize) : rows;
+        String nextCursor = hasNext ? ChatMessageCursor.after(window.getLast()).encode() : null;
+        return CursorPage.of(window.stream().map(this::toChatMessageDTO).toList(), nextCursor, null);
+    }
 
-    private void validateUserAccess(Long conversationId, Long userId) {
-        conversationRepository.findById(conversationId)
-                .orElseThrow(() -> new HandleException(ErrorCode.CONVERSATION_NOT_FOUND, "Conversation not found"));
 
-        ResumeReview review = resumeReviewRepository.findByConversationId(conversationId)
-                .orElseThrow(() -> new HandleException(ErrorCode.CHAT_NOT_LINKED_TO_REVIEW, "Chat is not linked to a review"));
 
-        Long jobSeekerId = review.getJobSeeker().getId();
-        Long mentorUserId = review.getMentor().getUser().getId();
+    private ConversationParticipants validateUserAccess(Long conversationId, Long userId) {
+        ConversationParticipants participants = participantCache.get(conversationId, this::loadParticipants);
 
-        if (!userId.equals(jobSeekerId) && !userId.equals(mentorUserId)) {
+        if (!participants.isParticipant(userId)) {
             throw new HandleException(ErrorCode.UNAUTHORIZED_REVIEW_ACCESS, "User is not authorized for this conservation");
         }
+        return participants;
+    }
+
+    private ConversationParticipants loadParticipants(Long conversationId) {
+        return conversationRepository.findParticipants(conversationId)
+                .orElseThrow(() -> conversationRepository.existsById(conversationId)
+                        ? new HandleException(ErrorCode.CHAT_NOT_LINKED_TO_REVIEW, "Chat is not linked to a review")
+                        : new HandleException(ErrorCode.CONVERSATION_NOT_FOUND, "Conversation not found"));
+    }
 
+    private static int resolvePageSize(Integer limit) {
+        if (limit == null || limit <= 0) return DEFAULT_PAGE_SIZE;
+        return Math.min(limit, MAX_PAGE_SIZE);
     }
 
     private ChatMessageDTO toChatMessageDTO(Message message) {
@@ -117,17 +158,6 @@ public class ChatServiceImpl implements ChatService {
         );
     }
 
-    private boolean isUserSubscribedToDestination(String username, String destination) {
-
-        SimpUser simpUser = simpUserRegistry.getUser(username);
-        if (simpUser == null) {
-            return false;
-        }
-
-        return simpUser.getSessions().stream()
-                .flatMap(session -> session.getSubscriptions().stream())
-                .anyMatch(sub -> destination.equals(sub.getDestination()));
-    }
 
 
 }
@@ -0,0 +1,87 @@
+package org.bounswe.jobboardbackend.mentorship.service;
+
+import org.bounswe.jobboardbackend.common.cache.TtlLruCache;
+import org.bounswe.jobboardbackend.mentorship.dto.ConversationParticipants;
+import org.bounswe.jobboardbackend.websocket.service.ClusterCacheInvalidation;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Instant;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Bounded LRU of conversation participants keyed by conversation id, so that sending or
+ * reading a chat message does not reload the conversation, review and both users each time.
+ * Participants never change while a conversation is open; closing or deleting it must call
+ * {@link #evict(Long)}, which also drops the entry on the other replicas. The TTL only bounds
+ * how long a missed eviction can go unnoticed.
+ */
+@Component
+public class ConversationParticipantCache {
+
+    static final String CLUSTER_CACHE = "conversationParticipants";
+
+    private final TtlLruCache<Long, ConversationParticipants> entries;
+    private final ClusterCacheInvalidation clusterInvalidation;
+
+    public ConversationParticipantCache(@Value("${app.chat.participantCacheSize:4096}") int capacity,
+                                        @Value("${app.chat.participantCacheTtlMs:600000}") long ttlMs,
+                                        ClusterCacheInvalidation clusterInvalidation) {
+        this(capacity, ttlMs, Instant::now, clusterInvalidation);
+    }
+
+    ConversationParticipantCache(int capacity, long ttlMs, Supplier<Instant> clock,
+                                 ClusterCacheInvalidation clusterInvalidation) {
+        this.entries = new TtlLruCache<>(capacity, ttlMs, clock);
+        this.clusterInvalidation = clusterInvalidation;
+        clusterInvalidation.register(CLUSTER_CACHE, key -> {
+            if (key == null) {
+                entries.invalidateAll();
+            } else {
+                entries.invalidate(Long.valueOf(key));
+            }
+        });
+    }
+
+    /**
+     * Returns the cached participants of {@code conversationId}, loading and caching them on a
+     * miss or after the entry has expired. The loader runs outside the lock.
+     */
+    public ConversationParticipants get(Long conversationId, Function<Long, ConversationParticipants> loader) {
+        return entries.get(conversationId, loader);
+    }
+
+    /**
+     * Drops the cached participants of {@code conversationId}, again after commit when called
+     * inside a transaction.
+     */
+    public void evict(Long conversationId) {
+        afterCommit(() -> entries.invalidate(conversationId));
+        clusterInvalidation.publish(CLUSTER_CACHE, conversationId.toString());
+    }
+
+    /** Drops every entry; for bulk deletions that do not know the affected conversations. */
+    public void evictAll() {
+        afterCommit(entries::invalidateAll);
+        clusterInvalidation.publish(CLUSTER_CACHE, null);
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    private void afterCommit(Runnable action) {
+        action.run();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        }
+    }
+}
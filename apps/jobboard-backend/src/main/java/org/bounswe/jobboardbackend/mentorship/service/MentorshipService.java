@@ -1,6 +1,9 @@
 package org.bounswe.jobboardbackend.mentorship.service;
 
 import org.bounswe.jobboardbackend.mentorship.dto.*;
+import org.bounswe.jobboardbackend.storage.dto.UploadConfirmRequest;
+import org.bounswe.jobboardbackend.storage.dto.UploadTicketResponse;
+import org.bounswe.jobboardbackend.storage.dto.UploadUrlRequest;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.multipart.MultipartFile;
 
@@ -11,6 +14,8 @@ public interface MentorshipService {
 
 
     ResumeFileResponseDTO uploadResumeFile(Long resumeReviewId, MultipartFile file);
+    UploadTicketResponse requestResumeUpload(Long resumeReviewId, UploadUrlRequest request, Long userId);
+    ResumeFileResponseDTO confirmResumeUpload(Long resumeReviewId, UploadConfirmRequest request, Long userId);
     ResumeFileUrlDTO getResumeFileUrl(Long resumeReviewId);
     ResumeReviewDTO getResumeReview(Long resumeReviewId);
 
@@ -1,6 +1,5 @@
 package org.bounswe.jobboardbackend.mentorship.service;
 
-import com.google.cloud.storage.*;
 import lombok.RequiredArgsConstructor;
 import org.bounswe.jobboardbackend.auth.model.User;
 import org.bounswe.jobboardbackend.badge.event.MentorProfileCreatedEvent;
@@ -17,6 +16,13 @@ import org.bounswe.jobboardbackend.mentorship.repository.*;
 import org.bounswe.jobboardbackend.notification.notifier.MentorshipNotifier;
 import org.bounswe.jobboardbackend.activity.service.ActivityService;
 import org.bounswe.jobboardbackend.activity.model.ActivityType;
+import org.bounswe.jobboardbackend.storage.dto.UploadConfirmRequest;
+import org.bounswe.jobboardbackend.storage.dto.UploadTicketResponse;
+import org.bounswe.jobboardbackend.storage.dto.UploadUrlRequest;
+import org.bounswe.jobboardbackend.storage.model.UploadPurpose;
+import org.bounswe.jobboardbackend.storage.service.ObjectDeletionQueue;
+import org.bounswe.jobboardbackend.storage.service.ObjectStorage;
+import org.bounswe.jobboardbackend.storage.service.UploadTicketService;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
@@ -27,10 +33,8 @@ import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
-import java.net.URL;
 import java.time.LocalDateTime;
 import java.util.List;
-import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -46,19 +50,13 @@ public class MentorshipServiceImpl implements MentorshipService {
     private final ChatService chatService;
     private final SimpMessagingTemplate messagingTemplate;
     private final ConversationRepository conversationRepository;
+    private final ConversationParticipantCache participantCache;
     private final ApplicationEventPublisher eventPublisher;
-    private final Storage storage = StorageOptions.getDefaultInstance().getService();
     private final MentorshipNotifier notifier;
     private final ActivityService activityService;
-
-    @Value("${app.gcs.bucket}")
-    private String gcsBucket;
-
-    @Value("${app.gcs.public}")
-    private boolean gcsPublic;
-
-    @Value("${app.gcs.publicBaseUrl}")
-    private String gcsPublicBaseUrl;
+    private final ObjectStorage objectStorage;
+    private final UploadTicketService uploadTicketService;
+    private final ObjectDeletionQueue deletionQueue;
 
     @Value("${app.env}")
     private String appEnv;
@@ -71,36 +69,71 @@ public class MentorshipServiceImpl implements MentorshipService {
         }
 
         String ct = file.getContentType();
-        if (!"application/pdf".equalsIgnoreCase(ct)) {
-            throw new HandleException(ErrorCode.RESUME_FILE_CONTENT_TYPE_INVALID, "Only PDF files are allowed");
-        }
+        validateResumeContentType(ct);
 
         ResumeReview review = resumeReviewRepository.findById(resumeReviewId)
                 .orElseThrow(() -> new HandleException(ErrorCode.RESUME_REVIEW_NOT_FOUND, "Resume review not found"));
 
-        if (review.getResumeUrl() != null) {
-            String oldObject = extractObjectNameFromUrl(review.getResumeUrl());
-            if (oldObject != null) {
-                deleteFromGcs(oldObject);
-            }
-        }
-
         String objectName = buildObjectNameForResume(resumeReviewId, file.getOriginalFilename());
         String url;
         try {
-            url = uploadToGcs(file.getBytes(), ct, objectName);
+            // a deletion queued for an earlier resume under this name must not hit the new one
+            deletionQueue.cancel(objectName);
+            url = objectStorage.upload(objectName, file, ct);
         } catch (IOException e) {
             throw new HandleException(ErrorCode.RESUME_FILE_UPLOAD_FAILED, "Upload failed", e);
         }
 
+        return attachResumeFile(review, objectName, url);
+    }
+
+    @Override
+    @Transactional
+    public UploadTicketResponse requestResumeUpload(Long resumeReviewId, UploadUrlRequest request, Long userId) {
+        validateResumeContentType(request.getContentType());
+        if (request.getSize() != null && request.getSize() > UploadTicketService.DEFAULT_MAX_BYTES) {
+            throw new HandleException(ErrorCode.BAD_REQUEST, "Resume file too large (max 5MB)");
+        }
+        if (!resumeReviewRepository.existsById(resumeReviewId)) {
+            throw new HandleException(ErrorCode.RESUME_REVIEW_NOT_FOUND, "Resume review not found");
+        }
+
+        String objectName = buildObjectNameForResume(resumeReviewId, request.getFileName());
+        return uploadTicketService.issue(UploadPurpose.RESUME, resumeReviewId, userId,
+                objectName, request.getContentType(), UploadTicketService.DEFAULT_MAX_BYTES);
+    }
+
+    @Override
+    @Transactional
+    public ResumeFileResponseDTO confirmResumeUpload(Long resumeReviewId, UploadConfirmRequest request, Long userId) {
+        ResumeReview review = resumeReviewRepository.findById(resumeReviewId)
+                .orElseThrow(() -> new HandleException(ErrorCode.RESUME_REVIEW_NOT_FOUND, "Resume review not found"));
+
+        String objectName = uploadTicketService.redeem(request.getTicketId(), UploadPurpose.RESUME, resumeReviewId, userId);
+        return attachResumeFile(review, objectName, objectStorage.url(objectName));
+    }
+
+    private static void validateResumeContentType(String contentType) {
+        if (!"application/pdf".equalsIgnoreCase(contentType)) {
+            throw new HandleException(ErrorCode.RESUME_FILE_CONTENT_TYPE_INVALID, "Only PDF files are allowed");
+        }
+    }
+
+    /** Points the review at a newly stored resume and removes the one it replaces. */
+    private ResumeFileResponseDTO attachResumeFile(ResumeReview review, String objectName, String url) {
+        String oldObject = objectStorage.toObjectName(review.getResumeObjectName());
+        if (oldObject != null && !oldObject.equals(objectName)) {
+            deletionQueue.enqueue(oldObject);
+        }
+
         LocalDateTime now = LocalDateTime.now();
-        review.setResumeUrl(url);
+        review.setResumeObjectName(objectName);
         // review.setStatus(ReviewStatus.ACTIVE);
         review.setResumeUploadedAt(now);
 
         return ResumeFileResponseDTO.builder()
                 .resumeReviewId(review.getId())
-                .fileUrl(review.getResumeUrl())
+                .fileUrl(url)
                 .reviewStatus(review.getStatus())
                 .uploadedAt(review.getResumeUploadedAt())
                 .build();
@@ -112,12 +145,12 @@ public class MentorshipServiceImpl implements MentorshipService {
         ResumeReview review = resumeReviewRepository.findById(resumeReviewId)
                 .orElseThrow(() -> new HandleException(ErrorCode.RESUME_REVIEW_NOT_FOUND, "Resume review not found"));
 
-        if (review.getResumeUrl() == null) {
+        if (review.getResumeObjectName() == null) {
             throw new HandleException(ErrorCode.RESUME_FILE_NOT_FOUND, "Resume file not uploaded yet");
         }
 
         return ResumeFileUrlDTO.builder()
-                .fileUrl(review.getResumeUrl())
+                .fileUrl(objectStorage.url(review.getResumeObjectName()))
                 .build();
     }
 
@@ -129,7 +162,7 @@ public class MentorshipServiceImpl implements MentorshipService {
 
         return ResumeReviewDTO.builder()
                 .resumeReviewId(review.getId())
-                .fileUrl(review.getResumeUrl())
+                .fileUrl(objectStorage.url(review.getResumeObjectName()))
                 .reviewStatus(review.getStatus())
                 .feedback(review.getFeedback())
                 .build();
@@ -294,7 +327,6 @@ public class MentorshipServiceImpl implements MentorshipService {
         }
 
 
-
         if (respondToRequestDTO.accept()) {
 
             request.accept(respondToRequestDTO.responseMessage());
@@ -475,6 +507,7 @@ public class MentorshipServiceImpl implements MentorshipService {
         if (conversation != null) {
             conversation.setClosedAt(LocalDateTime.now());
             conversationRepository.save(conversation);
+            participantCache.evict(conversation.getId());
 
             ChatMessageDTO systemMessage = new ChatMessageDTO(
                     "system-" + LocalDateTime.now(),
@@ -557,49 +590,11 @@ public class MentorshipServiceImpl implements MentorshipService {
         return appEnv + "/resumes/" + resumeReviewId + ext;
     }
 
-    private String publicUrl(String objectName) {
-        return gcsPublicBaseUrl + "/" + gcsBucket + "/" + objectName;
-    }
-
-    private String extractObjectNameFromUrl(String url) {
-        String prefix = gcsPublicBaseUrl + "/" + gcsBucket + "/";
-        if (url != null && url.startsWith(prefix)) {
-            return url.substring(prefix.length());
-        }
-        return null;
-    }
-
-    private String uploadToGcs(byte[] content, String contentType, String objectName) {
-        BlobInfo info = BlobInfo.newBuilder(gcsBucket, objectName)
-                .setContentType(contentType != null ? contentType : "application/pdf")
-                .build();
-        storage.create(info, content);
-
-        if (gcsPublic) {
-            return publicUrl(objectName);
-        } else {
-            URL signed = storage.signUrl(
-                    BlobInfo.newBuilder(gcsBucket, objectName).build(),
-                    15, TimeUnit.MINUTES,
-                    Storage.SignUrlOption.withV4Signature(),
-                    Storage.SignUrlOption.httpMethod(HttpMethod.GET));
-            return signed.toString();
-        }
-    }
-
-    private void deleteFromGcs(String objectName) {
-        if (objectName == null)
-            return;
-        try {
-            storage.delete(gcsBucket, objectName);
-        } catch (StorageException ignore) {
-        }
-    }
-
     @Override
     @Transactional
     public void deleteUserData(Long userId) {
-        // Delete resume reviews where user is job seeker
+        // Delete resume reviews where user is job seeker, and their uploaded files
+        deletionQueue.enqueueAll(resumeReviewRepository.findResumeObjectNamesByJobSeekerId(userId));
         resumeReviewRepository.deleteByJobSeekerId(userId);
 
         // Delete requests where user is requester
@@ -612,6 +607,8 @@ public class MentorshipServiceImpl implements MentorshipService {
         if (mentorProfileRepository.existsById(userId)) {
             mentorProfileRepository.deleteById(userId);
         }
+
+        participantCache.evictAll();
     }
 
 }
@@ -9,11 +9,16 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.bounswe.jobboardbackend.common.dto.CursorPage;
 import org.bounswe.jobboardbackend.exception.ApiError;
 import org.bounswe.jobboardbackend.notification.dto.NotificationRequest;
 import org.bounswe.jobboardbackend.notification.dto.NotificationResponse;
+import org.bounswe.jobboardbackend.notification.dto.NotificationRetentionStats;
+import org.bounswe.jobboardbackend.notification.dto.UnreadCountResponse;
+import org.bounswe.jobboardbackend.notification.service.NotificationRetentionService;
 import org.bounswe.jobboardbackend.notification.service.NotificationService;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 import java.security.Principal;
 import java.util.List;
@@ -25,6 +30,7 @@ import java.util.List;
 public class NotificationController {
 
         private final NotificationService notificationService;
+        private final NotificationRetentionService retentionService;
 
         @Operation(summary = "Broadcast Notification", description = "Sends a notification to all users.")
         @ApiResponses(value = {
@@ -68,6 +74,54 @@ public class NotificationController {
                 return ResponseEntity.ok(unread);
         }
 
+        @Operation(summary = "Notification Inbox (cursor-paginated)", description = "Retrieves one page of the authenticated user's notifications, newest first. Pass the returned nextCursor to fetch the following page.")
+        @ApiResponses(value = {
+                        @ApiResponse(responseCode = "200", description = "Inbox page retrieved successfully"),
+                        @ApiResponse(responseCode = "400", description = "Invalid cursor", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ApiError.class), examples = @ExampleObject(value = "{\"timestamp\": \"2023-10-01T12:00:00\", \"status\": 400, \"error\": \"Bad Request\", \"code\": \"INVALID_CURSOR\", \"message\": \"Invalid cursor\", \"path\": \"/api/notifications/inbox\" }"))),
+                        @ApiResponse(responseCode = "401", description = "Unauthorized", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ApiError.class), examples = @ExampleObject(value = "{\"timestamp\": \"2023-10-01T12:00:00\", \"status\": 401, \"error\": \"Unauthorized\", \"code\": \"USER_UNAUTHORIZED\", \"message\": \"Full authentication is required\", \"path\": \"/api/notifications/inbox\" }")))
+        })
+        @GetMapping("/inbox")
+        public ResponseEntity<CursorPage<NotificationResponse>> getInbox(
+                        @Parameter(description = "Cursor returned by the previous page") @RequestParam(required = false) String cursor,
+                        @Parameter(description = "Page size (default 20, max 100)") @RequestParam(required = false) Integer limit,
+                        @Parameter(description = "Only return unread notifications") @RequestParam(defaultValue = "false") boolean unreadOnly,
+                        Principal principal) {
+                return ResponseEntity.ok(notificationService.getInbox(principal.getName(), cursor, limit, unreadOnly));
+        }
+
+        @Operation(summary = "Get Unread Count", description = "Returns the number of unread notifications of the authenticated user.")
+        @ApiResponses(value = {
+                        @ApiResponse(responseCode = "200", description = "Unread count retrieved successfully"),
+                        @ApiResponse(responseCode = "401", description = "Unauthorized", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ApiError.class), examples = @ExampleObject(value = "{\"timestamp\": \"2023-10-01T12:00:00\", \"status\": 401, \"error\": \"Unauthorized\", \"code\": \"USER_UNAUTHORIZED\", \"message\": \"Full authentication is required\", \"path\": \"/api/notifications/unread-count\" }")))
+        })
+        @GetMapping("/unread-count")
+        public ResponseEntity<UnreadCountResponse> getUnreadCount(Principal principal) {
+                return ResponseEntity.ok(new UnreadCountResponse(notificationService.getUnreadCount(principal.getName())));
+        }
+
+        @Operation(summary = "Mark All Notifications as Read", description = "Marks every unread notification of the authenticated user as read.")
+        @ApiResponses(value = {
+                        @ApiResponse(responseCode = "200", description = "Notifications marked as read"),
+                        @ApiResponse(responseCode = "401", description = "Unauthorized", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ApiError.class), examples = @ExampleObject(value = "{\"timestamp\": \"2023-10-01T12:00:00\", \"status\": 401, \"error\": \"Unauthorized\", \"code\": \"USER_UNAUTHORIZED\", \"message\": \"Full authentication is required\", \"path\": \"/api/notifications/read-all\" }")))
+        })
+        @PostMapping("/read-all")
+        public ResponseEntity<Void> markAllAsRead(Principal principal) {
+                notificationService.markAllAsRead(principal.getName());
+                return ResponseEntity.ok().build();
+        }
+
+        @Operation(summary = "Retention Statistics", description = "Returns how many notifications the retention job removed and how long its last run took. Admin only.")
+        @ApiResponses(value = {
+                        @ApiResponse(responseCode = "200", description = "Statistics retrieved successfully"),
+                        @ApiResponse(responseCode = "401", description = "Unauthorized", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ApiError.class), examples = @ExampleObject(value = "{\"timestamp\": \"2023-10-01T12:00:00\", \"status\": 401, \"error\": \"Unauthorized\", \"code\": \"USER_UNAUTHORIZED\", \"message\": \"Full authentication is required\", \"path\": \"/api/notifications/retention/stats\" }"))),
+                        @ApiResponse(responseCode = "403", description = "Forbidden (Admin only)", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ApiError.class), examples = @ExampleObject(value = "{\"timestamp\": \"2023-10-01T12:00:00\", \"status\": 403, \"error\": \"Forbidden\", \"code\": \"ACCESS_DENIED\", \"message\": \"Access denied\", \"path\": \"/api/notifications/retention/stats\" }")))
+        })
+        @GetMapping("/retention/stats")
+        @PreAuthorize("hasRole('ROLE_ADMIN') and isAuthenticated()")
+        public ResponseEntity<NotificationRetentionStats> getRetentionStats() {
+                return ResponseEntity.ok(retentionService.getStats());
+        }
+
         @Operation(summary = "Mark Notification as Read", description = "Marks a specific notification as read.")
         @ApiResponses(value = {
                         @ApiResponse(responseCode = "200", description = "Notification marked as read"),
@@ -0,0 +1,25 @@
+package org.bounswe.jobboardbackend.notification.dto;
+
+import org.bounswe.jobboardbackend.common.dto.CursorCodec;
+import org.bounswe.jobboardbackend.notification.model.Notification;
+
+/**
+ * Keyset position in the (createdAt DESC, id DESC) ordering of a user's notifications.
+ */
+public record NotificationCursor(long createdAt, Long id) {
+
+    /** Position before the first row, used when the client sends no cursor. */
+    public static final NotificationCursor START = new NotificationCursor(Long.MAX_VALUE, Long.MAX_VALUE);
+
+    public static NotificationCursor after(Notification notification) {
+        return new NotificationCursor(notification.getCreatedAt(), notification.getId());
+    }
+
+    public static NotificationCursor decode(String token) {
+        return CursorCodec.decode(token, START, (key, id) -> new NotificationCursor(Long.parseLong(key), id));
+    }
+
+    public String encode() {
+        return CursorCodec.encode(createdAt, id);
+    }
+}
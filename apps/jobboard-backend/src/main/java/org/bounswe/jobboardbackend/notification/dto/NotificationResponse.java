@@ -26,13 +26,20 @@ public record NotificationResponse(
         @Schema(description = "ID of the related entity", example = "202") Long linkId) {
 
     public static NotificationResponse fromEntity(Notification n) {
+        return fromEntity(n, n.isReadFlag());
+    }
+
+    /**
+     * For global notifications, whose read state is per viewer rather than on the row.
+     */
+    public static NotificationResponse fromEntity(Notification n, boolean read) {
         return new NotificationResponse(
                 n.getId(),
                 n.getTitle(),
                 n.getNotificationType(),
                 n.getMessage(),
                 n.getCreatedAt(),
-                n.isReadFlag(),
+                read,
                 n.getUsername(),
                 n.getLinkId());
     }
@@ -0,0 +1,13 @@
+package org.bounswe.jobboardbackend.notification.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Counters of the notification retention job since startup")
+public record NotificationRetentionStats(
+        @Schema(description = "Completed purge runs", example = "24") long runs,
+        @Schema(description = "Read personal notifications removed in total", example = "18250") long readRemoved,
+        @Schema(description = "Expired global notifications removed in total", example = "3") long globalRemoved,
+        @Schema(description = "Rows removed by the last run", example = "512") long lastRunRemoved,
+        @Schema(description = "Duration of the last run in milliseconds", example = "840") long lastRunMs,
+        @Schema(description = "Start of the last run (epoch millis), 0 before the first run", example = "1678886400000") long lastRunAt) {
+}
@@ -0,0 +1,8 @@
+package org.bounswe.jobboardbackend.notification.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Number of unread notifications of the authenticated user")
+public record UnreadCountResponse(
+        @Schema(description = "Unread notifications", example = "3") long unreadCount) {
+}
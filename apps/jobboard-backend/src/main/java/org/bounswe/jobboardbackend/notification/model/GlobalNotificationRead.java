@@ -0,0 +1,34 @@
+package org.bounswe.jobboardbackend.notification.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * Marks one global notification as read by one user.
+ * Only reads above the user's global read watermark are recorded; mark-all-read moves the
+ * watermark and drops the markers below it, so the table stays small.
+ */
+@Entity
+@Table(name = "global_notification_reads", uniqueConstraints = {
+        @UniqueConstraint(columnNames = { "username", "notification_id" })
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class GlobalNotificationRead {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private String username;
+
+    @Column(name = "notification_id", nullable = false)
+    private Long notificationId;
+
+    @Column(nullable = false)
+    private Long readAt;
+}
@@ -6,7 +6,11 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 @Entity
-@Table(name = "notifications")
+@Table(name = "notifications", indexes = {
+        @Index(name = "idx_notifications_username_created_at_id", columnList = "username, created_at DESC, id DESC"),
+        @Index(name = "idx_notifications_username_read_created_at_id", columnList = "username, read_flag, created_at DESC, id DESC"),
+        @Index(name = "idx_notifications_read_updated_at_id", columnList = "read_flag, updated_at, id")
+})
 @Data
 @AllArgsConstructor
 @NoArgsConstructor
@@ -0,0 +1,41 @@
+package org.bounswe.jobboardbackend.notification.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * Coalescing window of one recipient, type and link. The notification that opens it is
+ * delivered right away; later ones inside the window are merged into a single digest that
+ * is delivered when it ends. The unique key makes sure only one window, and with it only
+ * one digest, exists per key.
+ */
+@Entity
+@Table(name = "notification_coalesce_windows", uniqueConstraints = {
+        @UniqueConstraint(columnNames = { "username", "notification_type", "link_id" })
+}, indexes = {
+        @Index(name = "idx_notification_coalesce_windows_ends_at", columnList = "window_ends_at")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class NotificationCoalesceWindow {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private String username;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "notification_type", nullable = false)
+    private NotificationType notificationType;
+
+    @Column(name = "link_id", nullable = false)
+    private Long linkId;
+
+    @Column(name = "window_ends_at", nullable = false)
+    private Long windowEndsAt;
+}
@@ -0,0 +1,28 @@
+package org.bounswe.jobboardbackend.notification.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
+
+/**
+ * Unread personal notifications of one user. Kept out of the users table so that counter
+ * updates on every delivery and read do not contend with, or bloat, the user rows.
+ * Maintained by atomic updates only; a row appears with the user's first notification.
+ */
+@Entity
+@Table(name = "notification_counters")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class NotificationCounter {
+
+    @Id
+    private String username;
+
+    @Column(nullable = false)
+    @ColumnDefault("0")
+    @Builder.Default
+    private long unread = 0L;
+}
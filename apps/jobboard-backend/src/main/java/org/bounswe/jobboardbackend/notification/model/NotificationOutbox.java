@@ -0,0 +1,72 @@
+package org.bounswe.jobboardbackend.notification.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
+
+/**
+ * A notification accepted inside a business transaction but not yet stored in the inbox
+ * or pushed to the recipient. Rows are drained in id order by the dispatcher.
+ * A row with a {@code summaryTitle} is a digest: it is held until its coalescing window ends and
+ * absorbs later notifications of the same type and link for the same user.
+ */
+@Entity
+@Table(name = "notification_outbox", indexes = {
+        @Index(name = "idx_notification_outbox_next_attempt_id", columnList = "next_attempt_at, id"),
+        @Index(name = "idx_notification_outbox_username_id", columnList = "username, id")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class NotificationOutbox {
+
+    public static final String COUNT_PLACEHOLDER = "{count}";
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // null = global notification
+    private String username;
+
+    private String title;
+
+    @Enumerated(EnumType.STRING)
+    private NotificationType notificationType;
+
+    @Column(length = 500)
+    private String message;
+
+    private Long linkId;
+
+    @Column(nullable = false)
+    private Long createdAt;
+
+    @Column(nullable = false)
+    private Long nextAttemptAt;
+
+    @Column(nullable = false)
+    @ColumnDefault("0")
+    @Builder.Default
+    private int attempts = 0;
+
+    @Column(length = 500)
+    private String lastError;
+
+    /** Title used once more than one notification was merged; {@value #COUNT_PLACEHOLDER} is replaced by the count. */
+    private String summaryTitle;
+
+    @Column(nullable = false)
+    @ColumnDefault("1")
+    @Builder.Default
+    private int coalescedCount = 1;
+
+    public Notification toNotification() {
+        String finalTitle = coalescedCount > 1 && summaryTitle != null
+                ? summaryTitle.replace(COUNT_PLACEHOLDER, String.valueOf(coalescedCount))
+                : title;
+        return new Notification(null, username, finalTitle, notificationType, message, createdAt, createdAt, false, linkId);
+    }
+}
@@ -3,6 +3,7 @@ package org.bounswe.jobboardbackend.notification.notifier;
 import lombok.RequiredArgsConstructor;
 import org.bounswe.jobboardbackend.forum.model.ForumComment;
 import org.bounswe.jobboardbackend.forum.model.ForumPost;
+import org.bounswe.jobboardbackend.notification.model.NotificationOutbox;
 import org.bounswe.jobboardbackend.notification.model.NotificationType;
 import org.bounswe.jobboardbackend.notification.service.NotificationService;
 import org.springframework.stereotype.Component;
@@ -14,6 +15,7 @@ public class ForumNotifier {
     private final NotificationService notificationService;
 
     private static final String NEW_COMMENT_TITLE = "NEW COMMENT from %s";
+    private static final String NEW_COMMENTS_TITLE = NotificationOutbox.COUNT_PLACEHOLDER + " NEW COMMENTS on your post";
 
     public void notifyNewComment(ForumPost post, ForumComment comment) {
 
@@ -23,9 +25,10 @@ public class ForumNotifier {
 
         String title = String.format(NEW_COMMENT_TITLE, comment.getAuthor().getUsername());
 
-        notificationService.notifyUser(
+        notificationService.notifyUserCoalesced(
                 post.getAuthor().getUsername(),
                 title,
+                NEW_COMMENTS_TITLE,
                 NotificationType.FORUM_COMMENT,
                 comment.getContent(),
                 post.getId()
@@ -0,0 +1,45 @@
+package org.bounswe.jobboardbackend.notification.repository;
+
+import org.bounswe.jobboardbackend.notification.model.GlobalNotificationRead;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface GlobalNotificationReadRepository extends JpaRepository<GlobalNotificationRead, Long> {
+
+    /**
+     * Records that {@code username} read a global notification. Returns 0 when it already
+     * was, so concurrent mark-read calls never collide on the unique key.
+     */
+    @Modifying
+    @Query(value = """
+        INSERT INTO global_notification_reads (username, notification_id, read_at)
+        VALUES (:username, :notificationId, :readAt)
+        ON CONFLICT (username, notification_id) DO NOTHING
+    """, nativeQuery = true)
+    int insertIfAbsent(@Param("username") String username,
+                       @Param("notificationId") Long notificationId,
+                       @Param("readAt") long readAt);
+
+    @Query("""
+        SELECT r.notificationId FROM GlobalNotificationRead r
+        WHERE r.username = :username AND r.notificationId IN :notificationIds
+    """)
+    List<Long> findReadIds(@Param("username") String username,
+                           @Param("notificationIds") Collection<Long> notificationIds);
+
+    @Modifying
+    @Query("DELETE FROM GlobalNotificationRead r WHERE r.username = :username AND r.notificationId <= :upTo")
+    int deleteUpTo(@Param("username") String username, @Param("upTo") Long upTo);
+
+    @Modifying
+    @Query("DELETE FROM GlobalNotificationRead r WHERE r.notificationId IN :notificationIds")
+    int deleteByNotificationIdIn(@Param("notificationIds") Collection<Long> notificationIds);
+
+    @Modifying
+    void deleteByUsername(String username);
+}
@@ -0,0 +1,51 @@
+package org.bounswe.jobboardbackend.notification.repository;
+
+import jakarta.persistence.LockModeType;
+import org.bounswe.jobboardbackend.notification.model.NotificationCoalesceWindow;
+import org.bounswe.jobboardbackend.notification.model.NotificationType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
+
+public interface NotificationCoalesceWindowRepository extends JpaRepository<NotificationCoalesceWindow, Long> {
+
+    /**
+     * Opens a window ending at {@code endsAt}, or reopens one that has already ended.
+     * Returns 0 while a window is still open. Concurrent callers are serialized by the unique
+     * key, so exactly one of them opens the window.
+     */
+    @Modifying
+    @Query(value = """
+        INSERT INTO notification_coalesce_windows (username, notification_type, link_id, window_ends_at)
+        VALUES (:username, :type, :linkId, :endsAt)
+        ON CONFLICT (username, notification_type, link_id)
+        DO UPDATE SET window_ends_at = EXCLUDED.window_ends_at
+        WHERE notification_coalesce_windows.window_ends_at <= :now
+    """, nativeQuery = true)
+    int open(@Param("username") String username,
+             @Param("type") String type,
+             @Param("linkId") Long linkId,
+             @Param("now") long now,
+             @Param("endsAt") long endsAt);
+
+    /** The window, locked until the transaction ends so only one caller at a time queues its digest. */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("""
+        SELECT w FROM NotificationCoalesceWindow w
+        WHERE w.username = :username AND w.notificationType = :type AND w.linkId = :linkId
+    """)
+    Optional<NotificationCoalesceWindow> lockWindow(@Param("username") String username,
+                                                    @Param("type") NotificationType type,
+                                                    @Param("linkId") Long linkId);
+
+    @Modifying
+    @Query("DELETE FROM NotificationCoalesceWindow w WHERE w.windowEndsAt <= :now")
+    int deleteEnded(@Param("now") long now);
+
+    @Modifying
+    void deleteByUsername(String username);
+}
@@ -0,0 +1,68 @@
+package org.bounswe.jobboardbackend.notification.repository;
+
+import org.bounswe.jobboardbackend.notification.model.NotificationCounter;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
+
+public interface NotificationCounterRepository extends JpaRepository<NotificationCounter, String> {
+
+    @Query("SELECT c.unread FROM NotificationCounter c WHERE c.username = :username")
+    Optional<Long> findUnread(@Param("username") String username);
+
+    /**
+     * Adds {@code delta} to the counter, never going below zero. Returns 0 when the user has
+     * no counter yet.
+     */
+    @Modifying
+    @Query("""
+        UPDATE NotificationCounter c SET c.unread =
+            CASE WHEN c.unread + :delta < 0 THEN 0 ELSE c.unread + :delta END
+        WHERE c.username = :username
+    """)
+    int adjust(@Param("username") String username, @Param("delta") long delta);
+
+    /**
+     * Creates a zero counter for an existing user that has none. Returns 0 when the counter
+     * already exists or there is no such user.
+     */
+    @Modifying
+    @Query("""
+        INSERT INTO NotificationCounter (username, unread)
+        SELECT u.username, 0L FROM User u
+        WHERE u.username = :username
+        AND NOT EXISTS (SELECT 1 FROM NotificationCounter c WHERE c.username = u.username)
+    """)
+    int createIfMissing(@Param("username") String username);
+
+    /**
+     * Creates counters for users that have unread notifications but no counter.
+     */
+    @Modifying
+    @Query("""
+        INSERT INTO NotificationCounter (username, unread)
+        SELECT n.username, COUNT(n) FROM Notification n
+        WHERE n.username IS NOT NULL AND n.readFlag = false
+        AND NOT EXISTS (SELECT 1 FROM NotificationCounter c WHERE c.username = n.username)
+        GROUP BY n.username
+    """)
+    int createMissingFromNotifications();
+
+    /**
+     * Sets every counter that drifted to the number of unread notifications of its user.
+     */
+    @Modifying
+    @Query("""
+        UPDATE NotificationCounter c SET c.unread =
+            (SELECT COUNT(n) FROM Notification n WHERE n.username = c.username AND n.readFlag = false)
+        WHERE c.unread <>
+            (SELECT COUNT(n) FROM Notification n WHERE n.username = c.username AND n.readFlag = false)
+    """)
+    int repair();
+
+    @Modifying
+    void deleteByUsername(String username);
+}
@@ -0,0 +1,85 @@
+package org.bounswe.jobboardbackend.notification.repository;
+
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.bounswe.jobboardbackend.notification.model.NotificationOutbox;
+import org.bounswe.jobboardbackend.notification.model.NotificationType;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface NotificationOutboxRepository extends JpaRepository<NotificationOutbox, Long> {
+
+    /**
+     * Oldest rows that are due, skipping every row queued behind an earlier row of the same
+     * recipient that is backing off after a failure, so a failure never reorders a user's
+     * notifications. Digests waiting out their coalescing window do not hold anything back.
+     * Rows are locked until the draining transaction ends; rows another node is draining
+     * are skipped (SKIP LOCKED) rather than waited for, so callers must check with
+     * {@link #findOldestDueIds} that they did not skip earlier rows of the same recipient.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("""
+        SELECT o FROM NotificationOutbox o
+        WHERE o.nextAttemptAt <= :now
+        AND NOT EXISTS (
+            SELECT 1 FROM NotificationOutbox e
+            WHERE e.username = o.username AND e.id < o.id AND e.attempts > 0 AND e.nextAttemptAt > :now
+        )
+        ORDER BY o.id ASC
+    """)
+    List<NotificationOutbox> findDue(long now, Pageable pageable);
+
+    /**
+     * Id of the oldest due row of each of the given recipients as {@code [username, id]},
+     * counting rows another dispatcher holds locked.
+     */
+    @Query("""
+        SELECT o.username, MIN(o.id) FROM NotificationOutbox o
+        WHERE o.username IN :usernames AND o.nextAttemptAt <= :now
+        GROUP BY o.username
+    """)
+    List<Object[]> findOldestDueIds(@Param("usernames") Collection<String> usernames, @Param("now") long now);
+
+    /** Whether a due row of {@code username} older than {@code id} is still queued. */
+    @Query("""
+        SELECT COUNT(o) > 0 FROM NotificationOutbox o
+        WHERE o.username = :username AND o.id < :id AND o.nextAttemptAt <= :now
+    """)
+    boolean existsDueBefore(@Param("username") String username, @Param("id") Long id, @Param("now") long now);
+
+    /**
+     * Folds a notification into the oldest pending digest with the same recipient, type and
+     * link. Returns 0 when there is none and a new digest has to be queued.
+     */
+    @Modifying
+    @Query("""
+        UPDATE NotificationOutbox o
+        SET o.coalescedCount = o.coalescedCount + 1, o.title = :title, o.message = :message
+        WHERE o.id = (
+            SELECT MIN(d.id) FROM NotificationOutbox d
+            WHERE d.username = :username AND d.notificationType = :type AND d.linkId = :linkId
+            AND d.summaryTitle IS NOT NULL AND d.attempts = 0
+        )
+    """)
+    int coalesce(@Param("username") String username,
+                 @Param("type") NotificationType type,
+                 @Param("linkId") Long linkId,
+                 @Param("title") String title,
+                 @Param("message") String message);
+
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("DELETE FROM NotificationOutbox o WHERE o.id = :id")
+    int claim(Long id);
+
+    @Modifying
+    void deleteByUsername(String username);
+}
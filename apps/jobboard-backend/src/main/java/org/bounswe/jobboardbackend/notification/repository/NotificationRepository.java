@@ -1,10 +1,15 @@
 package org.bounswe.jobboardbackend.notification.repository;
 
 import org.bounswe.jobboardbackend.notification.model.Notification;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 public interface NotificationRepository extends JpaRepository<Notification, Long> {
 
@@ -17,5 +22,124 @@ public interface NotificationRepository extends JpaRepository<Notification, Long
     """)
     List<Notification> findActiveNotificationsByUsername(String username, long oneDayAgo);
 
+    /**
+     * One inbox page in (createdAt DESC, id DESC) order, strictly after the cursor.
+     */
+    @Query("""
+        SELECT n FROM Notification n
+        WHERE n.username = :username
+        AND (n.createdAt < :cursorCreatedAt OR (n.createdAt = :cursorCreatedAt AND n.id < :cursorId))
+        ORDER BY n.createdAt DESC, n.id DESC
+    """)
+    List<Notification> findInboxPage(@Param("username") String username,
+                                     @Param("cursorCreatedAt") long cursorCreatedAt,
+                                     @Param("cursorId") Long cursorId,
+                                     Pageable pageable);
+
+    /**
+     * Same as {@link #findInboxPage} restricted to unread notifications.
+     */
+    @Query("""
+        SELECT n FROM Notification n
+        WHERE n.username = :username AND n.readFlag = false
+        AND (n.createdAt < :cursorCreatedAt OR (n.createdAt = :cursorCreatedAt AND n.id < :cursorId))
+        ORDER BY n.createdAt DESC, n.id DESC
+    """)
+    List<Notification> findUnreadInboxPage(@Param("username") String username,
+                                           @Param("cursorCreatedAt") long cursorCreatedAt,
+                                           @Param("cursorId") Long cursorId,
+                                           Pageable pageable);
+
+    /**
+     * One page of global notifications in inbox order, strictly after the cursor.
+     */
+    @Query("""
+        SELECT n FROM Notification n
+        WHERE n.username IS NULL
+        AND (n.createdAt < :cursorCreatedAt OR (n.createdAt = :cursorCreatedAt AND n.id < :cursorId))
+        ORDER BY n.createdAt DESC, n.id DESC
+    """)
+    List<Notification> findGlobalPage(@Param("cursorCreatedAt") long cursorCreatedAt,
+                                      @Param("cursorId") Long cursorId,
+                                      Pageable pageable);
+
+    /**
+     * Same as {@link #findGlobalPage} restricted to global notifications the user has not read.
+     */
+    @Query("""
+        SELECT n FROM Notification n, User u
+        WHERE u.username = :username AND n.username IS NULL AND n.id > u.globalNotificationsReadUpTo
+        AND NOT EXISTS (
+            SELECT r FROM GlobalNotificationRead r WHERE r.username = :username AND r.notificationId = n.id
+        )
+        AND (n.createdAt < :cursorCreatedAt OR (n.createdAt = :cursorCreatedAt AND n.id < :cursorId))
+        ORDER BY n.createdAt DESC, n.id DESC
+    """)
+    List<Notification> findUnreadGlobalPage(@Param("username") String username,
+                                            @Param("cursorCreatedAt") long cursorCreatedAt,
+                                            @Param("cursorId") Long cursorId,
+                                            Pageable pageable);
+
+    @Query("""
+        SELECT COUNT(n) FROM Notification n, User u
+        WHERE u.username = :username AND n.username IS NULL AND n.id > u.globalNotificationsReadUpTo
+        AND NOT EXISTS (
+            SELECT r FROM GlobalNotificationRead r WHERE r.username = :username AND r.notificationId = n.id
+        )
+    """)
+    long countUnreadGlobal(@Param("username") String username);
+
+    @Query("SELECT MAX(n.id) FROM Notification n WHERE n.username IS NULL")
+    Long findMaxGlobalId();
+
+    @Query("SELECT u.globalNotificationsReadUpTo FROM User u WHERE u.username = :username")
+    Optional<Long> findGlobalReadWatermark(@Param("username") String username);
+
+    @Modifying
+    @Query("""
+        UPDATE User u SET u.globalNotificationsReadUpTo = :upTo
+        WHERE u.username = :username AND u.globalNotificationsReadUpTo < :upTo
+    """)
+    int advanceGlobalReadWatermark(@Param("username") String username, @Param("upTo") Long upTo);
+
+    /**
+     * Marks one notification read; returns 0 when it already was.
+     */
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("UPDATE Notification n SET n.readFlag = true, n.updatedAt = :now WHERE n.id = :id AND n.readFlag = false")
+    int markRead(@Param("id") Long id, @Param("now") long now);
+
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("UPDATE Notification n SET n.readFlag = true, n.updatedAt = :now WHERE n.username = :username AND n.readFlag = false")
+    int markAllRead(@Param("username") String username, @Param("now") long now);
+
+    /**
+     * Read personal notifications last updated before {@code cutoff}, oldest first,
+     * strictly after the given (updatedAt, id) position.
+     */
+    @Query("""
+        SELECT n FROM Notification n
+        WHERE n.readFlag = true AND n.username IS NOT NULL AND n.updatedAt < :cutoff
+        AND (n.updatedAt > :afterUpdatedAt OR (n.updatedAt = :afterUpdatedAt AND n.id > :afterId))
+        ORDER BY n.updatedAt ASC, n.id ASC
+    """)
+    List<Notification> findExpiredRead(@Param("cutoff") long cutoff,
+                                       @Param("afterUpdatedAt") long afterUpdatedAt,
+                                       @Param("afterId") Long afterId,
+                                       Pageable pageable);
+
+    @Query("""
+        SELECT n.id FROM Notification n
+        WHERE n.username IS NULL AND n.createdAt < :cutoff AND n.id > :afterId
+        ORDER BY n.id ASC
+    """)
+    List<Long> findExpiredGlobalIds(@Param("cutoff") long cutoff,
+                                    @Param("afterId") Long afterId,
+                                    Pageable pageable);
+
+    @Modifying
+    @Query("DELETE FROM Notification n WHERE n.id IN :ids")
+    int deleteByIdIn(@Param("ids") Collection<Long> ids);
+
     void deleteByUsername(String username);
 }
\ No newline at end of file
@@ -0,0 +1,75 @@
+package org.bounswe.jobboardbackend.notification.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bounswe.jobboardbackend.notification.model.Notification;
+import org.bounswe.jobboardbackend.notification.model.NotificationOutbox;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Drains the notification outbox in batches and pushes the stored notifications once the
+ * batch has committed. When a batch fails, its rows are retried one by one so that a single
+ * bad row only delays the notifications queued behind it for the same user.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class NotificationDispatchJob {
+
+    static final int BATCH_SIZE = 200;
+
+    private final NotificationDispatcher dispatcher;
+    private final NotificationService notificationService;
+
+    @Scheduled(initialDelayString = "${app.notifications.outbox.initialDelayMs:5000}",
+            fixedDelayString = "${app.notifications.outbox.pollIntervalMs:500}")
+    public void drain() {
+        List<Notification> delivered;
+        do {
+            delivered = deliverBatch();
+            delivered.forEach(notificationService::push);
+        } while (delivered.size() == BATCH_SIZE);
+    }
+
+    private List<Notification> deliverBatch() {
+        try {
+            return dispatcher.deliverDue(BATCH_SIZE);
+        } catch (Exception e) {
+            log.warn("Notification outbox batch failed, retrying rows individually: {}", e.getMessage());
+        }
+
+        List<Notification> delivered = new ArrayList<>();
+        Set<String> blocked = new HashSet<>();
+        List<NotificationOutbox> rows;
+        try {
+            rows = dispatcher.findDue(BATCH_SIZE);
+        } catch (Exception e) {
+            log.error("Could not read the notification outbox: {}", e.getMessage());
+            return delivered;
+        }
+        for (NotificationOutbox row : rows) {
+            if (row.getUsername() != null && blocked.contains(row.getUsername())) {
+                continue;
+            }
+            try {
+                dispatcher.deliverOne(row.getId()).ifPresent(delivered::add);
+            } catch (Exception e) {
+                if (row.getUsername() != null) {
+                    blocked.add(row.getUsername());
+                }
+                try {
+                    dispatcher.recordFailure(row.getId(), e.getMessage());
+                } catch (Exception ex) {
+                    log.error("Could not record failure of notification outbox row {}: {}", row.getId(), ex.getMessage());
+                }
+            }
+        }
+        return delivered;
+    }
+}
@@ -0,0 +1,167 @@
+package org.bounswe.jobboardbackend.notification.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bounswe.jobboardbackend.notification.model.Notification;
+import org.bounswe.jobboardbackend.notification.model.NotificationOutbox;
+import org.bounswe.jobboardbackend.notification.repository.NotificationCounterRepository;
+import org.bounswe.jobboardbackend.notification.repository.NotificationOutboxRepository;
+import org.bounswe.jobboardbackend.notification.repository.NotificationRepository;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Moves rows from the notification outbox into the inbox and keeps the recipients'
+ * unread counters in step.
+ * Each method runs in its own transaction; pushing the stored notifications is left to the
+ * caller so that nothing reaches a client before the inbox rows are committed.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class NotificationDispatcher {
+
+    /** Attempts after which a row that keeps failing is dropped. */
+    static final int MAX_ATTEMPTS = 8;
+
+    private static final long BASE_BACKOFF_MS = 1_000;
+    private static final long MAX_BACKOFF_MS = 10 * 60 * 1_000;
+
+    private final NotificationOutboxRepository outboxRepository;
+    private final NotificationRepository notificationRepository;
+    private final NotificationCounterRepository counterRepository;
+
+    /**
+     * Stores up to {@code limit} due outbox rows as notifications and removes them from the
+     * outbox in one transaction. Returns the stored notifications in outbox order.
+     */
+    @Transactional
+    public List<Notification> deliverDue(int limit) {
+        long now = System.currentTimeMillis();
+        List<NotificationOutbox> due = withoutOvertaking(
+                outboxRepository.findDue(now, PageRequest.of(0, limit)), now);
+        if (due.isEmpty()) {
+            return List.of();
+        }
+        List<Notification> stored = notificationRepository.saveAll(
+                due.stream().map(NotificationOutbox::toNotification).toList());
+        outboxRepository.deleteAllInBatch(due);
+        countUnread(stored);
+        return stored;
+    }
+
+    /**
+     * Due rows as they are, used to retry a failed batch one row at a time.
+     */
+    @Transactional
+    public List<NotificationOutbox> findDue(int limit) {
+        return outboxRepository.findDue(System.currentTimeMillis(), PageRequest.of(0, limit));
+    }
+
+    /**
+     * Stores a single outbox row. Returns empty when another dispatcher already took it or
+     * still holds an earlier row of the same recipient.
+     */
+    @Transactional
+    public Optional<Notification> deliverOne(Long outboxId) {
+        Optional<NotificationOutbox> row = outboxRepository.findById(outboxId);
+        if (row.isEmpty()) {
+            return Optional.empty();
+        }
+        String username = row.get().getUsername();
+        if (username != null && outboxRepository.existsDueBefore(username, outboxId, System.currentTimeMillis())) {
+            return Optional.empty();
+        }
+        if (outboxRepository.claim(outboxId) == 0) {
+            return Optional.empty();
+        }
+        Notification stored = notificationRepository.save(row.get().toNotification());
+        countUnread(List.of(stored));
+        return Optional.of(stored);
+    }
+
+    /**
+     * Schedules the next attempt of a failed row with exponential backoff, or drops it once
+     * {@link #MAX_ATTEMPTS} is reached.
+     */
+    @Transactional
+    public void recordFailure(Long outboxId, String error) {
+        outboxRepository.findById(outboxId).ifPresent(row -> {
+            int attempts = row.getAttempts() + 1;
+            if (attempts >= MAX_ATTEMPTS) {
+                log.error("Dropping notification outbox row {} for {} after {} attempts: {}",
+                        outboxId, row.getUsername(), attempts, error);
+                outboxRepository.delete(row);
+                return;
+            }
+            row.setAttempts(attempts);
+            row.setNextAttemptAt(System.currentTimeMillis() + backoffMs(attempts));
+            row.setLastError(error != null && error.length() > 500 ? error.substring(0, 500) : error);
+            outboxRepository.save(row);
+        });
+    }
+
+    /**
+     * Drops the rows of recipients whose earlier rows were skipped because another dispatcher
+     * holds them, so a user's later notification never overtakes an earlier one. The dropped
+     * rows stay locked until this transaction ends and are taken by a later drain.
+     */
+    private List<NotificationOutbox> withoutOvertaking(List<NotificationOutbox> due, long now) {
+        Map<String, Long> firstInBatch = new HashMap<>();
+        for (NotificationOutbox row : due) {
+            if (row.getUsername() != null) {
+                firstInBatch.putIfAbsent(row.getUsername(), row.getId());
+            }
+        }
+        if (firstInBatch.isEmpty()) {
+            return due;
+        }
+        Set<String> held = new HashSet<>();
+        for (Object[] oldest : outboxRepository.findOldestDueIds(firstInBatch.keySet(), now)) {
+            String username = (String) oldest[0];
+            if ((Long) oldest[1] < firstInBatch.get(username)) {
+                held.add(username);
+            }
+        }
+        if (held.isEmpty()) {
+            return due;
+        }
+        return due.stream()
+                .filter(row -> row.getUsername() == null || !held.contains(row.getUsername()))
+                .toList();
+    }
+
+    private void countUnread(List<Notification> stored) {
+        Map<String, Long> perUser = new LinkedHashMap<>();
+        for (Notification notification : stored) {
+            if (notification.getUsername() != null) {
+                perUser.merge(notification.getUsername(), 1L, Long::sum);
+            }
+        }
+        perUser.forEach(this::adjustUnreadCount);
+    }
+
+    private void adjustUnreadCount(String username, long delta) {
+        if (counterRepository.adjust(username, delta) > 0) {
+            return;
+        }
+        // first notification of the user; should another node create the counter first, the
+        // batch fails on the primary key and is retried against the existing row
+        if (counterRepository.createIfMissing(username) > 0) {
+            counterRepository.adjust(username, delta);
+        }
+    }
+
+    static long backoffMs(int attempts) {
+        return Math.min(BASE_BACKOFF_MS << Math.min(attempts - 1, 20), MAX_BACKOFF_MS);
+    }
+}
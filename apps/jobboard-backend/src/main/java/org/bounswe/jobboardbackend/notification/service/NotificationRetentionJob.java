@@ -0,0 +1,69 @@
+package org.bounswe.jobboardbackend.notification.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bounswe.jobboardbackend.notification.service.NotificationRetentionService.Chunk;
+import org.bounswe.jobboardbackend.notification.service.NotificationRetentionService.Position;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Periodically purges read personal notifications and old global announcements so the
+ * notifications table, and with it the inbox working set, stops growing without bound.
+ * Unread personal notifications are never purged.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class NotificationRetentionJob {
+
+    private final NotificationRetentionService retentionService;
+
+    @Value("${app.notifications.retention.readMaxAgeDays:30}")
+    private int readMaxAgeDays;
+
+    @Value("${app.notifications.retention.globalMaxAgeDays:90}")
+    private int globalMaxAgeDays;
+
+    @Value("${app.notifications.retention.chunkSize:500}")
+    private int chunkSize;
+
+    @Scheduled(initialDelayString = "${app.notifications.retention.initialDelayMs:300000}",
+            fixedDelayString = "${app.notifications.retention.intervalMs:3600000}")
+    public void purge() {
+        long start = System.currentTimeMillis();
+        int read = 0;
+        int global = 0;
+        try {
+            long readCutoff = start - Duration.ofDays(readMaxAgeDays).toMillis();
+            Position position = Position.START;
+            Chunk chunk;
+            do {
+                chunk = retentionService.purgeReadChunk(readCutoff, position, chunkSize);
+                read += chunk.deleted();
+                position = chunk.next();
+            } while (chunk.deleted() == chunkSize);
+
+            long globalCutoff = start - Duration.ofDays(globalMaxAgeDays).toMillis();
+            position = Position.START;
+            do {
+                chunk = retentionService.purgeGlobalChunk(globalCutoff, position, chunkSize);
+                global += chunk.deleted();
+                position = chunk.next();
+            } while (chunk.deleted() == chunkSize);
+
+            retentionService.purgeEndedWindows(start);
+        } catch (Exception e) {
+            log.error("Notification retention purge failed after removing {} rows: {}", read + global, e.getMessage());
+        }
+
+        long duration = System.currentTimeMillis() - start;
+        retentionService.recordRun(start, read, global, duration);
+        if (read + global > 0) {
+            log.info("Purged {} read and {} global notifications in {} ms", read, global, duration);
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package org.bounswe.jobboardbackend.notification.service;
+
+import lombok.RequiredArgsConstructor;
+import org.bounswe.jobboardbackend.notification.dto.NotificationRetentionStats;
+import org.bounswe.jobboardbackend.notification.model.Notification;
+import org.bounswe.jobboardbackend.notification.repository.GlobalNotificationReadRepository;
+import org.bounswe.jobboardbackend.notification.repository.NotificationCoalesceWindowRepository;
+import org.bounswe.jobboardbackend.notification.repository.NotificationRepository;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * Deletes expired notifications one small chunk per transaction, so a purge never holds
+ * locks on more than a chunk of rows, and keeps counters of what was removed.
+ */
+@Service
+@RequiredArgsConstructor
+public class NotificationRetentionService {
+
+    /** Keyset position of a purge; the next chunk starts strictly after it. */
+    public record Position(long key, long id) {
+        public static final Position START = new Position(Long.MIN_VALUE, 0L);
+    }
+
+    /** Outcome of one chunk: rows deleted and where the next chunk starts. */
+    public record Chunk(int deleted, Position next) {
+    }
+
+    private final NotificationRepository repository;
+    private final GlobalNotificationReadRepository globalReadRepository;
+    private final NotificationCoalesceWindowRepository windowRepository;
+
+    private long runs;
+    private long readRemoved;
+    private long globalRemoved;
+    private long lastRunRemoved;
+    private long lastRunMs;
+    private long lastRunAt;
+
+    /**
+     * Deletes up to {@code size} read personal notifications last updated before {@code cutoff},
+     * oldest first, after {@code after}.
+     */
+    @Transactional
+    public Chunk purgeReadChunk(long cutoff, Position after, int size) {
+        List<Notification> expired = repository.findExpiredRead(cutoff, after.key(), after.id(), PageRequest.of(0, size));
+        if (expired.isEmpty()) {
+            return new Chunk(0, after);
+        }
+        repository.deleteByIdIn(expired.stream().map(Notification::getId).toList());
+        Notification last = expired.getLast();
+        return new Chunk(expired.size(), new Position(last.getUpdatedAt(), last.getId()));
+    }
+
+    /**
+     * Deletes up to {@code size} global notifications created before {@code cutoff},
+     * together with their per-user read markers.
+     */
+    @Transactional
+    public Chunk purgeGlobalChunk(long cutoff, Position after, int size) {
+        List<Long> ids = repository.findExpiredGlobalIds(cutoff, after.id(), PageRequest.of(0, size));
+        if (ids.isEmpty()) {
+            return new Chunk(0, after);
+        }
+        globalReadRepository.deleteByNotificationIdIn(ids);
+        repository.deleteByIdIn(ids);
+        return new Chunk(ids.size(), new Position(0L, ids.getLast()));
+    }
+
+    /** Deletes coalescing windows that ended before {@code now}; returns how many. */
+    @Transactional
+    public int purgeEndedWindows(long now) {
+        return windowRepository.deleteEnded(now);
+    }
+
+    synchronized void recordRun(long startedAt, int readCount, int globalCount, long durationMs) {
+        runs++;
+        readRemoved += readCount;
+        globalRemoved += globalCount;
+        lastRunRemoved = readCount + globalCount;
+        lastRunMs = durationMs;
+        lastRunAt = startedAt;
+    }
+
+    public synchronized NotificationRetentionStats getStats() {
+        return new NotificationRetentionStats(runs, readRemoved, globalRemoved, lastRunRemoved, lastRunMs, lastRunAt);
+    }
+}
@@ -1,53 +1,147 @@
 package org.bounswe.jobboardbackend.notification.service;
 
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bounswe.jobboardbackend.common.dto.CursorPage;
 import org.bounswe.jobboardbackend.exception.ErrorCode;
 import org.bounswe.jobboardbackend.exception.HandleException;
+import org.bounswe.jobboardbackend.notification.dto.NotificationCursor;
 import org.bounswe.jobboardbackend.notification.dto.NotificationMessage;
 import org.bounswe.jobboardbackend.notification.dto.NotificationResponse;
 import org.bounswe.jobboardbackend.notification.model.Notification;
+import org.bounswe.jobboardbackend.notification.model.NotificationCoalesceWindow;
+import org.bounswe.jobboardbackend.notification.model.NotificationOutbox;
 import org.bounswe.jobboardbackend.notification.model.NotificationType;
+import org.bounswe.jobboardbackend.notification.repository.GlobalNotificationReadRepository;
+import org.bounswe.jobboardbackend.notification.repository.NotificationCoalesceWindowRepository;
+import org.bounswe.jobboardbackend.notification.repository.NotificationCounterRepository;
+import org.bounswe.jobboardbackend.notification.repository.NotificationOutboxRepository;
 import org.bounswe.jobboardbackend.notification.repository.NotificationRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.messaging.MessagingException;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 @Service
 @RequiredArgsConstructor
+@Slf4j
 public class NotificationService {
 
-    private final SimpMessagingTemplate messagingTemplate;
-    private final NotificationRepository repository;
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 100;
 
-    public void notifyAll(String title, NotificationType notificationType, String message, Long linkId) {
-        long now = System.currentTimeMillis();
+    private static final Comparator<Notification> INBOX_ORDER = Comparator
+            .comparingLong(Notification::getCreatedAt)
+            .thenComparingLong(Notification::getId)
+            .reversed();
 
-        Notification notification =
-                new Notification(null, null, title, notificationType, message, now, now, false, linkId);
-        repository.save(notification);
+    @Value("${app.notifications.coalesce.windowMs:30000}")
+    private long coalesceWindowMs;
 
-        NotificationMessage payload =
-                new NotificationMessage(title, notificationType, message, now);
+    private final SimpMessagingTemplate messagingTemplate;
+    private final NotificationRepository repository;
+    private final NotificationOutboxRepository outboxRepository;
+    private final GlobalNotificationReadRepository globalReadRepository;
+    private final NotificationCoalesceWindowRepository windowRepository;
+    private final NotificationCounterRepository counterRepository;
 
-        messagingTemplate.convertAndSend("/topic/notifications", payload);
+    /**
+     * Queues a notification for every user. It is stored once, not per recipient, and pushed
+     * on the broadcast topic by {@link NotificationDispatchJob} after the surrounding
+     * transaction, if any, commits.
+     */
+    public void notifyAll(String title, NotificationType notificationType, String message, Long linkId) {
+        enqueue(null, title, notificationType, message, linkId);
     }
 
+    /**
+     * Queues a notification for {@code username}. Only an outbox row is written here, in the
+     * caller's transaction; storing it in the inbox and pushing it happen in the background
+     * and never for a transaction that rolled back.
+     */
     public void notifyUser(String username, String title, NotificationType notificationType, String message, Long linkId) {
-        long now = System.currentTimeMillis();
+        enqueue(username, title, notificationType, message, linkId);
+    }
 
-        Notification notification =
-                new Notification(null, username, title, notificationType, message, now, now, false, linkId);
-        repository.save(notification);
+    /**
+     * Queues a notification for {@code username} that may be merged with others of the same
+     * type and {@code linkId}. The first one opens a coalescing window and is delivered right
+     * away. Later ones inside the window go into a single digest delivered when the window
+     * ends: the first of them queues it, the rest only bump its count and replace its title
+     * and message. Once several were merged the delivered title is {@code summaryTitle} with
+     * {@link NotificationOutbox#COUNT_PLACEHOLDER} replaced by their number.
+     */
+    @Transactional
+    public void notifyUserCoalesced(String username, String title, String summaryTitle,
+                                    NotificationType notificationType, String message, Long linkId) {
+        if (linkId == null || coalesceWindowMs <= 0) {
+            notifyUser(username, title, notificationType, message, linkId);
+            return;
+        }
+        long now = System.currentTimeMillis();
+        if (windowRepository.open(username, notificationType.name(), linkId, now, now + coalesceWindowMs) > 0) {
+            notifyUser(username, title, notificationType, message, linkId);
+            return;
+        }
+        // holding the window row makes concurrent followers queue one digest between them
+        NotificationCoalesceWindow window = windowRepository.lockWindow(username, notificationType, linkId)
+                .orElse(null);
+        if (window == null) {
+            notifyUser(username, title, notificationType, message, linkId);
+            return;
+        }
+        if (outboxRepository.coalesce(username, notificationType, linkId, title, message) > 0) {
+            return;
+        }
+        outboxRepository.save(NotificationOutbox.builder()
+                .username(username)
+                .title(title)
+                .summaryTitle(summaryTitle)
+                .notificationType(notificationType)
+                .message(message)
+                .linkId(linkId)
+                .createdAt(now)
+                .nextAttemptAt(window.getWindowEndsAt())
+                .build());
+    }
 
-        NotificationMessage payload =
-                new NotificationMessage(title, notificationType, message, now);
+    /**
+     * Sends the live WebSocket copy of a stored notification. Failures are only logged since
+     * the notification is already in the recipient's inbox.
+     */
+    public void push(Notification notification) {
+        NotificationMessage payload = new NotificationMessage(notification.getTitle(),
+                notification.getNotificationType(), notification.getMessage(), notification.getCreatedAt());
+        try {
+            if (notification.getUsername() == null) {
+                messagingTemplate.convertAndSend("/topic/notifications", payload);
+            } else {
+                messagingTemplate.convertAndSendToUser(notification.getUsername(), "/queue/notifications", payload);
+            }
+        } catch (MessagingException e) {
+            log.warn("Could not push notification {} to {}: {}", notification.getId(), notification.getUsername(), e.getMessage());
+        }
+    }
 
-        messagingTemplate.convertAndSendToUser(
-                username,
-                "/queue/notifications",
-                payload
-        );
+    private void enqueue(String username, String title, NotificationType notificationType, String message, Long linkId) {
+        long now = System.currentTimeMillis();
+        outboxRepository.save(NotificationOutbox.builder()
+                .username(username)
+                .title(title)
+                .notificationType(notificationType)
+                .message(message)
+                .linkId(linkId)
+                .createdAt(now)
+                .nextAttemptAt(now)
+                .build());
     }
 
     public List<NotificationResponse> getNotificationsForUser(String username) {
@@ -58,23 +152,131 @@ public class NotificationService {
                 .toList();
     }
 
+    /**
+     * One page of the user's inbox, newest first, with personal and global notifications
+     * merged. With {@code unreadOnly} only unread notifications are returned.
+     * Global notifications are stored once and their read state is resolved per viewer.
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<NotificationResponse> getInbox(String username, String cursor, Integer limit, boolean unreadOnly) {
+        int pageSize = resolvePageSize(limit);
+        NotificationCursor after = NotificationCursor.decode(cursor);
+        PageRequest page = PageRequest.of(0, pageSize + 1);
+        List<Notification> personal = unreadOnly
+                ? repository.findUnreadInboxPage(username, after.createdAt(), after.id(), page)
+                : repository.findInboxPage(username, after.createdAt(), after.id(), page);
+        List<Notification> global = unreadOnly
+                ? repository.findUnreadGlobalPage(username, after.createdAt(), after.id(), page)
+                : repository.findGlobalPage(after.createdAt(), after.id(), page);
+
+        List<Notification> rows = new ArrayList<>(personal.size() + global.size());
+        rows.addAll(personal);
+        rows.addAll(global);
+        rows.sort(INBOX_ORDER);
+
+        boolean hasNext = rows.size() > pageSize;
+        List<Notification> window = hasNext ? rows.subList(0, pageSize) : rows;
+        Set<Long> readGlobalIds = unreadOnly ? Set.of() : readGlobalIds(username, window);
+
+        List<NotificationResponse> items = window.stream()
+                .map(n -> n.getUsername() == null
+                        ? NotificationResponse.fromEntity(n, readGlobalIds.contains(n.getId()))
+                        : NotificationResponse.fromEntity(n))
+                .toList();
+        String nextCursor = hasNext ? NotificationCursor.after(window.getLast()).encode() : null;
+        return CursorPage.of(items, nextCursor, null);
+    }
+
+    @Transactional(readOnly = true)
+    public long getUnreadCount(String username) {
+        return counterRepository.findUnread(username).orElse(0L) + repository.countUnreadGlobal(username);
+    }
+
+    @Transactional
     public void markAsRead(Long id, String username) {
         long now = System.currentTimeMillis();
         Notification n = repository.findById(id)
                 .orElseThrow(() -> new HandleException(ErrorCode.NOTIFICATION_NOT_FOUND, "Notification not found"));
 
+        if (n.getUsername() == null) {
+            markGlobalAsRead(id, username, now);
+            return;
+        }
+
         // simple ownership check; adjust to your security model
-        if (n.getUsername() != null && !n.getUsername().equals(username)) {
+        if (!n.getUsername().equals(username)) {
             throw new HandleException(ErrorCode.ACCESS_DENIED, "Not allowed to modify this notification");
         }
 
-        n.setReadFlag(true);
-        n.setUpdatedAt(now);
-        repository.save(n);
+        // Only the request that actually flips the flag moves the counter
+        if (repository.markRead(id, now) > 0) {
+            counterRepository.adjust(n.getUsername(), -1);
+        }
+    }
+
+    /**
+     * Marks every unread personal notification of the user read in a single statement and
+     * moves the user's global read watermark past the newest global notification.
+     * Returns the number of personal notifications that changed.
+     */
+    @Transactional
+    public int markAllAsRead(String username) {
+        int updated = repository.markAllRead(username, System.currentTimeMillis());
+        if (updated > 0) {
+            counterRepository.adjust(username, -updated);
+        }
+        Long newestGlobal = repository.findMaxGlobalId();
+        if (newestGlobal != null && repository.advanceGlobalReadWatermark(username, newestGlobal) > 0) {
+            globalReadRepository.deleteUpTo(username, newestGlobal);
+        }
+        return updated;
+    }
+
+    private void markGlobalAsRead(Long id, String username, long now) {
+        long watermark = repository.findGlobalReadWatermark(username).orElse(0L);
+        if (id > watermark) {
+            globalReadRepository.insertIfAbsent(username, id, now);
+        }
+    }
+
+    private Set<Long> readGlobalIds(String username, List<Notification> window) {
+        List<Long> globalIds = window.stream()
+                .filter(n -> n.getUsername() == null)
+                .map(Notification::getId)
+                .toList();
+        if (globalIds.isEmpty()) {
+            return Set.of();
+        }
+        long watermark = repository.findGlobalReadWatermark(username).orElse(0L);
+        Set<Long> read = new HashSet<>(globalReadRepository.findReadIds(username, globalIds));
+        for (Long id : globalIds) {
+            if (id <= watermark) {
+                read.add(id);
+            }
+        }
+        return read;
+    }
+
+    /**
+     * Recomputes stored unread counters that drifted from the notifications table and creates
+     * the ones that are missing. Returns the number of users whose counter changed.
+     */
+    @Transactional
+    public int repairUnreadCounts() {
+        return counterRepository.createMissingFromNotifications() + counterRepository.repair();
+    }
+
+    private static int resolvePageSize(Integer limit) {
+        if (limit == null || limit <= 0) return DEFAULT_PAGE_SIZE;
+        return Math.min(limit, MAX_PAGE_SIZE);
     }
 
-        @org.springframework.transaction.annotation.Transactional
+        @Transactional
         public void deleteUserData(String username) {
+                outboxRepository.deleteByUsername(username);
+                windowRepository.deleteByUsername(username);
+                counterRepository.deleteByUsername(username);
+                globalReadRepository.deleteByUsername(username);
                 repository.deleteByUsername(username);
         }
 }
@@ -0,0 +1,33 @@
+package org.bounswe.jobboardbackend.notification.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Periodically checks the stored unread notification counters against the notifications table.
+ * The first run after startup also backfills users whose notifications predate the counter.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class NotificationUnreadCountRepairJob {
+
+    private final NotificationService notificationService;
+
+    @Scheduled(initialDelayString = "${app.notifications.unread.repairInitialDelayMs:60000}",
+            fixedDelayString = "${app.notifications.unread.repairIntervalMs:21600000}")
+    public void repair() {
+        long start = System.currentTimeMillis();
+        try {
+            int repaired = notificationService.repairUnreadCounts();
+            if (repaired > 0) {
+                log.warn("Repaired unread notification counters of {} users", repaired);
+            }
+        } catch (Exception e) {
+            log.error("Unread notification counter repair failed: {}", e.getMessage());
+        }
+        log.debug("Unread notification counter repair finished in {} ms", System.currentTimeMillis() - start);
+    }
+}
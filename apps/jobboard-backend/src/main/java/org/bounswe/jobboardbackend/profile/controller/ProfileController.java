@@ -17,6 +17,9 @@ import org.bounswe.jobboardbackend.exception.ErrorCode;
 import org.bounswe.jobboardbackend.exception.HandleException;
 import org.bounswe.jobboardbackend.profile.dto.*;
 import org.bounswe.jobboardbackend.profile.service.ProfileService;
+import org.bounswe.jobboardbackend.storage.dto.UploadConfirmRequest;
+import org.bounswe.jobboardbackend.storage.dto.UploadTicketResponse;
+import org.bounswe.jobboardbackend.storage.dto.UploadUrlRequest;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -131,6 +134,40 @@ public class ProfileController {
         return ResponseEntity.ok(profileService.uploadImage(userId, file));
     }
 
+    /**
+     * POST /api/profile/image/upload-url
+     */
+    @Operation(summary = "Request Profile Image Upload URL", description = "Issues a short-lived signed URL the client uploads the image to directly, bypassing this server. Finish with the confirm endpoint.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Upload URL issued"),
+            @ApiResponse(responseCode = "400", description = "Invalid file type or size", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ApiError.class), examples = @ExampleObject(value = "{\"status\": 400, \"error\": \"Bad Request\", \"message\": \"Only image files are allowed\", \"timestamp\": \"2023-12-14T12:00:00\"}"))),
+            @ApiResponse(responseCode = "401", description = "Unauthorized", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ApiError.class), examples = @ExampleObject(value = "{\"status\": 401, \"error\": \"Unauthorized\", \"message\": \"Full authentication is required\", \"timestamp\": \"2023-12-14T12:00:00\"}"))),
+            @ApiResponse(responseCode = "404", description = "Profile not found", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ApiError.class), examples = @ExampleObject(value = "{\"status\": 404, \"error\": \"Not Found\", \"message\": \"Profile not found\", \"timestamp\": \"2023-12-14T12:00:00\"}")))
+    })
+    @PreAuthorize("isAuthenticated()")
+    @PostMapping("/image/upload-url")
+    public ResponseEntity<UploadTicketResponse> requestImageUpload(@RequestBody @Valid UploadUrlRequest request) {
+        Long userId = getCurrentUserId();
+        return ResponseEntity.ok(profileService.requestImageUpload(userId, request));
+    }
+
+    /**
+     * POST /api/profile/image/confirm
+     */
+    @Operation(summary = "Confirm Profile Image Upload", description = "Checks the image uploaded with an upload ticket and sets it as the profile image.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Image attached successfully"),
+            @ApiResponse(responseCode = "400", description = "Invalid ticket or rejected file", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ApiError.class), examples = @ExampleObject(value = "{\"status\": 400, \"error\": \"Bad Request\", \"message\": \"Upload ticket not found\", \"timestamp\": \"2023-12-14T12:00:00\"}"))),
+            @ApiResponse(responseCode = "401", description = "Unauthorized", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ApiError.class), examples = @ExampleObject(value = "{\"status\": 401, \"error\": \"Unauthorized\", \"message\": \"Full authentication is required\", \"timestamp\": \"2023-12-14T12:00:00\"}"))),
+            @ApiResponse(responseCode = "409", description = "File not uploaded yet", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ApiError.class), examples = @ExampleObject(value = "{\"status\": 409, \"error\": \"Conflict\", \"message\": \"File has not been uploaded yet\", \"timestamp\": \"2023-12-14T12:00:00\"}")))
+    })
+    @PreAuthorize("isAuthenticated()")
+    @PostMapping("/image/confirm")
+    public ResponseEntity<ProfileImageResponseDto> confirmImageUpload(@RequestBody @Valid UploadConfirmRequest request) {
+        Long userId = getCurrentUserId();
+        return ResponseEntity.ok(profileService.confirmImageUpload(userId, request));
+    }
+
     /**
      * DELETE /api/profile/image
      */
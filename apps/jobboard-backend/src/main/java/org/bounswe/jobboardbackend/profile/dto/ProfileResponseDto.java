@@ -37,6 +37,9 @@ public class ProfileResponseDto {
     @Schema(description = "URL of profile image", example = "https://example.com/image.jpg")
     private String imageUrl;
 
+    @Schema(description = "URL of a small rendition of the profile image for avatars, null until generated", example = "https://example.com/image_thumb.jpg")
+    private String imageThumbnailUrl;
+
     private List<EducationResponseDto> educations;
     private List<ExperienceResponseDto> experiences;
     private List<SkillResponseDto> skills;
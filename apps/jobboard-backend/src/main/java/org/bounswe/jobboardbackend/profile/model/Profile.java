@@ -37,8 +37,16 @@ public class Profile {
     @Column(length = 1000)
     private String bio;
 
-    @Column(length = 1024)
-    private String imageUrl;
+    /** Storage object name of the image; URLs are resolved when a response is built. */
+    @Column(name = "image_url", length = 1024)
+    private String imageObjectName;
+
+    /** Derivatives of {@code imageObjectName}, filled in asynchronously; null until generated. */
+    @Column(name = "image_thumbnail_url", length = 1024)
+    private String imageThumbnailObjectName;
+
+    @Column(name = "image_medium_url", length = 1024)
+    private String imageMediumObjectName;
 
     @Enumerated(EnumType.STRING)
     private PronounSet pronounSet;
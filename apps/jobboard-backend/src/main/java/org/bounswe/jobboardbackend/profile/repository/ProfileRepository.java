@@ -2,6 +2,9 @@ package org.bounswe.jobboardbackend.profile.repository;
 
 import org.bounswe.jobboardbackend.profile.model.Profile;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.Optional;
 
@@ -13,4 +16,18 @@ public interface ProfileRepository extends JpaRepository<Profile, Long> {
 
     // Profil var mı yok mu hızlı kontrol
     boolean existsByUserId(Long userId);
+
+    /**
+     * Sets the image renditions only while the profile still shows {@code source}.
+     * Returns 0 when the image was replaced or removed in the meantime.
+     */
+    @Modifying
+    @Query("""
+        UPDATE Profile p SET p.imageThumbnailObjectName = :thumbnail, p.imageMediumObjectName = :medium
+        WHERE p.user.id = :userId AND p.imageObjectName = :source
+    """)
+    int attachImageDerivatives(@Param("userId") Long userId,
+                               @Param("source") String source,
+                               @Param("thumbnail") String thumbnail,
+                               @Param("medium") String medium);
 }
\ No newline at end of file
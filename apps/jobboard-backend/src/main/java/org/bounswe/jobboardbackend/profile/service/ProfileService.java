@@ -11,17 +11,27 @@ import org.bounswe.jobboardbackend.profile.model.*;
 import org.bounswe.jobboardbackend.profile.repository.*;
 import org.bounswe.jobboardbackend.activity.service.ActivityService;
 import org.bounswe.jobboardbackend.activity.model.ActivityType;
+import org.bounswe.jobboardbackend.storage.dto.UploadConfirmRequest;
+import org.bounswe.jobboardbackend.storage.dto.UploadTicketResponse;
+import org.bounswe.jobboardbackend.storage.dto.UploadUrlRequest;
+import org.bounswe.jobboardbackend.storage.event.ImageDerivativesReadyEvent;
+import org.bounswe.jobboardbackend.storage.event.ImageStoredEvent;
+import org.bounswe.jobboardbackend.storage.model.ImageVariant;
+import org.bounswe.jobboardbackend.storage.model.UploadPurpose;
+import org.bounswe.jobboardbackend.storage.service.ObjectDeletionQueue;
+import org.bounswe.jobboardbackend.storage.service.ObjectStorage;
+import org.bounswe.jobboardbackend.storage.service.UploadTicketService;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
 
-import com.google.cloud.storage.*;
 import org.springframework.beans.factory.annotation.Value;
 import java.io.IOException;
+import java.util.Map;
 import java.time.LocalDate;
-import java.util.concurrent.TimeUnit;
-import java.net.URL;
 
 import java.time.Instant;
 import java.util.stream.Collectors;
@@ -55,23 +65,15 @@ public class ProfileService {
         }
     }
 
-    // === GCS config ===
-    @Value("${app.gcs.bucket:bounswe-jobboard}")
-    private String gcsBucket;
-
-
-    @Value("${app.gcs.public:true}")
-    private boolean gcsPublic;
-
-    @Value("${app.gcs.publicBaseUrl:https://storage.googleapis.com}")
-    private String gcsPublicBaseUrl;
+    // === Storage config ===
+    private final ObjectStorage objectStorage;
+    private final UploadTicketService uploadTicketService;
+    private final ObjectDeletionQueue deletionQueue;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Value("${app.env}")
     private String appEnv;
 
-    // Google Cloud Storage client
-    private final Storage storage = StorageOptions.getDefaultInstance().getService();
-
     // =========================
     // PROFILE
     // =========================
@@ -95,7 +97,7 @@ public class ProfileService {
                 .lastName(dto.getLastName())
                 .bio(dto.getBio())
                 .pronounSet(PronounSet.valueOf(dto.getPronounSet().toUpperCase()))
-                .imageUrl(null)
+                .imageObjectName(null)
                 .build();
 
         profile = profileRepository.save(profile);
@@ -133,6 +135,8 @@ public class ProfileService {
     }
 
     public void deleteProfileByUserId(Long userId) {
+        profileRepository.findByUserId(userId).ifPresent(p -> deletionQueue.enqueue(
+                p.getImageObjectName(), p.getImageThumbnailObjectName(), p.getImageMediumObjectName()));
         profileRepository.deleteByUserId(userId);
     }
 
@@ -147,14 +151,15 @@ public class ProfileService {
                 .lastName(p.getLastName())
                 .bio(p.getBio())
                 .pronounSet(String.valueOf(p.getPronounSet()))
-                .imageUrl(p.getImageUrl())
+                .imageUrl(objectStorage.url(p.getImageObjectName()))
+                .imageThumbnailUrl(objectStorage.url(p.getImageThumbnailObjectName()))
                 .educations(p.getEducations().stream().map(this::toEducationDto).collect(Collectors.toList()))
                 .experiences(p.getExperiences().stream().map(this::toExperienceDto).collect(Collectors.toList()))
                 .build();
     }
 
     // =========================
-    // IMAGE (GCS integration)
+    // IMAGE (object storage)
     // =========================
 
     private String buildObjectNameForUser(Long userId, String originalFilename) {
@@ -164,42 +169,27 @@ public class ProfileService {
         return appEnv + "/" + "profiles/" + userId + ext;
     }
 
-    private String publicUrl(String objectName) {
-        return gcsPublicBaseUrl + "/" + gcsBucket + "/" + objectName;
-    }
-
-    private String extractObjectNameFromUrl(String url) {
-        String prefix = gcsPublicBaseUrl + "/" + gcsBucket + "/";
-        if (url != null && url.startsWith(prefix)) {
-            return url.substring(prefix.length());
+    private static void validateImageType(String contentType) {
+        if (contentType == null || !contentType.startsWith("image/")) {
+            throw new HandleException(ErrorCode.IMAGE_CONTENT_TYPE_INVALID, "Only image files are allowed");
         }
-        return null;
     }
 
-    private String uploadToGcs(byte[] content, String contentType, String objectName) {
-        BlobInfo info = BlobInfo.newBuilder(gcsBucket, objectName)
-                .setContentType(contentType != null ? contentType : "application/octet-stream")
-                .build();
-        storage.create(info, content);
-        if (gcsPublic) {
-            return publicUrl(objectName);
-        } else {
-            URL signed = storage.signUrl(
-                    BlobInfo.newBuilder(gcsBucket, objectName).build(),
-                    15, TimeUnit.MINUTES,
-                    Storage.SignUrlOption.withV4Signature(),
-                    Storage.SignUrlOption.httpMethod(HttpMethod.GET)
-            );
-            return signed.toString();
+    /** Points the profile at a newly stored image and removes the one it replaces. */
+    private ProfileImageResponseDto attachImage(Profile p, String objectName, String url) {
+        String oldObject = objectStorage.toObjectName(p.getImageObjectName());
+        if (oldObject != null && !oldObject.equals(objectName)) {
+            deletionQueue.enqueue(oldObject, p.getImageThumbnailObjectName(), p.getImageMediumObjectName());
         }
-    }
+        clearImageDerivatives(p);
 
-    private void deleteFromGcs(String objectName) {
-        if (objectName == null) return;
-        try {
-            storage.delete(gcsBucket, objectName);
-        } catch (StorageException ignore) {
-        }
+        p.setImageObjectName(objectName);
+        eventPublisher.publishEvent(new ImageStoredEvent(UploadPurpose.PROFILE_IMAGE, p.getUser().getId(), objectName));
+
+        return ProfileImageResponseDto.builder()
+                .imageUrl(url)
+                .updatedAt(Instant.now())
+                .build();
     }
 
     @Transactional
@@ -208,34 +198,48 @@ public class ProfileService {
             throw new HandleException(ErrorCode.IMAGE_FILE_REQUIRED, "Image file is required");
         }
         String ct = file.getContentType();
-        if (ct == null || !ct.startsWith("image/")) {
-            throw new HandleException(ErrorCode.IMAGE_CONTENT_TYPE_INVALID, "Only image files are allowed");
-        }
+        validateImageType(ct);
 
         Profile p = profileRepository.findByUserId(userId)
                 .orElseThrow(() -> new HandleException(ErrorCode.PROFILE_NOT_FOUND, "Profile not found"));
 
-        if (p.getImageUrl() != null) {
-            String oldObject = extractObjectNameFromUrl(p.getImageUrl());
-            if (oldObject != null) {
-                deleteFromGcs(oldObject);
-            }
-        }
-
-        String objectName = buildObjectNameForUser(userId, file.getOriginalFilename());
+        String objectName = UploadTicketService.uniqueName(buildObjectNameForUser(userId, file.getOriginalFilename()));
         String url;
         try {
-            url = uploadToGcs(file.getBytes(), ct, objectName);
+            url = objectStorage.upload(objectName, file, ct);
         } catch (IOException e) {
             throw new HandleException(ErrorCode.IMAGE_UPLOAD_FAILED, "Upload failed", e);
         }
 
-        p.setImageUrl(url);
+        return attachImage(p, objectName, url);
+    }
 
-        return ProfileImageResponseDto.builder()
-                .imageUrl(url)
-                .updatedAt(Instant.now())
-                .build();
+    /**
+     * First step of a direct image upload: returns a signed URL the client PUTs the image to.
+     * The upload is attached to the profile by {@link #confirmImageUpload}.
+     */
+    @Transactional
+    public UploadTicketResponse requestImageUpload(Long userId, UploadUrlRequest request) {
+        validateImageType(request.getContentType());
+        if (request.getSize() != null && request.getSize() > UploadTicketService.DEFAULT_MAX_BYTES) {
+            throw new HandleException(ErrorCode.BAD_REQUEST, "Image file too large (max 5MB)");
+        }
+        if (!profileRepository.existsByUserId(userId)) {
+            throw new HandleException(ErrorCode.PROFILE_NOT_FOUND, "Profile not found");
+        }
+
+        String objectName = buildObjectNameForUser(userId, request.getFileName());
+        return uploadTicketService.issue(UploadPurpose.PROFILE_IMAGE, userId, userId,
+                objectName, request.getContentType(), UploadTicketService.DEFAULT_MAX_BYTES);
+    }
+
+    @Transactional
+    public ProfileImageResponseDto confirmImageUpload(Long userId, UploadConfirmRequest request) {
+        Profile p = profileRepository.findByUserId(userId)
+                .orElseThrow(() -> new HandleException(ErrorCode.PROFILE_NOT_FOUND, "Profile not found"));
+
+        String objectName = uploadTicketService.redeem(request.getTicketId(), UploadPurpose.PROFILE_IMAGE, userId, userId);
+        return attachImage(p, objectName, objectStorage.url(objectName));
     }
 
     @Transactional
@@ -243,12 +247,32 @@ public class ProfileService {
         Profile p = profileRepository.findByUserId(userId)
                 .orElseThrow(() -> new HandleException(ErrorCode.PROFILE_NOT_FOUND, "Profile not found"));
 
-        if (p.getImageUrl() != null) {
-            String objectName = extractObjectNameFromUrl(p.getImageUrl());
-            if (objectName != null) {
-                deleteFromGcs(objectName);
-            }
-            p.setImageUrl(null);
+        deletionQueue.enqueue(p.getImageObjectName(), p.getImageThumbnailObjectName(), p.getImageMediumObjectName());
+        p.setImageObjectName(null);
+        clearImageDerivatives(p);
+    }
+
+    private static void clearImageDerivatives(Profile p) {
+        p.setImageThumbnailObjectName(null);
+        p.setImageMediumObjectName(null);
+    }
+
+    /**
+     * Records the generated renditions of a profile image. Derivatives of an image that has
+     * been replaced or removed in the meantime are deleted instead; the check and the write
+     * are one conditional update, so a replacement committed concurrently is never undone.
+     */
+    @EventListener
+    @Transactional
+    public void onImageDerivativesReady(ImageDerivativesReadyEvent event) {
+        if (event.getPurpose() != UploadPurpose.PROFILE_IMAGE) {
+            return;
+        }
+        Map<ImageVariant, String> derivatives = event.getDerivatives();
+        int updated = profileRepository.attachImageDerivatives(event.getTargetId(), event.getSourceObjectName(),
+                derivatives.get(ImageVariant.THUMBNAIL), derivatives.get(ImageVariant.MEDIUM));
+        if (updated == 0) {
+            deletionQueue.enqueueAll(derivatives.values());
         }
     }
 
@@ -516,7 +540,8 @@ public class ProfileService {
                 .lastName(p.getLastName())
                 .bio(p.getBio())
                 .pronounSet(String.valueOf(p.getPronounSet()))
-                .imageUrl(p.getImageUrl())
+                .imageUrl(objectStorage.url(p.getImageObjectName()))
+                .imageThumbnailUrl(objectStorage.url(p.getImageThumbnailObjectName()))
                 .educations(p.getEducations().stream().map(this::toEducationDto).collect(java.util.stream.Collectors.toList()))
                 .experiences(p.getExperiences().stream().map(this::toExperienceDto).collect(java.util.stream.Collectors.toList()))
                 .skills(p.getSkills().stream().map(this::toSkillDto).collect(java.util.stream.Collectors.toList()))
@@ -0,0 +1,25 @@
+package org.bounswe.jobboardbackend.storage.config;
+
+import lombok.RequiredArgsConstructor;
+import org.bounswe.jobboardbackend.storage.service.LocalObjectStorage;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Serves objects of the local storage backend under {@code /files/**}.
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.storage.backend", havingValue = "local")
+@RequiredArgsConstructor
+public class LocalStorageWebConfig implements WebMvcConfigurer {
+
+    private final LocalObjectStorage localObjectStorage;
+
+    @Override
+    public void addResourceHandlers(ResourceHandlerRegistry registry) {
+        registry.addResourceHandler("/files/**")
+                .addResourceLocations(localObjectStorage.getRoot().toUri().toString());
+    }
+}
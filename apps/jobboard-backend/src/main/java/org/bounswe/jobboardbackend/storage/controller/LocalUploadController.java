@@ -0,0 +1,56 @@
+package org.bounswe.jobboardbackend.storage.controller;
+
+import io.swagger.v3.oas.annotations.Hidden;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import org.bounswe.jobboardbackend.exception.ErrorCode;
+import org.bounswe.jobboardbackend.exception.HandleException;
+import org.bounswe.jobboardbackend.storage.service.LocalObjectStorage;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.util.UriUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Receives direct uploads for the local storage backend, playing the part of a signed
+ * PUT URL on a bucket. The signature in the query string is the only credential.
+ */
+@Hidden
+@RestController
+@ConditionalOnProperty(name = "app.storage.backend", havingValue = "local")
+@RequiredArgsConstructor
+public class LocalUploadController {
+
+    private static final String PREFIX = "/files/";
+
+    private final LocalObjectStorage localObjectStorage;
+
+    @PutMapping(PREFIX + "**")
+    public ResponseEntity<Void> upload(HttpServletRequest request,
+                                       @RequestParam long expires,
+                                       @RequestParam long maxBytes,
+                                       @RequestParam String signature,
+                                       @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType) throws IOException {
+        String path = request.getRequestURI().substring(request.getContextPath().length() + PREFIX.length());
+        String objectName = UriUtils.decode(path, StandardCharsets.UTF_8);
+        if (!localObjectStorage.verifyUpload(objectName, contentType, maxBytes, expires, signature)) {
+            throw new HandleException(ErrorCode.UPLOAD_TICKET_INVALID, "Upload URL is invalid or expired");
+        }
+        // a chunked body has no declared length; its stored size is still checked on redeem
+        if (request.getContentLengthLong() > maxBytes) {
+            throw new HandleException(ErrorCode.UPLOAD_REJECTED, "Uploaded file is too large");
+        }
+        try (InputStream in = request.getInputStream()) {
+            localObjectStorage.put(objectName, in, request.getContentLengthLong(), contentType);
+        }
+        return ResponseEntity.ok().build();
+    }
+}
@@ -0,0 +1,11 @@
+package org.bounswe.jobboardbackend.storage.dto;
+
+import java.util.Map;
+
+/**
+ * Signed URL for a direct upload together with the headers that are part of its signature.
+ *
+ * @param headers headers the upload request must send exactly as given
+ */
+public record SignedUpload(String url, Map<String, String> headers) {
+}
@@ -0,0 +1,9 @@
+package org.bounswe.jobboardbackend.storage.dto;
+
+/**
+ * Metadata of an object as recorded by the storage backend.
+ *
+ * @param contentType MIME type, or null when the backend does not record one
+ */
+public record StoredObject(long size, String contentType) {
+}
@@ -0,0 +1,20 @@
+package org.bounswe.jobboardbackend.storage.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Confirms that the file of an upload ticket has been uploaded")
+public class UploadConfirmRequest {
+
+    @NotBlank
+    @Schema(description = "Ticket returned with the upload URL", example = "0b6f4a8e-2c1d-4d7e-9a51-3f2e8c7d6b10")
+    private String ticketId;
+}
@@ -0,0 +1,36 @@
+package org.bounswe.jobboardbackend.storage.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.Map;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Short-lived permission to upload one file directly to storage")
+public class UploadTicketResponse {
+
+    @Schema(description = "Ticket to send to the confirm endpoint once the upload has finished", example = "0b6f4a8e-2c1d-4d7e-9a51-3f2e8c7d6b10")
+    private String ticketId;
+
+    @Schema(description = "Signed URL the file bytes are sent to")
+    private String uploadUrl;
+
+    @Schema(description = "HTTP method of the upload request", example = "PUT")
+    private String method;
+
+    @Schema(description = "Headers the upload request must carry exactly as given")
+    private Map<String, String> headers;
+
+    @Schema(description = "Largest accepted file size in bytes", example = "5242880")
+    private long maxBytes;
+
+    @Schema(description = "When the upload URL and the ticket expire")
+    private Instant expiresAt;
+}
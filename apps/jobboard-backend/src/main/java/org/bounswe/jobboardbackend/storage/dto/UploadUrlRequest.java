@@ -0,0 +1,28 @@
+package org.bounswe.jobboardbackend.storage.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Positive;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Describes a file the client is about to upload directly to storage")
+public class UploadUrlRequest {
+
+    @Schema(description = "Original file name, used for the object extension", example = "resume.pdf")
+    private String fileName;
+
+    @NotBlank
+    @Schema(description = "MIME type the file will be uploaded with", example = "application/pdf")
+    private String contentType;
+
+    @Positive
+    @Schema(description = "File size in bytes, checked against the limit before a URL is issued", example = "48213")
+    private Long size;
+}
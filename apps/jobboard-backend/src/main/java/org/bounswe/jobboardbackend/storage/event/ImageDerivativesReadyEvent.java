@@ -0,0 +1,21 @@
+package org.bounswe.jobboardbackend.storage.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.bounswe.jobboardbackend.storage.model.ImageVariant;
+import org.bounswe.jobboardbackend.storage.model.UploadPurpose;
+
+import java.util.Map;
+
+/**
+ * Event published from the derivative worker once all variants of an image are stored.
+ * The owner records them if {@code sourceObjectName} is still its current image.
+ */
+@Getter
+@AllArgsConstructor
+public class ImageDerivativesReadyEvent {
+    private final UploadPurpose purpose;
+    private final Long targetId;
+    private final String sourceObjectName;
+    private final Map<ImageVariant, String> derivatives;
+}
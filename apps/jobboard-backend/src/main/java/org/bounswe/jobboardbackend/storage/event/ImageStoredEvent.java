@@ -0,0 +1,17 @@
+package org.bounswe.jobboardbackend.storage.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.bounswe.jobboardbackend.storage.model.UploadPurpose;
+
+/**
+ * Event published when a new image has been attached to a profile or workplace.
+ * Starts derivative generation once the attaching transaction commits.
+ */
+@Getter
+@AllArgsConstructor
+public class ImageStoredEvent {
+    private final UploadPurpose purpose;
+    private final Long targetId;
+    private final String objectName;
+}
@@ -0,0 +1,43 @@
+package org.bounswe.jobboardbackend.storage.model;
+
+/** Fixed-size renditions generated for every profile and workplace image. */
+public enum ImageVariant {
+
+    /** Avatar and logo slots in lists. */
+    THUMBNAIL("thumb", 128),
+
+    /** Cards and detail headers. */
+    MEDIUM("medium", 512);
+
+    private final String suffix;
+    private final int maxDimension;
+
+    ImageVariant(String suffix, int maxDimension) {
+        this.suffix = suffix;
+        this.maxDimension = maxDimension;
+    }
+
+    /** Longest edge in pixels; smaller sources are re-encoded without upscaling. */
+    public int getMaxDimension() {
+        return maxDimension;
+    }
+
+    /** Object name of this variant next to {@code sourceObjectName}. */
+    public String objectNameFor(String sourceObjectName) {
+        int slash = sourceObjectName.lastIndexOf('/');
+        int dot = sourceObjectName.lastIndexOf('.');
+        String base = dot > slash ? sourceObjectName.substring(0, dot) : sourceObjectName;
+        return base + "_" + suffix + ".jpg";
+    }
+
+    /** {@code sourceObjectName} followed by the object names of all its variants. */
+    public static String[] withVariants(String sourceObjectName) {
+        ImageVariant[] variants = values();
+        String[] names = new String[variants.length + 1];
+        names[0] = sourceObjectName;
+        for (int i = 0; i < variants.length; i++) {
+            names[i + 1] = variants[i].objectNameFor(sourceObjectName);
+        }
+        return names;
+    }
+}
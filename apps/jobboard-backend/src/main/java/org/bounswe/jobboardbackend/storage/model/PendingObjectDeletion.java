@@ -0,0 +1,44 @@
+package org.bounswe.jobboardbackend.storage.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
+
+/**
+ * A storage object queued for deletion inside a business transaction. Rows are drained in
+ * batches by {@code ObjectDeletionJob}, so callers never wait on storage round trips and a
+ * rolled back transaction deletes nothing.
+ */
+@Entity
+@Table(name = "pending_object_deletions", indexes = {
+        @Index(name = "idx_pending_object_deletion_next_attempt_id", columnList = "next_attempt_at, id"),
+        @Index(name = "idx_pending_object_deletion_object_name", columnList = "object_name")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PendingObjectDeletion {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, length = 1024)
+    private String objectName;
+
+    @Column(nullable = false)
+    private Long createdAt;
+
+    @Column(nullable = false)
+    private Long nextAttemptAt;
+
+    @Column(nullable = false)
+    @ColumnDefault("0")
+    @Builder.Default
+    private int attempts = 0;
+
+    @Column(length = 500)
+    private String lastError;
+}
@@ -0,0 +1,9 @@
+package org.bounswe.jobboardbackend.storage.model;
+
+/** What an uploaded object is going to be attached to. */
+public enum UploadPurpose {
+    CV,
+    RESUME,
+    PROFILE_IMAGE,
+    WORKPLACE_IMAGE
+}
@@ -0,0 +1,53 @@
+package org.bounswe.jobboardbackend.storage.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * A pending direct-to-storage upload. The ticket is issued together with a signed upload URL
+ * and redeemed by the confirm call; tickets that are never redeemed expire and are purged
+ * together with whatever was uploaded for them.
+ */
+@Entity
+@Table(name = "upload_tickets", indexes = {
+        @Index(name = "idx_upload_ticket_expires", columnList = "expires_at")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class UploadTicket {
+
+    @Id
+    private UUID id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 32)
+    private UploadPurpose purpose;
+
+    /** Id of the entity the object is for: application, resume review, user or workplace. */
+    @Column(nullable = false)
+    private Long targetId;
+
+    @Column(nullable = false)
+    private Long userId;
+
+    @Column(nullable = false, length = 512)
+    private String objectName;
+
+    @Column(nullable = false)
+    private String contentType;
+
+    @Column(nullable = false)
+    private long maxBytes;
+
+    @Column(nullable = false)
+    private Instant createdAt;
+
+    @Column(nullable = false)
+    private Instant expiresAt;
+}
@@ -0,0 +1,28 @@
+package org.bounswe.jobboardbackend.storage.repository;
+
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.bounswe.jobboardbackend.storage.model.PendingObjectDeletion;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface PendingObjectDeletionRepository extends JpaRepository<PendingObjectDeletion, Long> {
+
+    /** Oldest due rows, locked until the draining transaction ends; rows locked by another node are skipped. */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT d FROM PendingObjectDeletion d WHERE d.nextAttemptAt <= :now ORDER BY d.id ASC")
+    List<PendingObjectDeletion> findDue(@Param("now") long now, Pageable pageable);
+
+    @Modifying
+    @Query("DELETE FROM PendingObjectDeletion d WHERE d.objectName IN :objectNames")
+    int deleteByObjectNameIn(@Param("objectNames") Collection<String> objectNames);
+}
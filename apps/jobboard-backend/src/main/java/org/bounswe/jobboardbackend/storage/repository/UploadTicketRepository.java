@@ -0,0 +1,17 @@
+package org.bounswe.jobboardbackend.storage.repository;
+
+import org.bounswe.jobboardbackend.storage.model.UploadTicket;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+public interface UploadTicketRepository extends JpaRepository<UploadTicket, UUID> {
+
+    @Query("SELECT t FROM UploadTicket t WHERE t.expiresAt < :cutoff ORDER BY t.expiresAt ASC")
+    List<UploadTicket> findExpired(@Param("cutoff") Instant cutoff, Pageable pageable);
+}
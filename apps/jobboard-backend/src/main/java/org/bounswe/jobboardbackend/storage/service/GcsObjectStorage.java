@@ -0,0 +1,194 @@
+package org.bounswe.jobboardbackend.storage.service;
+
+import com.google.cloud.storage.Blob;
+import com.google.cloud.storage.BlobId;
+import com.google.cloud.storage.BlobInfo;
+import com.google.cloud.storage.HttpMethod;
+import com.google.cloud.storage.Storage;
+import com.google.cloud.storage.StorageBatch;
+import com.google.cloud.storage.StorageBatchResult;
+import com.google.cloud.storage.StorageException;
+import com.google.cloud.storage.StorageOptions;
+import org.bounswe.jobboardbackend.storage.dto.SignedUpload;
+import org.bounswe.jobboardbackend.storage.dto.StoredObject;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Google Cloud Storage backend. One client is shared by all services and created on first
+ * use, so startup does not wait for credential discovery. On a private bucket read URLs are
+ * signed when a response is built and shared per object through {@link SignedUrlCache}.
+ */
+@Component
+@ConditionalOnProperty(name = "app.storage.backend", havingValue = "gcs", matchIfMissing = true)
+public class GcsObjectStorage implements ObjectStorage {
+
+    private final String bucket;
+    private final boolean publicBucket;
+    private final String publicBaseUrl;
+    private final int uploadChunkSize;
+    private final SignedUrlCache signedUrlCache;
+
+    private volatile Storage client;
+
+    public GcsObjectStorage(@Value("${app.gcs.bucket:bounswe-jobboard}") String bucket,
+                            @Value("${app.gcs.public:true}") boolean publicBucket,
+                            @Value("${app.gcs.publicBaseUrl:https://storage.googleapis.com}") String publicBaseUrl,
+                            @Value("${app.storage.gcs.uploadChunkSize:262144}") int uploadChunkSize,
+                            SignedUrlCache signedUrlCache) {
+        this.bucket = bucket;
+        this.publicBucket = publicBucket;
+        this.publicBaseUrl = publicBaseUrl;
+        this.uploadChunkSize = uploadChunkSize;
+        this.signedUrlCache = signedUrlCache;
+    }
+
+    GcsObjectStorage(Storage client, String bucket, boolean publicBucket, String publicBaseUrl, SignedUrlCache signedUrlCache) {
+        this(bucket, publicBucket, publicBaseUrl, 262144, signedUrlCache);
+        this.client = client;
+    }
+
+    @Override
+    public void put(String objectName, InputStream content, long size, String contentType) throws IOException {
+        BlobInfo info = BlobInfo.newBuilder(bucket, objectName)
+                .setContentType(contentType != null ? contentType : "application/octet-stream")
+                .build();
+        // the buffer is the unit of the resumable upload, so memory per upload stays at one chunk
+        client().createFrom(info, content, uploadChunkSize);
+    }
+
+    @Override
+    public InputStream open(String objectName) throws IOException {
+        try {
+            return Channels.newInputStream(client().reader(bucket, objectName));
+        } catch (StorageException e) {
+            throw new IOException("Cannot read " + objectName, e);
+        }
+    }
+
+    @Override
+    public String url(String objectName) {
+        if (objectName == null || ObjectStorage.isAbsoluteUrl(objectName)) {
+            return objectName;
+        }
+        if (publicBucket) {
+            return publicPrefix() + objectName;
+        }
+        return signedUrlCache.get(objectName, ttl -> client().signUrl(
+                BlobInfo.newBuilder(bucket, objectName).build(),
+                ttl.toSeconds(), TimeUnit.SECONDS,
+                Storage.SignUrlOption.withV4Signature(),
+                Storage.SignUrlOption.httpMethod(HttpMethod.GET)).toString());
+    }
+
+    @Override
+    public SignedUpload uploadUrl(String objectName, String contentType, long maxBytes, Duration ttl) {
+        BlobInfo info = BlobInfo.newBuilder(bucket, objectName).setContentType(contentType).build();
+        // content type and size range are signed, so GCS itself refuses any other type or a larger body
+        Map<String, String> rangeHeader = Map.of("x-goog-content-length-range", "0," + maxBytes);
+        String url = client().signUrl(info,
+                ttl.toSeconds(), TimeUnit.SECONDS,
+                Storage.SignUrlOption.withV4Signature(),
+                Storage.SignUrlOption.httpMethod(HttpMethod.PUT),
+                Storage.SignUrlOption.withContentType(),
+                Storage.SignUrlOption.withExtHeaders(rangeHeader)).toString();
+        return new SignedUpload(url, Map.of(
+                "Content-Type", contentType,
+                "x-goog-content-length-range", rangeHeader.get("x-goog-content-length-range")));
+    }
+
+    @Override
+    public Optional<StoredObject> stat(String objectName) {
+        Blob blob = client().get(bucket, objectName);
+        if (blob == null) {
+            return Optional.empty();
+        }
+        return Optional.of(new StoredObject(blob.getSize() != null ? blob.getSize() : 0L, blob.getContentType()));
+    }
+
+    @Override
+    public String objectNameFromUrl(String url) {
+        String prefix = publicPrefix();
+        if (url != null && url.startsWith(prefix)) {
+            // signed URLs carry the signature in the query string
+            int query = url.indexOf('?');
+            return url.substring(prefix.length(), query >= 0 ? query : url.length());
+        }
+        return null;
+    }
+
+    @Override
+    public void delete(String objectName) {
+        if (objectName == null) {
+            return;
+        }
+        signedUrlCache.evict(objectName);
+        try {
+            client().delete(bucket, objectName);
+        } catch (StorageException ignore) {
+        }
+    }
+
+    @Override
+    public void deleteAll(List<String> objectNames) throws IOException {
+        if (objectNames.isEmpty()) {
+            return;
+        }
+        // one HTTP batch request per 100 deletes; a missing object yields false, not an error
+        StorageBatch batch = client().batch();
+        List<StorageBatchResult<Boolean>> results = new ArrayList<>(objectNames.size());
+        for (String objectName : objectNames) {
+            signedUrlCache.evict(objectName);
+            results.add(batch.delete(BlobId.of(bucket, objectName)));
+        }
+        try {
+            batch.submit();
+        } catch (StorageException e) {
+            throw new IOException("Batch delete failed", e);
+        }
+        int failed = 0;
+        StorageException firstError = null;
+        for (StorageBatchResult<Boolean> result : results) {
+            try {
+                result.get();
+            } catch (StorageException e) {
+                failed++;
+                if (firstError == null) {
+                    firstError = e;
+                }
+            }
+        }
+        if (firstError != null) {
+            throw new IOException(failed + " of " + objectNames.size() + " deletes failed", firstError);
+        }
+    }
+
+    private String publicPrefix() {
+        return publicBaseUrl + "/" + bucket + "/";
+    }
+
+    private Storage client() {
+        Storage current = client;
+        if (current == null) {
+            synchronized (this) {
+                current = client;
+                if (current == null) {
+                    current = StorageOptions.getDefaultInstance().getService();
+                    client = current;
+                }
+            }
+        }
+        return current;
+    }
+}
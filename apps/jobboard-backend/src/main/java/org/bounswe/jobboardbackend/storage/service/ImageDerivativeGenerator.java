@@ -0,0 +1,240 @@
+package org.bounswe.jobboardbackend.storage.service;
+
+import lombok.RequiredArgsConstructor;
+import org.bounswe.jobboardbackend.storage.model.ImageVariant;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * Renders the {@link ImageVariant}s of a stored image with the JDK's ImageIO.
+ * Variants are re-encoded as baseline JPEG without any of the source metadata; an EXIF
+ * orientation is applied to the pixels first, so variants look the way browsers show the source.
+ */
+@Component
+@RequiredArgsConstructor
+public class ImageDerivativeGenerator {
+
+    private static final float JPEG_QUALITY = 0.85f;
+
+    private static final int SOI = 0xFFD8;
+    private static final int SOS = 0xFFDA;
+    private static final int EOI = 0xFFD9;
+    private static final int APP1 = 0xFFE1;
+    private static final String EXIF_HEADER = "Exif\0\0";
+    private static final int ORIENTATION_TAG = 0x0112;
+
+    static {
+        // decode from memory rather than temp files; sources are bounded by the upload limit
+        ImageIO.setUseCache(false);
+    }
+
+    private final ObjectStorage objectStorage;
+
+    @Value("${app.images.derivatives.maxSourcePixels:50000000}")
+    private long maxSourcePixels;
+
+    /**
+     * Stores every variant of {@code sourceObjectName} next to it.
+     *
+     * @return object names of the stored variants
+     * @throws IOException if the source cannot be read or is not a supported image
+     */
+    public Map<ImageVariant, String> generate(String sourceObjectName) throws IOException {
+        BufferedImage source = decode(sourceObjectName, largestVariant());
+        Map<ImageVariant, String> derivatives = new EnumMap<>(ImageVariant.class);
+        for (ImageVariant variant : ImageVariant.values()) {
+            byte[] jpeg = encodeJpeg(scale(source, variant.getMaxDimension()));
+            String objectName = variant.objectNameFor(sourceObjectName);
+            objectStorage.put(objectName, new ByteArrayInputStream(jpeg), jpeg.length, "image/jpeg");
+            derivatives.put(variant, objectName);
+        }
+        return derivatives;
+    }
+
+    private BufferedImage decode(String objectName, int targetDimension) throws IOException {
+        try (InputStream in = objectStorage.open(objectName);
+             ImageInputStream iis = ImageIO.createImageInputStream(in)) {
+            Iterator<ImageReader> readers = iis != null ? ImageIO.getImageReaders(iis) : null;
+            if (readers == null || !readers.hasNext()) {
+                throw new IOException("Unsupported image format: " + objectName);
+            }
+            ImageReader reader = readers.next();
+            try {
+                int orientation = orientation(iis);
+                reader.setInput(iis, true, true);
+                int width = reader.getWidth(0);
+                int height = reader.getHeight(0);
+                if ((long) width * height > maxSourcePixels) {
+                    throw new IOException("Image too large to process: " + width + "x" + height);
+                }
+                // let the decoder skip pixels instead of materializing the full-resolution image
+                ImageReadParam param = reader.getDefaultReadParam();
+                int step = Math.max(1, Math.max(width, height) / (2 * targetDimension));
+                param.setSourceSubsampling(step, step, 0, 0);
+                return orient(reader.read(0, param), orientation);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    /**
+     * EXIF orientation of a JPEG, read from its APP1 segments ahead of the image data; 1 (as
+     * stored) for other formats or when there is none. The stream is left where it was.
+     */
+    private static int orientation(ImageInputStream iis) throws IOException {
+        iis.mark();
+        try {
+            if (iis.readUnsignedShort() != SOI) {
+                return 1;
+            }
+            while (true) {
+                int marker = iis.readUnsignedShort();
+                if ((marker & 0xFF00) != 0xFF00 || marker == SOS || marker == EOI) {
+                    return 1;
+                }
+                int length = iis.readUnsignedShort() - 2;
+                if (marker != APP1) {
+                    iis.skipBytes(length);
+                    continue;
+                }
+                byte[] segment = new byte[length];
+                iis.readFully(segment);
+                int orientation = exifOrientation(segment);
+                if (orientation != 1) {
+                    return orientation;
+                }
+            }
+        } catch (EOFException | RuntimeException e) {
+            // a damaged header must not fail the variants; the decoder reports real errors
+            return 1;
+        } finally {
+            iis.reset();
+        }
+    }
+
+    /** Orientation tag of IFD0 in an APP1 Exif segment, 1 when absent. */
+    static int exifOrientation(byte[] app1) {
+        byte[] header = EXIF_HEADER.getBytes(StandardCharsets.ISO_8859_1);
+        if (app1.length < header.length + 8
+                || !EXIF_HEADER.equals(new String(app1, 0, header.length, StandardCharsets.ISO_8859_1))) {
+            return 1;
+        }
+        ByteBuffer tiff = ByteBuffer.wrap(app1, header.length, app1.length - header.length).slice();
+        tiff.order(tiff.get(0) == 'I' ? ByteOrder.LITTLE_ENDIAN : ByteOrder.BIG_ENDIAN);
+        int ifd = tiff.getInt(4);
+        int entries = Short.toUnsignedInt(tiff.getShort(ifd));
+        for (int i = 0; i < entries; i++) {
+            int entry = ifd + 2 + i * 12;
+            if (Short.toUnsignedInt(tiff.getShort(entry)) == ORIENTATION_TAG) {
+                int value = Short.toUnsignedInt(tiff.getShort(entry + 8));
+                return value >= 1 && value <= 8 ? value : 1;
+            }
+        }
+        return 1;
+    }
+
+    /** Rotates and flips {@code source} as EXIF {@code orientation} asks for display. */
+    static BufferedImage orient(BufferedImage source, int orientation) {
+        if (orientation < 2 || orientation > 8) {
+            return source;
+        }
+        int w = source.getWidth();
+        int h = source.getHeight();
+        boolean transposed = orientation >= 5;
+        BufferedImage target = new BufferedImage(transposed ? h : w, transposed ? w : h, BufferedImage.TYPE_INT_RGB);
+        for (int y = 0; y < h; y++) {
+            for (int x = 0; x < w; x++) {
+                int tx;
+                int ty;
+                switch (orientation) {
+                    case 2 -> { tx = w - 1 - x; ty = y; }
+                    case 3 -> { tx = w - 1 - x; ty = h - 1 - y; }
+                    case 4 -> { tx = x; ty = h - 1 - y; }
+                    case 5 -> { tx = y; ty = x; }
+                    case 6 -> { tx = h - 1 - y; ty = x; }
+                    case 7 -> { tx = h - 1 - y; ty = w - 1 - x; }
+                    default -> { tx = y; ty = w - 1 - x; }
+                }
+                target.setRGB(tx, ty, source.getRGB(x, y));
+            }
+        }
+        return target;
+    }
+
+    static BufferedImage scale(BufferedImage source, int maxDimension) {
+        double ratio = Math.min(1.0, (double) maxDimension / Math.max(source.getWidth(), source.getHeight()));
+        int targetWidth = Math.max(1, (int) Math.round(source.getWidth() * ratio));
+        int targetHeight = Math.max(1, (int) Math.round(source.getHeight() * ratio));
+
+        // halve first so bilinear sampling never skips source pixels
+        BufferedImage current = source;
+        while (current.getWidth() / 2 >= targetWidth && current.getHeight() / 2 >= targetHeight) {
+            current = draw(current, current.getWidth() / 2, current.getHeight() / 2);
+        }
+        return draw(current, targetWidth, targetHeight);
+    }
+
+    /** Redraws onto an opaque RGB canvas, flattening transparency onto white. */
+    private static BufferedImage draw(BufferedImage source, int width, int height) {
+        BufferedImage target = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = target.createGraphics();
+        try {
+            g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            g.setColor(Color.WHITE);
+            g.fillRect(0, 0, width, height);
+            g.drawImage(source, 0, 0, width, height, null);
+        } finally {
+            g.dispose();
+        }
+        return target;
+    }
+
+    private static byte[] encodeJpeg(BufferedImage image) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (ImageOutputStream ios = ImageIO.createImageOutputStream(out)) {
+            writer.setOutput(ios);
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(JPEG_QUALITY);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return out.toByteArray();
+    }
+
+    private static int largestVariant() {
+        int max = 0;
+        for (ImageVariant variant : ImageVariant.values()) {
+            max = Math.max(max, variant.getMaxDimension());
+        }
+        return max;
+    }
+}
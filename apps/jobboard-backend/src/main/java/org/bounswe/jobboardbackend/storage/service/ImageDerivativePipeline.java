@@ -0,0 +1,73 @@
+package org.bounswe.jobboardbackend.storage.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.bounswe.jobboardbackend.storage.event.ImageDerivativesReadyEvent;
+import org.bounswe.jobboardbackend.storage.event.ImageStoredEvent;
+import org.bounswe.jobboardbackend.storage.model.ImageVariant;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Generates image derivatives off the request path on a small fixed pool with a bounded
+ * queue. When the queue is full the upload is skipped: clients keep using the original
+ * image, which is always a valid fallback.
+ */
+@Component
+@Slf4j
+public class ImageDerivativePipeline {
+
+    private final ImageDerivativeGenerator generator;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ThreadPoolExecutor executor;
+
+    public ImageDerivativePipeline(ImageDerivativeGenerator generator,
+                                   ApplicationEventPublisher eventPublisher,
+                                   @Value("${app.images.derivatives.threads:2}") int threads,
+                                   @Value("${app.images.derivatives.queueCapacity:100}") int queueCapacity) {
+        this.generator = generator;
+        this.eventPublisher = eventPublisher;
+        AtomicInteger counter = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                r -> {
+                    Thread thread = new Thread(r, "image-derivatives-" + counter.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onImageStored(ImageStoredEvent event) {
+        try {
+            executor.execute(() -> process(event));
+        } catch (RejectedExecutionException e) {
+            log.warn("Image derivative queue is full, skipping {}", event.getObjectName());
+        }
+    }
+
+    void process(ImageStoredEvent event) {
+        try {
+            Map<ImageVariant, String> derivatives = generator.generate(event.getObjectName());
+            eventPublisher.publishEvent(new ImageDerivativesReadyEvent(
+                    event.getPurpose(), event.getTargetId(), event.getObjectName(), derivatives));
+        } catch (Exception e) {
+            log.warn("Image derivatives failed for {}: {}", event.getObjectName(), e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,195 @@
+package org.bounswe.jobboardbackend.storage.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.bounswe.jobboardbackend.storage.dto.SignedUpload;
+import org.bounswe.jobboardbackend.storage.dto.StoredObject;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Filesystem backend for local development and offline load tests.
+ * Objects live under {@code app.storage.local.root} and are served by {@code LocalStorageWebConfig}.
+ * Upload URLs are HMAC-signed and accepted by {@code LocalUploadController}.
+ */
+@Component
+@ConditionalOnProperty(name = "app.storage.backend", havingValue = "local")
+@Slf4j
+public class LocalObjectStorage implements ObjectStorage {
+
+    private static final String HMAC = "HmacSHA256";
+
+    private final Path root;
+    private final String publicBaseUrl;
+    private final SecretKeySpec signingKey;
+
+    public LocalObjectStorage(@Value("${app.storage.local.root:./storage}") String root,
+                              @Value("${app.storage.local.publicBaseUrl:http://localhost:8080/files}") String publicBaseUrl,
+                              @Value("${app.storage.local.signingKey:${app.jwtSecret}}") String signingKey) {
+        this.root = Path.of(root).toAbsolutePath().normalize();
+        this.publicBaseUrl = publicBaseUrl;
+        this.signingKey = new SecretKeySpec(signingKey.getBytes(StandardCharsets.UTF_8), HMAC);
+        try {
+            Files.createDirectories(this.root);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot create local storage root " + this.root, e);
+        }
+    }
+
+    public Path getRoot() {
+        return root;
+    }
+
+    @Override
+    public void put(String objectName, InputStream content, long size, String contentType) throws IOException {
+        Path target = resolve(objectName);
+        Files.createDirectories(target.getParent());
+        // write next to the target and move, so readers never see a partial file
+        Path partial = Files.createTempFile(target.getParent(), ".upload-", ".part");
+        try {
+            Files.copy(content, partial, StandardCopyOption.REPLACE_EXISTING);
+            Files.move(partial, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(partial);
+        }
+    }
+
+    @Override
+    public InputStream open(String objectName) throws IOException {
+        try {
+            return Files.newInputStream(resolve(objectName));
+        } catch (IllegalArgumentException e) {
+            throw new IOException(e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public String url(String objectName) {
+        if (objectName == null || ObjectStorage.isAbsoluteUrl(objectName)) {
+            return objectName;
+        }
+        return publicBaseUrl + "/" + objectName;
+    }
+
+    @Override
+    public SignedUpload uploadUrl(String objectName, String contentType, long maxBytes, Duration ttl) {
+        resolve(objectName);
+        long expires = Instant.now().plus(ttl).getEpochSecond();
+        String url = url(objectName) + "?expires=" + expires + "&maxBytes=" + maxBytes
+                + "&signature=" + sign(objectName, contentType, maxBytes, expires);
+        return new SignedUpload(url, Map.of("Content-Type", contentType));
+    }
+
+    /**
+     * Whether an upload request carries a valid, unexpired signature for this object, content
+     * type and size limit.
+     */
+    public boolean verifyUpload(String objectName, String contentType, long maxBytes, long expires, String signature) {
+        if (signature == null || expires < Instant.now().getEpochSecond()) {
+            return false;
+        }
+        byte[] expected = sign(objectName, contentType, maxBytes, expires).getBytes(StandardCharsets.UTF_8);
+        return MessageDigest.isEqual(expected, signature.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public Optional<StoredObject> stat(String objectName) {
+        try {
+            Path path = resolve(objectName);
+            if (!Files.isRegularFile(path)) {
+                return Optional.empty();
+            }
+            // the filesystem keeps no content type; uploads are bound to theirs by the signature
+            return Optional.of(new StoredObject(Files.size(path), null));
+        } catch (IOException | IllegalArgumentException e) {
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public String objectNameFromUrl(String url) {
+        String prefix = publicBaseUrl + "/";
+        if (url != null && url.startsWith(prefix)) {
+            int query = url.indexOf('?');
+            return url.substring(prefix.length(), query >= 0 ? query : url.length());
+        }
+        return null;
+    }
+
+    @Override
+    public void delete(String objectName) {
+        if (objectName == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(resolve(objectName));
+        } catch (IOException | IllegalArgumentException e) {
+            log.debug("Could not delete local object {}: {}", objectName, e.getMessage());
+        }
+    }
+
+    @Override
+    public void deleteAll(List<String> objectNames) throws IOException {
+        IOException failure = null;
+        for (String objectName : objectNames) {
+            Path path;
+            try {
+                path = resolve(objectName);
+            } catch (IllegalArgumentException e) {
+                // a name outside the root can never be deleted, retrying would not help
+                log.warn("Skipping deletion of invalid local object {}", objectName);
+                continue;
+            }
+            try {
+                Files.deleteIfExists(path);
+            } catch (IOException e) {
+                if (failure == null) {
+                    failure = e;
+                } else {
+                    failure.addSuppressed(e);
+                }
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    private String sign(String objectName, String contentType, long maxBytes, long expires) {
+        try {
+            Mac mac = Mac.getInstance(HMAC);
+            mac.init(signingKey);
+            String payload = objectName + "\n" + contentType + "\n" + maxBytes + "\n" + expires;
+            return Base64.getUrlEncoder().withoutPadding()
+                    .encodeToString(mac.doFinal(payload.getBytes(StandardCharsets.UTF_8)));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Cannot sign upload URL", e);
+        }
+    }
+
+    Path resolve(String objectName) {
+        Path path = root.resolve(objectName).normalize();
+        if (!path.startsWith(root) || path.equals(root)) {
+            throw new IllegalArgumentException("Object name escapes the storage root: " + objectName);
+        }
+        return path;
+    }
+}
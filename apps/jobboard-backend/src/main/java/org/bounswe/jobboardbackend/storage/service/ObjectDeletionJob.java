@@ -0,0 +1,40 @@
+package org.bounswe.jobboardbackend.storage.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Drains the queue of storage objects awaiting deletion, one batch per transaction, until
+ * nothing is due or a batch fails.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ObjectDeletionJob {
+
+    private final ObjectDeletionQueue deletionQueue;
+
+    @Value("${app.storage.deletions.batchSize:100}")
+    private int batchSize;
+
+    @Scheduled(initialDelayString = "${app.storage.deletions.initialDelayMs:10000}",
+            fixedDelayString = "${app.storage.deletions.pollIntervalMs:2000}")
+    public void drain() {
+        int total = 0;
+        try {
+            int deleted;
+            do {
+                deleted = deletionQueue.deleteDue(batchSize);
+                total += deleted;
+            } while (deleted == batchSize);
+        } catch (Exception e) {
+            log.error("Storage deletion queue drain failed after {} objects: {}", total, e.getMessage());
+        }
+        if (total > 0) {
+            log.debug("Deleted {} queued storage objects", total);
+        }
+    }
+}
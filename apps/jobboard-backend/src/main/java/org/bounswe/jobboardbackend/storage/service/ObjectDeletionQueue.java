@@ -0,0 +1,126 @@
+package org.bounswe.jobboardbackend.storage.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bounswe.jobboardbackend.storage.model.PendingObjectDeletion;
+import org.bounswe.jobboardbackend.storage.repository.PendingObjectDeletionRepository;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Deferred deletion of storage objects. Services queue the objects they stop referencing in
+ * their own transaction; {@link ObjectDeletionJob} removes them from storage in batches once
+ * that transaction has committed, retrying failed batches with exponential backoff.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ObjectDeletionQueue {
+
+    /** Attempts after which an object that keeps failing is left in storage. */
+    static final int MAX_ATTEMPTS = 8;
+
+    private static final long BASE_BACKOFF_MS = 5_000;
+    private static final long MAX_BACKOFF_MS = 60 * 60 * 1_000;
+
+    private final PendingObjectDeletionRepository pendingRepository;
+    private final ObjectStorage objectStorage;
+
+    /**
+     * Queues the given objects for deletion; null names are skipped. Rows written before
+     * entities stored object names may still hold full URLs: URLs of this storage are mapped
+     * back to their object, any other link is not ours to delete and is skipped.
+     */
+    @Transactional
+    public void enqueue(String... objectNames) {
+        enqueueAll(Arrays.asList(objectNames));
+    }
+
+    @Transactional
+    public void enqueueAll(Collection<String> objectNames) {
+        Set<String> names = distinctNames(objectNames);
+        if (names.isEmpty()) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        pendingRepository.saveAll(names.stream()
+                .map(name -> PendingObjectDeletion.builder()
+                        .objectName(name)
+                        .createdAt(now)
+                        .nextAttemptAt(now)
+                        .build())
+                .toList());
+    }
+
+    /**
+     * Drops queued deletions of objects that are about to be written again under the same
+     * name. Call it before storing the new content: a batch that is being deleted right now
+     * holds its rows locked, so this waits for it instead of racing it.
+     */
+    @Transactional
+    public void cancel(String... objectNames) {
+        Set<String> names = distinctNames(Arrays.asList(objectNames));
+        if (!names.isEmpty()) {
+            pendingRepository.deleteByObjectNameIn(names);
+        }
+    }
+
+    /**
+     * Deletes up to {@code limit} due objects from storage with one batched call. On failure
+     * the whole batch is rescheduled; deletes are idempotent, so objects that did go away are
+     * simply deleted again.
+     *
+     * @return number of objects deleted, 0 when nothing was due or the batch failed
+     */
+    @Transactional
+    public int deleteDue(int limit) {
+        List<PendingObjectDeletion> due = pendingRepository.findDue(System.currentTimeMillis(), PageRequest.of(0, limit));
+        if (due.isEmpty()) {
+            return 0;
+        }
+        try {
+            objectStorage.deleteAll(due.stream().map(PendingObjectDeletion::getObjectName).distinct().toList());
+        } catch (IOException | RuntimeException e) {
+            log.warn("Deleting {} storage objects failed, will retry: {}", due.size(), e.getMessage());
+            due.forEach(row -> recordFailure(row, e.getMessage()));
+            return 0;
+        }
+        pendingRepository.deleteAllInBatch(due);
+        return due.size();
+    }
+
+    private void recordFailure(PendingObjectDeletion row, String error) {
+        int attempts = row.getAttempts() + 1;
+        if (attempts >= MAX_ATTEMPTS) {
+            log.error("Giving up deleting storage object {} after {} attempts: {}", row.getObjectName(), attempts, error);
+            pendingRepository.delete(row);
+            return;
+        }
+        row.setAttempts(attempts);
+        row.setNextAttemptAt(System.currentTimeMillis() + backoffMs(attempts));
+        row.setLastError(error != null && error.length() > 500 ? error.substring(0, 500) : error);
+    }
+
+    private Set<String> distinctNames(Collection<String> objectNames) {
+        Set<String> names = new LinkedHashSet<>();
+        objectNames.stream()
+                .filter(Objects::nonNull)
+                .map(objectStorage::toObjectName)
+                .filter(Objects::nonNull)
+                .forEach(names::add);
+        return names;
+    }
+
+    static long backoffMs(int attempts) {
+        return Math.min(BASE_BACKOFF_MS << Math.min(attempts - 1, 20), MAX_BACKOFF_MS);
+    }
+}
@@ -0,0 +1,82 @@
+package org.bounswe.jobboardbackend.storage.service;
+
+import org.bounswe.jobboardbackend.storage.dto.SignedUpload;
+import org.bounswe.jobboardbackend.storage.dto.StoredObject;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Blob storage for user uploads (profile and workplace images, CVs, resumes).
+ * The backend is selected with {@code app.storage.backend}; content is streamed, never
+ * buffered whole on the heap.
+ */
+public interface ObjectStorage {
+
+    /**
+     * Streams {@code content} into {@code objectName}, replacing any existing object.
+     *
+     * @param size        content length in bytes, or -1 if unknown
+     * @param contentType MIME type, {@code application/octet-stream} when null
+     */
+    void put(String objectName, InputStream content, long size, String contentType) throws IOException;
+
+    /** Opens the object for streaming reads. The caller closes the stream. */
+    InputStream open(String objectName) throws IOException;
+
+    /**
+     * URL clients use to fetch the object: public, or signed for a limited time on a private bucket.
+     * Entities store object names and resolve them here when a response is built.
+     * Null stays null and absolute URLs (external links) are returned unchanged.
+     */
+    String url(String objectName);
+
+    /** Inverse of {@link #url} for URLs of this storage, signed or not; null for anything else. */
+    String objectNameFromUrl(String url);
+
+    /**
+     * Object name of a stored reference, which older rows may hold as a full URL. Null when
+     * the reference is null or a link to somewhere else.
+     */
+    default String toObjectName(String reference) {
+        if (reference == null || !isAbsoluteUrl(reference)) {
+            return reference;
+        }
+        return objectNameFromUrl(reference);
+    }
+
+    /**
+     * Signed URL a client can PUT the bytes of {@code objectName} to without going through
+     * this server. The upload must send {@code contentType} and carry at most {@code maxBytes};
+     * where the backend can enforce the size limit itself, it is part of the signed headers.
+     */
+    SignedUpload uploadUrl(String objectName, String contentType, long maxBytes, Duration ttl);
+
+    /** Size and content type of the object, empty if it does not exist. */
+    Optional<StoredObject> stat(String objectName);
+
+    /** Deletes the object if it exists. Failures are ignored: a leftover object is harmless. */
+    void delete(String objectName);
+
+    /**
+     * Deletes the objects with as few storage requests as the backend allows. Missing objects
+     * count as deleted; any other failure is thrown so the caller can retry the batch.
+     */
+    void deleteAll(List<String> objectNames) throws IOException;
+
+    static boolean isAbsoluteUrl(String value) {
+        return value.startsWith("https://") || value.startsWith("http://");
+    }
+
+    /** Streams a multipart upload into {@code objectName} and returns its URL. */
+    default String upload(String objectName, MultipartFile file, String contentType) throws IOException {
+        try (InputStream in = file.getInputStream()) {
+            put(objectName, in, file.getSize(), contentType);
+        }
+        return url(objectName);
+    }
+}
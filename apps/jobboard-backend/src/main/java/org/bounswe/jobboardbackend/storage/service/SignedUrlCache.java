@@ -0,0 +1,51 @@
+package org.bounswe.jobboardbackend.storage.service;
+
+import org.bounswe.jobboardbackend.common.cache.TtlLruCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Bounded LRU of signed read URLs keyed by object name.
+ * A URL is reused until {@code refreshMarginMs} before its signature expires, so every link
+ * handed out stays valid for at least that long while list responses share one signature
+ * per object.
+ */
+@Component
+public class SignedUrlCache {
+
+    private final Duration signatureTtl;
+    private final TtlLruCache<String, String> entries;
+
+    public SignedUrlCache(@Value("${app.storage.signedUrls.cacheSize:10000}") int capacity,
+                          @Value("${app.storage.signedUrls.ttlMs:3600000}") long ttlMs,
+                          @Value("${app.storage.signedUrls.refreshMarginMs:600000}") long refreshMarginMs) {
+        this(capacity, ttlMs, refreshMarginMs, Instant::now);
+    }
+
+    SignedUrlCache(int capacity, long ttlMs, long refreshMarginMs, Supplier<Instant> clock) {
+        this.signatureTtl = Duration.ofMillis(ttlMs);
+        this.entries = new TtlLruCache<>(capacity, Math.max(0, ttlMs - refreshMarginMs), clock);
+    }
+
+    /**
+     * Returns a signed URL for {@code objectName}, calling {@code signer} with the signature
+     * lifetime on a miss or when the cached URL is close to expiry. The signer runs outside the lock.
+     */
+    public String get(String objectName, Function<Duration, String> signer) {
+        return entries.get(objectName, name -> signer.apply(signatureTtl));
+    }
+
+    /** Drops the cached URL of a deleted or replaced object. */
+    public void evict(String objectName) {
+        entries.invalidate(objectName);
+    }
+
+    int size() {
+        return entries.size();
+    }
+}
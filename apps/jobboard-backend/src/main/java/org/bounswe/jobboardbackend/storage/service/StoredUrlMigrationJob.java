@@ -0,0 +1,50 @@
+package org.bounswe.jobboardbackend.storage.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bounswe.jobboardbackend.storage.service.StoredUrlMigrationService.ChunkResult;
+import org.bounswe.jobboardbackend.storage.service.StoredUrlMigrationService.StoredColumn;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Converts file references persisted as URLs into object names, one chunk per transaction.
+ * Once everything is converted a run only scans for leftovers, so it stays scheduled to pick
+ * up rows written by instances still running an older build during a rollout.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class StoredUrlMigrationJob {
+
+    private final StoredUrlMigrationService migrationService;
+
+    @Value("${app.storage.urlMigration.chunkSize:200}")
+    private int chunkSize;
+
+    @Scheduled(initialDelayString = "${app.storage.urlMigration.initialDelayMs:30000}",
+            fixedDelayString = "${app.storage.urlMigration.intervalMs:21600000}")
+    public void migrate() {
+        for (StoredColumn target : StoredUrlMigrationService.COLUMNS) {
+            int converted = 0;
+            long afterId = 0L;
+            try {
+                ChunkResult chunk;
+                do {
+                    chunk = migrationService.convertChunk(target, afterId, chunkSize);
+                    converted += chunk.converted();
+                    if (chunk.lastId() != null) {
+                        afterId = chunk.lastId();
+                    }
+                } while (chunk.scanned() == chunkSize);
+            } catch (Exception e) {
+                log.error("Stored URL migration of {}.{} failed after id {}: {}",
+                        target.table(), target.column(), afterId, e.getMessage());
+            }
+            if (converted > 0) {
+                log.info("Converted {} stored URLs of {}.{} to object names", converted, target.table(), target.column());
+            }
+        }
+    }
+}
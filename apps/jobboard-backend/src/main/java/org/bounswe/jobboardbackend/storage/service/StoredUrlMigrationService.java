@@ -0,0 +1,68 @@
+package org.bounswe.jobboardbackend.storage.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Rewrites stored file references that still hold a URL into the object name they point at.
+ * Rows written before entities stored object names carry public or signed URLs; values that
+ * do not belong to the configured storage (external links) are left as they are.
+ */
+@Service
+@RequiredArgsConstructor
+public class StoredUrlMigrationService {
+
+    /** A column holding an object name, in a table keyed by a numeric {@code id}. */
+    public record StoredColumn(String table, String column) {
+    }
+
+    /** Outcome of one chunk; {@code lastId} is null when no rows were left to scan. */
+    public record ChunkResult(int scanned, int converted, Long lastId) {
+    }
+
+    public static final List<StoredColumn> COLUMNS = List.of(
+            new StoredColumn("profiles", "image_url"),
+            new StoredColumn("profiles", "image_thumbnail_url"),
+            new StoredColumn("profiles", "image_medium_url"),
+            new StoredColumn("workplace", "image_url"),
+            new StoredColumn("workplace", "image_thumbnail_url"),
+            new StoredColumn("workplace", "image_medium_url"),
+            new StoredColumn("job_applications", "cv_url"),
+            new StoredColumn("resume_review", "resume_url"));
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectStorage objectStorage;
+
+    /** Converts up to {@code limit} URL values of {@code target} in rows with an id above {@code afterId}. */
+    @Transactional
+    public ChunkResult convertChunk(StoredColumn target, long afterId, int limit) {
+        // table and column names come from COLUMNS, never from input
+        List<Map<String, Object>> rows = jdbcTemplate.queryForList(
+                "SELECT id, " + target.column() + " AS stored FROM " + target.table()
+                        + " WHERE id > ? AND " + target.column() + " LIKE 'http%' ORDER BY id LIMIT ?",
+                afterId, limit);
+        if (rows.isEmpty()) {
+            return new ChunkResult(0, 0, null);
+        }
+
+        int converted = 0;
+        for (Map<String, Object> row : rows) {
+            String stored = (String) row.get("stored");
+            String objectName = objectStorage.objectNameFromUrl(stored);
+            if (objectName == null || objectName.isEmpty()) {
+                continue;
+            }
+            // compare-and-set: an upload that replaced the value meanwhile wins
+            converted += jdbcTemplate.update(
+                    "UPDATE " + target.table() + " SET " + target.column() + " = ? WHERE id = ? AND " + target.column() + " = ?",
+                    objectName, row.get("id"), stored);
+        }
+        Number lastId = (Number) rows.getLast().get("id");
+        return new ChunkResult(rows.size(), converted, lastId.longValue());
+    }
+}
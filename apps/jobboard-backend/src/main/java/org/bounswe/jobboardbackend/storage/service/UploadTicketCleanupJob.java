@@ -0,0 +1,47 @@
+package org.bounswe.jobboardbackend.storage.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+
+/**
+ * Purges upload tickets that were never confirmed, and the objects uploaded for them.
+ * Tickets are kept for a grace period past their expiry so a confirm call that started
+ * just before expiry cannot lose its object.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class UploadTicketCleanupJob {
+
+    private final UploadTicketService uploadTicketService;
+
+    @Value("${app.storage.ticketCleanup.graceMs:300000}")
+    private long graceMs;
+
+    @Value("${app.storage.ticketCleanup.chunkSize:200}")
+    private int chunkSize;
+
+    @Scheduled(initialDelayString = "${app.storage.ticketCleanup.initialDelayMs:120000}",
+            fixedDelayString = "${app.storage.ticketCleanup.intervalMs:600000}")
+    public void purge() {
+        Instant cutoff = Instant.now().minusMillis(graceMs);
+        int total = 0;
+        try {
+            int purged;
+            do {
+                purged = uploadTicketService.purgeExpired(cutoff, chunkSize);
+                total += purged;
+            } while (purged == chunkSize);
+        } catch (Exception e) {
+            log.error("Upload ticket cleanup failed after removing {} tickets: {}", total, e.getMessage());
+        }
+        if (total > 0) {
+            log.info("Purged {} unconfirmed upload tickets", total);
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package org.bounswe.jobboardbackend.storage.service;
+
+import lombok.RequiredArgsConstructor;
+import org.bounswe.jobboardbackend.exception.ErrorCode;
+import org.bounswe.jobboardbackend.exception.HandleException;
+import org.bounswe.jobboardbackend.storage.dto.SignedUpload;
+import org.bounswe.jobboardbackend.storage.dto.StoredObject;
+import org.bounswe.jobboardbackend.storage.dto.UploadTicketResponse;
+import org.bounswe.jobboardbackend.storage.model.UploadPurpose;
+import org.bounswe.jobboardbackend.storage.model.UploadTicket;
+import org.bounswe.jobboardbackend.storage.repository.UploadTicketRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Two-phase direct uploads. {@link #issue} hands out a signed upload URL with a ticket, the
+ * client sends the bytes straight to storage, and {@link #redeem} checks what arrived before
+ * the caller attaches the object to its entity. File bytes never pass through this server.
+ */
+@Service
+@RequiredArgsConstructor
+public class UploadTicketService {
+
+    /** Same as the multipart limit on the proxied upload endpoints. */
+    public static final long DEFAULT_MAX_BYTES = 5L * 1024 * 1024;
+
+    private final UploadTicketRepository ticketRepository;
+    private final ObjectStorage objectStorage;
+    private final ObjectDeletionQueue deletionQueue;
+
+    @Value("${app.storage.uploadTicketTtlMs:900000}")
+    private long ticketTtlMs;
+
+    /**
+     * Issues a ticket for uploading one object. A random suffix is added to {@code objectName}
+     * so the upload never overwrites the object currently attached to the target.
+     */
+    @Transactional
+    public UploadTicketResponse issue(UploadPurpose purpose, Long targetId, Long userId,
+                                      String objectName, String contentType, long maxBytes) {
+        Instant now = Instant.now();
+        Duration ttl = Duration.ofMillis(ticketTtlMs);
+        UploadTicket ticket = ticketRepository.save(UploadTicket.builder()
+                .id(UUID.randomUUID())
+                .purpose(purpose)
+                .targetId(targetId)
+                .userId(userId)
+                .objectName(uniqueName(objectName))
+                .contentType(contentType)
+                .maxBytes(maxBytes)
+                .createdAt(now)
+                .expiresAt(now.plus(ttl))
+                .build());
+
+        SignedUpload upload = objectStorage.uploadUrl(ticket.getObjectName(), contentType, maxBytes, ttl);
+        return UploadTicketResponse.builder()
+                .ticketId(ticket.getId().toString())
+                .uploadUrl(upload.url())
+                .method("PUT")
+                .headers(upload.headers())
+                .maxBytes(maxBytes)
+                .expiresAt(ticket.getExpiresAt())
+                .build();
+    }
+
+    /**
+     * Checks the uploaded object of a ticket and consumes the ticket, returning the object name.
+     * A ticket stays valid after a failed check, so the client can upload again and retry
+     * until it expires.
+     */
+    @Transactional
+    public String redeem(String ticketId, UploadPurpose purpose, Long targetId, Long userId) {
+        UploadTicket ticket = ticketRepository.findById(parseId(ticketId))
+                .filter(t -> t.getPurpose() == purpose && t.getTargetId().equals(targetId) && t.getUserId().equals(userId))
+                .orElseThrow(() -> new HandleException(ErrorCode.UPLOAD_TICKET_INVALID, "Upload ticket not found"));
+        if (ticket.getExpiresAt().isBefore(Instant.now())) {
+            throw new HandleException(ErrorCode.UPLOAD_TICKET_INVALID, "Upload ticket has expired");
+        }
+
+        StoredObject stored = objectStorage.stat(ticket.getObjectName())
+                .orElseThrow(() -> new HandleException(ErrorCode.UPLOAD_NOT_RECEIVED, "File has not been uploaded yet"));
+        // rejected objects are deleted right away: the exception rolls back anything queued here
+        if (stored.size() <= 0 || stored.size() > ticket.getMaxBytes()) {
+            objectStorage.delete(ticket.getObjectName());
+            throw new HandleException(ErrorCode.UPLOAD_REJECTED, "Uploaded file is empty or too large");
+        }
+        if (stored.contentType() != null && !stored.contentType().equalsIgnoreCase(ticket.getContentType())) {
+            objectStorage.delete(ticket.getObjectName());
+            throw new HandleException(ErrorCode.UPLOAD_REJECTED, "Uploaded file has an unexpected content type");
+        }
+
+        ticketRepository.delete(ticket);
+        return ticket.getObjectName();
+    }
+
+    /**
+     * Removes up to {@code limit} tickets that expired before {@code cutoff} together with
+     * anything uploaded for them, which is queued for deletion.
+     *
+     * @return number of tickets removed
+     */
+    @Transactional
+    public int purgeExpired(Instant cutoff, int limit) {
+        List<UploadTicket> expired = ticketRepository.findExpired(cutoff, PageRequest.of(0, limit));
+        deletionQueue.enqueueAll(expired.stream().map(UploadTicket::getObjectName).toList());
+        ticketRepository.deleteAllInBatch(expired);
+        return expired.size();
+    }
+
+    /**
+     * {@code objectName} with a random suffix before the extension. Every stored image gets a
+     * fresh name, so a late derivative job for a replaced image cannot overwrite the new one.
+     */
+    public static String uniqueName(String objectName) {
+        String suffix = "_" + UUID.randomUUID().toString().substring(0, 8);
+        int slash = objectName.lastIndexOf('/');
+        int dot = objectName.lastIndexOf('.');
+        if (dot > slash) {
+            return objectName.substring(0, dot) + suffix + objectName.substring(dot);
+        }
+        return objectName + suffix;
+    }
+
+    private static UUID parseId(String ticketId) {
+        try {
+            return UUID.fromString(ticketId);
+        } catch (IllegalArgumentException | NullPointerException e) {
+            throw new HandleException(ErrorCode.UPLOAD_TICKET_INVALID, "Upload ticket not found");
+        }
+    }
+}
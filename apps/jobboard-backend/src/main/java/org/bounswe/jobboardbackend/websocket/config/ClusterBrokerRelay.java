@@ -0,0 +1,83 @@
+package org.bounswe.jobboardbackend.websocket.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.bounswe.jobboardbackend.websocket.dto.ClusterEnvelope;
+import org.bounswe.jobboardbackend.websocket.service.ClusterTransport;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeType;
+
+import java.util.Base64;
+
+/**
+ * Broker channel interceptor that mirrors every push to {@code /topic/**} and {@code /user/**}
+ * onto the other nodes, and replays their pushes into the local broker.
+ * Local delivery never waits for or depends on the relay.
+ */
+@Component
+@Slf4j
+public class ClusterBrokerRelay implements ChannelInterceptor {
+
+    /** Marks a message that came from another node so it is not published again. */
+    static final String RELAYED_HEADER = "clusterRelayed";
+
+    private final ClusterTransport clusterTransport;
+    private final MessageChannel brokerChannel;
+
+    public ClusterBrokerRelay(ClusterTransport clusterTransport,
+                              @Lazy @Qualifier("brokerChannel") MessageChannel brokerChannel) {
+        this.clusterTransport = clusterTransport;
+        this.brokerChannel = brokerChannel;
+        clusterTransport.onMessage(this::deliver);
+    }
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        if (!clusterTransport.isClustered() || message.getHeaders().containsKey(RELAYED_HEADER)) {
+            return message;
+        }
+        if (SimpMessageHeaderAccessor.getMessageType(message.getHeaders()) != SimpMessageType.MESSAGE) {
+            return message;
+        }
+        String destination = SimpMessageHeaderAccessor.getDestination(message.getHeaders());
+        if (destination == null || !(destination.startsWith("/topic/") || destination.startsWith("/user/"))) {
+            return message;
+        }
+        if (!(message.getPayload() instanceof byte[] payload)) {
+            return message;
+        }
+        MimeType contentType = SimpMessageHeaderAccessor.getContentType(message.getHeaders());
+        try {
+            clusterTransport.publish(new ClusterEnvelope(
+                    clusterTransport.nodeId(),
+                    destination,
+                    contentType != null ? contentType.toString() : null,
+                    Base64.getEncoder().encodeToString(payload)));
+        } catch (RuntimeException e) {
+            log.warn("Could not relay message for {} to other nodes: {}", destination, e.getMessage());
+        }
+        return message;
+    }
+
+    void deliver(ClusterEnvelope envelope) {
+        // other envelopes on the transport, such as cache evictions, are not broker messages
+        if (clusterTransport.nodeId().equals(envelope.origin()) || !envelope.destination().startsWith("/")) {
+            return;
+        }
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setDestination(envelope.destination());
+        if (envelope.contentType() != null) {
+            accessor.setContentType(MimeType.valueOf(envelope.contentType()));
+        }
+        accessor.setHeader(RELAYED_HEADER, Boolean.TRUE);
+        byte[] payload = Base64.getDecoder().decode(envelope.payload());
+        brokerChannel.send(MessageBuilder.createMessage(payload, accessor.getMessageHeaders()));
+    }
+}
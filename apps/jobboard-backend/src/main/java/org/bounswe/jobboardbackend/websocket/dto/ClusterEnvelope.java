@@ -0,0 +1,12 @@
+package org.bounswe.jobboardbackend.websocket.dto;
+
+/**
+ * A broker message as it travels between backend nodes.
+ *
+ * @param origin      id of the node that published it
+ * @param destination STOMP destination, either a {@code /topic/**} or an unresolved {@code /user/**} one
+ * @param contentType content type of the payload, may be null
+ * @param payload     serialized message body, base64 encoded
+ */
+public record ClusterEnvelope(String origin, String destination, String contentType, String payload) {
+}
@@ -0,0 +1,34 @@
+package org.bounswe.jobboardbackend.websocket.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * A relayed broker message too large for a {@code NOTIFY} payload. The publishing node stores
+ * the serialized envelope here and notifies only the row id; listeners load the row.
+ * Written and read by {@code PostgresClusterTransport} with plain SQL, rows are purged once
+ * every node has had time to read them.
+ */
+@Entity
+@Table(name = "cluster_relay_messages", indexes = {
+        @Index(name = "idx_cluster_relay_created", columnList = "created_at")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ClusterRelayMessage {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /** The serialized {@code ClusterEnvelope}. */
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String payload;
+
+    /** Epoch millis of the insert. */
+    @Column(nullable = false)
+    private long createdAt;
+}
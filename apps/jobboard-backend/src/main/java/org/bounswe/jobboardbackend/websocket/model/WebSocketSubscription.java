@@ -0,0 +1,46 @@
+package org.bounswe.jobboardbackend.websocket.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * A live STOMP subscription, shared between nodes so that any of them can tell whether a
+ * user is watching a destination. Rows are refreshed by their owning node and expire
+ * when it stops heartbeating.
+ */
+@Entity
+@Table(name = "websocket_subscriptions", indexes = {
+        @Index(name = "idx_ws_sub_user_destination", columnList = "username, destination"),
+        @Index(name = "idx_ws_sub_node_session", columnList = "node_id, session_id"),
+        @Index(name = "idx_ws_sub_heartbeat", columnList = "heartbeat_at")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class WebSocketSubscription {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, length = 64)
+    private String nodeId;
+
+    @Column(nullable = false)
+    private String sessionId;
+
+    @Column(nullable = false)
+    private String subscriptionId;
+
+    @Column(nullable = false)
+    private String username;
+
+    @Column(nullable = false)
+    private String destination;
+
+    /** Epoch millis of the last refresh by the owning node. */
+    @Column(nullable = false)
+    private long heartbeatAt;
+}
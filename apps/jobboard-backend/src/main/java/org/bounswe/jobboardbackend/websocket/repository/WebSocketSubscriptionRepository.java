@@ -0,0 +1,36 @@
+package org.bounswe.jobboardbackend.websocket.repository;
+
+import org.bounswe.jobboardbackend.websocket.model.WebSocketSubscription;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface WebSocketSubscriptionRepository extends JpaRepository<WebSocketSubscription, Long> {
+
+    boolean existsByUsernameAndDestinationAndHeartbeatAtGreaterThan(String username, String destination, long heartbeatAt);
+
+    @Modifying
+    @Query("DELETE FROM WebSocketSubscription s WHERE s.nodeId = :nodeId AND s.sessionId = :sessionId AND s.subscriptionId = :subscriptionId")
+    int deleteSubscription(@Param("nodeId") String nodeId,
+                           @Param("sessionId") String sessionId,
+                           @Param("subscriptionId") String subscriptionId);
+
+    @Modifying
+    @Query("DELETE FROM WebSocketSubscription s WHERE s.nodeId = :nodeId AND s.sessionId = :sessionId")
+    int deleteSession(@Param("nodeId") String nodeId, @Param("sessionId") String sessionId);
+
+    @Modifying
+    @Query("DELETE FROM WebSocketSubscription s WHERE s.nodeId = :nodeId")
+    int deleteNode(@Param("nodeId") String nodeId);
+
+    @Modifying
+    @Query("UPDATE WebSocketSubscription s SET s.heartbeatAt = :now WHERE s.nodeId = :nodeId")
+    int refreshNode(@Param("nodeId") String nodeId, @Param("now") long now);
+
+    @Modifying
+    @Query("DELETE FROM WebSocketSubscription s WHERE s.heartbeatAt < :cutoff")
+    int deleteStale(@Param("cutoff") long cutoff);
+}
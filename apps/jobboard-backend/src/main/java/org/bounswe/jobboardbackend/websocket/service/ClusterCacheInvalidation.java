@@ -0,0 +1,75 @@
+package org.bounswe.jobboardbackend.websocket.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.bounswe.jobboardbackend.websocket.dto.ClusterEnvelope;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * Carries evictions of node-local caches to the other replicas over the {@link ClusterTransport}.
+ * Envelopes use a {@code cache:<name>} destination, which the broker relay ignores, and carry
+ * the evicted key as payload (null for every entry). Delivery is best effort, so each cache
+ * still bounds the life of an entry with its TTL.
+ */
+@Component
+@Slf4j
+public class ClusterCacheInvalidation {
+
+    static final String DESTINATION_PREFIX = "cache:";
+
+    private final ClusterTransport clusterTransport;
+    private final Map<String, Consumer<String>> handlers = new ConcurrentHashMap<>();
+
+    public ClusterCacheInvalidation(ClusterTransport clusterTransport) {
+        this.clusterTransport = clusterTransport;
+        clusterTransport.onMessage(this::receive);
+    }
+
+    /** Registers how this node drops {@code key} (null for every entry) from the named cache. */
+    public void register(String cache, Consumer<String> invalidate) {
+        handlers.put(cache, invalidate);
+    }
+
+    /**
+     * Asks the other nodes to drop {@code key} (null for every entry) from the named cache.
+     * Inside a transaction the request is sent after commit, so no node can reload the
+     * entry before the change is visible.
+     */
+    public void publish(String cache, String key) {
+        if (!clusterTransport.isClustered()) {
+            return;
+        }
+        Runnable send = () -> {
+            try {
+                clusterTransport.publish(new ClusterEnvelope(clusterTransport.nodeId(), DESTINATION_PREFIX + cache, null, key));
+            } catch (RuntimeException e) {
+                log.warn("Could not send eviction of {} from cache {}: {}", key, cache, e.getMessage());
+            }
+        };
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    send.run();
+                }
+            });
+        } else {
+            send.run();
+        }
+    }
+
+    void receive(ClusterEnvelope envelope) {
+        if (clusterTransport.nodeId().equals(envelope.origin()) || !envelope.destination().startsWith(DESTINATION_PREFIX)) {
+            return;
+        }
+        Consumer<String> handler = handlers.get(envelope.destination().substring(DESTINATION_PREFIX.length()));
+        if (handler != null) {
+            handler.accept(envelope.payload());
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package org.bounswe.jobboardbackend.websocket.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bounswe.jobboardbackend.websocket.model.WebSocketSubscription;
+import org.bounswe.jobboardbackend.websocket.repository.WebSocketSubscriptionRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.simp.user.SimpUserRegistry;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
+
+import java.security.Principal;
+
+/**
+ * Directory shared by all nodes through the {@code websocket_subscriptions} table.
+ * Each node records its own subscriptions as they happen and keeps them alive with
+ * {@link #heartbeat()}; rows of a node that died are dropped once they go stale.
+ * Local sessions are still answered from memory without touching the database.
+ */
+@Service
+@ConditionalOnProperty(name = "app.websocket.cluster.transport", havingValue = "postgres")
+@RequiredArgsConstructor
+@Slf4j
+public class ClusterSubscriptionDirectory implements SubscriptionDirectory {
+
+    private final SimpUserRegistry simpUserRegistry;
+    private final WebSocketSubscriptionRepository subscriptionRepository;
+    private final ClusterTransport clusterTransport;
+
+    @Value("${app.websocket.cluster.subscriptionTtlMs:90000}")
+    private long subscriptionTtlMs;
+
+    @Override
+    @Transactional(readOnly = true)
+    public boolean isSubscribed(String username, String destination) {
+        if (LocalSubscriptionDirectory.isSubscribedLocally(simpUserRegistry, username, destination)) {
+            return true;
+        }
+        long freshSince = System.currentTimeMillis() - subscriptionTtlMs;
+        return subscriptionRepository.existsByUsernameAndDestinationAndHeartbeatAtGreaterThan(username, destination, freshSince);
+    }
+
+    @EventListener
+    @Transactional
+    public void onSubscribe(SessionSubscribeEvent event) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+        Principal user = event.getUser();
+        if (user == null || accessor.getDestination() == null || accessor.getSubscriptionId() == null) {
+            return;
+        }
+        subscriptionRepository.save(WebSocketSubscription.builder()
+                .nodeId(clusterTransport.nodeId())
+                .sessionId(accessor.getSessionId())
+                .subscriptionId(accessor.getSubscriptionId())
+                .username(user.getName())
+                .destination(accessor.getDestination())
+                .heartbeatAt(System.currentTimeMillis())
+                .build());
+    }
+
+    @EventListener
+    @Transactional
+    public void onUnsubscribe(SessionUnsubscribeEvent event) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+        if (accessor.getSubscriptionId() == null) {
+            return;
+        }
+        subscriptionRepository.deleteSubscription(clusterTransport.nodeId(), accessor.getSessionId(), accessor.getSubscriptionId());
+    }
+
+    @EventListener
+    @Transactional
+    public void onDisconnect(SessionDisconnectEvent event) {
+        subscriptionRepository.deleteSession(clusterTransport.nodeId(), event.getSessionId());
+    }
+
+    /**
+     * Refreshes this node's rows and drops rows nobody refreshed within the TTL.
+     * @return number of stale rows removed
+     */
+    @Transactional
+    public int heartbeat() {
+        long now = System.currentTimeMillis();
+        subscriptionRepository.refreshNode(clusterTransport.nodeId(), now);
+        return subscriptionRepository.deleteStale(now - subscriptionTtlMs);
+    }
+
+    /** Removes every row of this node, called on shutdown. */
+    @Transactional
+    public void deregister() {
+        try {
+            subscriptionRepository.deleteNode(clusterTransport.nodeId());
+        } catch (RuntimeException e) {
+            log.warn("Could not remove websocket subscriptions of node {} on shutdown: {}", clusterTransport.nodeId(), e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package org.bounswe.jobboardbackend.websocket.service;
+
+import org.bounswe.jobboardbackend.websocket.dto.ClusterEnvelope;
+
+import java.util.function.Consumer;
+
+/**
+ * Carries broker messages between backend nodes so that a push reaches sessions connected
+ * to any replica. Selected with {@code app.websocket.cluster.transport}.
+ */
+public interface ClusterTransport {
+
+    /** Id of this node, unique per process start. */
+    String nodeId();
+
+    /** Whether messages actually leave this node; false for a single-node deployment. */
+    boolean isClustered();
+
+    /** Sends the envelope to every node, possibly including this one. */
+    void publish(ClusterEnvelope envelope);
+
+    /** Registers a handler for envelopes received from the cluster. */
+    void onMessage(Consumer<ClusterEnvelope> handler);
+}
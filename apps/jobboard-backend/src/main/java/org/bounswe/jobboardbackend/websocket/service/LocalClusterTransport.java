@@ -0,0 +1,38 @@
+package org.bounswe.jobboardbackend.websocket.service;
+
+import org.bounswe.jobboardbackend.websocket.dto.ClusterEnvelope;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * Single-node transport: the in-JVM broker already reaches every session.
+ */
+@Component
+@ConditionalOnProperty(name = "app.websocket.cluster.transport", havingValue = "local", matchIfMissing = true)
+public class LocalClusterTransport implements ClusterTransport {
+
+    private final String nodeId = UUID.randomUUID().toString();
+
+    @Override
+    public String nodeId() {
+        return nodeId;
+    }
+
+    @Override
+    public boolean isClustered() {
+        return false;
+    }
+
+    @Override
+    public void publish(ClusterEnvelope envelope) {
+        // nothing to do on a single node
+    }
+
+    @Override
+    public void onMessage(Consumer<ClusterEnvelope> handler) {
+        // nothing is ever received
+    }
+}
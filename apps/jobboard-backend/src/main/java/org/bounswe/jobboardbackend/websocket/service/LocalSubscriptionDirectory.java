@@ -0,0 +1,33 @@
+package org.bounswe.jobboardbackend.websocket.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.messaging.simp.user.SimpUser;
+import org.springframework.messaging.simp.user.SimpUserRegistry;
+import org.springframework.stereotype.Service;
+
+/**
+ * Directory for a single node: the in-memory user registry already sees every session.
+ */
+@Service
+@ConditionalOnProperty(name = "app.websocket.cluster.transport", havingValue = "local", matchIfMissing = true)
+@RequiredArgsConstructor
+public class LocalSubscriptionDirectory implements SubscriptionDirectory {
+
+    private final SimpUserRegistry simpUserRegistry;
+
+    @Override
+    public boolean isSubscribed(String username, String destination) {
+        return isSubscribedLocally(simpUserRegistry, username, destination);
+    }
+
+    static boolean isSubscribedLocally(SimpUserRegistry registry, String username, String destination) {
+        SimpUser simpUser = registry.getUser(username);
+        if (simpUser == null) {
+            return false;
+        }
+        return simpUser.getSessions().stream()
+                .flatMap(session -> session.getSubscriptions().stream())
+                .anyMatch(sub -> destination.equals(sub.getDestination()));
+    }
+}
@@ -0,0 +1,215 @@
+package org.bounswe.jobboardbackend.websocket.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.bounswe.jobboardbackend.websocket.dto.ClusterEnvelope;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.function.Consumer;
+
+/**
+ * Cluster transport over Postgres {@code LISTEN/NOTIFY}, so replicas need nothing beyond the
+ * database they already share. One pooled connection per node is held for listening.
+ * Publishing never blocks the caller: messages are queued and sent by a dedicated thread,
+ * outside any transaction, and dropped with a warning when the queue is full.
+ * Messages too large for a notification are stored in {@code cluster_relay_messages} and
+ * only their id is notified.
+ */
+@Component
+@ConditionalOnProperty(name = "app.websocket.cluster.transport", havingValue = "postgres")
+@Slf4j
+public class PostgresClusterTransport implements ClusterTransport {
+
+    static final String CHANNEL = "stomp_relay";
+
+    /** Postgres rejects notification payloads of 8000 bytes or more. */
+    static final int MAX_PAYLOAD_BYTES = 7900;
+
+    /** Prefix of a notification that carries the id of a stored relay message. */
+    static final String RELAY_PREFIX = "relay:";
+
+    private final DataSource dataSource;
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final String nodeId = UUID.randomUUID().toString();
+    private final List<Consumer<ClusterEnvelope>> handlers = new CopyOnWriteArrayList<>();
+
+    /** Serialized envelopes waiting for the publisher thread. */
+    private final BlockingQueue<String> outgoing;
+
+    @Value("${app.websocket.cluster.pollTimeoutMs:500}")
+    private int pollTimeoutMs;
+
+    /** How long stored relay messages are kept for listeners to load them. */
+    @Value("${app.websocket.cluster.relayTtlMs:60000}")
+    private long relayTtlMs;
+
+    /** Only touched by the publisher thread. */
+    private long lastRelayPurgeAt;
+
+    private volatile boolean running;
+    private Thread listener;
+    private Thread publisher;
+
+    public PostgresClusterTransport(DataSource dataSource, JdbcTemplate jdbcTemplate, ObjectMapper objectMapper,
+                                    @Value("${app.websocket.cluster.publishQueueCapacity:10000}") int publishQueueCapacity) {
+        this.dataSource = dataSource;
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+        this.outgoing = new LinkedBlockingQueue<>(publishQueueCapacity);
+    }
+
+    @PostConstruct
+    void start() {
+        running = true;
+        listener = Thread.ofPlatform().daemon().name("stomp-relay-listener").start(this::listen);
+        publisher = Thread.ofPlatform().daemon().name("stomp-relay-publisher").start(this::publishQueued);
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        running = false;
+        for (Thread thread : List.of(listener, publisher)) {
+            thread.interrupt();
+            thread.join(pollTimeoutMs * 2L);
+        }
+    }
+
+    @Override
+    public String nodeId() {
+        return nodeId;
+    }
+
+    @Override
+    public boolean isClustered() {
+        return true;
+    }
+
+    @Override
+    public void publish(ClusterEnvelope envelope) {
+        String json;
+        try {
+            json = objectMapper.writeValueAsString(envelope);
+        } catch (JsonProcessingException e) {
+            log.warn("Could not serialize relay message for {}: {}", envelope.destination(), e.getMessage());
+            return;
+        }
+        if (!outgoing.offer(json)) {
+            log.warn("Relay publish queue is full, message for {} delivered on this node only", envelope.destination());
+        }
+    }
+
+    @Override
+    public void onMessage(Consumer<ClusterEnvelope> handler) {
+        handlers.add(handler);
+    }
+
+    private void listen() {
+        while (running) {
+            try (Connection connection = dataSource.getConnection()) {
+                connection.setAutoCommit(true);
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("LISTEN " + CHANNEL);
+                }
+                PGConnection pg = connection.unwrap(PGConnection.class);
+                log.info("Listening for relayed STOMP messages as node {}", nodeId);
+                while (running) {
+                    PGNotification[] notifications = pg.getNotifications(pollTimeoutMs);
+                    if (notifications != null) {
+                        for (PGNotification notification : notifications) {
+                            dispatch(notification.getParameter());
+                        }
+                    }
+                }
+            } catch (SQLException e) {
+                if (running) {
+                    log.warn("STOMP relay listener lost its connection, reconnecting: {}", e.getMessage());
+                    pause();
+                }
+            }
+        }
+    }
+
+    private void publishQueued() {
+        while (running) {
+            String json;
+            try {
+                json = outgoing.take();
+            } catch (InterruptedException e) {
+                return;
+            }
+            try {
+                send(json);
+            } catch (RuntimeException e) {
+                log.warn("Could not relay STOMP message to other nodes: {}", e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Notifies the serialized envelope, or stores it and notifies its id when it does not
+     * fit in a notification payload.
+     */
+    void send(String json) {
+        String payload = json;
+        if (json.getBytes(StandardCharsets.UTF_8).length > MAX_PAYLOAD_BYTES) {
+            long now = System.currentTimeMillis();
+            Long id = jdbcTemplate.queryForObject(
+                    "INSERT INTO cluster_relay_messages (payload, created_at) VALUES (?, ?) RETURNING id",
+                    Long.class, json, now);
+            payload = RELAY_PREFIX + id;
+            purgeRelayMessages(now);
+        }
+        jdbcTemplate.query("SELECT pg_notify(?, ?)", rs -> null, CHANNEL, payload);
+    }
+
+    private void purgeRelayMessages(long now) {
+        if (now - lastRelayPurgeAt < relayTtlMs) {
+            return;
+        }
+        lastRelayPurgeAt = now;
+        jdbcTemplate.update("DELETE FROM cluster_relay_messages WHERE created_at < ?", now - relayTtlMs);
+    }
+
+    void dispatch(String payload) {
+        try {
+            String json = payload;
+            if (payload.startsWith(RELAY_PREFIX)) {
+                json = jdbcTemplate.queryForObject("SELECT payload FROM cluster_relay_messages WHERE id = ?",
+                        String.class, Long.parseLong(payload.substring(RELAY_PREFIX.length())));
+            }
+            ClusterEnvelope envelope = objectMapper.readValue(json, ClusterEnvelope.class);
+            for (Consumer<ClusterEnvelope> handler : handlers) {
+                handler.accept(envelope);
+            }
+        } catch (Exception e) {
+            log.warn("Dropping relayed STOMP message: {}", e.getMessage());
+        }
+    }
+
+    private void pause() {
+        try {
+            Thread.sleep(1000);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,9 @@
+package org.bounswe.jobboardbackend.websocket.service;
+
+/**
+ * Answers whether a user currently has a STOMP subscription to a destination on any node.
+ */
+public interface SubscriptionDirectory {
+
+    boolean isSubscribed(String username, String destination);
+}
@@ -0,0 +1,57 @@
+package org.bounswe.jobboardbackend.websocket.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Keeps this node's rows in the shared subscription directory alive and expires rows of
+ * nodes that stopped without cleaning up.
+ * Runs on its own thread rather than the shared scheduler: a heartbeat delayed behind a long
+ * maintenance job would let other nodes expire this node's live subscriptions.
+ */
+@Component
+@ConditionalOnProperty(name = "app.websocket.cluster.transport", havingValue = "postgres")
+@RequiredArgsConstructor
+@Slf4j
+public class WebSocketSubscriptionHeartbeatJob {
+
+    private final ClusterSubscriptionDirectory subscriptionDirectory;
+
+    @Value("${app.websocket.cluster.heartbeatIntervalMs:30000}")
+    private long heartbeatIntervalMs;
+
+    private ScheduledExecutorService executor;
+
+    @PostConstruct
+    void start() {
+        executor = Executors.newSingleThreadScheduledExecutor(
+                r -> Thread.ofPlatform().daemon().name("websocket-heartbeat").unstarted(r));
+        executor.scheduleWithFixedDelay(this::heartbeat, heartbeatIntervalMs, heartbeatIntervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    public void heartbeat() {
+        try {
+            int expired = subscriptionDirectory.heartbeat();
+            if (expired > 0) {
+                log.info("Expired {} websocket subscriptions of unreachable nodes", expired);
+            }
+        } catch (Exception e) {
+            log.error("Websocket subscription heartbeat failed: {}", e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+        subscriptionDirectory.deregister();
+    }
+}
@@ -12,6 +12,9 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.bounswe.jobboardbackend.workplace.dto.*;
 import org.bounswe.jobboardbackend.workplace.service.WorkplaceService;
+import org.bounswe.jobboardbackend.storage.dto.UploadConfirmRequest;
+import org.bounswe.jobboardbackend.storage.dto.UploadTicketResponse;
+import org.bounswe.jobboardbackend.storage.dto.UploadUrlRequest;
 import org.bounswe.jobboardbackend.auth.service.UserDetailsImpl;
 import org.bounswe.jobboardbackend.exception.ApiError;
 import org.springframework.http.MediaType;
@@ -62,6 +65,41 @@ public class WorkplaceController {
                 return ResponseEntity.ok(res);
         }
 
+        @Operation(summary = "Request Workplace Image Upload URL", description = "Issues a short-lived signed URL the client uploads the image to directly, bypassing this server. Finish with the confirm endpoint.")
+        @ApiResponses(value = {
+                        @ApiResponse(responseCode = "200", description = "Upload URL issued"),
+                        @ApiResponse(responseCode = "400", description = "Invalid file type or size", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ApiError.class), examples = @ExampleObject(value = "{\"status\": 400, \"error\": \"Bad Request\", \"message\": \"Only image files are allowed\", \"timestamp\": \"2023-12-14T12:00:00\"}"))),
+                        @ApiResponse(responseCode = "401", description = "Unauthorized", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ApiError.class), examples = @ExampleObject(value = "{\"status\": 401, \"error\": \"Unauthorized\", \"message\": \"Full authentication is required\", \"timestamp\": \"2023-12-14T12:00:00\"}"))),
+                        @ApiResponse(responseCode = "403", description = "Forbidden (Not an employer of this workplace)", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ApiError.class), examples = @ExampleObject(value = "{\"status\": 403, \"error\": \"Forbidden\", \"message\": \"Not an employer of this workplace\", \"timestamp\": \"2023-12-14T12:00:00\"}"))),
+                        @ApiResponse(responseCode = "404", description = "Workplace not found", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ApiError.class), examples = @ExampleObject(value = "{\"status\": 404, \"error\": \"Not Found\", \"message\": \"Workplace not found\", \"timestamp\": \"2023-12-14T12:00:00\"}")))
+        })
+        @PostMapping("/{id}/image/upload-url")
+        public ResponseEntity<UploadTicketResponse> requestImageUpload(
+                        @Parameter(description = "ID of the workplace") @PathVariable Long id,
+                        @RequestBody @Valid UploadUrlRequest request,
+                        Authentication auth) {
+                UserDetailsImpl userDetails = (UserDetailsImpl) auth.getPrincipal();
+                var res = workplaceService.requestImageUpload(id, request, userDetails.getId());
+                return ResponseEntity.ok(res);
+        }
+
+        @Operation(summary = "Confirm Workplace Image Upload", description = "Checks the image uploaded with an upload ticket and sets it as the workplace image.")
+        @ApiResponses(value = {
+                        @ApiResponse(responseCode = "200", description = "Image attached successfully"),
+                        @ApiResponse(responseCode = "400", description = "Invalid ticket or rejected file", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ApiError.class), examples = @ExampleObject(value = "{\"status\": 400, \"error\": \"Bad Request\", \"message\": \"Upload ticket not found\", \"timestamp\": \"2023-12-14T12:00:00\"}"))),
+                        @ApiResponse(responseCode = "403", description = "Forbidden (Not an employer of this workplace)", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ApiError.class), examples = @ExampleObject(value = "{\"status\": 403, \"error\": \"Forbidden\", \"message\": \"Not an employer of this workplace\", \"timestamp\": \"2023-12-14T12:00:00\"}"))),
+                        @ApiResponse(responseCode = "409", description = "File not uploaded yet", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ApiError.class), examples = @ExampleObject(value = "{\"status\": 409, \"error\": \"Conflict\", \"message\": \"File has not been uploaded yet\", \"timestamp\": \"2023-12-14T12:00:00\"}")))
+        })
+        @PostMapping("/{id}/image/confirm")
+        public ResponseEntity<WorkplaceImageResponseDto> confirmImageUpload(
+                        @Parameter(description = "ID of the workplace") @PathVariable Long id,
+                        @RequestBody @Valid UploadConfirmRequest request,
+                        Authentication auth) {
+                UserDetailsImpl userDetails = (UserDetailsImpl) auth.getPrincipal();
+                var res = workplaceService.confirmImageUpload(id, request, userDetails.getId());
+                return ResponseEntity.ok(res);
+        }
+
         @Operation(summary = "Delete Workplace Image", description = "Deletes the image of the specified workplace.")
         @ApiResponses(value = {
                         @ApiResponse(responseCode = "200", description = "Image deleted successfully"),
@@ -91,7 +129,7 @@ public class WorkplaceController {
                         @Parameter(description = "Page size") @RequestParam(defaultValue = "12") int size,
                         @Parameter(description = "Filter by sector") @RequestParam(required = false) String sector,
                         @Parameter(description = "Filter by location") @RequestParam(required = false) String location,
-                        @Parameter(description = "Filter by ethical tag") @RequestParam(required = false) String ethicalTag,
+                        @Parameter(description = "Filter by ethical tag (comma-separated labels, all must match)") @RequestParam(required = false) String ethicalTag,
                         @Parameter(description = "Filter by minimum average rating") @RequestParam(required = false) Double minRating,
                         @Parameter(description = "Sort criteria") @RequestParam(required = false) String sortBy,
                         @Parameter(description = "Search query (company name)") @RequestParam(required = false) String search) {
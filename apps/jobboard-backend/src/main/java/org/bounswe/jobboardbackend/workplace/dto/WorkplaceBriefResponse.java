@@ -19,7 +19,7 @@ public class WorkplaceBriefResponse {
     @Schema(description = "Company name", example = "Acme Corp")
     private String companyName;
 
-    @Schema(description = "Image URL", example = "https://example.com/logo.png")
+    @Schema(description = "Image URL, the thumbnail rendition once it has been generated", example = "https://example.com/logo_thumb.jpg")
     private String imageUrl;
 
     @Schema(description = "Sector", example = "Technology")
@@ -0,0 +1,34 @@
+package org.bounswe.jobboardbackend.workplace.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.*;
+
+/**
+ * Running sum and count of 1..5 scores.
+ * Immutable so that changes are always written back into the owning collection.
+ */
+@Embeddable
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode
+@ToString
+public class RatingAggregate {
+
+    public static final RatingAggregate EMPTY = new RatingAggregate(0L, 0L);
+
+    @Column(nullable = false)
+    private long scoreSum;
+
+    @Column(nullable = false)
+    private long scoreCount;
+
+    public RatingAggregate plus(long sumDelta, long countDelta) {
+        return new RatingAggregate(scoreSum + sumDelta, scoreCount + countDelta);
+    }
+
+    public Double average() {
+        return scoreCount <= 0 ? null : (double) scoreSum / scoreCount;
+    }
+}
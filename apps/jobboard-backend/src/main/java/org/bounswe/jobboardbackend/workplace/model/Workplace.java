@@ -2,11 +2,14 @@ package org.bounswe.jobboardbackend.workplace.model;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
 import java.time.Instant;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
 import org.bounswe.jobboardbackend.workplace.model.enums.EthicalPolicy;
 
@@ -16,7 +19,10 @@ import org.bounswe.jobboardbackend.workplace.model.enums.EthicalPolicy;
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
-@Table
+@Table(indexes = {
+        @Index(name = "idx_workplace_rating_avg", columnList = "rating_avg, id"),
+        @Index(name = "idx_workplace_review_count", columnList = "review_count, rating_avg, id")
+})
 public class Workplace {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -41,7 +47,8 @@ public class Workplace {
     @CollectionTable(
         name = "workplace_ethical_tags",
         joinColumns = @JoinColumn(name = "workplace_id"),
-        uniqueConstraints = @UniqueConstraint(columnNames = {"workplace_id", "policy"})
+        uniqueConstraints = @UniqueConstraint(columnNames = {"workplace_id", "policy"}),
+        indexes = @Index(name = "idx_workplace_ethical_tags_policy", columnList = "policy, workplace_id")
     )
     @Enumerated(EnumType.STRING)
     @Column(name = "policy", length = 64, nullable = false)
@@ -51,13 +58,45 @@ public class Workplace {
     @Column(length = 255)
     private String website;
 
-    @Column(length = 500)
-    private String imageUrl;
+    /** Storage object name of the image; URLs are resolved when a response is built. */
+    @Column(name = "image_url", length = 500)
+    private String imageObjectName;
+
+    /** Derivatives of {@code imageObjectName}, filled in asynchronously; null until generated. */
+    @Column(name = "image_thumbnail_url", length = 500)
+    private String imageThumbnailObjectName;
+
+    @Column(name = "image_medium_url", length = 500)
+    private String imageMediumObjectName;
 
     @Column(nullable = false)
     @Builder.Default
     private long reviewCount = 0L;
 
+    // Totals over all review policy scores, maintained by WorkplaceRatingService
+    @Column(nullable = false)
+    @ColumnDefault("0")
+    @Builder.Default
+    private long ratingSum = 0L;
+
+    @Column(nullable = false)
+    @ColumnDefault("0")
+    @Builder.Default
+    private long ratingCount = 0L;
+
+    // ratingSum / ratingCount, 0 while unrated so that unrated workplaces sort last on ratingDesc
+    @Column(nullable = false)
+    @ColumnDefault("0")
+    @Builder.Default
+    private double ratingAvg = 0.0;
+
+    @ElementCollection(fetch = FetchType.LAZY)
+    @CollectionTable(name = "workplace_policy_ratings", joinColumns = @JoinColumn(name = "workplace_id"))
+    @MapKeyEnumerated(EnumType.STRING)
+    @MapKeyColumn(name = "policy", length = 64)
+    @Builder.Default
+    private Map<EthicalPolicy, RatingAggregate> policyRatings = new HashMap<>();
+
     @Builder.Default
     private boolean deleted = false;
 
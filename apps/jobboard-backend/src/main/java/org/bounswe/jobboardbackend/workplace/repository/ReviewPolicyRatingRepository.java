@@ -17,9 +17,9 @@ public interface ReviewPolicyRatingRepository extends JpaRepository<ReviewPolicy
 
     List<ReviewPolicyRating> findByReview_IdAndPolicyIn(Long reviewId, Collection<EthicalPolicy> policies);
 
-    @Query("select rpr.policy as policy, avg(rpr.score) as avgScore " +
+    @Query("select rpr.review.workplace.id, rpr.policy, sum(rpr.score), count(rpr) " +
            "from ReviewPolicyRating rpr " +
-           "where rpr.review.workplace.id = :workplaceId " +
-           "group by rpr.policy")
-    List<Object[]> averageByPolicyForWorkplace(@Param("workplaceId") Long workplaceId);
+           "where rpr.review.workplace.id in :workplaceIds " +
+           "group by rpr.review.workplace.id, rpr.policy")
+    List<Object[]> sumAndCountByPolicyForWorkplaces(@Param("workplaceIds") Collection<Long> workplaceIds);
 }
\ No newline at end of file
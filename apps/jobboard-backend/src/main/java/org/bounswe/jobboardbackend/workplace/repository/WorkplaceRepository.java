@@ -1,16 +1,83 @@
 package org.bounswe.jobboardbackend.workplace.repository;
 
 import org.bounswe.jobboardbackend.workplace.model.Workplace;
-import org.springframework.data.domain.Page;
+import org.bounswe.jobboardbackend.workplace.model.enums.EthicalPolicy;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
-public interface WorkplaceRepository extends JpaRepository<Workplace, Long> {
-    Page<Workplace> findByDeletedFalse(Pageable pageable);
+import java.util.Collection;
+import java.util.List;
 
-    Page<Workplace> findByDeletedFalseAndSectorIgnoreCase(String sector, Pageable pageable);
+public interface WorkplaceRepository extends JpaRepository<Workplace, Long>, JpaSpecificationExecutor<Workplace> {
 
-    Page<Workplace> findByDeletedFalseAndLocationIgnoreCase(String location, Pageable pageable);
+    @Query("select distinct w from Workplace w left join fetch w.ethicalTags left join fetch w.policyRatings " +
+           "where w.id in :ids")
+    List<Workplace> findAllForBriefByIdIn(@Param("ids") Collection<Long> ids);
 
-    Page<Workplace> findByDeletedFalseAndCompanyNameContainingIgnoreCase(String companyName, Pageable pageable);
-}
\ No newline at end of file
+    @Query("select distinct w from Workplace w left join fetch w.policyRatings where w.id in :ids")
+    List<Workplace> findAllWithPolicyRatingsByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("select w.id from Workplace w join w.ethicalTags t where t in :tags group by w.id having count(t) = :tagCount")
+    List<Long> findIdsWithAllEthicalTags(@Param("tags") Collection<EthicalPolicy> tags, @Param("tagCount") long tagCount);
+
+    @Query("select w.id from Workplace w where w.id > :afterId order by w.id")
+    List<Long> findIdsAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    /** Locks the rows so that concurrent rating adjustments wait until a recompute has committed. */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select w from Workplace w where w.id in :ids")
+    List<Workplace> lockAllByIdIn(@Param("ids") Collection<Long> ids);
+
+    // Counters are adjusted in place so that concurrent review writes never lose an update.
+    // Right-hand sides see the values before the update, so the average uses the new totals.
+    @Modifying
+    @Query("update Workplace w set w.ratingSum = w.ratingSum + :sumDelta, w.ratingCount = w.ratingCount + :countDelta, " +
+           "w.ratingAvg = case when w.ratingCount + :countDelta > 0 " +
+           "then (w.ratingSum + :sumDelta) / (1.0 * (w.ratingCount + :countDelta)) else 0.0 end " +
+           "where w.id = :id")
+    int adjustRatingTotals(@Param("id") Long id, @Param("sumDelta") long sumDelta, @Param("countDelta") long countDelta);
+
+    @Modifying
+    @Query(value = "insert into workplace_policy_ratings (workplace_id, policy, score_sum, score_count) " +
+                   "values (:id, :policy, :sumDelta, :countDelta) " +
+                   "on conflict (workplace_id, policy) do update set " +
+                   "score_sum = workplace_policy_ratings.score_sum + excluded.score_sum, " +
+                   "score_count = workplace_policy_ratings.score_count + excluded.score_count",
+           nativeQuery = true)
+    int adjustPolicyRating(@Param("id") Long id, @Param("policy") String policy,
+                           @Param("sumDelta") long sumDelta, @Param("countDelta") long countDelta);
+
+    @Modifying
+    @Query(value = "delete from workplace_policy_ratings where workplace_id = :id and policy = :policy and score_count <= 0",
+           nativeQuery = true)
+    int deleteEmptyPolicyRating(@Param("id") Long id, @Param("policy") String policy);
+
+    /**
+     * Sets the image renditions only while the workplace still shows {@code source}.
+     * Returns 0 when the image was replaced or removed in the meantime.
+     */
+    @Modifying
+    @Query("""
+        update Workplace w set w.imageThumbnailObjectName = :thumbnail, w.imageMediumObjectName = :medium
+        where w.id = :id and w.imageObjectName = :source
+    """)
+    int attachImageDerivatives(@Param("id") Long id,
+                               @Param("source") String source,
+                               @Param("thumbnail") String thumbnail,
+                               @Param("medium") String medium);
+
+    /** Adds {@code delta} to the review count, never going below zero. */
+    @Modifying
+    @Query("""
+        update Workplace w set w.reviewCount =
+            case when w.reviewCount + :delta < 0 then 0 else w.reviewCount + :delta end
+        where w.id = :id
+    """)
+    int adjustReviewCount(@Param("id") Long id, @Param("delta") long delta);
+}
@@ -0,0 +1,62 @@
+package org.bounswe.jobboardbackend.workplace.repository;
+
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
+import org.bounswe.jobboardbackend.workplace.model.Workplace;
+import org.bounswe.jobboardbackend.workplace.model.enums.EthicalPolicy;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.Set;
+
+/**
+ * Composable filters for workplace list queries.
+ */
+public final class WorkplaceSpecifications {
+
+    private WorkplaceSpecifications() {
+    }
+
+    public static Specification<Workplace> notDeleted() {
+        return (root, query, cb) -> cb.isFalse(root.get("deleted"));
+    }
+
+    public static Specification<Workplace> companyNameContains(String search) {
+        return (root, query, cb) -> cb.like(cb.lower(root.get("companyName")), "%" + search.toLowerCase() + "%");
+    }
+
+    public static Specification<Workplace> sectorEquals(String sector) {
+        return (root, query, cb) -> cb.equal(cb.lower(root.get("sector")), sector.toLowerCase());
+    }
+
+    public static Specification<Workplace> locationEquals(String location) {
+        return (root, query, cb) -> cb.equal(cb.lower(root.get("location")), location.toLowerCase());
+    }
+
+    /**
+     * Workplaces carrying every one of the given policies.
+     * Evaluated as a single GROUP BY / HAVING subquery on the ethical tag table.
+     */
+    public static Specification<Workplace> hasAllEthicalTags(Set<EthicalPolicy> policies) {
+        return (root, query, cb) -> {
+            Subquery<Long> matching = query.subquery(Long.class);
+            Root<Workplace> w = matching.from(Workplace.class);
+            Join<Workplace, EthicalPolicy> tag = w.join("ethicalTags");
+            matching.select(w.get("id"))
+                    .where(tag.in(policies))
+                    .groupBy(w.get("id"))
+                    .having(cb.equal(cb.count(tag), (long) policies.size()));
+            return root.get("id").in(matching);
+        };
+    }
+
+    /**
+     * Workplaces with at least one rating whose average, rounded to one decimal
+     * as shown to clients, is at least {@code minRating}.
+     */
+    public static Specification<Workplace> ratingAtLeast(double minRating) {
+        return (root, query, cb) -> cb.and(
+                cb.greaterThan(root.get("ratingCount"), 0L),
+                cb.greaterThanOrEqualTo(root.get("ratingAvg"), minRating - 0.05));
+    }
+}
@@ -91,15 +91,19 @@ public class EmployerService {
 
         var links = employerWorkplaceRepository.findByUser_Id(userId);
 
-        return links.stream()
+        List<EmployerWorkplace> active = links.stream()
                 .filter(link -> {
                     Workplace wp = link.getWorkplace();
                     return wp != null && !wp.isDeleted();
                 })
                 .sorted(Comparator.comparing(EmployerWorkplace::getCreatedAt).reversed())
+                .toList();
+        Map<Long, WorkplaceBriefResponse> briefs = workplaceService.toBriefResponses(
+                active.stream().map(link -> link.getWorkplace().getId()).toList());
+
+        return active.stream()
                 .map(link -> {
-                    Workplace wp = link.getWorkplace();
-                    WorkplaceBriefResponse brief = workplaceService.toBriefResponse(wp);
+                    WorkplaceBriefResponse brief = briefs.get(link.getWorkplace().getId());
 
                     return EmployerWorkplaceBrief.builder()
                             .role(link.getRole() != null ? link.getRole().name() : null)
@@ -35,6 +35,7 @@ public class ReviewService {
         private final ProfileRepository profileRepository;
         private final ReviewReactionRepository reviewReactionRepository;
         private final ActivityService activityService;
+        private final WorkplaceRatingService workplaceRatingService;
 
         // === CREATE REVIEW ===
         @Transactional
@@ -125,6 +126,7 @@ public class ReviewService {
                                         .score(e.getValue())
                                         .build();
                         reviewPolicyRatingRepository.save(rpr);
+                        workplaceRatingService.addScore(wp.getId(), e.getKey(), e.getValue());
                 }
 
                 double avg = validated.stream().mapToInt(Map.Entry::getValue).average().orElse(0.0);
@@ -132,8 +134,7 @@ public class ReviewService {
                 review.setOverallRating(overall);
                 reviewRepository.save(review);
 
-                wp.setReviewCount(wp.getReviewCount() + 1);
-                workplaceRepository.save(wp);
+                workplaceRepository.adjustReviewCount(wp.getId(), 1);
 
                 activityService.logActivity(currentUser, ActivityType.CREATE_REVIEW, review.getId(), "Review");
 
@@ -281,6 +282,7 @@ public class ReviewService {
                                 ReviewPolicyRating entity = byPolicy.get(policy);
                                 if (entity != null) {
                                         // UPDATE
+                                        workplaceRatingService.changeScore(workplaceId, policy, entity.getScore(), score);
                                         entity.setScore(score);
                                 } else {
                                         // INSERT
@@ -291,6 +293,7 @@ public class ReviewService {
                                                         .build();
                                         reviewPolicyRatingRepository.save(created);
                                         byPolicy.put(policy, created);
+                                        workplaceRatingService.addScore(workplaceId, policy, score);
                                 }
                         }
 
@@ -378,13 +381,15 @@ public class ReviewService {
 
         private void deleteReviewInternal(Review r) {
                 reviewReplyRepository.findByReview_Id(r.getId()).ifPresent(reviewReplyRepository::delete);
-                reviewPolicyRatingRepository.deleteAll(reviewPolicyRatingRepository.findByReview_Id(r.getId()));
+                Workplace wp = r.getWorkplace();
+                List<ReviewPolicyRating> ratings = reviewPolicyRatingRepository.findByReview_Id(r.getId());
+                for (ReviewPolicyRating rpr : ratings) {
+                        workplaceRatingService.removeScore(wp.getId(), rpr.getPolicy(), rpr.getScore());
+                }
+                reviewPolicyRatingRepository.deleteAll(ratings);
                 reviewRepository.delete(r);
 
-                Workplace wp = r.getWorkplace();
-                long currentCount = wp.getReviewCount();
-                wp.setReviewCount(Math.max(0, currentCount - 1));
-                workplaceRepository.save(wp);
+                workplaceRepository.adjustReviewCount(wp.getId(), -1);
         }
 
         @Transactional
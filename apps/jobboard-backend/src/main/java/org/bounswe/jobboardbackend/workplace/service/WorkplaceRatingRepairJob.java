@@ -0,0 +1,53 @@
+package org.bounswe.jobboardbackend.workplace.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bounswe.jobboardbackend.workplace.repository.WorkplaceRepository;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Periodically recomputes the stored workplace rating totals in chunks.
+ * The first run after startup also backfills workplaces created before the totals existed.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class WorkplaceRatingRepairJob {
+
+    private static final int CHUNK_SIZE = 200;
+
+    private final WorkplaceRepository workplaceRepository;
+    private final WorkplaceRatingService workplaceRatingService;
+
+    @Scheduled(initialDelayString = "${app.workplace.ratings.repairInitialDelayMs:60000}",
+            fixedDelayString = "${app.workplace.ratings.repairIntervalMs:21600000}")
+    public void repair() {
+        long start = System.currentTimeMillis();
+        int checked = 0;
+        int repaired = 0;
+        Long afterId = 0L;
+        List<Long> chunk;
+        do {
+            chunk = workplaceRepository.findIdsAfter(afterId, PageRequest.of(0, CHUNK_SIZE));
+            if (chunk.isEmpty()) {
+                break;
+            }
+            try {
+                repaired += workplaceRatingService.recompute(chunk);
+            } catch (Exception e) {
+                log.error("Rating repair failed for workplaces {}..{}: {}", chunk.getFirst(), chunk.getLast(), e.getMessage());
+            }
+            checked += chunk.size();
+            afterId = chunk.getLast();
+        } while (chunk.size() == CHUNK_SIZE);
+
+        if (repaired > 0) {
+            log.warn("Repaired rating totals of {} of {} workplaces", repaired, checked);
+        }
+        log.debug("Workplace rating repair checked {} workplaces in {} ms", checked, System.currentTimeMillis() - start);
+    }
+}
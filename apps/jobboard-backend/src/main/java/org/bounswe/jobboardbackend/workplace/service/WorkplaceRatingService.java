@@ -0,0 +1,88 @@
+package org.bounswe.jobboardbackend.workplace.service;
+
+import lombok.RequiredArgsConstructor;
+import org.bounswe.jobboardbackend.workplace.model.RatingAggregate;
+import org.bounswe.jobboardbackend.workplace.model.Workplace;
+import org.bounswe.jobboardbackend.workplace.model.enums.EthicalPolicy;
+import org.bounswe.jobboardbackend.workplace.repository.ReviewPolicyRatingRepository;
+import org.bounswe.jobboardbackend.workplace.repository.WorkplaceRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.*;
+
+/**
+ * Maintains the rating totals stored on {@link Workplace}.
+ * Review writes adjust them with in-place updates inside their own transaction, so concurrent
+ * reviews of one workplace never overwrite each other's deltas; {@link #recompute} rebuilds
+ * them from the review policy scores to repair any drift.
+ */
+@Service
+@RequiredArgsConstructor
+public class WorkplaceRatingService {
+
+    private final WorkplaceRepository workplaceRepository;
+    private final ReviewPolicyRatingRepository reviewPolicyRatingRepository;
+
+    public void addScore(Long workplaceId, EthicalPolicy policy, int score) {
+        adjust(workplaceId, policy, score, 1);
+    }
+
+    public void removeScore(Long workplaceId, EthicalPolicy policy, int score) {
+        adjust(workplaceId, policy, -score, -1);
+    }
+
+    public void changeScore(Long workplaceId, EthicalPolicy policy, int oldScore, int newScore) {
+        adjust(workplaceId, policy, newScore - oldScore, 0);
+    }
+
+    /**
+     * Recomputes the totals of the given workplaces from their review policy scores.
+     * Returns how many workplaces had drifted and were corrected.
+     */
+    @Transactional
+    public int recompute(Collection<Long> workplaceIds) {
+        if (workplaceIds.isEmpty()) {
+            return 0;
+        }
+        // lock before reading the scores, so no adjustment can land between the read and the write
+        workplaceRepository.lockAllByIdIn(workplaceIds);
+
+        Map<Long, Map<EthicalPolicy, RatingAggregate>> actual = new HashMap<>();
+        for (Object[] row : reviewPolicyRatingRepository.sumAndCountByPolicyForWorkplaces(workplaceIds)) {
+            actual.computeIfAbsent((Long) row[0], k -> new EnumMap<>(EthicalPolicy.class))
+                    .put((EthicalPolicy) row[1], new RatingAggregate(((Number) row[2]).longValue(), ((Number) row[3]).longValue()));
+        }
+
+        int repaired = 0;
+        for (Workplace wp : workplaceRepository.findAllWithPolicyRatingsByIdIn(workplaceIds)) {
+            Map<EthicalPolicy, RatingAggregate> byPolicy = actual.getOrDefault(wp.getId(), Map.of());
+            long sum = byPolicy.values().stream().mapToLong(RatingAggregate::getScoreSum).sum();
+            long count = byPolicy.values().stream().mapToLong(RatingAggregate::getScoreCount).sum();
+            if (sum == wp.getRatingSum() && count == wp.getRatingCount() && byPolicy.equals(wp.getPolicyRatings())) {
+                continue;
+            }
+            wp.setRatingSum(sum);
+            wp.setRatingCount(count);
+            wp.setRatingAvg(average(sum, count));
+            wp.getPolicyRatings().clear();
+            wp.getPolicyRatings().putAll(byPolicy);
+            workplaceRepository.save(wp);
+            repaired++;
+        }
+        return repaired;
+    }
+
+    // the workplace row is updated first, so its row lock orders adjustments against recompute
+    private void adjust(Long workplaceId, EthicalPolicy policy, long sumDelta, long countDelta) {
+        workplaceRepository.adjustRatingTotals(workplaceId, sumDelta, countDelta);
+        workplaceRepository.adjustPolicyRating(workplaceId, policy.name(), sumDelta, countDelta);
+        if (countDelta < 0) {
+            workplaceRepository.deleteEmptyPolicyRating(workplaceId, policy.name());
+        }
+    }
+
+    private static double average(long sum, long count) {
+        return count <= 0 ? 0.0 : (double) sum / count;
+    }
+}
@@ -1,6 +1,5 @@
 package org.bounswe.jobboardbackend.workplace.service;
 
-import com.google.cloud.storage.*;
 import lombok.RequiredArgsConstructor;
 import org.bounswe.jobboardbackend.exception.ErrorCode;
 import org.bounswe.jobboardbackend.exception.HandleException;
@@ -16,7 +15,10 @@ import org.bounswe.jobboardbackend.activity.model.ActivityType;
 import org.bounswe.jobboardbackend.auth.model.User;
 import org.bounswe.jobboardbackend.auth.model.Role;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
 import org.springframework.data.domain.*;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.bounswe.jobboardbackend.auth.repository.UserRepository;
@@ -24,13 +26,22 @@ import org.bounswe.jobboardbackend.profile.repository.ProfileRepository;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
-import java.net.URL;
 import java.time.Instant;
 import java.util.*;
-import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
+import org.bounswe.jobboardbackend.jobpost.event.WorkplaceChangedEvent;
 import org.bounswe.jobboardbackend.jobpost.repository.JobPostRepository;
+import org.bounswe.jobboardbackend.storage.dto.UploadConfirmRequest;
+import org.bounswe.jobboardbackend.storage.dto.UploadTicketResponse;
+import org.bounswe.jobboardbackend.storage.dto.UploadUrlRequest;
+import org.bounswe.jobboardbackend.storage.event.ImageDerivativesReadyEvent;
+import org.bounswe.jobboardbackend.storage.event.ImageStoredEvent;
+import org.bounswe.jobboardbackend.storage.model.ImageVariant;
+import org.bounswe.jobboardbackend.storage.model.UploadPurpose;
+import org.bounswe.jobboardbackend.storage.service.ObjectDeletionQueue;
+import org.bounswe.jobboardbackend.storage.service.ObjectStorage;
+import org.bounswe.jobboardbackend.storage.service.UploadTicketService;
 
 @Service
 @RequiredArgsConstructor
@@ -39,13 +50,13 @@ public class WorkplaceService {
     private final WorkplaceRepository workplaceRepository;
     private final EmployerWorkplaceRepository employerWorkplaceRepository;
     private final ReviewRepository reviewRepository;
-    private final ReviewPolicyRatingRepository reviewPolicyRatingRepository;
     private final ReviewReplyRepository reviewReplyRepository;
     private final ReviewService reviewService;
     private final UserRepository userRepository;
     private final ProfileRepository profileRepository;
     private final ActivityService activityService;
     private final JobPostRepository jobPostRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public void deleteUserData(Long userId) {
@@ -61,9 +72,7 @@ public class WorkplaceService {
                 reviewRepository.deleteAllByWorkplace_Id(workplaceId);
                 jobPostRepository.deleteAllByWorkplaceId(workplaceId);
                 Workplace w = ew.getWorkplace();
-                if (w.getImageUrl() != null) {
-                    deleteImage(workplaceId, userId);
-                }
+                deletionQueue.enqueue(w.getImageObjectName(), w.getImageThumbnailObjectName(), w.getImageMediumObjectName());
                 employerWorkplaceRepository.delete(ew);
 
                 workplaceRepository.delete(w);
@@ -71,28 +80,20 @@ public class WorkplaceService {
         }
     }
 
-    private Double calcAvgRating(Long workplaceId) {
-        return reviewRepository.averageOverallByWorkplaceUsingPolicies(workplaceId);
+    private Double calcAvgRating(Workplace wp) {
+        return wp.getRatingCount() == 0 ? null : (double) wp.getRatingSum() / wp.getRatingCount();
     }
 
-    // === GCS config ===
-    @Value("${app.gcs.bucket:bounswe-jobboard}")
-    private String gcsBucket;
-
-    @Value("${app.gcs.public:true}")
-    private boolean gcsPublic;
-
-    @Value("${app.gcs.publicBaseUrl:https://storage.googleapis.com}")
-    private String gcsPublicBaseUrl;
+    // === Storage config ===
+    private final ObjectStorage objectStorage;
+    private final UploadTicketService uploadTicketService;
+    private final ObjectDeletionQueue deletionQueue;
 
     @Value("${app.env}")
     private String appEnv;
 
-    // Google Cloud Storage client
-    private final Storage storage = StorageOptions.getDefaultInstance().getService();
-
     // =========================
-    // IMAGE (GCS integration)
+    // IMAGE (object storage)
     // =========================
 
     private String buildObjectNameForWorkplace(Long workplaceId, String originalFilename) {
@@ -102,42 +103,27 @@ public class WorkplaceService {
         return appEnv + "/" + "workplaces/" + workplaceId + ext;
     }
 
-    private String publicUrl(String objectName) {
-        return gcsPublicBaseUrl + "/" + gcsBucket + "/" + objectName;
-    }
-
-    private String extractObjectNameFromUrl(String url) {
-        String prefix = gcsPublicBaseUrl + "/" + gcsBucket + "/";
-        if (url != null && url.startsWith(prefix)) {
-            return url.substring(prefix.length());
+    private static void validateImageType(String contentType) {
+        if (contentType == null || !contentType.startsWith("image/")) {
+            throw new HandleException(ErrorCode.IMAGE_CONTENT_TYPE_INVALID, "Only image files are allowed");
         }
-        return null;
     }
 
-    private String uploadToGcs(byte[] content, String contentType, String objectName) {
-        BlobInfo info = BlobInfo.newBuilder(gcsBucket, objectName)
-                .setContentType(contentType != null ? contentType : "application/octet-stream")
-                .build();
-        storage.create(info, content);
-        if (gcsPublic) {
-            return publicUrl(objectName);
-        } else {
-            URL signed = storage.signUrl(
-                    BlobInfo.newBuilder(gcsBucket, objectName).build(),
-                    15, TimeUnit.MINUTES,
-                    Storage.SignUrlOption.withV4Signature(),
-                    Storage.SignUrlOption.httpMethod(HttpMethod.GET));
-            return signed.toString();
+    /** Points the workplace at a newly stored image and removes the one it replaces. */
+    private WorkplaceImageResponseDto attachImage(Workplace w, String objectName, String url) {
+        String oldObject = objectStorage.toObjectName(w.getImageObjectName());
+        if (oldObject != null && !oldObject.equals(objectName)) {
+            deletionQueue.enqueue(oldObject, w.getImageThumbnailObjectName(), w.getImageMediumObjectName());
         }
-    }
+        clearImageDerivatives(w);
 
-    private void deleteFromGcs(String objectName) {
-        if (objectName == null)
-            return;
-        try {
-            storage.delete(gcsBucket, objectName);
-        } catch (StorageException ignore) {
-        }
+        w.setImageObjectName(objectName);
+        eventPublisher.publishEvent(new ImageStoredEvent(UploadPurpose.WORKPLACE_IMAGE, w.getId(), objectName));
+
+        return WorkplaceImageResponseDto.builder()
+                .imageUrl(url)
+                .updatedAt(Instant.now())
+                .build();
     }
 
     @Transactional
@@ -146,35 +132,51 @@ public class WorkplaceService {
             throw new HandleException(ErrorCode.IMAGE_FILE_REQUIRED, "Image file is required");
         }
         String ct = file.getContentType();
-        if (ct == null || !ct.startsWith("image/")) {
-            throw new HandleException(ErrorCode.IMAGE_CONTENT_TYPE_INVALID, "Only image files are allowed");
-        }
+        validateImageType(ct);
 
         Workplace w = workplaceRepository.findById(workplaceId)
                 .orElseThrow(() -> new HandleException(ErrorCode.WORKPLACE_NOT_FOUND, "Workplace not found"));
         assertEmployer(workplaceId, userId);
 
-        if (w.getImageUrl() != null) {
-            String oldObject = extractObjectNameFromUrl(w.getImageUrl());
-            if (oldObject != null) {
-                deleteFromGcs(oldObject);
-            }
-        }
-
-        String objectName = buildObjectNameForWorkplace(workplaceId, file.getOriginalFilename());
+        String objectName = UploadTicketService.uniqueName(buildObjectNameForWorkplace(workplaceId, file.getOriginalFilename()));
         String url;
         try {
-            url = uploadToGcs(file.getBytes(), ct, objectName);
+            url = objectStorage.upload(objectName, file, ct);
         } catch (IOException e) {
             throw new HandleException(ErrorCode.IMAGE_UPLOAD_FAILED, "Upload failed", e);
         }
 
-        w.setImageUrl(url);
+        return attachImage(w, objectName, url);
+    }
 
-        return WorkplaceImageResponseDto.builder()
-                .imageUrl(url)
-                .updatedAt(Instant.now())
-                .build();
+    /**
+     * First step of a direct image upload: returns a signed URL the client PUTs the image to.
+     * The upload is attached to the workplace by {@link #confirmImageUpload}.
+     */
+    @Transactional
+    public UploadTicketResponse requestImageUpload(Long workplaceId, UploadUrlRequest request, Long userId) {
+        validateImageType(request.getContentType());
+        if (request.getSize() != null && request.getSize() > UploadTicketService.DEFAULT_MAX_BYTES) {
+            throw new HandleException(ErrorCode.BAD_REQUEST, "Image file too large (max 5MB)");
+        }
+        if (!workplaceRepository.existsById(workplaceId)) {
+            throw new HandleException(ErrorCode.WORKPLACE_NOT_FOUND, "Workplace not found");
+        }
+        assertEmployer(workplaceId, userId);
+
+        String objectName = buildObjectNameForWorkplace(workplaceId, request.getFileName());
+        return uploadTicketService.issue(UploadPurpose.WORKPLACE_IMAGE, workplaceId, userId,
+                objectName, request.getContentType(), UploadTicketService.DEFAULT_MAX_BYTES);
+    }
+
+    @Transactional
+    public WorkplaceImageResponseDto confirmImageUpload(Long workplaceId, UploadConfirmRequest request, Long userId) {
+        Workplace w = workplaceRepository.findById(workplaceId)
+                .orElseThrow(() -> new HandleException(ErrorCode.WORKPLACE_NOT_FOUND, "Workplace not found"));
+        assertEmployer(workplaceId, userId);
+
+        String objectName = uploadTicketService.redeem(request.getTicketId(), UploadPurpose.WORKPLACE_IMAGE, workplaceId, userId);
+        return attachImage(w, objectName, objectStorage.url(objectName));
     }
 
     @Transactional
@@ -183,12 +185,32 @@ public class WorkplaceService {
                 .orElseThrow(() -> new HandleException(ErrorCode.WORKPLACE_NOT_FOUND, "Workplace not found"));
         assertEmployer(workplaceId, userId);
 
-        if (w.getImageUrl() != null) {
-            String objectName = extractObjectNameFromUrl(w.getImageUrl());
-            if (objectName != null) {
-                deleteFromGcs(objectName);
-            }
-            w.setImageUrl(null);
+        deletionQueue.enqueue(w.getImageObjectName(), w.getImageThumbnailObjectName(), w.getImageMediumObjectName());
+        w.setImageObjectName(null);
+        clearImageDerivatives(w);
+    }
+
+    private static void clearImageDerivatives(Workplace w) {
+        w.setImageThumbnailObjectName(null);
+        w.setImageMediumObjectName(null);
+    }
+
+    /**
+     * Records the generated renditions of a workplace image. Derivatives of an image that has
+     * been replaced or removed in the meantime are deleted instead; the check and the write
+     * are one conditional update, so a replacement committed concurrently is never undone.
+     */
+    @EventListener
+    @Transactional
+    public void onImageDerivativesReady(ImageDerivativesReadyEvent event) {
+        if (event.getPurpose() != UploadPurpose.WORKPLACE_IMAGE) {
+            return;
+        }
+        Map<ImageVariant, String> derivatives = event.getDerivatives();
+        int updated = workplaceRepository.attachImageDerivatives(event.getTargetId(), event.getSourceObjectName(),
+                derivatives.get(ImageVariant.THUMBNAIL), derivatives.get(ImageVariant.MEDIUM));
+        if (updated == 0) {
+            deletionQueue.enqueueAll(derivatives.values());
         }
     }
 
@@ -235,40 +257,43 @@ public class WorkplaceService {
 
         Pageable pageable = buildSort(page, size, sortBy);
 
-        Page<Workplace> pageRes;
+        Specification<Workplace> spec = WorkplaceSpecifications.notDeleted();
         if (search != null && !search.isBlank()) {
-            pageRes = workplaceRepository.findByDeletedFalseAndCompanyNameContainingIgnoreCase(search, pageable);
-        } else if (sector != null && !sector.isBlank()) {
-            pageRes = workplaceRepository.findByDeletedFalseAndSectorIgnoreCase(sector, pageable);
-        } else if (location != null && !location.isBlank()) {
-            pageRes = workplaceRepository.findByDeletedFalseAndLocationIgnoreCase(location, pageable);
-        } else {
-            pageRes = workplaceRepository.findByDeletedFalse(pageable);
+            spec = spec.and(WorkplaceSpecifications.companyNameContains(search.trim()));
+        }
+        if (sector != null && !sector.isBlank()) {
+            spec = spec.and(WorkplaceSpecifications.sectorEquals(sector.trim()));
+        }
+        if (location != null && !location.isBlank()) {
+            spec = spec.and(WorkplaceSpecifications.locationEquals(location.trim()));
+        }
+        if (ethicalTag != null && !ethicalTag.isBlank()) {
+            Set<EthicalPolicy> policies = EnumSet.noneOf(EthicalPolicy.class);
+            try {
+                for (String label : ethicalTag.split(",")) {
+                    if (!label.isBlank()) {
+                        policies.add(EthicalPolicy.fromLabel(label.trim()));
+                    }
+                }
+            } catch (IllegalArgumentException e) {
+                // no workplace can carry an unknown tag
+                return PaginatedResponse.of(List.of(), page, size, 0);
+            }
+            if (!policies.isEmpty()) {
+                spec = spec.and(WorkplaceSpecifications.hasAllEthicalTags(policies));
+            }
+        }
+        if (minRating != null) {
+            spec = spec.and(WorkplaceSpecifications.ratingAtLeast(minRating));
         }
 
+        Page<Workplace> pageRes = workplaceRepository.findAll(spec, pageable);
+
+        Map<Long, WorkplaceBriefResponse> briefs = toBriefResponses(
+                pageRes.getContent().stream().map(Workplace::getId).toList());
         List<WorkplaceBriefResponse> items = pageRes.getContent().stream()
-                .map(this::toBriefResponse)
-                .filter(wb -> ethicalTag == null
-                        || (wb.getEthicalTags() != null && wb.getEthicalTags().contains(ethicalTag)))
-                .filter(wb -> minRating == null || (wb.getOverallAvg() != null && wb.getOverallAvg() >= minRating))
+                .map(wp -> briefs.get(wp.getId()))
                 .collect(Collectors.toList());
-        if ("ratingDesc".equals(sortBy)) {
-            items.sort(Comparator.comparing(WorkplaceBriefResponse::getOverallAvg,
-                    Comparator.nullsLast(Comparator.reverseOrder())));
-        } else if ("ratingAsc".equals(sortBy)) {
-            items.sort(Comparator.comparing(WorkplaceBriefResponse::getOverallAvg,
-                    Comparator.nullsFirst(Comparator.naturalOrder())));
-        } else if ("reviewCountDesc".equals(sortBy)) {
-            items.sort(Comparator
-                    .comparing(WorkplaceBriefResponse::getReviewCount, Comparator.nullsLast(Comparator.reverseOrder()))
-                    .thenComparing(WorkplaceBriefResponse::getOverallAvg,
-                            Comparator.nullsLast(Comparator.reverseOrder())));
-        } else if ("reviewCountAsc".equals(sortBy)) {
-            items.sort(Comparator
-                    .comparing(WorkplaceBriefResponse::getReviewCount, Comparator.nullsLast(Comparator.naturalOrder()))
-                    .thenComparing(WorkplaceBriefResponse::getOverallAvg,
-                            Comparator.nullsFirst(Comparator.naturalOrder())));
-        }
         return PaginatedResponse.of(items, pageRes.getNumber(), pageRes.getSize(), pageRes.getTotalElements());
     }
 
@@ -308,6 +333,10 @@ public class WorkplaceService {
         // if (req.getPhotoUrl() != null) wp.setImageUrl(req.getPhotoUrl());
 
         workplaceRepository.save(wp);
+        if (req.getCompanyName() != null || req.getSector() != null || req.getLocation() != null) {
+            // job search index stores these fields per job post
+            eventPublisher.publishEvent(new WorkplaceChangedEvent(wp.getId()));
+        }
         return toDetailResponse(wp, false, 0);
     }
 
@@ -316,8 +345,8 @@ public class WorkplaceService {
     public WorkplaceRatingResponse getRating(Long workplaceId) {
         Workplace wp = workplaceRepository.findById(workplaceId)
                 .orElseThrow(() -> new HandleException(ErrorCode.WORKPLACE_NOT_FOUND, "Workplace not found"));
-        Double avg = oneDecimal(calcAvgRating(wp.getId()));
-        Map<String, Double> policyAvg = computePolicyAverages(wp.getId());
+        Double avg = oneDecimal(calcAvgRating(wp));
+        Map<String, Double> policyAvg = computePolicyAverages(wp);
         return WorkplaceRatingResponse.builder()
                 .workplaceId(wp.getId())
                 .overallAvg(avg)
@@ -348,32 +377,40 @@ public class WorkplaceService {
 
             case "nameAsc" -> PageRequest.of(page, size, Sort.by(Sort.Direction.ASC, "companyName"));
 
-            case "reviewCountDesc" -> PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "reviewCount"));
+            case "reviewCountDesc" -> PageRequest.of(page, size,
+                    Sort.by(Sort.Direction.DESC, "reviewCount", "ratingAvg").and(Sort.by("id")));
+
+            case "reviewCountAsc" -> PageRequest.of(page, size,
+                    Sort.by(Sort.Direction.ASC, "reviewCount", "ratingAvg").and(Sort.by("id")));
 
-            case "reviewCountAsc" -> PageRequest.of(page, size, Sort.by(Sort.Direction.ASC, "reviewCount"));
+            // unrated workplaces store ratingAvg = 0, so they come last on desc and first on asc
+            case "ratingDesc" -> PageRequest.of(page, size,
+                    Sort.by(Sort.Direction.DESC, "ratingAvg").and(Sort.by(Sort.Direction.DESC, "id")));
 
-            case "ratingDesc", "ratingAsc" -> PageRequest.of(page, size);
+            case "ratingAsc" -> PageRequest.of(page, size, Sort.by(Sort.Direction.ASC, "ratingAvg", "id"));
 
             default -> PageRequest.of(page, size, Sort.by("companyName"));
         };
     }
 
-    private Map<String, Double> computePolicyAverages(Long workplaceId) {
-        return reviewPolicyRatingRepository.averageByPolicyForWorkplace(workplaceId)
+    private Map<String, Double> computePolicyAverages(Workplace wp) {
+        return wp.getPolicyRatings().entrySet()
                 .stream()
-                .filter(row -> row[1] != null)
+                .filter(e -> e.getValue().average() != null)
                 .collect(Collectors.toMap(
-                        row -> ((EthicalPolicy) row[0]).getLabel(),
-                        row -> oneDecimal(((Number) row[1]).doubleValue())));
+                        e -> e.getKey().getLabel(),
+                        e -> oneDecimal(e.getValue().average())));
     }
 
     public WorkplaceBriefResponse toBriefResponse(Workplace wp) {
-        Double avg = oneDecimal(calcAvgRating(wp.getId()));
-        Map<String, Double> policyAvg = computePolicyAverages(wp.getId());
+        Double avg = oneDecimal(calcAvgRating(wp));
+        Map<String, Double> policyAvg = computePolicyAverages(wp);
         return WorkplaceBriefResponse.builder()
                 .id(wp.getId())
                 .companyName(wp.getCompanyName())
-                .imageUrl(wp.getImageUrl())
+                // lists show the logo small; fall back to the original until the thumbnail exists
+                .imageUrl(objectStorage.url(wp.getImageThumbnailObjectName() != null
+                        ? wp.getImageThumbnailObjectName() : wp.getImageObjectName()))
                 .sector(wp.getSector())
                 .location(wp.getLocation())
                 .shortDescription(wp.getShortDescription())
@@ -385,9 +422,27 @@ public class WorkplaceService {
                 .build();
     }
 
+    /**
+     * Batch variant of {@link #toBriefResponse} for list endpoints.
+     * Loads the workplaces together with their ethical tags and stored rating totals
+     * in a single query regardless of how many ids are given.
+     * Ids that do not exist are absent from the returned map.
+     */
+    @Transactional(readOnly = true)
+    public Map<Long, WorkplaceBriefResponse> toBriefResponses(Collection<Long> workplaceIds) {
+        if (workplaceIds == null || workplaceIds.isEmpty()) {
+            return Map.of();
+        }
+        Map<Long, WorkplaceBriefResponse> briefs = new HashMap<>();
+        for (Workplace wp : workplaceRepository.findAllForBriefByIdIn(new HashSet<>(workplaceIds))) {
+            briefs.put(wp.getId(), toBriefResponse(wp));
+        }
+        return briefs;
+    }
+
     private WorkplaceDetailResponse toDetailResponse(Workplace wp, boolean includeReviews, int reviewsLimit) {
-        Double avg = oneDecimal(calcAvgRating(wp.getId()));
-        Map<String, Double> policyAvg = computePolicyAverages(wp.getId());
+        Double avg = oneDecimal(calcAvgRating(wp));
+        Map<String, Double> policyAvg = computePolicyAverages(wp);
 
         List<EmployerListItem> employers = employerWorkplaceRepository.findByWorkplace_Id(wp.getId())
                 .stream()
@@ -415,7 +470,7 @@ public class WorkplaceService {
         return WorkplaceDetailResponse.builder()
                 .id(wp.getId())
                 .companyName(wp.getCompanyName())
-                .imageUrl(wp.getImageUrl())
+                .imageUrl(objectStorage.url(wp.getImageObjectName()))
                 .sector(wp.getSector())
                 .location(wp.getLocation())
                 .shortDescription(wp.getShortDescription())
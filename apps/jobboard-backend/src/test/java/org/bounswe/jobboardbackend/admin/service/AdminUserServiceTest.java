@@ -8,12 +8,14 @@ import org.bounswe.jobboardbackend.mentorship.repository.MentorshipRequestReposi
 import org.bounswe.jobboardbackend.profile.repository.ProfileRepository;
 import org.bounswe.jobboardbackend.auth.model.User;
 import org.bounswe.jobboardbackend.auth.repository.UserRepository;
+import org.bounswe.jobboardbackend.auth.security.PrincipalCache;
 import org.bounswe.jobboardbackend.workplace.model.enums.EmployerRole;
 import org.bounswe.jobboardbackend.workplace.model.EmployerWorkplace;
 import org.bounswe.jobboardbackend.workplace.model.Workplace;
 import org.bounswe.jobboardbackend.workplace.repository.EmployerWorkplaceRepository;
 import org.bounswe.jobboardbackend.badge.repository.BadgeRepository;
 import org.bounswe.jobboardbackend.profile.model.Profile;
+import org.bounswe.jobboardbackend.storage.service.ObjectDeletionQueue;
 import org.bounswe.jobboardbackend.mentorship.model.MentorProfile;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -57,6 +59,12 @@ class AdminUserServiceTest {
     @Mock
     private AdminWorkplaceService adminWorkplaceService;
 
+    @Mock
+    private PrincipalCache principalCache;
+
+    @Mock
+    private ObjectDeletionQueue deletionQueue;
+
     @InjectMocks
     private AdminUserService adminUserService;
 
@@ -90,6 +98,7 @@ class AdminUserServiceTest {
         assertEquals("Spam content", testUser.getBanReason());
         verify(userRepository).save(testUser);
         verify(userRepository).flush(); // Immediate update
+        verify(principalCache).evict("testuser");
     }
 
     @Test
@@ -220,4 +229,27 @@ class AdminUserServiceTest {
         verify(jobApplicationRepository).deleteAllByJobSeekerId(1L);
         verify(adminWorkplaceService).deleteWorkplace(100L, "Owner banned: Spam content");
     }
+
+    @Test
+    void unbanUser_Success_EvictsCachedPrincipal() {
+        testUser.setIsBanned(true);
+        testUser.setBanReason("Spam content");
+        when(userRepository.findById(1L)).thenReturn(Optional.of(testUser));
+
+        adminUserService.unbanUser(1L);
+
+        assertFalse(testUser.getIsBanned());
+        assertNull(testUser.getBanReason());
+        verify(principalCache).evict("testuser");
+    }
+
+    @Test
+    void deleteUser_Success_EvictsCachedPrincipal() {
+        when(userRepository.findById(1L)).thenReturn(Optional.of(testUser));
+
+        adminUserService.deleteUser(1L);
+
+        verify(userRepository).delete(testUser);
+        verify(principalCache).evict("testuser");
+    }
 }
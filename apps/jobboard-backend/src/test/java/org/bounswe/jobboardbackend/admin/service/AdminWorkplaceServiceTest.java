@@ -11,6 +11,7 @@ import org.bounswe.jobboardbackend.workplace.repository.EmployerWorkplaceReposit
 import org.bounswe.jobboardbackend.workplace.repository.ReviewReplyRepository;
 import org.bounswe.jobboardbackend.workplace.repository.ReviewRepository;
 import org.bounswe.jobboardbackend.workplace.repository.WorkplaceRepository;
+import org.bounswe.jobboardbackend.storage.service.ObjectDeletionQueue;
 import org.bounswe.jobboardbackend.workplace.service.ReplyService;
 import org.bounswe.jobboardbackend.workplace.service.ReviewService;
 import org.junit.jupiter.api.BeforeEach;
@@ -47,6 +48,8 @@ class AdminWorkplaceServiceTest {
     private ReviewService reviewService;
     @Mock
     private ReplyService replyService;
+    @Mock
+    private ObjectDeletionQueue deletionQueue;
 
     @InjectMocks
     private AdminWorkplaceService adminWorkplaceService;
@@ -0,0 +1,167 @@
+package org.bounswe.jobboardbackend.auth.security;
+
+import org.bounswe.jobboardbackend.auth.service.UserDetailsImpl;
+import org.bounswe.jobboardbackend.exception.HandleException;
+import org.bounswe.jobboardbackend.websocket.dto.ClusterEnvelope;
+import org.bounswe.jobboardbackend.websocket.service.ClusterCacheInvalidation;
+import org.bounswe.jobboardbackend.websocket.service.ClusterTransport;
+import org.bounswe.jobboardbackend.websocket.service.LocalClusterTransport;
+import org.mockito.ArgumentCaptor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class JwtUtilsTest {
+
+    private static final String SECRET = Base64.getEncoder()
+            .encodeToString("0123456789abcdef0123456789abcdef".getBytes());
+
+    private JwtUtils jwtUtils;
+    private PrincipalCache principalCache;
+    private UserDetailsImpl principal;
+    private Authentication authentication;
+
+    @BeforeEach
+    void setUp() {
+        principalCache = new PrincipalCache(16, 60000, new ClusterCacheInvalidation(new LocalClusterTransport()));
+        jwtUtils = new JwtUtils(principalCache);
+        ReflectionTestUtils.setField(jwtUtils, "jwtSecret", SECRET);
+        ReflectionTestUtils.setField(jwtUtils, "jwtExpirationMs", 60000);
+        ReflectionTestUtils.setField(jwtUtils, "verifiedCacheSize", 16);
+        jwtUtils.init();
+
+        principal = new UserDetailsImpl(1L, "alice", "alice@example.com", "pw",
+                List.of(new SimpleGrantedAuthority("ROLE_JOBSEEKER")), false);
+        authentication = new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities());
+    }
+
+    @Test
+    void verify_ShouldReuseEarlierVerificationOfTheSameToken() {
+        String token = jwtUtils.generateAccessToken(authentication);
+
+        VerifiedJwt first = jwtUtils.verify(token);
+
+        assertEquals("alice", first.subject());
+        assertTrue(first.isAccessToken());
+        assertSame(first, jwtUtils.verify(token));
+    }
+
+    @Test
+    void tryVerify_ShouldRejectTamperedPayload() {
+        String token = jwtUtils.generateAccessToken(authentication);
+        jwtUtils.verify(token);
+
+        String[] parts = token.split("\\.");
+        String forgedPayload = Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(new String(Base64.getUrlDecoder().decode(parts[1])).replace("alice", "admin").getBytes());
+        String forged = parts[0] + "." + forgedPayload + "." + parts[2];
+
+        assertNull(jwtUtils.tryVerify(forged));
+        assertFalse(jwtUtils.validateJwtToken("not-a-jwt"));
+    }
+
+    @Test
+    void buildAuthentication_ShouldRejectPreauthToken() {
+        VerifiedJwt otp = jwtUtils.verify(jwtUtils.generateOtpToken(authentication));
+        UserDetailsService uds = mock(UserDetailsService.class);
+
+        assertTrue(otp.isPreauthToken());
+        assertThrows(HandleException.class, () -> jwtUtils.buildAuthentication(otp, uds));
+        verifyNoInteractions(uds);
+    }
+
+    @Test
+    void verifiedTokenCache_ShouldEvictLeastRecentlyUsedAndDropExpired() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(2);
+        Instant now = Instant.parse("2025-11-01T10:00:00Z");
+        VerifiedJwt live = new VerifiedJwt("a", "auth", "ACCESS", now.plusSeconds(60));
+        VerifiedJwt expired = new VerifiedJwt("b", "auth", "ACCESS", now);
+
+        cache.put("t1", live);
+        cache.put("t2", expired);
+        assertNull(cache.get("t2", now));
+
+        cache.put("t3", live);
+        cache.get("t1", now);
+        cache.put("t4", live);
+
+        assertSame(live, cache.get("t1", now));
+        assertNull(cache.get("t3", now));
+        assertEquals(2, cache.size());
+    }
+
+    @Test
+    void buildAuthentication_ShouldLoadPrincipalOnceUntilEvicted() {
+        VerifiedJwt jwt = jwtUtils.verify(jwtUtils.generateAccessToken(authentication));
+        UserDetailsService uds = mock(UserDetailsService.class);
+        when(uds.loadUserByUsername("alice")).thenReturn(principal);
+
+        jwtUtils.buildAuthentication(jwt, uds);
+        Authentication second = jwtUtils.buildAuthentication(jwt, uds);
+
+        assertSame(principal, second.getPrincipal());
+        verify(uds, times(1)).loadUserByUsername("alice");
+
+        UserDetailsImpl banned = new UserDetailsImpl(1L, "alice", "alice@example.com", "pw",
+                principal.getAuthorities(), true);
+        when(uds.loadUserByUsername("alice")).thenReturn(banned);
+        principalCache.evict("alice");
+
+        assertThrows(HandleException.class, () -> jwtUtils.buildAuthentication(jwt, uds));
+        verify(uds, times(2)).loadUserByUsername("alice");
+    }
+
+    @Test
+    void principalCache_ShouldReloadAfterTtlAndStayBounded() {
+        AtomicReference<Instant> now = new AtomicReference<>(Instant.parse("2025-11-01T10:00:00Z"));
+        PrincipalCache cache = new PrincipalCache(2, 1000, now::get, new ClusterCacheInvalidation(new LocalClusterTransport()));
+        AtomicInteger loads = new AtomicInteger();
+
+        cache.get("alice", username -> { loads.incrementAndGet(); return principal; });
+        cache.get("alice", username -> { loads.incrementAndGet(); return principal; });
+        assertEquals(1, loads.get());
+
+        now.set(now.get().plusMillis(1000));
+        cache.get("alice", username -> { loads.incrementAndGet(); return principal; });
+        assertEquals(2, loads.get());
+
+        cache.get("bob", username -> principal);
+        cache.get("carol", username -> principal);
+        assertEquals(2, cache.size());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void principalCache_ShouldBroadcastEvictionsAndApplyRemoteOnes() {
+        ClusterTransport transport = mock(ClusterTransport.class);
+        when(transport.isClustered()).thenReturn(true);
+        when(transport.nodeId()).thenReturn("node-a");
+        PrincipalCache cache = new PrincipalCache(16, 60000, new ClusterCacheInvalidation(transport));
+        ArgumentCaptor<Consumer<ClusterEnvelope>> handler = ArgumentCaptor.forClass(Consumer.class);
+        verify(transport).onMessage(handler.capture());
+
+        cache.evict("alice");
+        ArgumentCaptor<ClusterEnvelope> sent = ArgumentCaptor.forClass(ClusterEnvelope.class);
+        verify(transport).publish(sent.capture());
+        assertEquals("cache:principals", sent.getValue().destination());
+        assertEquals("alice", sent.getValue().payload());
+
+        cache.get("bob", username -> principal);
+        handler.getValue().accept(new ClusterEnvelope("node-b", "cache:principals", null, "bob"));
+        assertEquals(0, cache.size());
+    }
+}
@@ -0,0 +1,77 @@
+package org.bounswe.jobboardbackend.common.cache;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.*;
+
+class TtlLruCacheTest {
+
+    private final AtomicReference<Instant> now = new AtomicReference<>(Instant.parse("2025-11-01T10:00:00Z"));
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @Test
+    void get_cachesUntilTtlAndEvictsLeastRecentlyUsed() {
+        TtlLruCache<String, String> cache = new TtlLruCache<>(2, 1000, now::get);
+
+        assertThat(cache.get("a", k -> k + loads.incrementAndGet())).isEqualTo("a1");
+        assertThat(cache.get("a", k -> k + loads.incrementAndGet())).isEqualTo("a1");
+        cache.get("b", k -> k + loads.incrementAndGet());
+        cache.get("a", k -> k + loads.incrementAndGet());
+        cache.get("c", k -> k + loads.incrementAndGet());
+
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.getIfPresent("b")).isNull();
+
+        now.set(now.get().plus(Duration.ofSeconds(1)));
+        assertThat(cache.get("a", k -> k + loads.incrementAndGet())).isEqualTo("a4");
+    }
+
+    @Test
+    void get_doesNotStoreValueLoadedBeforeInvalidate() {
+        TtlLruCache<String, String> cache = new TtlLruCache<>(10, 60_000, now::get);
+
+        String stale = cache.get("a", k -> {
+            // the row changes and is evicted while this load is still running
+            cache.invalidate(k);
+            return "stale";
+        });
+
+        assertThat(stale).isEqualTo("stale");
+        assertThat(cache.getIfPresent("a")).isNull();
+        assertThat(cache.get("a", k -> "fresh")).isEqualTo("fresh");
+    }
+
+    @Test
+    void get_olderLoadDoesNotOverwriteNewerOne() {
+        TtlLruCache<String, String> cache = new TtlLruCache<>(10, 60_000, now::get);
+
+        cache.get("a", k -> {
+            cache.invalidate(k);
+            cache.get(k, key -> "newer");
+            return "older";
+        });
+
+        assertThat(cache.getIfPresent("a")).isEqualTo("newer");
+    }
+
+    @Test
+    void put_withoutExpiryStaysUntilEvicted_andLoaderFailureIsNotCached() {
+        TtlLruCache<String, String> cache = new TtlLruCache<>(10, 0, now::get);
+
+        cache.put("a", "pinned", null);
+        now.set(now.get().plus(Duration.ofDays(365)));
+        assertThat(cache.getIfPresent("a")).isEqualTo("pinned");
+
+        assertThatThrownBy(() -> cache.get("b", k -> {
+            throw new IllegalStateException("boom");
+        })).isInstanceOf(IllegalStateException.class);
+        assertThat(cache.getIfPresent("b")).isNull();
+        assertThat(cache.get("c", k -> "loaded")).isEqualTo("loaded");
+        assertThat(cache.size()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,42 @@
+package org.bounswe.jobboardbackend.common.dto;
+
+import org.bounswe.jobboardbackend.exception.ErrorCode;
+import org.bounswe.jobboardbackend.exception.HandleException;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+
+class CursorCodecTest {
+
+    @Test
+    void decode_readsBackWhatEncodeWrote() {
+        Instant createdAt = Instant.parse("2025-11-01T10:00:42Z");
+        String token = CursorCodec.encode(createdAt, 42L);
+
+        assertThat(token).doesNotContain("=", "+", "/");
+        assertThat(CursorCodec.decode(token, null, (key, id) -> Map.entry(Instant.parse(key), id)))
+                .isEqualTo(Map.entry(createdAt, 42L));
+    }
+
+    @Test
+    void decode_whenTokenMissing_returnsStart() {
+        assertThat(CursorCodec.decode(null, "start", (key, id) -> key)).isEqualTo("start");
+        assertThat(CursorCodec.decode(" ", "start", (key, id) -> key)).isEqualTo("start");
+    }
+
+    @Test
+    void decode_whenTokenMalformed_throwsInvalidCursor() {
+        String noSeparator = CursorCodec.encode("x", 1L).substring(0, 2);
+        String badKey = CursorCodec.encode("yesterday", 1L);
+
+        for (String token : new String[] { "not base64!", noSeparator, badKey }) {
+            assertThatThrownBy(() -> CursorCodec.decode(token, null, (key, id) -> Instant.parse(key)))
+                    .isInstanceOf(HandleException.class)
+                    .extracting("code")
+                    .isEqualTo(ErrorCode.INVALID_CURSOR);
+        }
+    }
+}
@@ -3,8 +3,13 @@ package org.bounswe.jobboardbackend.forum.controller;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.bounswe.jobboardbackend.auth.model.User;
 import org.bounswe.jobboardbackend.auth.repository.UserRepository;
+import org.bounswe.jobboardbackend.common.dto.CursorPage;
 import org.bounswe.jobboardbackend.forum.dto.CreatePostRequest;
 import org.bounswe.jobboardbackend.forum.dto.PostResponse;
+import org.bounswe.jobboardbackend.forum.dto.PostSummaryResponse;
+import org.bounswe.jobboardbackend.forum.dto.CommentNodeResponse;
+import org.bounswe.jobboardbackend.forum.dto.CommentResponse;
+import org.bounswe.jobboardbackend.forum.service.ForumCommentTreeService;
 import org.bounswe.jobboardbackend.forum.service.ForumService;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -35,6 +40,9 @@ class ForumControllerTest {
     @MockitoBean
     private ForumService forumService;
 
+    @MockitoBean
+    private ForumCommentTreeService commentTreeService;
+
     @MockitoBean
     private UserRepository userRepository;
 
@@ -82,6 +90,81 @@ class ForumControllerTest {
                 .andExpect(jsonPath("$").isArray());
     }
 
+    @Test
+    @WithMockUser
+    void getFeed_ShouldReturnCursorPage() throws Exception {
+        User mockUser = new User();
+        mockUser.setId(99L);
+        mockUser.setUsername("user");
+
+        when(userRepository.findByUsername("user")).thenReturn(Optional.of(mockUser));
+
+        PostSummaryResponse summary = PostSummaryResponse.builder()
+                .id(1L)
+                .title("Test Post")
+                .commentCount(3)
+                .build();
+
+        when(forumService.findFeed(eq("abc"), eq(10), eq(99L)))
+                .thenReturn(CursorPage.of(List.of(summary), "next", null));
+
+        mockMvc.perform(get("/api/forum/posts/feed").param("cursor", "abc").param("limit", "10"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[0].id").value(1L))
+                .andExpect(jsonPath("$.items[0].commentCount").value(3))
+                .andExpect(jsonPath("$.nextCursor").value("next"))
+                .andExpect(jsonPath("$.hasNext").value(true));
+    }
+
+    @Test
+    @WithMockUser
+    void getCommentTree_ShouldReturnNestedReplies() throws Exception {
+        User mockUser = new User();
+        mockUser.setId(99L);
+        mockUser.setUsername("user");
+
+        when(userRepository.findByUsername("user")).thenReturn(Optional.of(mockUser));
+
+        CommentNodeResponse reply = CommentNodeResponse.builder()
+                .comment(CommentResponse.builder().id(2L).content("Reply").build())
+                .replies(List.of())
+                .build();
+        CommentNodeResponse root = CommentNodeResponse.builder()
+                .comment(CommentResponse.builder().id(1L).content("Root").build())
+                .replies(List.of(reply))
+                .replyCount(7)
+                .hasMoreReplies(true)
+                .repliesCursor("more")
+                .build();
+
+        when(commentTreeService.getCommentTree(eq(1L), any(), any(), eq(99L)))
+                .thenReturn(CursorPage.of(List.of(root), null, null));
+
+        mockMvc.perform(get("/api/forum/posts/1/comments"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[0].id").value(1L))
+                .andExpect(jsonPath("$.items[0].replies[0].content").value("Reply"))
+                .andExpect(jsonPath("$.items[0].replyCount").value(7))
+                .andExpect(jsonPath("$.items[0].repliesCursor").value("more"))
+                .andExpect(jsonPath("$.hasNext").value(false));
+    }
+
+    @Test
+    @WithMockUser
+    void getReplies_ShouldPassCursorThrough() throws Exception {
+        User mockUser = new User();
+        mockUser.setId(99L);
+        mockUser.setUsername("user");
+
+        when(userRepository.findByUsername("user")).thenReturn(Optional.of(mockUser));
+        when(commentTreeService.getReplies(eq(5L), eq("more"), eq(10), eq(99L)))
+                .thenReturn(CursorPage.of(List.of(), null, null));
+
+        mockMvc.perform(get("/api/forum/comments/5/replies").param("cursor", "more").param("limit", "10"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items").isEmpty());
+    }
+
     @Test
     @WithMockUser
     void getPostById_ShouldReturnOk() throws Exception {
@@ -0,0 +1,144 @@
+package org.bounswe.jobboardbackend.forum.repository;
+
+import org.bounswe.jobboardbackend.auth.model.Role;
+import org.bounswe.jobboardbackend.auth.model.User;
+import org.bounswe.jobboardbackend.auth.repository.UserRepository;
+import org.bounswe.jobboardbackend.forum.dto.ForumPostCursor;
+import org.bounswe.jobboardbackend.forum.model.ForumPost;
+import org.bounswe.jobboardbackend.forum.model.ForumPostUpvote;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.ANY) // Uses H2 in-memory DB
+class ForumPostRepositoryTest {
+
+    @Autowired
+    private ForumPostRepository postRepository;
+
+    @Autowired
+    private ForumPostUpvoteRepository upvoteRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private User author;
+    private User voter;
+
+    @BeforeEach
+    void setUp() {
+        author = userRepository.save(user("author"));
+        voter = userRepository.save(user("voter"));
+    }
+
+    private static User user(String username) {
+        return User.builder()
+                .username(username)
+                .email(username + "@example.com")
+                .password("securePass123")
+                .role(Role.ROLE_JOBSEEKER)
+                .emailVerified(true)
+                .build();
+    }
+
+    private ForumPost post(String title) {
+        return postRepository.save(ForumPost.builder()
+                .title(title)
+                .content("Content")
+                .author(author)
+                .build());
+    }
+
+    private ForumPost reload(ForumPost post) {
+        entityManager.flush();
+        entityManager.clear();
+        return postRepository.findById(post.getId()).orElseThrow();
+    }
+
+    @Test
+    @DisplayName("Should page the feed newest first and continue after the cursor")
+    void findFeedPage_KeysetOrder() {
+        ForumPost first = post("First");
+        ForumPost second = post("Second");
+        ForumPost third = post("Third");
+        entityManager.flush();
+
+        ForumPostCursor start = ForumPostCursor.START;
+        List<ForumPost> page = postRepository.findFeedPage(start.createdAt(), start.id(), PageRequest.of(0, 2));
+        assertThat(page).extracting(ForumPost::getId).containsExactly(third.getId(), second.getId());
+
+        ForumPostCursor next = ForumPostCursor.after(page.getLast());
+        List<ForumPost> rest = postRepository.findFeedPage(next.createdAt(), next.id(), PageRequest.of(0, 2));
+        assertThat(rest).extracting(ForumPost::getId).containsExactly(first.getId());
+    }
+
+    @Test
+    @DisplayName("Should shift both vote totals in one update")
+    void adjustVoteCounts_ShiftsTotals() {
+        ForumPost post = post("Votes");
+        entityManager.flush();
+
+        postRepository.adjustVoteCounts(post.getId(), 1, 0);
+        postRepository.adjustVoteCounts(post.getId(), 1, 1);
+        postRepository.adjustVoteCounts(post.getId(), -1, 0);
+
+        ForumPost reloaded = reload(post);
+        assertThat(reloaded.getUpvoteCount()).isEqualTo(1);
+        assertThat(reloaded.getDownvoteCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should not overwrite stored totals when the post itself is saved")
+    void save_DoesNotWriteBackStaleTotals() {
+        ForumPost post = post("Stale");
+        entityManager.flush();
+
+        postRepository.adjustVoteCounts(post.getId(), 2, 0);
+        post.setTitle("Renamed");
+        postRepository.save(post);
+
+        assertThat(reload(post).getUpvoteCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should rebuild only drifted totals and release a deleted user's votes")
+    void repairAndRelease_KeepTotalsInSyncWithVoteRows() {
+        ForumPost drifted = post("Drifted");
+        ForumPost clean = post("Clean");
+        upvoteRepository.save(ForumPostUpvote.builder().user(voter).post(drifted).build());
+        entityManager.flush();
+        postRepository.adjustVoteCounts(drifted.getId(), 5, 0);
+
+        assertThat(postRepository.repairUpvoteCounts()).isEqualTo(1);
+        assertThat(postRepository.repairUpvoteCounts()).isZero();
+        assertThat(reload(drifted).getUpvoteCount()).isEqualTo(1);
+        assertThat(reload(clean).getUpvoteCount()).isZero();
+
+        assertThat(postRepository.releaseUpvotesOfUser(voter.getId())).isEqualTo(1);
+        assertThat(reload(drifted).getUpvoteCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should report whether a vote row was actually deleted")
+    void deleteByUserIdAndPostId_ReturnsRowCount() {
+        ForumPost post = post("Delete");
+        upvoteRepository.save(ForumPostUpvote.builder().user(voter).post(post).build());
+        entityManager.flush();
+
+        assertThat(upvoteRepository.deleteByUserIdAndPostId(voter.getId(), post.getId())).isEqualTo(1);
+        assertThat(upvoteRepository.deleteByUserIdAndPostId(voter.getId(), post.getId())).isZero();
+    }
+}
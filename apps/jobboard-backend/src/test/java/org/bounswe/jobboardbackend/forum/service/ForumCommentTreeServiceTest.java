@@ -0,0 +1,163 @@
+package org.bounswe.jobboardbackend.forum.service;
+
+import org.bounswe.jobboardbackend.auth.model.User;
+import org.bounswe.jobboardbackend.common.dto.CursorPage;
+import org.bounswe.jobboardbackend.exception.HandleException;
+import org.bounswe.jobboardbackend.forum.dto.CommentNodeResponse;
+import org.bounswe.jobboardbackend.forum.dto.ForumCommentCursor;
+import org.bounswe.jobboardbackend.forum.dto.ViewerVotes;
+import org.bounswe.jobboardbackend.forum.model.ForumComment;
+import org.bounswe.jobboardbackend.forum.model.ForumPost;
+import org.bounswe.jobboardbackend.forum.repository.ForumCommentRepository;
+import org.bounswe.jobboardbackend.forum.repository.ForumPostRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ForumCommentTreeServiceTest {
+
+    @Mock
+    private ForumPostRepository postRepository;
+
+    @Mock
+    private ForumCommentRepository commentRepository;
+
+    @Mock
+    private ForumVoteStateLoader voteStateLoader;
+
+    @InjectMocks
+    private ForumCommentTreeService commentTreeService;
+
+    private User author;
+    private ForumPost post;
+
+    @BeforeEach
+    void setUp() {
+        author = new User();
+        author.setId(1L);
+        author.setUsername("author");
+
+        post = ForumPost.builder().id(1L).title("Post").content("Content").author(author).build();
+    }
+
+    private ForumComment comment(long id, ForumComment parent) {
+        return ForumComment.builder()
+                .id(id)
+                .content("Comment " + id)
+                .author(author)
+                .post(post)
+                .parentComment(parent)
+                .createdAt(Instant.parse("2025-11-01T10:00:00Z").plusSeconds(id))
+                .build();
+    }
+
+    @Test
+    void getCommentTree_ShouldNestRepliesAndPageTopLevelComments() {
+        ForumComment first = comment(1L, null);
+        ForumComment reply = comment(2L, first);
+        ForumComment nested = comment(3L, reply);
+        ForumComment second = comment(4L, null);
+        ForumComment third = comment(5L, null);
+
+        when(postRepository.existsById(1L)).thenReturn(true);
+        when(commentRepository.findAllWithAuthorByPostIdIn(List.of(1L)))
+                .thenReturn(List.of(first, reply, nested, second, third));
+        when(voteStateLoader.forComments(7L, List.of(1L, 2L, 3L, 4L)))
+                .thenReturn(new ViewerVotes(Set.of(3L), Set.of()));
+        when(voteStateLoader.forComments(null, List.of(5L))).thenReturn(ViewerVotes.NONE);
+
+        CursorPage<CommentNodeResponse> page = commentTreeService.getCommentTree(1L, null, 2, 7L);
+
+        assertEquals(2, page.getItems().size());
+        assertTrue(page.isHasNext());
+        CommentNodeResponse root = page.getItems().get(0);
+        assertEquals(1, root.getReplyCount());
+        assertFalse(root.isHasMoreReplies());
+        CommentNodeResponse leaf = root.getReplies().get(0).getReplies().get(0);
+        assertEquals(3L, leaf.getComment().getId());
+        assertEquals(Boolean.TRUE, leaf.getComment().getHasUserUpvoted());
+
+        CursorPage<CommentNodeResponse> next = commentTreeService.getCommentTree(1L, page.getNextCursor(), 2, null);
+        assertEquals(List.of(5L), next.getItems().stream().map(n -> n.getComment().getId()).toList());
+        assertFalse(next.isHasNext());
+    }
+
+    @Test
+    void getCommentTree_ShouldLeaveLargeAndDeepSubtreesToPaging() {
+        ForumComment root = comment(1L, null);
+        List<ForumComment> thread = new ArrayList<>(List.of(root));
+        for (long id = 2; id <= 8; id++) {
+            thread.add(comment(id, root));
+        }
+        // chain below the first reply, deeper than the inline depth
+        ForumComment parent = thread.get(1);
+        for (long id = 20; id < 20 + ForumCommentTreeService.INLINE_DEPTH; id++) {
+            ForumComment child = comment(id, parent);
+            thread.add(child);
+            parent = child;
+        }
+
+        when(postRepository.existsById(1L)).thenReturn(true);
+        when(commentRepository.findAllWithAuthorByPostIdIn(List.of(1L))).thenReturn(thread);
+        when(voteStateLoader.forComments(any(), anyList())).thenReturn(ViewerVotes.NONE);
+
+        CommentNodeResponse node = commentTreeService.getCommentTree(1L, null, null, null).getItems().get(0);
+
+        assertEquals(7, node.getReplyCount());
+        assertEquals(ForumCommentTreeService.INLINE_REPLIES, node.getReplies().size());
+        assertTrue(node.isHasMoreReplies());
+        assertEquals(ForumCommentCursor.after(thread.get(ForumCommentTreeService.INLINE_REPLIES)),
+                ForumCommentCursor.decode(node.getRepliesCursor()));
+
+        CommentNodeResponse deepest = node.getReplies().get(0).getReplies().get(0).getReplies().get(0);
+        assertTrue(deepest.getReplies().isEmpty());
+        assertTrue(deepest.isHasMoreReplies());
+        assertNull(deepest.getRepliesCursor());
+    }
+
+    @Test
+    void getCommentTree_ShouldThrow_WhenPostMissing() {
+        when(postRepository.existsById(1L)).thenReturn(false);
+
+        assertThrows(HandleException.class, () -> commentTreeService.getCommentTree(1L, null, null, null));
+        verifyNoInteractions(commentRepository);
+    }
+
+    @Test
+    void getReplies_ShouldPageDirectRepliesWithTheirReplyCounts() {
+        ForumComment parent = comment(1L, null);
+        ForumComment a = comment(2L, parent);
+        ForumComment b = comment(3L, parent);
+
+        when(commentRepository.existsById(1L)).thenReturn(true);
+        when(commentRepository.findRepliesPage(eq(1L), any(Instant.class), eq(0L), any(Pageable.class)))
+                .thenReturn(List.of(a, b));
+        when(commentRepository.countRepliesByParentIdIn(List.of(2L)))
+                .thenReturn(List.<Object[]>of(new Object[] { 2L, 4L }));
+        when(voteStateLoader.forComments(null, List.of(2L))).thenReturn(ViewerVotes.NONE);
+
+        CursorPage<CommentNodeResponse> page = commentTreeService.getReplies(1L, null, 1, null);
+
+        assertTrue(page.isHasNext());
+        CommentNodeResponse node = page.getItems().get(0);
+        assertEquals(2L, node.getComment().getId());
+        assertEquals(4, node.getReplyCount());
+        assertTrue(node.isHasMoreReplies());
+        assertTrue(node.getReplies().isEmpty());
+    }
+}
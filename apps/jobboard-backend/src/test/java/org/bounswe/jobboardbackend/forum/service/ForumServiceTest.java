@@ -2,11 +2,14 @@ package org.bounswe.jobboardbackend.forum.service;
 
 import org.bounswe.jobboardbackend.auth.model.Role;
 import org.bounswe.jobboardbackend.auth.model.User;
+import org.bounswe.jobboardbackend.common.dto.CursorPage;
 import org.bounswe.jobboardbackend.exception.HandleException;
 import org.bounswe.jobboardbackend.forum.dto.CreateCommentRequest;
 import org.bounswe.jobboardbackend.forum.dto.CreatePostRequest;
 import org.bounswe.jobboardbackend.forum.dto.PostResponse;
+import org.bounswe.jobboardbackend.forum.dto.PostSummaryResponse;
 import org.bounswe.jobboardbackend.forum.dto.UpdatePostRequest;
+import org.bounswe.jobboardbackend.forum.dto.ViewerVotes;
 import org.bounswe.jobboardbackend.forum.model.ForumComment;
 import org.bounswe.jobboardbackend.forum.model.ForumPost;
 import org.bounswe.jobboardbackend.forum.repository.ForumCommentDownvoteRepository;
@@ -23,13 +26,17 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Pageable;
 
 import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -62,6 +69,9 @@ class ForumServiceTest {
     @Mock
     private org.bounswe.jobboardbackend.activity.service.ActivityService activityService;
 
+    @Mock
+    private ForumVoteStateLoader voteStateLoader;
+
     @InjectMocks
     private ForumService forumService;
 
@@ -81,6 +91,11 @@ class ForumServiceTest {
                 .content("Content")
                 .author(user)
                 .build();
+
+        lenient().when(voteStateLoader.forPosts(any(), anyCollection())).thenReturn(ViewerVotes.NONE);
+        lenient().when(voteStateLoader.forComments(any(), anyCollection())).thenReturn(ViewerVotes.NONE);
+        lenient().when(voteStateLoader.allPostVotes(any())).thenReturn(ViewerVotes.NONE);
+        lenient().when(voteStateLoader.allCommentVotes(any())).thenReturn(ViewerVotes.NONE);
     }
 
     @Test
@@ -106,6 +121,136 @@ class ForumServiceTest {
 
         assertFalse(responses.isEmpty());
         assertEquals(1, responses.size());
+        verify(commentRepository).findAllWithAuthor();
+        verify(commentRepository, never()).findAllWithAuthorByPostIdIn(anyCollection());
+        verify(voteStateLoader, never()).forPosts(any(), anyCollection());
+    }
+
+    @Test
+    void findFeed_ShouldReturnSummariesWithBatchedCounts() {
+        post.setCreatedAt(Instant.parse("2025-11-01T10:00:00Z"));
+        post.setUpvoteCount(3);
+        ForumPost older = ForumPost.builder()
+                .id(2L)
+                .title("Older Post")
+                .content("Content")
+                .author(user)
+                .createdAt(Instant.parse("2025-10-01T10:00:00Z"))
+                .build();
+        ForumPost oldest = ForumPost.builder()
+                .id(3L)
+                .title("Oldest Post")
+                .content("Content")
+                .author(user)
+                .createdAt(Instant.parse("2025-09-01T10:00:00Z"))
+                .build();
+
+        when(postRepository.findFeedPage(any(Instant.class), eq(Long.MAX_VALUE), any(Pageable.class)))
+                .thenReturn(List.of(post, older, oldest));
+        when(postRepository.findTagsByPostIdIn(List.of(1L, 2L)))
+                .thenReturn(List.<Object[]>of(new Object[] { 1L, "interview" }));
+        when(commentRepository.countByPostIdIn(List.of(1L, 2L)))
+                .thenReturn(List.<Object[]>of(new Object[] { 2L, 4L }));
+        when(voteStateLoader.forPosts(7L, List.of(1L, 2L))).thenReturn(new ViewerVotes(Set.of(1L), Set.of()));
+
+        CursorPage<PostSummaryResponse> page = forumService.findFeed(null, 2, 7L);
+
+        assertEquals(2, page.getItems().size());
+        assertTrue(page.isHasNext());
+        assertNotNull(page.getNextCursor());
+
+        PostSummaryResponse first = page.getItems().get(0);
+        assertEquals(List.of("interview"), first.getTags());
+        assertEquals(0, first.getCommentCount());
+        assertEquals(3, first.getUpvoteCount());
+        assertEquals(Boolean.TRUE, first.getHasUserUpvoted());
+        assertEquals(Boolean.FALSE, first.getHasUserDownvoted());
+
+        PostSummaryResponse second = page.getItems().get(1);
+        assertEquals(4, second.getCommentCount());
+        assertEquals(Boolean.FALSE, second.getHasUserUpvoted());
+
+        verify(commentRepository, never()).findById(any());
+    }
+
+    @Test
+    void findFeed_ShouldSkipViewerLookups_WhenAnonymous() {
+        when(postRepository.findFeedPage(any(Instant.class), any(), any(Pageable.class))).thenReturn(List.of(post));
+
+        CursorPage<PostSummaryResponse> page = forumService.findFeed(null, null, null);
+
+        assertFalse(page.isHasNext());
+        assertNull(page.getNextCursor());
+        assertNull(page.getItems().get(0).getHasUserUpvoted());
+        verify(voteStateLoader).forPosts(null, List.of(1L));
+    }
+
+    @Test
+    void findFeed_ShouldRejectMalformedCursor() {
+        assertThrows(HandleException.class, () -> forumService.findFeed("not a cursor", null, null));
+        verifyNoInteractions(postRepository);
+    }
+
+    @Test
+    void upvotePost_ShouldReplaceDownvoteAndShiftBothCounters() {
+        when(postRepository.findById(1L)).thenReturn(Optional.of(post));
+        when(postUpvoteRepository.findByUserIdAndPostId(1L, 1L)).thenReturn(Optional.empty());
+        when(postDownvoteRepository.deleteByUserIdAndPostId(1L, 1L)).thenReturn(1);
+
+        forumService.upvotePost(1L, user);
+
+        verify(postUpvoteRepository).save(any());
+        verify(postRepository).adjustVoteCounts(1L, 1, -1);
+    }
+
+    @Test
+    void removePostUpvote_ShouldLeaveCounters_WhenNoVoteExisted() {
+        when(postUpvoteRepository.deleteByUserIdAndPostId(1L, 1L)).thenReturn(0);
+
+        forumService.removePostUpvote(1L, user);
+
+        verify(postRepository, never()).adjustVoteCounts(any(), anyLong(), anyLong());
+    }
+
+    @Test
+    void downvoteComment_ShouldDecrementCounter_WhenUpvoteRemoved() {
+        ForumComment comment = ForumComment.builder().id(5L).content("Hi").author(user).post(post).build();
+        when(commentRepository.findById(5L)).thenReturn(Optional.of(comment));
+        when(downvoteRepository.findByUserIdAndCommentId(1L, 5L)).thenReturn(Optional.empty());
+        when(upvoteRepository.deleteByUserIdAndCommentId(1L, 5L)).thenReturn(1);
+
+        forumService.downvoteComment(5L, user);
+
+        verify(commentRepository).adjustVoteCounts(5L, -1, 1);
+    }
+
+    @Test
+    void deleteUserData_ShouldReleaseVotesBeforeDeletingThem() {
+        forumService.deleteUserData(1L);
+
+        var order = inOrder(postRepository, postUpvoteRepository);
+        order.verify(postRepository).releaseUpvotesOfUser(1L);
+        order.verify(postUpvoteRepository).deleteByUserId(1L);
+        verify(commentRepository).releaseDownvotesOfUser(1L);
+    }
+
+    @Test
+    void findPostById_ShouldResolveViewerVotesForPostAndComments() {
+        ForumComment first = ForumComment.builder().id(10L).content("A").author(user).post(post).build();
+        ForumComment second = ForumComment.builder().id(11L).content("B").author(user).post(post).build();
+
+        when(postRepository.findById(1L)).thenReturn(Optional.of(post));
+        when(commentRepository.findAllWithAuthorByPostIdIn(List.of(1L))).thenReturn(List.of(first, second));
+        when(voteStateLoader.forPosts(7L, List.of(1L))).thenReturn(new ViewerVotes(Set.of(), Set.of(1L)));
+        when(voteStateLoader.forComments(7L, List.of(10L, 11L))).thenReturn(new ViewerVotes(Set.of(11L), Set.of()));
+
+        PostResponse response = forumService.findPostById(1L, 7L);
+
+        assertEquals(Boolean.FALSE, response.getHasUserUpvoted());
+        assertEquals(Boolean.TRUE, response.getHasUserDownvoted());
+        assertEquals(Boolean.FALSE, response.getComments().get(0).getHasUserUpvoted());
+        assertEquals(Boolean.TRUE, response.getComments().get(1).getHasUserUpvoted());
+        verifyNoInteractions(upvoteRepository, downvoteRepository, postUpvoteRepository, postDownvoteRepository);
     }
 
     @Test
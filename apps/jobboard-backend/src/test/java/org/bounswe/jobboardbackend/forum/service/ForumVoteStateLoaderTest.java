@@ -0,0 +1,67 @@
+package org.bounswe.jobboardbackend.forum.service;
+
+import org.bounswe.jobboardbackend.forum.dto.ViewerVotes;
+import org.bounswe.jobboardbackend.forum.repository.ForumCommentDownvoteRepository;
+import org.bounswe.jobboardbackend.forum.repository.ForumCommentUpvoteRepository;
+import org.bounswe.jobboardbackend.forum.repository.ForumPostDownvoteRepository;
+import org.bounswe.jobboardbackend.forum.repository.ForumPostUpvoteRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ForumVoteStateLoaderTest {
+
+    @Mock
+    private ForumPostUpvoteRepository postUpvoteRepository;
+
+    @Mock
+    private ForumPostDownvoteRepository postDownvoteRepository;
+
+    @Mock
+    private ForumCommentUpvoteRepository commentUpvoteRepository;
+
+    @Mock
+    private ForumCommentDownvoteRepository commentDownvoteRepository;
+
+    @InjectMocks
+    private ForumVoteStateLoader loader;
+
+    @Test
+    void forComments_ShouldQueryEachVoteTableOnceForTheWholeBatch() {
+        List<Long> ids = List.of(1L, 2L, 3L);
+        when(commentUpvoteRepository.findCommentIdsByUserIdAndCommentIdIn(7L, ids)).thenReturn(List.of(1L, 3L));
+        when(commentDownvoteRepository.findCommentIdsByUserIdAndCommentIdIn(7L, ids)).thenReturn(List.of(2L));
+
+        ViewerVotes votes = loader.forComments(7L, ids);
+
+        assertEquals(Boolean.TRUE, votes.hasUpvoted(3L));
+        assertEquals(Boolean.FALSE, votes.hasUpvoted(2L));
+        assertEquals(Boolean.TRUE, votes.hasDownvoted(2L));
+        verify(commentUpvoteRepository, times(1)).findCommentIdsByUserIdAndCommentIdIn(any(), anyCollection());
+    }
+
+    @Test
+    void forPosts_ShouldReturnNullFlagsWithoutQuerying_WhenAnonymous() {
+        ViewerVotes votes = loader.forPosts(null, List.of(1L));
+
+        assertNull(votes.hasUpvoted(1L));
+        assertNull(votes.hasDownvoted(1L));
+        verifyNoInteractions(postUpvoteRepository, postDownvoteRepository);
+    }
+
+    @Test
+    void forPosts_ShouldSkipQueries_WhenBatchIsEmpty() {
+        ViewerVotes votes = loader.forPosts(7L, List.of());
+
+        assertEquals(Boolean.FALSE, votes.hasUpvoted(1L));
+        verifyNoInteractions(postUpvoteRepository, postDownvoteRepository);
+    }
+}
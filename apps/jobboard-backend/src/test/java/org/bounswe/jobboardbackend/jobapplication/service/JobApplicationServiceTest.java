@@ -12,6 +12,8 @@ import org.bounswe.jobboardbackend.jobapplication.repository.JobApplicationRepos
 import org.bounswe.jobboardbackend.jobpost.model.JobPost;
 import org.bounswe.jobboardbackend.jobpost.repository.JobPostRepository;
 import org.bounswe.jobboardbackend.notification.notifier.JobApplicationNotifier;
+import org.bounswe.jobboardbackend.storage.service.ObjectDeletionQueue;
+import org.bounswe.jobboardbackend.storage.service.ObjectStorage;
 import org.bounswe.jobboardbackend.workplace.dto.WorkplaceBriefResponse;
 import org.bounswe.jobboardbackend.workplace.model.Workplace;
 import org.bounswe.jobboardbackend.workplace.repository.EmployerWorkplaceRepository;
@@ -33,6 +35,7 @@ import org.springframework.security.core.userdetails.UserDetails;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -60,6 +63,10 @@ class JobApplicationServiceTest {
     private JobApplicationNotifier notifier;
     @Mock
     private org.bounswe.jobboardbackend.activity.service.ActivityService activityService;
+    @Mock
+    private ObjectStorage objectStorage;
+    @Mock
+    private ObjectDeletionQueue deletionQueue;
 
     @InjectMocks
     private JobApplicationService jobApplicationService;
@@ -284,7 +291,7 @@ class JobApplicationServiceTest {
         // Arrange
         when(userRepository.findById(mockJobSeeker.getId())).thenReturn(Optional.of(mockJobSeeker));
         when(applicationRepository.findByJobSeekerId(mockJobSeeker.getId())).thenReturn(List.of(mockApplication));
-        when(workplaceService.toBriefResponse(any())).thenReturn(new WorkplaceBriefResponse());
+        when(workplaceService.toBriefResponses(any())).thenReturn(Map.of(mockWorkplace.getId(), new WorkplaceBriefResponse()));
 
         // Act
         List<JobApplicationResponse> result = jobApplicationService.getByJobSeekerId(mockJobSeeker.getId());
@@ -312,7 +319,7 @@ class JobApplicationServiceTest {
         when(workplaceRepository.findById(mockWorkplace.getId())).thenReturn(Optional.of(mockWorkplace));
         when(applicationRepository.findByJobPost_Workplace_Id(mockWorkplace.getId()))
                 .thenReturn(List.of(mockApplication));
-        when(workplaceService.toBriefResponse(any())).thenReturn(new WorkplaceBriefResponse());
+        when(workplaceService.toBriefResponses(any())).thenReturn(Map.of(mockWorkplace.getId(), new WorkplaceBriefResponse()));
 
         // Act
         List<JobApplicationResponse> result = jobApplicationService.getByWorkplaceId(mockWorkplace.getId());
@@ -51,7 +51,7 @@ class JobPostControllerTest {
 
         // Mock service call with any arguments (since params are optional)
         when(jobPostService.getFiltered(
-                any(), any(), any(), any(), any(), any(), any(), any(), any(), any()
+                any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), any()
         )).thenReturn(List.of(response));
 
         // Act & Assert
@@ -266,7 +266,7 @@ class JobPostControllerTest {
         // Arrange
         // Mock the service to return an empty list
         when(jobPostService.getFiltered(
-                any(), any(), any(), any(), any(), any(), any(), any(), any(), any()
+                any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), any()
         )).thenReturn(Collections.emptyList());
 
         // Act & Assert
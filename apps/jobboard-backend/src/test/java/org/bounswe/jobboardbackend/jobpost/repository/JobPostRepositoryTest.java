@@ -3,8 +3,10 @@ package org.bounswe.jobboardbackend.jobpost.repository;
 import org.bounswe.jobboardbackend.auth.model.Role;
 import org.bounswe.jobboardbackend.auth.model.User;
 import org.bounswe.jobboardbackend.auth.repository.UserRepository;
+import org.bounswe.jobboardbackend.jobpost.dto.JobPostCursor;
 import org.bounswe.jobboardbackend.jobpost.model.JobPost;
 import org.bounswe.jobboardbackend.workplace.model.Workplace;
+import org.bounswe.jobboardbackend.workplace.model.enums.EthicalPolicy;
 import org.bounswe.jobboardbackend.workplace.repository.WorkplaceRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -12,8 +14,11 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
 
 import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.EnumSet;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -31,6 +36,9 @@ class JobPostRepositoryTest {
     @Autowired
     private WorkplaceRepository workplaceRepository;
 
+    // Bound to the ethical tag IN list when no tag is required
+    private static final List<String> ANY_TAGS = Arrays.stream(EthicalPolicy.values()).map(Enum::name).toList();
+
     // Shared test entities
     private User testEmployer;
 
@@ -59,6 +67,7 @@ class JobPostRepositoryTest {
                 .location("New York")
                 .shortDescription("Leading tech firm")
                 .detailedDescription("Detailed description about Tech Corp")
+                .ethicalTags(EnumSet.of(EthicalPolicy.SALARY_TRANSPARENCY, EthicalPolicy.REMOTE_FRIENDLY))
                 .build();
         workplaceRepository.save(techCorpWorkplace);
 
@@ -106,7 +115,7 @@ class JobPostRepositoryTest {
     @DisplayName("Should return all job posts when no filters are applied")
     void findFiltered_NoFilter_ShouldReturnAll() {
         List<JobPost> results = jobPostRepository.findFiltered(
-                null, null, null, null, null, null, null, null, null
+                null, null, null, null, null, null, null, null, null, ANY_TAGS, 0
         );
         assertThat(results).hasSize(3);
     }
@@ -117,7 +126,7 @@ class JobPostRepositoryTest {
         // FIXED: Search for "Senior" instead of "Java" because the query uses 'STARTS WITH' logic.
         // "Senior Java Engineer" starts with "Senior".
         List<JobPost> results = jobPostRepository.findFiltered(
-                "Senior", null, null, null, null, null, null, null, null
+                "Senior", null, null, null, null, null, null, null, null, ANY_TAGS, 0
         );
 
         assertThat(results).hasSize(1);
@@ -129,7 +138,7 @@ class JobPostRepositoryTest {
     void findFiltered_ByLocation() {
         // Search for "London"
         List<JobPost> results = jobPostRepository.findFiltered(
-                null, null, "London", null, null, null, null, null, null
+                null, null, "London", null, null, null, null, null, null, ANY_TAGS, 0
         );
 
         assertThat(results).hasSize(1);
@@ -141,7 +150,7 @@ class JobPostRepositoryTest {
     void findFiltered_ByMinSalary() {
         // Search for jobs paying at least 80,000
         List<JobPost> results = jobPostRepository.findFiltered(
-                null, null, null, null, 80000, null, null, null, null
+                null, null, null, null, 80000, null, null, null, null, ANY_TAGS, 0
         );
 
         assertThat(results).hasSize(1);
@@ -152,7 +161,7 @@ class JobPostRepositoryTest {
     @DisplayName("Should filter job posts by remote availability")
     void findFiltered_ByRemote() {
         List<JobPost> results = jobPostRepository.findFiltered(
-                null, null, null, null, null, null, true, null, null
+                null, null, null, null, null, null, true, null, null, ANY_TAGS, 0
         );
 
         assertThat(results).hasSize(1);
@@ -163,7 +172,7 @@ class JobPostRepositoryTest {
     @DisplayName("Should filter job posts by inclusivity")
     void findFiltered_ByInclusive() {
         List<JobPost> results = jobPostRepository.findFiltered(
-                null, null, null, null, null, null, null, true, null
+                null, null, null, null, null, null, null, true, null, ANY_TAGS, 0
         );
 
         // Senior Java Engineer and Marketing Manager are inclusive
@@ -175,9 +184,46 @@ class JobPostRepositoryTest {
     void findFiltered_CombinedFilters() {
         // Search for "Inclusive" jobs in "New York"
         List<JobPost> results = jobPostRepository.findFiltered(
-                null, null, "New York", null, null, null, null, true, null
+                null, null, "New York", null, null, null, null, true, null, ANY_TAGS, 0
         );
 
         assertThat(results).hasSize(2);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Should keep only job posts whose workplace has all requested ethical tags")
+    void findFiltered_ByEthicalTags() {
+        List<JobPost> oneTag = jobPostRepository.findFiltered(
+                null, null, null, null, null, null, null, null, null,
+                List.of(EthicalPolicy.SALARY_TRANSPARENCY.name()), 1
+        );
+        List<JobPost> missingTag = jobPostRepository.findFiltered(
+                null, null, null, null, null, null, null, null, null,
+                List.of(EthicalPolicy.SALARY_TRANSPARENCY.name(), EthicalPolicy.EQUAL_PAY_POLICY.name()), 2
+        );
+
+        // Both Tech Corp jobs carry Salary Transparency
+        assertThat(oneTag).hasSize(2);
+        assertThat(missingTag).isEmpty();
+    }
+
+    // --- KEYSET PAGINATION TESTS ---
+
+    @Test
+    @DisplayName("Should page through employer job posts newest first without gaps or duplicates")
+    void findPageByEmployerId_WalksAllPages() {
+        JobPostCursor start = JobPostCursor.START;
+        List<JobPost> first = jobPostRepository.findPageByEmployerId(
+                testEmployer.getId(), start.postedDate(), start.id(), PageRequest.of(0, 2));
+
+        assertThat(first).hasSize(2);
+
+        JobPostCursor next = JobPostCursor.decode(JobPostCursor.after(first.getLast()).encode());
+        List<JobPost> second = jobPostRepository.findPageByEmployerId(
+                testEmployer.getId(), next.postedDate(), next.id(), PageRequest.of(0, 2));
+
+        assertThat(second).hasSize(1);
+        assertThat(second.getFirst().getId()).isNotIn(first.get(0).getId(), first.get(1).getId());
+        assertThat(first.get(0).getPostedDate()).isAfterOrEqualTo(first.get(1).getPostedDate());
+    }
+}
@@ -2,6 +2,7 @@ package org.bounswe.jobboardbackend.jobpost.service;
 
 import org.bounswe.jobboardbackend.auth.model.User;
 import org.bounswe.jobboardbackend.auth.repository.UserRepository;
+import org.bounswe.jobboardbackend.common.dto.CursorPage;
 import org.bounswe.jobboardbackend.exception.ErrorCode;
 import org.bounswe.jobboardbackend.exception.HandleException;
 import org.bounswe.jobboardbackend.jobpost.dto.CreateJobPostRequest;
@@ -11,6 +12,7 @@ import org.bounswe.jobboardbackend.jobpost.model.JobPost;
 import org.bounswe.jobboardbackend.jobpost.repository.JobPostRepository;
 import org.bounswe.jobboardbackend.workplace.dto.WorkplaceBriefResponse;
 import org.bounswe.jobboardbackend.workplace.model.Workplace;
+import org.bounswe.jobboardbackend.workplace.model.enums.EthicalPolicy;
 import org.bounswe.jobboardbackend.workplace.repository.EmployerWorkplaceRepository;
 import org.bounswe.jobboardbackend.workplace.repository.WorkplaceRepository;
 import org.bounswe.jobboardbackend.workplace.service.WorkplaceService;
@@ -23,16 +25,23 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Pageable;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -59,6 +68,9 @@ class JobPostServiceTest {
     @Mock
     private org.bounswe.jobboardbackend.activity.service.ActivityService activityService;
 
+    @Mock
+    private JobSearchIndex jobSearchIndex;
+
     @InjectMocks
     private JobPostService jobPostService;
 
@@ -251,15 +263,40 @@ class JobPostServiceTest {
     @Test
     @DisplayName("GetFiltered: Should delegate to repository and return list")
     void getFiltered_Success() {
-        when(jobPostRepository.findFiltered(any(), any(), any(), any(), any(), any(), any(), any(), any()))
+        when(jobPostRepository.findFiltered(any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), anyLong()))
                 .thenReturn(List.of(mockJobPost));
-        when(workplaceService.toBriefResponse(any())).thenReturn(new WorkplaceBriefResponse());
+        when(workplaceService.toBriefResponses(any())).thenReturn(Map.of(mockWorkplace.getId(), new WorkplaceBriefResponse()));
 
         List<JobPostResponse> responses = jobPostService.getFiltered(
-                "Title", null, null, null, null, null, null, null, null, null);
+                null, "Title", null, null, null, null, null, null, null, null, null);
 
         assertEquals(1, responses.size());
         assertEquals(mockJobPost.getTitle(), responses.getFirst().getTitle());
+        assertNotNull(responses.getFirst().getWorkplace());
+        verify(workplaceService, never()).toBriefResponse(any());
+    }
+
+    @Test
+    @DisplayName("GetFiltered: Should use search index ranking when index is ready")
+    void getFiltered_UsesSearchIndexRanking() {
+        JobPost otherJob = JobPost.builder()
+                .id(501L)
+                .title("Other Title")
+                .employer(mockUser)
+                .workplace(mockWorkplace)
+                .build();
+
+        when(jobSearchIndex.isReady()).thenReturn(true);
+        when(jobSearchIndex.search("java", null, null, null, null)).thenReturn(List.of(501L, 500L));
+        when(jobPostRepository.findFilteredByIds(eq(List.of(501L, 500L)), isNull(), isNull(), isNull(), isNull(), isNull(), any(), eq(0L)))
+                .thenReturn(List.of(mockJobPost, otherJob));
+        when(workplaceService.toBriefResponses(any())).thenReturn(Map.of(mockWorkplace.getId(), new WorkplaceBriefResponse()));
+
+        List<JobPostResponse> responses = jobPostService.getFiltered(
+                "java", null, null, null, null, null, null, null, null, null, null);
+
+        assertEquals(List.of(501L, 500L), responses.stream().map(JobPostResponse::getId).toList());
+        verify(jobPostRepository, never()).findFiltered(any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), anyLong());
     }
 
     @Test
@@ -269,7 +306,7 @@ class JobPostServiceTest {
         Long employerId = mockUser.getId();
         when(userRepository.findById(employerId)).thenReturn(Optional.of(mockUser));
         when(jobPostRepository.findByEmployerId(employerId)).thenReturn(List.of(mockJobPost));
-        when(workplaceService.toBriefResponse(any())).thenReturn(new WorkplaceBriefResponse());
+        when(workplaceService.toBriefResponses(any())).thenReturn(Map.of(mockWorkplace.getId(), new WorkplaceBriefResponse()));
 
         // Act
         List<JobPostResponse> responses = jobPostService.getByEmployerId(employerId);
@@ -286,7 +323,7 @@ class JobPostServiceTest {
         Long workplaceId = mockWorkplace.getId();
         when(workplaceRepository.findById(workplaceId)).thenReturn(Optional.of(mockWorkplace));
         when(jobPostRepository.findByWorkplaceId(workplaceId)).thenReturn(List.of(mockJobPost));
-        when(workplaceService.toBriefResponse(any())).thenReturn(new WorkplaceBriefResponse());
+        when(workplaceService.toBriefResponses(any())).thenReturn(Map.of(mockWorkplace.getId(), new WorkplaceBriefResponse()));
 
         // Act
         List<JobPostResponse> responses = jobPostService.getByWorkplaceId(workplaceId);
@@ -296,6 +333,99 @@ class JobPostServiceTest {
         assertEquals(mockJobPost.getTitle(), responses.getFirst().getTitle());
     }
 
+    @Test
+    @DisplayName("GetFiltered: Should return nothing for an unknown ethical tag without querying")
+    void getFiltered_UnknownEthicalTag() {
+        List<JobPostResponse> responses = jobPostService.getFiltered(
+                null, null, null, null, null, List.of("Not A Real Policy"), null, null, null, null, null);
+
+        assertTrue(responses.isEmpty());
+        verifyNoInteractions(jobPostRepository);
+    }
+
+    @Test
+    @DisplayName("GetByEmployerIdPage: Should return one page and a cursor when more rows exist")
+    void getByEmployerIdPage_ReturnsCursor() {
+        Long employerId = mockUser.getId();
+        mockJobPost.setPostedDate(LocalDateTime.of(2025, 1, 2, 10, 0));
+        JobPost olderJob = JobPost.builder()
+                .id(499L)
+                .title("Older")
+                .employer(mockUser)
+                .workplace(mockWorkplace)
+                .postedDate(LocalDateTime.of(2025, 1, 1, 10, 0))
+                .build();
+
+        when(userRepository.findById(employerId)).thenReturn(Optional.of(mockUser));
+        when(jobPostRepository.findPageByEmployerId(eq(employerId), any(), any(), any(Pageable.class)))
+                .thenReturn(List.of(mockJobPost, olderJob));
+        when(workplaceService.toBriefResponses(any())).thenReturn(Map.of(mockWorkplace.getId(), new WorkplaceBriefResponse()));
+
+        CursorPage<JobPostResponse> page = jobPostService.getByEmployerIdPage(employerId, null, 1, false);
+
+        assertEquals(1, page.getItems().size());
+        assertTrue(page.isHasNext());
+        assertNotNull(page.getNextCursor());
+        assertNull(page.getTotalEstimate());
+    }
+
+    @Test
+    @DisplayName("GetFilteredPage: Should load the index's keyset page by id and take the total from the index")
+    void getFilteredPage_UsesIndexKeysetPage() {
+        mockJobPost.setPostedDate(LocalDateTime.of(2025, 1, 2, 10, 0));
+        JobPost olderJob = JobPost.builder()
+                .id(499L)
+                .title("Older")
+                .employer(mockUser)
+                .workplace(mockWorkplace)
+                .postedDate(LocalDateTime.of(2025, 1, 1, 10, 0))
+                .build();
+
+        when(jobSearchIndex.isReady()).thenReturn(true);
+        when(jobSearchIndex.page(eq("java"), isNull(), isNull(), isNull(), isNull(), any(JobSearchIndex.Filter.class),
+                any(), anyLong(), eq(2), eq(true)))
+                .thenReturn(new JobSearchIndex.KeysetPage(List.of(500L, 499L), 7L));
+        when(jobPostRepository.findAllById(List.of(500L, 499L))).thenReturn(List.of(olderJob, mockJobPost));
+        when(workplaceService.toBriefResponses(any())).thenReturn(Map.of(mockWorkplace.getId(), new WorkplaceBriefResponse()));
+
+        CursorPage<JobPostResponse> page = jobPostService.getFilteredPage(
+                "java", null, null, null, null, null, null, null, null, null, null, null, 1, true);
+
+        assertEquals(List.of(500L), page.getItems().stream().map(JobPostResponse::getId).toList());
+        assertTrue(page.isHasNext());
+        assertEquals(Long.valueOf(7L), page.getTotalEstimate());
+        verify(jobSearchIndex, never()).search(any(), any(), any(), any(), any());
+        verifyNoInteractions(workplaceRepository);
+    }
+
+    @Test
+    @DisplayName("GetFilteredPage: Should pass the workplaces carrying every required ethical tag to the index")
+    void getFilteredPage_ResolvesEthicalTagsToWorkplaces() {
+        when(jobSearchIndex.isReady()).thenReturn(true);
+        when(workplaceRepository.findIdsWithAllEthicalTags(Set.of(EthicalPolicy.values()[0]), 1L)).thenReturn(List.of(mockWorkplace.getId()));
+        when(jobSearchIndex.page(eq("java"), isNull(), isNull(), isNull(), isNull(),
+                eq(new JobSearchIndex.Filter(null, null, true, null, null, Set.of(mockWorkplace.getId()))),
+                any(), anyLong(), eq(11), eq(false)))
+                .thenReturn(new JobSearchIndex.KeysetPage(List.of(), null));
+        when(jobPostRepository.findAllById(List.of())).thenReturn(List.of());
+
+        CursorPage<JobPostResponse> page = jobPostService.getFilteredPage("java", null, null, null, null,
+                List.of(EthicalPolicy.values()[0].getLabel()), null, null, true, null, null, null, 10, false);
+
+        assertTrue(page.getItems().isEmpty());
+        assertNull(page.getTotalEstimate());
+    }
+
+    @Test
+    @DisplayName("GetByEmployerIdPage: Should reject a malformed cursor")
+    void getByEmployerIdPage_InvalidCursor() {
+        when(userRepository.findById(mockUser.getId())).thenReturn(Optional.of(mockUser));
+
+        HandleException exception = assertThrows(HandleException.class,
+                () -> jobPostService.getByEmployerIdPage(mockUser.getId(), "not-a-cursor", 10, false));
+        assertEquals(ErrorCode.INVALID_CURSOR, exception.getCode());
+    }
+
     @Test
     @DisplayName("Delete: Should fail if user is not authorized for the workplace")
     void delete_Fail_Unauthorized() {
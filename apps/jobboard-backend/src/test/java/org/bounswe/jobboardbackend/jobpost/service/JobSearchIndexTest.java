@@ -0,0 +1,161 @@
+package org.bounswe.jobboardbackend.jobpost.service;
+
+import org.bounswe.jobboardbackend.jobpost.dto.JobSearchDocument;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JobSearchIndexTest {
+
+    private static final LocalDateTime DAY_ZERO = LocalDateTime.of(2025, 1, 1, 9, 0);
+
+    private JobSearchIndex index;
+
+    /** A document posted {@code id} days after day zero, with no salary and all flags off. */
+    private static JobSearchDocument doc(long id, String title, String description, String company, String sector, String location) {
+        return doc(id, title, description, company, sector, location, DAY_ZERO.plusDays(id), null, false);
+    }
+
+    private static JobSearchDocument doc(long id, String title, String description, String company, String sector, String location,
+                                         LocalDateTime postedDate, Integer minSalary, boolean remote) {
+        return new JobSearchDocument(id, title, description, company, sector, location,
+                10L, postedDate, minSalary, null, remote, false, false);
+    }
+
+    private static JobSearchIndex.Filter anything() {
+        return new JobSearchIndex.Filter(null, null, null, null, null, null);
+    }
+
+    @BeforeEach
+    void setUp() {
+        index = new JobSearchIndex();
+        index.replaceAll(List.of(
+                doc(1L, "Senior Java Engineer", "Build backend services", "Tech Corp", "IT", "New York"),
+                doc(2L, "Junior Java Developer", "Learn Spring", "Soft Solutions", "Software", "London"),
+                doc(3L, "Marketing Manager", "Java experience is a plus", "Tech Corp", "Marketing", "İstanbul")
+        ));
+    }
+
+    @Test
+    @DisplayName("Should rank title matches above description matches")
+    void search_RanksTitleAboveDescription() {
+        List<Long> ids = index.search("java", null, null, null, null);
+
+        assertThat(ids).hasSize(3);
+        assertThat(ids.getLast()).isEqualTo(3L);
+    }
+
+    @Test
+    @DisplayName("Should match term prefixes")
+    void search_MatchesPrefix() {
+        assertThat(index.search("engin", null, null, null, null)).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("Should tolerate a single typo")
+    void search_ToleratesTypo() {
+        assertThat(index.search("devloper", null, null, null, null)).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("Should require every term to match")
+    void search_RequiresAllTerms() {
+        assertThat(index.search("java london", null, null, null, null)).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("Should restrict field criteria to their own field")
+    void search_FieldScopedCriteria() {
+        assertThat(index.search(null, null, "tech", null, null)).containsExactlyInAnyOrder(1L, 3L);
+        assertThat(index.search(null, "tech", null, null, null)).isEmpty();
+        assertThat(index.search(null, null, null, "istanbul", null)).containsExactly(3L);
+    }
+
+    @Test
+    @DisplayName("Should reflect updates and removals")
+    void indexAndRemove_UpdatesPostings() {
+        index.index(doc(2L, "Python Developer", "Learn Django", "Soft Solutions", "Software", "London"));
+        index.remove(1L);
+
+        assertThat(index.search("java", null, null, null, null)).containsExactly(3L);
+        assertThat(index.search("python", null, null, null, null)).containsExactly(2L);
+        assertThat(index.size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should keep updates made while a rebuild reads its snapshot")
+    void rebuild_ReplaysConcurrentChanges() {
+        index.rebuild(() -> {
+            List<JobSearchDocument> stale = List.of(
+                    doc(1L, "Senior Java Engineer", "Build backend services", "Tech Corp", "IT", "New York"),
+                    doc(2L, "Junior Java Developer", "Learn Spring", "Soft Solutions", "Software", "London"));
+            // committed and indexed after the snapshot was read
+            index.index(doc(2L, "Python Developer", "Learn Django", "Soft Solutions", "Software", "London"));
+            index.remove(1L);
+            index.index(doc(4L, "Java Architect", "", "New Co", "IT", "Berlin"));
+            return stale;
+        });
+
+        assertThat(index.search("java", null, null, null, null)).containsExactly(4L);
+        assertThat(index.search("python", null, null, null, null)).containsExactly(2L);
+        assertThat(index.size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should page matches newest first from the cursor")
+    void page_WalksMatchesByDateFromTheCursor() {
+        index.index(doc(4L, "Java Architect", "", "New Co", "IT", "Berlin", DAY_ZERO.plusDays(2), null, false));
+
+        JobSearchIndex.KeysetPage first = index.page("java", null, null, null, null, anything(),
+                LocalDateTime.MAX, Long.MAX_VALUE, 2, true);
+        JobSearchIndex.KeysetPage second = index.page("java", null, null, null, null, anything(),
+                DAY_ZERO.plusDays(2), 4L, 2, false);
+
+        assertThat(first.ids()).containsExactly(3L, 4L);
+        assertThat(first.total()).isEqualTo(4L);
+        assertThat(second.ids()).containsExactly(2L, 1L);
+        assertThat(second.total()).isNull();
+    }
+
+    @Test
+    @DisplayName("Should apply non-text filters while paging")
+    void page_AppliesFilters() {
+        index.index(doc(4L, "Java Architect", "", "New Co", "IT", "Berlin", DAY_ZERO.plusDays(4), 5000, true));
+        index.index(doc(5L, "Java Lead", "", "New Co", "IT", "Berlin", DAY_ZERO.plusDays(5), 1000, true));
+
+        JobSearchIndex.KeysetPage page = index.page("java", null, null, null, null,
+                new JobSearchIndex.Filter(2000, null, true, null, null, Set.of(10L)),
+                LocalDateTime.MAX, Long.MAX_VALUE, 10, true);
+        JobSearchIndex.KeysetPage otherWorkplace = index.page("java", null, null, null, null,
+                new JobSearchIndex.Filter(null, null, null, null, null, Set.of(11L)),
+                LocalDateTime.MAX, Long.MAX_VALUE, 10, true);
+
+        assertThat(page.ids()).containsExactly(4L);
+        assertThat(page.total()).isEqualTo(1L);
+        assertThat(otherWorkplace.ids()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should intersect every term when paging and merge prefix expansions once")
+    void page_RequiresAllTermsAndDeduplicates() {
+        index.index(doc(4L, "Java Developer Developers", "", "Dev Co", "IT", "London"));
+
+        assertThat(index.page("java london", null, null, null, null, anything(),
+                LocalDateTime.MAX, Long.MAX_VALUE, 10, false).ids()).containsExactly(4L, 2L);
+        assertThat(index.page("devel", null, null, null, null, anything(),
+                LocalDateTime.MAX, Long.MAX_VALUE, 10, true).total()).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("Edit distance should count adjacent transpositions as one edit")
+    void editDistance_Transposition() {
+        assertThat(JobSearchIndex.editDistance("java", "jaav", 1)).isEqualTo(1);
+        assertThat(JobSearchIndex.editDistance("java", "kotlin", 1)).isEqualTo(2);
+    }
+}
@@ -8,6 +8,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -27,8 +28,8 @@ class MentorshipRepositoriesTest {
     @Autowired
     private MentorshipRequestRepository mentorshipRequestRepository;
 
-//    @Autowired
-//    private MessageRepository messageRepository; //it will be added in Milestone3
+    @Autowired
+    private MessageRepository messageRepository;
 
     @Autowired
     private ResumeReviewRepository resumeReviewRepository;
@@ -252,6 +253,45 @@ class MentorshipRepositoriesTest {
 //        assertEquals("second", messages.get(1).getContent());
 //    }
 
+    @Test
+    void messageRepository_findHistoryPage_pagesNewestFirstWithSenders() {
+        User mentorUser = buildUser("mentor7");
+        User mentee = buildUser("mentee7");
+        MentorProfile mentor = buildAndPersistMentorProfile(mentorUser);
+        MentorshipRequest request = buildAndPersistMentorshipRequest(mentor, mentee);
+        ResumeReview review = buildAndPersistResumeReview(request, mentor, mentee);
+
+        Conversation conversation = new Conversation();
+        conversation.setResumeReview(review);
+        entityManager.persist(conversation);
+
+        LocalDateTime now = LocalDateTime.of(2025, 11, 1, 10, 0);
+        Message[] messages = new Message[4];
+        for (int i = 0; i < messages.length; i++) {
+            Message m = new Message();
+            m.setConversation(conversation);
+            m.setSender(i % 2 == 0 ? mentee : mentorUser);
+            m.setContent("m" + i);
+            // the last two share a timestamp, the id breaks the tie
+            m.setTimestamp(now.plusMinutes(Math.min(i, 2)));
+            entityManager.persist(m);
+            messages[i] = m;
+        }
+
+        entityManager.flush();
+        entityManager.clear();
+
+        List<Message> first = messageRepository.findHistoryPage(conversation.getId(),
+                LocalDateTime.of(9999, 12, 31, 23, 59, 59), Long.MAX_VALUE, PageRequest.of(0, 2));
+        assertEquals(List.of("m3", "m2"), first.stream().map(Message::getContent).toList());
+        assertEquals("mentor7", first.get(0).getSender().getUsername());
+
+        Message last = first.get(1);
+        List<Message> older = messageRepository.findHistoryPage(conversation.getId(),
+                last.getTimestamp(), last.getId(), PageRequest.of(0, 2));
+        assertEquals(List.of("m1", "m0"), older.stream().map(Message::getContent).toList());
+    }
+
     // ---------------------------------------------------------------------
     // ResumeReviewRepository
     // ---------------------------------------------------------------------
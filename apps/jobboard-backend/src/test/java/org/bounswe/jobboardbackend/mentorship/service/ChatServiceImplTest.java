@@ -0,0 +1,139 @@
+package org.bounswe.jobboardbackend.mentorship.service;
+
+import org.bounswe.jobboardbackend.auth.model.User;
+import org.bounswe.jobboardbackend.auth.repository.UserRepository;
+import org.bounswe.jobboardbackend.exception.ErrorCode;
+import org.bounswe.jobboardbackend.exception.HandleException;
+import org.bounswe.jobboardbackend.mentorship.dto.ChatMessageDTO;
+import org.bounswe.jobboardbackend.mentorship.dto.ConversationParticipants;
+import org.bounswe.jobboardbackend.mentorship.dto.CreateMessageDTO;
+import org.bounswe.jobboardbackend.mentorship.model.Conversation;
+import org.bounswe.jobboardbackend.mentorship.model.Message;
+import org.bounswe.jobboardbackend.mentorship.repository.ConversationRepository;
+import org.bounswe.jobboardbackend.mentorship.repository.MessageRepository;
+import org.bounswe.jobboardbackend.notification.notifier.ChatNotifier;
+import org.bounswe.jobboardbackend.websocket.service.ClusterCacheInvalidation;
+import org.bounswe.jobboardbackend.websocket.service.LocalClusterTransport;
+import org.bounswe.jobboardbackend.websocket.service.SubscriptionDirectory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ChatServiceImplTest {
+
+    @Mock
+    private ConversationRepository conversationRepository;
+
+    @Mock
+    private MessageRepository messageRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private SubscriptionDirectory subscriptionDirectory;
+
+    @Mock
+    private ChatNotifier notifier;
+
+    private ConversationParticipantCache participantCache;
+    private ChatServiceImpl chatService;
+
+    private static final ConversationParticipants OPEN =
+            new ConversationParticipants(10L, 1L, "mentor", 2L, "seeker", null);
+
+    @BeforeEach
+    void setUp() {
+        participantCache = new ConversationParticipantCache(16, 60000, new ClusterCacheInvalidation(new LocalClusterTransport()));
+        chatService = new ChatServiceImpl(conversationRepository, messageRepository, userRepository,
+                participantCache, subscriptionDirectory, notifier);
+    }
+
+    private void stubSave() {
+        when(conversationRepository.getReferenceById(10L)).thenReturn(new Conversation());
+        when(userRepository.getReferenceById(2L)).thenReturn(new User());
+        when(messageRepository.save(any(Message.class))).thenAnswer(inv -> {
+            Message m = inv.getArgument(0);
+            m.setId(99L);
+            return m;
+        });
+    }
+
+    @Test
+    void saveAndBroadcastMessage_ShouldLoadParticipantsOnce() {
+        when(conversationRepository.findParticipants(10L)).thenReturn(Optional.of(OPEN));
+        when(conversationRepository.existsByIdAndClosedAtIsNull(10L)).thenReturn(true);
+        stubSave();
+        when(subscriptionDirectory.isSubscribed("mentor", "/topic/conversation/10")).thenReturn(false);
+
+        ChatMessageDTO first = chatService.saveAndBroadcastMessage(10L, new CreateMessageDTO("hi"), 2L);
+        chatService.saveAndBroadcastMessage(10L, new CreateMessageDTO("again"), 2L);
+
+        assertEquals("seeker", first.senderUsername());
+        assertEquals("99", first.id());
+        verify(conversationRepository, times(1)).findParticipants(10L);
+        verify(conversationRepository, never()).findById(any());
+        verify(notifier, times(2)).notifyNewMessage(any(Message.class), eq("seeker"), eq("mentor"), eq(false));
+    }
+
+    @Test
+    void saveAndBroadcastMessage_ShouldReject_NonParticipant() {
+        when(conversationRepository.findParticipants(10L)).thenReturn(Optional.of(OPEN));
+
+        HandleException ex = assertThrows(HandleException.class,
+                () -> chatService.saveAndBroadcastMessage(10L, new CreateMessageDTO("hi"), 3L));
+
+        assertEquals(ErrorCode.UNAUTHORIZED_REVIEW_ACCESS, ex.getCode());
+        verifyNoInteractions(messageRepository);
+    }
+
+    @Test
+    void saveAndBroadcastMessage_ShouldReject_ClosedConversationAfterEviction() {
+        ConversationParticipants closed = new ConversationParticipants(10L, 1L, "mentor", 2L, "seeker", LocalDateTime.now());
+        when(conversationRepository.findParticipants(10L)).thenReturn(Optional.of(OPEN), Optional.of(closed));
+        when(conversationRepository.existsByIdAndClosedAtIsNull(10L)).thenReturn(true);
+        stubSave();
+
+        chatService.saveAndBroadcastMessage(10L, new CreateMessageDTO("hi"), 2L);
+        participantCache.evict(10L);
+
+        HandleException ex = assertThrows(HandleException.class,
+                () -> chatService.saveAndBroadcastMessage(10L, new CreateMessageDTO("late"), 2L));
+        assertEquals(ErrorCode.MENTORSHIP_NOT_ACTIVE, ex.getCode());
+        verify(messageRepository, times(1)).save(any(Message.class));
+    }
+
+    @Test
+    void saveAndBroadcastMessage_ShouldReject_ConversationClosedOnAnotherNode() {
+        when(conversationRepository.findParticipants(10L)).thenReturn(Optional.of(OPEN));
+        when(conversationRepository.existsByIdAndClosedAtIsNull(10L)).thenReturn(false);
+
+        HandleException ex = assertThrows(HandleException.class,
+                () -> chatService.saveAndBroadcastMessage(10L, new CreateMessageDTO("late"), 2L));
+
+        assertEquals(ErrorCode.MENTORSHIP_NOT_ACTIVE, ex.getCode());
+        verifyNoInteractions(messageRepository);
+    }
+
+    @Test
+    void getMessageHistory_ShouldDistinguishMissingAndUnlinkedConversations() {
+        when(conversationRepository.findParticipants(10L)).thenReturn(Optional.empty());
+        when(conversationRepository.existsById(10L)).thenReturn(true, false);
+
+        HandleException unlinked = assertThrows(HandleException.class, () -> chatService.getMessageHistory(10L, 2L));
+        HandleException missing = assertThrows(HandleException.class, () -> chatService.getMessageHistory(10L, 2L));
+
+        assertEquals(ErrorCode.CHAT_NOT_LINKED_TO_REVIEW, unlinked.getCode());
+        assertEquals(ErrorCode.CONVERSATION_NOT_FOUND, missing.getCode());
+    }
+}
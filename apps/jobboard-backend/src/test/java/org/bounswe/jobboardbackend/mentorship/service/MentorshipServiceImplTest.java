@@ -1,8 +1,5 @@
 package org.bounswe.jobboardbackend.mentorship.service;
 
-import com.google.cloud.storage.Blob;
-import com.google.cloud.storage.BlobInfo;
-import com.google.cloud.storage.Storage;
 import org.bounswe.jobboardbackend.auth.model.User;
 import org.bounswe.jobboardbackend.auth.repository.UserRepository;
 import org.bounswe.jobboardbackend.auth.service.UserDetailsImpl;
@@ -11,6 +8,8 @@ import org.bounswe.jobboardbackend.mentorship.dto.*;
 import org.bounswe.jobboardbackend.mentorship.model.*;
 import org.bounswe.jobboardbackend.mentorship.repository.*;
 import org.bounswe.jobboardbackend.notification.notifier.MentorshipNotifier;
+import org.bounswe.jobboardbackend.storage.service.ObjectDeletionQueue;
+import org.bounswe.jobboardbackend.storage.service.ObjectStorage;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -52,11 +51,14 @@ class MentorshipServiceImplTest {
         @Mock
         private ChatService chatService;
 
+        @Mock
+        private ConversationParticipantCache participantCache;
+
         @Mock
         private SimpMessagingTemplate messagingTemplate;
 
         @Mock
-        private Storage storage;
+        private ObjectStorage objectStorage;
 
         @InjectMocks
         private MentorshipServiceImpl mentorshipService;
@@ -70,15 +72,12 @@ class MentorshipServiceImplTest {
         @Mock
         private org.bounswe.jobboardbackend.activity.service.ActivityService activityService;
 
+        @Mock
+        private ObjectDeletionQueue deletionQueue;
+
         @BeforeEach
         void setUp() {
-                // Replace the internal Storage field with our mock
-                ReflectionTestUtils.setField(mentorshipService, "storage", storage);
-
                 // Inject @Value fields used in methods we test
-                ReflectionTestUtils.setField(mentorshipService, "gcsBucket", "test-bucket");
-                ReflectionTestUtils.setField(mentorshipService, "gcsPublic", true);
-                ReflectionTestUtils.setField(mentorshipService, "gcsPublicBaseUrl", "https://storage.googleapis.com");
                 ReflectionTestUtils.setField(mentorshipService, "appEnv", "dev");
         }
 
@@ -94,25 +93,47 @@ class MentorshipServiceImplTest {
                 when(file.isEmpty()).thenReturn(false);
                 when(file.getContentType()).thenReturn("application/pdf");
                 when(file.getOriginalFilename()).thenReturn("cv.pdf");
-                when(file.getBytes()).thenReturn("dummy".getBytes());
 
                 ResumeReview review = new ResumeReview();
                 review.setId(reviewId);
                 when(resumeReviewRepository.findById(reviewId)).thenReturn(Optional.of(review));
 
-                // storage.create just needs to succeed
-                when(storage.create(any(BlobInfo.class), any(byte[].class))).thenReturn(mock(Blob.class));
-
-                ResumeFileResponseDTO response = mentorshipService.uploadResumeFile(reviewId, file);
-
                 String expectedObjectName = "dev/resumes/" + reviewId + ".pdf";
                 String expectedUrl = "https://storage.googleapis.com/test-bucket/" + expectedObjectName;
+                when(objectStorage.upload(expectedObjectName, file, "application/pdf")).thenReturn(expectedUrl);
+
+                ResumeFileResponseDTO response = mentorshipService.uploadResumeFile(reviewId, file);
 
                 assertEquals(reviewId, response.getResumeReviewId());
                 assertEquals(expectedUrl, response.getFileUrl());
                 assertNotNull(response.getUploadedAt());
 
-                verify(storage).create(any(BlobInfo.class), any(byte[].class));
+                verify(objectStorage).upload(expectedObjectName, file, "application/pdf");
+        }
+
+        @Test
+        void uploadResumeFile_whenOldValueIsLegacyUrlOfSameObject_keepsNewUpload() throws Exception {
+                Long reviewId = 1L;
+
+                MultipartFile file = mock(MultipartFile.class);
+                when(file.isEmpty()).thenReturn(false);
+                when(file.getContentType()).thenReturn("application/pdf");
+                when(file.getOriginalFilename()).thenReturn("cv.pdf");
+
+                String objectName = "dev/resumes/" + reviewId + ".pdf";
+                String legacyUrl = "https://storage.googleapis.com/test-bucket/" + objectName;
+                ResumeReview review = new ResumeReview();
+                review.setId(reviewId);
+                review.setResumeObjectName(legacyUrl);
+                when(resumeReviewRepository.findById(reviewId)).thenReturn(Optional.of(review));
+                when(objectStorage.upload(objectName, file, "application/pdf")).thenReturn(legacyUrl);
+                when(objectStorage.toObjectName(legacyUrl)).thenCallRealMethod();
+                when(objectStorage.objectNameFromUrl(legacyUrl)).thenReturn(objectName);
+
+                mentorshipService.uploadResumeFile(reviewId, file);
+
+                verify(deletionQueue, never()).enqueue(any(String[].class));
+                assertEquals(objectName, review.getResumeObjectName());
         }
 
         @Test
@@ -136,14 +157,14 @@ class MentorshipServiceImplTest {
         }
 
         @Test
-        void uploadResumeFile_whenGetBytesFails_throws() throws Exception {
+        void uploadResumeFile_whenUploadFails_throws() throws Exception {
                 Long reviewId = 1L;
 
                 MultipartFile file = mock(MultipartFile.class);
                 when(file.isEmpty()).thenReturn(false);
                 when(file.getContentType()).thenReturn("application/pdf");
                 when(file.getOriginalFilename()).thenReturn("cv.pdf");
-                when(file.getBytes()).thenThrow(new IOException("boom"));
+                when(objectStorage.upload(anyString(), eq(file), eq("application/pdf"))).thenThrow(new IOException("boom"));
 
                 when(resumeReviewRepository.findById(reviewId))
                                 .thenReturn(Optional.of(new ResumeReview()));
@@ -171,7 +192,7 @@ class MentorshipServiceImplTest {
         void getResumeFileUrl_noFile_throws() {
                 ResumeReview review = new ResumeReview();
                 review.setId(1L);
-                review.setResumeUrl(null);
+                review.setResumeObjectName(null);
 
                 when(resumeReviewRepository.findById(1L)).thenReturn(Optional.of(review));
 
@@ -530,6 +551,7 @@ class MentorshipServiceImplTest {
                 assertEquals(0, mentorProfile.getCurrentMentees());
 
                 verify(conversationRepository).save(conversation);
+                verify(participantCache).evict(200L);
                 verify(messagingTemplate).convertAndSend(
                                 eq(expectedDestination),
                                 any(ChatMessageDTO.class));
@@ -0,0 +1,82 @@
+package org.bounswe.jobboardbackend.notification.repository;
+
+import org.bounswe.jobboardbackend.auth.model.Role;
+import org.bounswe.jobboardbackend.auth.model.User;
+import org.bounswe.jobboardbackend.auth.repository.UserRepository;
+import org.bounswe.jobboardbackend.notification.model.Notification;
+import org.bounswe.jobboardbackend.notification.model.NotificationType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.ANY) // Uses H2 in-memory DB
+class NotificationCounterRepositoryTest {
+
+    @Autowired
+    private NotificationCounterRepository counterRepository;
+
+    @Autowired
+    private NotificationRepository notificationRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @BeforeEach
+    void setUp() {
+        userRepository.save(User.builder()
+                .username("alice")
+                .email("alice@example.com")
+                .password("securePass123")
+                .role(Role.ROLE_JOBSEEKER)
+                .emailVerified(true)
+                .build());
+    }
+
+    private void notification(String username, long createdAt, boolean read) {
+        notificationRepository.save(new Notification(null, username, "title", NotificationType.FORUM_COMMENT,
+                "message", createdAt, createdAt, read, null));
+    }
+
+    @Test
+    void counter_ShouldBeCreatedOnceAndNeverGoNegative() {
+        assertThat(counterRepository.adjust("alice", 1)).isZero();
+        assertThat(counterRepository.createIfMissing("alice")).isEqualTo(1);
+        assertThat(counterRepository.createIfMissing("alice")).isZero();
+        assertThat(counterRepository.createIfMissing("nobody")).isZero();
+
+        assertThat(counterRepository.adjust("alice", 5)).isEqualTo(1);
+        entityManager.clear();
+        assertThat(counterRepository.findUnread("alice")).contains(5L);
+
+        counterRepository.adjust("alice", -7);
+        entityManager.clear();
+        assertThat(counterRepository.findUnread("alice")).contains(0L);
+        assertThat(counterRepository.findUnread("nobody")).isEmpty();
+    }
+
+    @Test
+    void repair_ShouldCreateMissingCountersAndFixDriftedOnes() {
+        notification("alice", 1000L, false);
+        notification("alice", 2000L, false);
+        notification("alice", 3000L, true);
+
+        assertThat(counterRepository.createMissingFromNotifications()).isEqualTo(1);
+        entityManager.clear();
+        assertThat(counterRepository.findUnread("alice")).contains(2L);
+
+        counterRepository.adjust("alice", 5);
+        assertThat(counterRepository.createMissingFromNotifications()).isZero();
+        assertThat(counterRepository.repair()).isEqualTo(1);
+        entityManager.clear();
+        assertThat(counterRepository.findUnread("alice")).contains(2L);
+    }
+}
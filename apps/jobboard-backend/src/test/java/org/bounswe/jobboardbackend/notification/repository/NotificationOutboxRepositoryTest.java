@@ -0,0 +1,114 @@
+package org.bounswe.jobboardbackend.notification.repository;
+
+import org.bounswe.jobboardbackend.notification.model.NotificationOutbox;
+import org.bounswe.jobboardbackend.notification.model.NotificationType;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.ANY) // Uses H2 in-memory DB
+class NotificationOutboxRepositoryTest {
+
+    private static final long NOW = 1_000_000L;
+
+    @Autowired
+    private NotificationOutboxRepository outboxRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private NotificationOutbox row(String username, long nextAttemptAt) {
+        return outboxRepository.save(NotificationOutbox.builder()
+                .username(username)
+                .title("title")
+                .notificationType(NotificationType.FORUM_COMMENT)
+                .message("message")
+                .createdAt(NOW)
+                .nextAttemptAt(nextAttemptAt)
+                .attempts(nextAttemptAt > NOW ? 1 : 0)
+                .build());
+    }
+
+    private NotificationOutbox digest(String username, long linkId) {
+        return outboxRepository.save(NotificationOutbox.builder()
+                .username(username)
+                .title("NEW COMMENT from bob")
+                .summaryTitle(NotificationOutbox.COUNT_PLACEHOLDER + " NEW COMMENTS on your post")
+                .notificationType(NotificationType.FORUM_COMMENT)
+                .message("first")
+                .linkId(linkId)
+                .createdAt(NOW)
+                .nextAttemptAt(NOW + 30_000)
+                .build());
+    }
+
+    @Test
+    void findDue_ShouldHoldBackRowsQueuedBehindABackingOffRowOfTheSameUser() {
+        NotificationOutbox aliceFailed = row("alice", NOW + 5_000);
+        NotificationOutbox aliceNext = row("alice", NOW);
+        NotificationOutbox bob = row("bob", NOW);
+        NotificationOutbox global = row(null, NOW);
+
+        assertThat(outboxRepository.findDue(NOW, PageRequest.of(0, 10)))
+                .extracting(NotificationOutbox::getId)
+                .containsExactly(bob.getId(), global.getId());
+
+        assertThat(outboxRepository.findDue(NOW + 5_000, PageRequest.of(0, 10)))
+                .extracting(NotificationOutbox::getId)
+                .containsExactly(aliceFailed.getId(), aliceNext.getId(), bob.getId(), global.getId());
+    }
+
+    @Test
+    void findOldestDueIds_ShouldReturnTheFirstDueRowOfEachRecipient() {
+        NotificationOutbox aliceFirst = row("alice", NOW);
+        row("alice", NOW);
+        row("alice", NOW + 5_000);
+        NotificationOutbox bob = row("bob", NOW);
+        row("carol", NOW);
+
+        assertThat(outboxRepository.findOldestDueIds(List.of("alice", "bob"), NOW))
+                .extracting(pair -> (String) pair[0], pair -> (Long) pair[1])
+                .containsExactlyInAnyOrder(tuple("alice", aliceFirst.getId()), tuple("bob", bob.getId()));
+
+        assertThat(outboxRepository.existsDueBefore("alice", aliceFirst.getId() + 1, NOW)).isTrue();
+        assertThat(outboxRepository.existsDueBefore("alice", aliceFirst.getId(), NOW)).isFalse();
+    }
+
+    @Test
+    void claim_ShouldSucceedOnlyOnce() {
+        NotificationOutbox row = row("alice", NOW);
+
+        assertThat(outboxRepository.claim(row.getId())).isEqualTo(1);
+        assertThat(outboxRepository.claim(row.getId())).isZero();
+    }
+
+    @Test
+    void coalesce_ShouldFoldIntoPendingDigestWithoutHoldingBackOtherRows() {
+        NotificationOutbox digest = digest("alice", 7L);
+        NotificationOutbox approval = row("alice", NOW);
+
+        assertThat(outboxRepository.coalesce("alice", NotificationType.FORUM_COMMENT, 7L, "NEW COMMENT from carol", "latest"))
+                .isEqualTo(1);
+        assertThat(outboxRepository.coalesce("alice", NotificationType.FORUM_COMMENT, 8L, "NEW COMMENT from carol", "other"))
+                .isZero();
+
+        assertThat(outboxRepository.findDue(NOW, PageRequest.of(0, 10)))
+                .extracting(NotificationOutbox::getId)
+                .containsExactly(approval.getId());
+
+        entityManager.clear();
+        NotificationOutbox merged = outboxRepository.findById(digest.getId()).orElseThrow();
+        assertThat(merged.getCoalescedCount()).isEqualTo(2);
+        assertThat(merged.toNotification().getTitle()).isEqualTo("2 NEW COMMENTS on your post");
+        assertThat(merged.toNotification().getMessage()).isEqualTo("latest");
+    }
+}
@@ -0,0 +1,107 @@
+package org.bounswe.jobboardbackend.notification.repository;
+
+import org.bounswe.jobboardbackend.auth.model.Role;
+import org.bounswe.jobboardbackend.auth.model.User;
+import org.bounswe.jobboardbackend.auth.repository.UserRepository;
+import org.bounswe.jobboardbackend.notification.model.GlobalNotificationRead;
+import org.bounswe.jobboardbackend.notification.model.Notification;
+import org.bounswe.jobboardbackend.notification.model.NotificationType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.ANY) // Uses H2 in-memory DB
+class NotificationRepositoryTest {
+
+    @Autowired
+    private NotificationRepository repository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private GlobalNotificationReadRepository globalReadRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @BeforeEach
+    void setUp() {
+        userRepository.save(User.builder()
+                .username("alice")
+                .email("alice@example.com")
+                .password("securePass123")
+                .role(Role.ROLE_JOBSEEKER)
+                .emailVerified(true)
+                .build());
+    }
+
+    private Notification notification(String username, long createdAt, boolean read) {
+        return repository.save(new Notification(null, username, "title", NotificationType.FORUM_COMMENT,
+                "message", createdAt, createdAt, read, null));
+    }
+
+    @Test
+    void findInboxPage_ShouldPageNewestFirstAfterCursor() {
+        Notification oldest = notification("alice", 1000L, false);
+        Notification read = notification("alice", 2000L, true);
+        Notification newest = notification("alice", 3000L, false);
+        notification("bob", 4000L, false);
+
+        assertThat(repository.findInboxPage("alice", Long.MAX_VALUE, Long.MAX_VALUE, PageRequest.of(0, 2)))
+                .extracting(Notification::getId)
+                .containsExactly(newest.getId(), read.getId());
+        assertThat(repository.findInboxPage("alice", read.getCreatedAt(), read.getId(), PageRequest.of(0, 2)))
+                .extracting(Notification::getId)
+                .containsExactly(oldest.getId());
+        assertThat(repository.findUnreadInboxPage("alice", Long.MAX_VALUE, Long.MAX_VALUE, PageRequest.of(0, 10)))
+                .extracting(Notification::getId)
+                .containsExactly(newest.getId(), oldest.getId());
+    }
+
+    @Test
+    void unreadGlobalNotifications_ShouldHonourWatermarkAndMarkers() {
+        Notification belowWatermark = notification(null, 1000L, false);
+        Notification marked = notification(null, 2000L, false);
+        Notification unread = notification(null, 3000L, false);
+        notification("alice", 4000L, false);
+
+        repository.advanceGlobalReadWatermark("alice", belowWatermark.getId());
+        globalReadRepository.save(GlobalNotificationRead.builder()
+                .username("alice").notificationId(marked.getId()).readAt(5000L).build());
+        entityManager.clear();
+
+        assertThat(repository.findUnreadGlobalPage("alice", Long.MAX_VALUE, Long.MAX_VALUE, PageRequest.of(0, 10)))
+                .extracting(Notification::getId)
+                .containsExactly(unread.getId());
+        assertThat(repository.countUnreadGlobal("alice")).isEqualTo(1L);
+        assertThat(repository.findGlobalPage(Long.MAX_VALUE, Long.MAX_VALUE, PageRequest.of(0, 10))).hasSize(3);
+        assertThat(repository.findMaxGlobalId()).isEqualTo(unread.getId());
+    }
+
+    @Test
+    void findExpiredRead_ShouldReturnOnlyOldReadPersonalRowsInKeysetOrder() {
+        Notification oldRead = repository.save(new Notification(null, "alice", "title", NotificationType.FORUM_COMMENT,
+                "message", 100L, 500L, true, null));
+        Notification olderRead = repository.save(new Notification(null, "alice", "title", NotificationType.FORUM_COMMENT,
+                "message", 100L, 400L, true, null));
+        notification("alice", 100L, false);
+        repository.save(new Notification(null, "alice", "title", NotificationType.FORUM_COMMENT,
+                "message", 100L, 9000L, true, null));
+        notification(null, 100L, false);
+
+        assertThat(repository.findExpiredRead(1000L, Long.MIN_VALUE, 0L, PageRequest.of(0, 10)))
+                .extracting(Notification::getId)
+                .containsExactly(olderRead.getId(), oldRead.getId());
+        assertThat(repository.findExpiredRead(1000L, olderRead.getUpdatedAt(), olderRead.getId(), PageRequest.of(0, 10)))
+                .extracting(Notification::getId)
+                .containsExactly(oldRead.getId());
+    }
+}
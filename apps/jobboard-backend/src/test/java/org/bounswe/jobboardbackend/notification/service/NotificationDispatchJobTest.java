@@ -0,0 +1,77 @@
+package org.bounswe.jobboardbackend.notification.service;
+
+import org.bounswe.jobboardbackend.notification.model.Notification;
+import org.bounswe.jobboardbackend.notification.model.NotificationOutbox;
+import org.bounswe.jobboardbackend.notification.model.NotificationType;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationDispatchJobTest {
+
+    @Mock
+    private NotificationDispatcher dispatcher;
+
+    @Mock
+    private NotificationService notificationService;
+
+    @InjectMocks
+    private NotificationDispatchJob job;
+
+    private static NotificationOutbox row(long id, String username) {
+        return NotificationOutbox.builder()
+                .id(id)
+                .username(username)
+                .title("title")
+                .notificationType(NotificationType.NEW_MESSAGE)
+                .message("message " + id)
+                .createdAt(id)
+                .nextAttemptAt(0L)
+                .build();
+    }
+
+    @Test
+    void drain_ShouldPushStoredNotificationsInOutboxOrder() {
+        Notification first = row(1L, "alice").toNotification();
+        Notification second = row(2L, "alice").toNotification();
+        when(dispatcher.deliverDue(NotificationDispatchJob.BATCH_SIZE)).thenReturn(List.of(first, second));
+
+        job.drain();
+
+        InOrder inOrder = inOrder(notificationService);
+        inOrder.verify(notificationService).push(first);
+        inOrder.verify(notificationService).push(second);
+        verify(dispatcher, never()).findDue(anyInt());
+    }
+
+    @Test
+    void drain_WhenBatchFails_ShouldRetryRowsAndHoldBackLaterRowsOfAFailedUser() {
+        NotificationOutbox aliceBad = row(1L, "alice");
+        NotificationOutbox aliceLater = row(2L, "alice");
+        NotificationOutbox bob = row(3L, "bob");
+        Notification bobStored = bob.toNotification();
+
+        when(dispatcher.deliverDue(NotificationDispatchJob.BATCH_SIZE)).thenThrow(new IllegalStateException("batch"));
+        when(dispatcher.findDue(NotificationDispatchJob.BATCH_SIZE)).thenReturn(List.of(aliceBad, aliceLater, bob));
+        when(dispatcher.deliverOne(1L)).thenThrow(new IllegalStateException("bad row"));
+        when(dispatcher.deliverOne(3L)).thenReturn(Optional.of(bobStored));
+
+        job.drain();
+
+        verify(dispatcher).recordFailure(1L, "bad row");
+        verify(dispatcher, never()).deliverOne(2L);
+        verify(notificationService).push(bobStored);
+        verify(notificationService, times(1)).push(any());
+        verify(dispatcher, never()).recordFailure(eq(3L), anyString());
+    }
+}
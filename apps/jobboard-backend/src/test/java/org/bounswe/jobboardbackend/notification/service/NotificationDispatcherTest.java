@@ -0,0 +1,153 @@
+package org.bounswe.jobboardbackend.notification.service;
+
+import org.bounswe.jobboardbackend.notification.model.Notification;
+import org.bounswe.jobboardbackend.notification.model.NotificationOutbox;
+import org.bounswe.jobboardbackend.notification.model.NotificationType;
+import org.bounswe.jobboardbackend.notification.repository.NotificationCounterRepository;
+import org.bounswe.jobboardbackend.notification.repository.NotificationOutboxRepository;
+import org.bounswe.jobboardbackend.notification.repository.NotificationRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationDispatcherTest {
+
+    @Mock
+    private NotificationOutboxRepository outboxRepository;
+
+    @Mock
+    private NotificationRepository notificationRepository;
+
+    @Mock
+    private NotificationCounterRepository counterRepository;
+
+    @InjectMocks
+    private NotificationDispatcher dispatcher;
+
+    private static NotificationOutbox row(long id, int attempts) {
+        return row(id, "alice", attempts);
+    }
+
+    private static NotificationOutbox row(long id, String username, int attempts) {
+        return NotificationOutbox.builder()
+                .id(id)
+                .username(username)
+                .title("NEW COMMENT from bob")
+                .notificationType(NotificationType.FORUM_COMMENT)
+                .message("hello")
+                .linkId(7L)
+                .createdAt(1000L)
+                .nextAttemptAt(1000L)
+                .attempts(attempts)
+                .build();
+    }
+
+    @Test
+    void deliverDue_ShouldStoreRowsAndRemoveThemFromTheOutbox() {
+        List<NotificationOutbox> due = List.of(row(1L, 0), row(2L, 0));
+        when(outboxRepository.findDue(anyLong(), any(Pageable.class))).thenReturn(due);
+        when(notificationRepository.saveAll(anyList())).thenAnswer(inv -> inv.getArgument(0));
+        when(counterRepository.adjust("alice", 2L)).thenReturn(1);
+
+        List<Notification> stored = dispatcher.deliverDue(50);
+
+        assertEquals(2, stored.size());
+        assertEquals("alice", stored.get(0).getUsername());
+        assertEquals(7L, stored.get(0).getLinkId());
+        assertEquals(1000L, stored.get(0).getCreatedAt());
+        assertFalse(stored.get(0).isReadFlag());
+        verify(outboxRepository).deleteAllInBatch(due);
+        verify(counterRepository).adjust("alice", 2L);
+        verify(counterRepository, never()).createIfMissing(any());
+    }
+
+    @Test
+    void deliverDue_ShouldNotOvertakeRowsAnotherDispatcherHolds() {
+        // Dispatcher A holds alice's row 1; dispatcher B's SKIP LOCKED scan starts at her row 2.
+        NotificationOutbox aliceSecond = row(2L, 0);
+        NotificationOutbox aliceThird = row(3L, 0);
+        NotificationOutbox bob = row(4L, "bob", 0);
+        when(outboxRepository.findDue(anyLong(), any(Pageable.class)))
+                .thenReturn(List.of(aliceSecond, aliceThird, bob), List.of(aliceSecond, aliceThird));
+        when(outboxRepository.findOldestDueIds(anyCollection(), anyLong()))
+                .thenReturn(List.of(new Object[]{"alice", 1L}, new Object[]{"bob", 4L}),
+                        List.<Object[]>of(new Object[]{"alice", 2L}));
+        when(notificationRepository.saveAll(anyList())).thenAnswer(inv -> inv.getArgument(0));
+        when(counterRepository.adjust(any(), anyLong())).thenReturn(1);
+
+        List<Notification> first = dispatcher.deliverDue(50);
+
+        assertEquals(List.of("bob"), first.stream().map(Notification::getUsername).toList());
+        verify(outboxRepository).deleteAllInBatch(List.of(bob));
+
+        // Once A has committed row 1, alice's remaining rows go out in order.
+        List<Notification> second = dispatcher.deliverDue(50);
+
+        assertEquals(List.of("alice", "alice"), second.stream().map(Notification::getUsername).toList());
+        verify(outboxRepository).deleteAllInBatch(List.of(aliceSecond, aliceThird));
+        verify(counterRepository).adjust("alice", 2L);
+    }
+
+    @Test
+    void deliverOne_ShouldWaitForAnEarlierRowOfTheSameRecipient() {
+        when(outboxRepository.findById(3L)).thenReturn(Optional.of(row(3L, 0)));
+        when(outboxRepository.existsDueBefore(eq("alice"), eq(3L), anyLong())).thenReturn(true);
+
+        assertTrue(dispatcher.deliverOne(3L).isEmpty());
+        verify(outboxRepository, never()).claim(any());
+        verifyNoInteractions(notificationRepository, counterRepository);
+    }
+
+    @Test
+    void deliverOne_ShouldCreateTheCounterOfAFirstTimeRecipient() {
+        when(outboxRepository.findById(1L)).thenReturn(Optional.of(row(1L, 0)));
+        when(outboxRepository.claim(1L)).thenReturn(1);
+        when(notificationRepository.save(any(Notification.class))).thenAnswer(inv -> inv.getArgument(0));
+        when(counterRepository.adjust("alice", 1L)).thenReturn(0, 1);
+        when(counterRepository.createIfMissing("alice")).thenReturn(1);
+
+        assertTrue(dispatcher.deliverOne(1L).isPresent());
+        verify(counterRepository, times(2)).adjust("alice", 1L);
+    }
+
+    @Test
+    void deliverOne_ShouldSkipRowAlreadyClaimedElsewhere() {
+        when(outboxRepository.findById(1L)).thenReturn(Optional.of(row(1L, 0)));
+        when(outboxRepository.claim(1L)).thenReturn(0);
+
+        assertTrue(dispatcher.deliverOne(1L).isEmpty());
+        verifyNoInteractions(notificationRepository, counterRepository);
+    }
+
+    @Test
+    void recordFailure_ShouldBackOffAndEventuallyDropTheRow() {
+        NotificationOutbox failing = row(1L, 0);
+        when(outboxRepository.findById(1L)).thenReturn(Optional.of(failing));
+
+        long before = System.currentTimeMillis();
+        dispatcher.recordFailure(1L, "boom");
+
+        assertEquals(1, failing.getAttempts());
+        assertEquals("boom", failing.getLastError());
+        assertTrue(failing.getNextAttemptAt() >= before + NotificationDispatcher.backoffMs(1));
+        verify(outboxRepository).save(failing);
+
+        failing.setAttempts(NotificationDispatcher.MAX_ATTEMPTS - 1);
+        dispatcher.recordFailure(1L, "boom");
+
+        verify(outboxRepository).delete(failing);
+    }
+}
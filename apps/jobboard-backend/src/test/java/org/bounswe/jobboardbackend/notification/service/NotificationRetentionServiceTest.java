@@ -0,0 +1,84 @@
+package org.bounswe.jobboardbackend.notification.service;
+
+import org.bounswe.jobboardbackend.notification.dto.NotificationRetentionStats;
+import org.bounswe.jobboardbackend.notification.model.Notification;
+import org.bounswe.jobboardbackend.notification.model.NotificationType;
+import org.bounswe.jobboardbackend.notification.repository.GlobalNotificationReadRepository;
+import org.bounswe.jobboardbackend.notification.repository.NotificationRepository;
+import org.bounswe.jobboardbackend.notification.service.NotificationRetentionService.Chunk;
+import org.bounswe.jobboardbackend.notification.service.NotificationRetentionService.Position;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationRetentionServiceTest {
+
+    @Mock
+    private NotificationRepository repository;
+
+    @Mock
+    private GlobalNotificationReadRepository globalReadRepository;
+
+    @InjectMocks
+    private NotificationRetentionService retentionService;
+
+    private static Notification read(long id, long updatedAt) {
+        return new Notification(id, "alice", "title", NotificationType.FORUM_COMMENT, "message", 0L, updatedAt, true, null);
+    }
+
+    @Test
+    void purgeReadChunk_ShouldDeleteChunkAndContinueAfterItsLastRow() {
+        when(repository.findExpiredRead(eq(5000L), eq(Long.MIN_VALUE), eq(0L), any(Pageable.class)))
+                .thenReturn(List.of(read(3L, 100L), read(1L, 200L)));
+
+        Chunk chunk = retentionService.purgeReadChunk(5000L, Position.START, 2);
+
+        assertEquals(2, chunk.deleted());
+        assertEquals(new Position(200L, 1L), chunk.next());
+        verify(repository).deleteByIdIn(List.of(3L, 1L));
+    }
+
+    @Test
+    void purgeGlobalChunk_ShouldDropReadMarkersWithTheNotifications() {
+        when(repository.findExpiredGlobalIds(eq(5000L), eq(0L), any(Pageable.class))).thenReturn(List.of(4L, 9L));
+
+        Chunk chunk = retentionService.purgeGlobalChunk(5000L, Position.START, 10);
+
+        assertEquals(2, chunk.deleted());
+        assertEquals(9L, chunk.next().id());
+        verify(globalReadRepository).deleteByNotificationIdIn(List.of(4L, 9L));
+        verify(repository).deleteByIdIn(List.of(4L, 9L));
+    }
+
+    @Test
+    void purgeReadChunk_WhenNothingExpired_ShouldNotDelete() {
+        when(repository.findExpiredRead(anyLong(), anyLong(), anyLong(), any(Pageable.class))).thenReturn(List.of());
+
+        assertEquals(0, retentionService.purgeReadChunk(5000L, Position.START, 10).deleted());
+        verify(repository, never()).deleteByIdIn(any());
+    }
+
+    @Test
+    void recordRun_ShouldAccumulateStats() {
+        retentionService.recordRun(1000L, 10, 1, 50L);
+        retentionService.recordRun(2000L, 5, 0, 20L);
+
+        NotificationRetentionStats stats = retentionService.getStats();
+        assertEquals(2, stats.runs());
+        assertEquals(15, stats.readRemoved());
+        assertEquals(1, stats.globalRemoved());
+        assertEquals(5, stats.lastRunRemoved());
+        assertEquals(20L, stats.lastRunMs());
+        assertEquals(2000L, stats.lastRunAt());
+    }
+}
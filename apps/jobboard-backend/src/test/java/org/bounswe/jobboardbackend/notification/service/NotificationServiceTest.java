@@ -0,0 +1,219 @@
+package org.bounswe.jobboardbackend.notification.service;
+
+import org.bounswe.jobboardbackend.common.dto.CursorPage;
+import org.bounswe.jobboardbackend.exception.HandleException;
+import org.bounswe.jobboardbackend.notification.dto.NotificationCursor;
+import org.bounswe.jobboardbackend.notification.dto.NotificationResponse;
+import org.bounswe.jobboardbackend.notification.model.Notification;
+import org.bounswe.jobboardbackend.notification.model.NotificationCoalesceWindow;
+import org.bounswe.jobboardbackend.notification.model.NotificationOutbox;
+import org.bounswe.jobboardbackend.notification.model.NotificationType;
+import org.bounswe.jobboardbackend.notification.repository.GlobalNotificationReadRepository;
+import org.bounswe.jobboardbackend.notification.repository.NotificationCoalesceWindowRepository;
+import org.bounswe.jobboardbackend.notification.repository.NotificationCounterRepository;
+import org.bounswe.jobboardbackend.notification.repository.NotificationOutboxRepository;
+import org.bounswe.jobboardbackend.notification.repository.NotificationRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationServiceTest {
+
+    @Mock
+    private SimpMessagingTemplate messagingTemplate;
+
+    @Mock
+    private NotificationRepository repository;
+
+    @Mock
+    private NotificationOutboxRepository outboxRepository;
+
+    @Mock
+    private GlobalNotificationReadRepository globalReadRepository;
+
+    @Mock
+    private NotificationCoalesceWindowRepository windowRepository;
+
+    @Mock
+    private NotificationCounterRepository counterRepository;
+
+    @InjectMocks
+    private NotificationService notificationService;
+
+    private static Notification notification(long id, String username, boolean read) {
+        return new Notification(id, username, "title", NotificationType.FORUM_COMMENT, "message", 1000L + id, 1000L + id, read, null);
+    }
+
+    @Test
+    void notifyUser_ShouldOnlyWriteAnOutboxRow() {
+        notificationService.notifyUser("alice", "title", NotificationType.FORUM_COMMENT, "message", 7L);
+
+        ArgumentCaptor<NotificationOutbox> captor = ArgumentCaptor.forClass(NotificationOutbox.class);
+        verify(outboxRepository).save(captor.capture());
+        assertEquals("alice", captor.getValue().getUsername());
+        assertEquals(captor.getValue().getCreatedAt(), captor.getValue().getNextAttemptAt());
+        verifyNoInteractions(messagingTemplate, repository);
+    }
+
+    @Test
+    void getInbox_ShouldReturnOnePageAndCursorToTheNext() {
+        when(repository.findInboxPage(eq("alice"), eq(Long.MAX_VALUE), eq(Long.MAX_VALUE), any(Pageable.class)))
+                .thenReturn(List.of(notification(3L, "alice", false), notification(2L, "alice", true), notification(1L, "alice", false)));
+
+        CursorPage<NotificationResponse> page = notificationService.getInbox("alice", null, 2, false);
+
+        assertEquals(List.of(3L, 2L), page.getItems().stream().map(NotificationResponse::id).toList());
+        assertTrue(page.isHasNext());
+        assertEquals(new NotificationCursor(1002L, 2L), NotificationCursor.decode(page.getNextCursor()));
+        verify(repository, never()).findUnreadInboxPage(any(), anyLong(), any(), any());
+    }
+
+    @Test
+    void getInbox_ShouldRejectMalformedCursor() {
+        assertThrows(HandleException.class, () -> notificationService.getInbox("alice", "%%%", null, true));
+    }
+
+    @Test
+    void markAsRead_ShouldDecrementCounterOnlyWhenTheFlagFlips() {
+        when(repository.findById(1L)).thenReturn(Optional.of(notification(1L, "alice", false)));
+        when(repository.markRead(eq(1L), anyLong())).thenReturn(1, 0);
+
+        notificationService.markAsRead(1L, "alice");
+        notificationService.markAsRead(1L, "alice");
+
+        verify(counterRepository, times(1)).adjust("alice", -1);
+    }
+
+    @Test
+    void markAsRead_ShouldRejectOtherUsersNotification() {
+        when(repository.findById(1L)).thenReturn(Optional.of(notification(1L, "alice", false)));
+
+        assertThrows(HandleException.class, () -> notificationService.markAsRead(1L, "mallory"));
+        verify(repository, never()).markRead(anyLong(), anyLong());
+    }
+
+    @Test
+    void markAllAsRead_ShouldSubtractTheUpdatedRows() {
+        when(repository.markAllRead(eq("alice"), anyLong())).thenReturn(4);
+
+        assertEquals(4, notificationService.markAllAsRead("alice"));
+        verify(counterRepository).adjust("alice", -4);
+    }
+
+    @Test
+    void getInbox_ShouldMergeGlobalNotificationsWithPerViewerReadState() {
+        Notification personal = notification(5L, "alice", false);
+        Notification readGlobal = notification(4L, null, false);
+        Notification markedGlobal = notification(6L, null, false);
+        Notification unreadGlobal = notification(7L, null, false);
+        when(repository.findInboxPage(eq("alice"), anyLong(), anyLong(), any(Pageable.class))).thenReturn(List.of(personal));
+        when(repository.findGlobalPage(anyLong(), anyLong(), any(Pageable.class)))
+                .thenReturn(List.of(unreadGlobal, markedGlobal, readGlobal));
+        when(repository.findGlobalReadWatermark("alice")).thenReturn(Optional.of(4L));
+        when(globalReadRepository.findReadIds("alice", List.of(7L, 6L, 4L))).thenReturn(List.of(6L));
+
+        CursorPage<NotificationResponse> page = notificationService.getInbox("alice", null, 10, false);
+
+        assertEquals(List.of(7L, 6L, 5L, 4L), page.getItems().stream().map(NotificationResponse::id).toList());
+        assertEquals(List.of(false, true, false, true), page.getItems().stream().map(NotificationResponse::read).toList());
+        assertFalse(page.isHasNext());
+    }
+
+    @Test
+    void markAsRead_OnGlobalNotification_ShouldRecordMarkerForTheViewerOnly() {
+        when(repository.findById(9L)).thenReturn(Optional.of(notification(9L, null, false)));
+        when(repository.findGlobalReadWatermark("alice")).thenReturn(Optional.of(3L));
+
+        notificationService.markAsRead(9L, "alice");
+
+        verify(globalReadRepository).insertIfAbsent(eq("alice"), eq(9L), anyLong());
+        verify(repository, never()).markRead(anyLong(), anyLong());
+        verify(counterRepository, never()).adjust(any(), anyLong());
+    }
+
+    @Test
+    void markAllAsRead_ShouldMoveGlobalWatermarkAndDropMarkersBelowIt() {
+        when(repository.markAllRead(eq("alice"), anyLong())).thenReturn(0);
+        when(repository.findMaxGlobalId()).thenReturn(12L);
+        when(repository.advanceGlobalReadWatermark("alice", 12L)).thenReturn(1);
+
+        notificationService.markAllAsRead("alice");
+
+        verify(globalReadRepository).deleteUpTo("alice", 12L);
+        verify(counterRepository, never()).adjust(any(), anyLong());
+    }
+
+    @Test
+    void getUnreadCount_ShouldAddUnreadGlobalNotifications() {
+        when(counterRepository.findUnread("alice")).thenReturn(Optional.of(3L));
+        when(repository.countUnreadGlobal("alice")).thenReturn(2L);
+
+        assertEquals(5L, notificationService.getUnreadCount("alice"));
+    }
+
+    @Test
+    void notifyUserCoalesced_ShouldDeliverFirstNotificationRightAway() {
+        ReflectionTestUtils.setField(notificationService, "coalesceWindowMs", 30_000L);
+        when(windowRepository.open(eq("alice"), eq("FORUM_COMMENT"), eq(7L), anyLong(), anyLong())).thenReturn(1);
+
+        notificationService.notifyUserCoalesced("alice", "NEW COMMENT from bob", "{count} NEW COMMENTS on your post",
+                NotificationType.FORUM_COMMENT, "hi", 7L);
+
+        ArgumentCaptor<NotificationOutbox> captor = ArgumentCaptor.forClass(NotificationOutbox.class);
+        verify(outboxRepository).save(captor.capture());
+        NotificationOutbox row = captor.getValue();
+        assertEquals(row.getCreatedAt(), row.getNextAttemptAt());
+        assertNull(row.getSummaryTitle());
+        verify(outboxRepository, never()).coalesce(any(), any(), any(), any(), any());
+    }
+
+    @Test
+    void notifyUserCoalesced_ShouldQueueDigestUntilTheWindowEnds() {
+        ReflectionTestUtils.setField(notificationService, "coalesceWindowMs", 30_000L);
+        when(windowRepository.open(eq("alice"), eq("FORUM_COMMENT"), eq(7L), anyLong(), anyLong())).thenReturn(0);
+        when(windowRepository.lockWindow("alice", NotificationType.FORUM_COMMENT, 7L))
+                .thenReturn(Optional.of(NotificationCoalesceWindow.builder().windowEndsAt(123_456L).build()));
+        when(outboxRepository.coalesce("alice", NotificationType.FORUM_COMMENT, 7L, "NEW COMMENT from carol", "hi"))
+                .thenReturn(0);
+
+        notificationService.notifyUserCoalesced("alice", "NEW COMMENT from carol", "{count} NEW COMMENTS on your post",
+                NotificationType.FORUM_COMMENT, "hi", 7L);
+
+        ArgumentCaptor<NotificationOutbox> captor = ArgumentCaptor.forClass(NotificationOutbox.class);
+        verify(outboxRepository).save(captor.capture());
+        NotificationOutbox digest = captor.getValue();
+        assertEquals(123_456L, digest.getNextAttemptAt());
+        assertEquals("{count} NEW COMMENTS on your post", digest.getSummaryTitle());
+    }
+
+    @Test
+    void notifyUserCoalesced_ShouldOnlyBumpPendingDigest() {
+        ReflectionTestUtils.setField(notificationService, "coalesceWindowMs", 30_000L);
+        when(windowRepository.open(eq("alice"), eq("NEW_MESSAGE"), eq(3L), anyLong(), anyLong())).thenReturn(0);
+        when(windowRepository.lockWindow("alice", NotificationType.NEW_MESSAGE, 3L))
+                .thenReturn(Optional.of(NotificationCoalesceWindow.builder().windowEndsAt(123_456L).build()));
+        when(outboxRepository.coalesce("alice", NotificationType.NEW_MESSAGE, 3L, "NEW MESSAGE from bob", "again"))
+                .thenReturn(1);
+
+        notificationService.notifyUserCoalesced("alice", "NEW MESSAGE from bob", "{count} NEW MESSAGES from bob",
+                NotificationType.NEW_MESSAGE, "again", 3L);
+
+        verify(outboxRepository, never()).save(any());
+    }
+}
@@ -8,6 +8,8 @@ import org.bounswe.jobboardbackend.profile.dto.CreateProfileRequestDto;
 import org.bounswe.jobboardbackend.profile.dto.ProfileResponseDto;
 import org.bounswe.jobboardbackend.profile.model.Profile;
 import org.bounswe.jobboardbackend.profile.repository.ProfileRepository;
+import org.bounswe.jobboardbackend.storage.service.ObjectDeletionQueue;
+import org.bounswe.jobboardbackend.storage.service.ObjectStorage;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
@@ -29,6 +31,12 @@ class ProfileServiceTest {
     @Mock
     private ProfileRepository profileRepository;
 
+    @Mock
+    private ObjectStorage objectStorage;
+
+    @Mock
+    private ObjectDeletionQueue deletionQueue;
+
     @InjectMocks
     private ProfileService profileService;
 
@@ -0,0 +1,149 @@
+package org.bounswe.jobboardbackend.storage.service;
+
+import org.bounswe.jobboardbackend.storage.model.ImageVariant;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.imageio.ImageIO;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+
+class ImageDerivativeGeneratorTest {
+
+    @TempDir
+    Path root;
+
+    private LocalObjectStorage storage;
+    private ImageDerivativeGenerator generator;
+
+    @BeforeEach
+    void setUp() {
+        storage = new LocalObjectStorage(root.toString(), "http://localhost:8080/files", "test-signing-key");
+        generator = new ImageDerivativeGenerator(storage);
+        ReflectionTestUtils.setField(generator, "maxSourcePixels", 50_000_000L);
+    }
+
+    private void putPng(String objectName, int width, int height) throws IOException {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(image, "png", out);
+        storage.put(objectName, new ByteArrayInputStream(out.toByteArray()), out.size(), "image/png");
+    }
+
+    /**
+     * A 200x100 JPEG, red on the left and blue on the right, carrying an Exif APP1 segment
+     * after its JFIF header that sets the given orientation, as phone cameras write it.
+     */
+    private void putJpegWithOrientation(String objectName, int orientation) throws IOException {
+        BufferedImage image = new BufferedImage(200, 100, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = image.createGraphics();
+        g.setColor(Color.RED);
+        g.fillRect(0, 0, 100, 100);
+        g.setColor(Color.BLUE);
+        g.fillRect(100, 0, 100, 100);
+        g.dispose();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(image, "jpg", out);
+        byte[] jpeg = out.toByteArray();
+
+        byte[] app1 = {
+                (byte) 0xFF, (byte) 0xE1, 0, 34,
+                'E', 'x', 'i', 'f', 0, 0,
+                'M', 'M', 0, 42, 0, 0, 0, 8,          // big-endian TIFF header, IFD0 at 8
+                0, 1,                                 // one entry
+                0x01, 0x12, 0, 3, 0, 0, 0, 1, 0, (byte) orientation, 0, 0,
+                0, 0, 0, 0                            // no next IFD
+        };
+        int app0End = 4 + (((jpeg[4] & 0xFF) << 8) | (jpeg[5] & 0xFF));
+        ByteArrayOutputStream withExif = new ByteArrayOutputStream();
+        withExif.write(jpeg, 0, app0End);
+        withExif.write(app1);
+        withExif.write(jpeg, app0End, jpeg.length - app0End);
+        storage.put(objectName, new ByteArrayInputStream(withExif.toByteArray()), withExif.size(), "image/jpeg");
+    }
+
+    private static boolean isRedish(int rgb) {
+        return ((rgb >> 16) & 0xFF) > 200 && (rgb & 0xFF) < 60;
+    }
+
+    private static boolean isBlueish(int rgb) {
+        return ((rgb >> 16) & 0xFF) < 60 && (rgb & 0xFF) > 200;
+    }
+
+    @Test
+    void generate_storesJpegVariantsScaledToFit() throws Exception {
+        putPng("dev/workplaces/1_ab12cd34.png", 2000, 1000);
+
+        Map<ImageVariant, String> derivatives = generator.generate("dev/workplaces/1_ab12cd34.png");
+
+        assertThat(derivatives).containsEntry(ImageVariant.THUMBNAIL, "dev/workplaces/1_ab12cd34_thumb.jpg")
+                .containsEntry(ImageVariant.MEDIUM, "dev/workplaces/1_ab12cd34_medium.jpg");
+        BufferedImage thumb = ImageIO.read(root.resolve("dev/workplaces/1_ab12cd34_thumb.jpg").toFile());
+        assertThat(thumb.getWidth()).isEqualTo(128);
+        assertThat(thumb.getHeight()).isEqualTo(64);
+        BufferedImage medium = ImageIO.read(root.resolve("dev/workplaces/1_ab12cd34_medium.jpg").toFile());
+        assertThat(medium.getWidth()).isEqualTo(512);
+        assertThat(medium.getHeight()).isEqualTo(256);
+    }
+
+    @Test
+    void generate_doesNotUpscaleSmallImages() throws Exception {
+        putPng("dev/profiles/7.png", 100, 80);
+
+        generator.generate("dev/profiles/7.png");
+
+        BufferedImage medium = ImageIO.read(root.resolve("dev/profiles/7_medium.jpg").toFile());
+        assertThat(medium.getWidth()).isEqualTo(100);
+        assertThat(medium.getHeight()).isEqualTo(80);
+    }
+
+    @Test
+    void generate_rejectsOversizedAndUnreadableSources() throws Exception {
+        putPng("dev/profiles/8.png", 300, 300);
+        ReflectionTestUtils.setField(generator, "maxSourcePixels", 10_000L);
+        assertThatThrownBy(() -> generator.generate("dev/profiles/8.png")).isInstanceOf(IOException.class);
+
+        byte[] text = "not an image".getBytes(StandardCharsets.UTF_8);
+        storage.put("dev/profiles/9.png", new ByteArrayInputStream(text), text.length, "image/png");
+        assertThatThrownBy(() -> generator.generate("dev/profiles/9.png")).isInstanceOf(IOException.class);
+        assertThat(root.resolve("dev/profiles/9_thumb.jpg")).doesNotExist();
+    }
+
+    @Test
+    void generate_appliesExifOrientation() throws Exception {
+        putJpegWithOrientation("dev/profiles/10.jpg", 6);
+
+        generator.generate("dev/profiles/10.jpg");
+
+        // orientation 6 turns the stored landscape image a quarter clockwise: red ends up on top
+        BufferedImage thumb = ImageIO.read(root.resolve("dev/profiles/10_thumb.jpg").toFile());
+        assertThat(thumb.getWidth()).isEqualTo(64);
+        assertThat(thumb.getHeight()).isEqualTo(128);
+        assertThat(isRedish(thumb.getRGB(32, 10))).isTrue();
+        assertThat(isBlueish(thumb.getRGB(32, 118))).isTrue();
+    }
+
+    @Test
+    void exifOrientation_readsBothByteOrdersAndDefaultsToAsStored() {
+        byte[] bigEndian = { 'E', 'x', 'i', 'f', 0, 0, 'M', 'M', 0, 42, 0, 0, 0, 8,
+                0, 1, 0x01, 0x12, 0, 3, 0, 0, 0, 1, 0, 8, 0, 0, 0, 0, 0, 0 };
+        byte[] littleEndian = { 'E', 'x', 'i', 'f', 0, 0, 'I', 'I', 42, 0, 8, 0, 0, 0,
+                1, 0, 0x12, 0x01, 3, 0, 1, 0, 0, 0, 3, 0, 0, 0, 0, 0, 0, 0 };
+
+        assertThat(ImageDerivativeGenerator.exifOrientation(bigEndian)).isEqualTo(8);
+        assertThat(ImageDerivativeGenerator.exifOrientation(littleEndian)).isEqualTo(3);
+        assertThat(ImageDerivativeGenerator.exifOrientation("http://ns.adobe.com/xap/1.0/".getBytes(StandardCharsets.UTF_8)))
+                .isEqualTo(1);
+    }
+}
@@ -0,0 +1,116 @@
+package org.bounswe.jobboardbackend.storage.service;
+
+import org.bounswe.jobboardbackend.storage.dto.SignedUpload;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.mock.web.MockMultipartFile;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+class LocalObjectStorageTest {
+
+    @TempDir
+    Path root;
+
+    private LocalObjectStorage storage;
+
+    @BeforeEach
+    void setUp() {
+        storage = new LocalObjectStorage(root.toString(), "http://localhost:8080/files", "test-signing-key");
+    }
+
+    @Test
+    void upload_streamsFileAndReturnsServedUrl() throws Exception {
+        MockMultipartFile file = new MockMultipartFile("file", "cv.pdf", "application/pdf", "pdf-bytes".getBytes(StandardCharsets.UTF_8));
+
+        String url = storage.upload("dev/cvs/application_1.pdf", file, "application/pdf");
+
+        assertThat(url).isEqualTo("http://localhost:8080/files/dev/cvs/application_1.pdf");
+        assertThat(Files.readString(root.resolve("dev/cvs/application_1.pdf"))).isEqualTo("pdf-bytes");
+        assertThat(storage.objectNameFromUrl(url)).isEqualTo("dev/cvs/application_1.pdf");
+        assertThat(storage.objectNameFromUrl("https://storage.googleapis.com/bucket/dev/x.pdf")).isNull();
+    }
+
+    @Test
+    void url_resolvesObjectNamesAndKeepsAbsoluteUrls() {
+        assertThat(storage.url("dev/profiles/7.png")).isEqualTo("http://localhost:8080/files/dev/profiles/7.png");
+        assertThat(storage.url("https://example.com/logo.png")).isEqualTo("https://example.com/logo.png");
+        assertThat(storage.url(null)).isNull();
+        assertThat(storage.objectNameFromUrl("http://localhost:8080/files/dev/cvs/1.pdf?expires=1&signature=x"))
+                .isEqualTo("dev/cvs/1.pdf");
+    }
+
+    @Test
+    void put_replacesExistingObjectWithoutLeavingPartFiles() throws Exception {
+        storage.put("dev/workplaces/1.jpg", new ByteArrayInputStream(new byte[] { 1, 2, 3 }), 3, "image/jpeg");
+        storage.put("dev/workplaces/1.jpg", new ByteArrayInputStream(new byte[] { 4 }), 1, "image/jpeg");
+
+        Path dir = root.resolve("dev/workplaces");
+        assertThat(Files.readAllBytes(dir.resolve("1.jpg"))).containsExactly(4);
+        try (var files = Files.list(dir)) {
+            assertThat(files).hasSize(1);
+        }
+    }
+
+    @Test
+    void delete_removesObjectAndIgnoresMissingOnes() throws Exception {
+        storage.put("dev/profiles/7.png", new ByteArrayInputStream(new byte[] { 1 }), 1, "image/png");
+
+        storage.delete("dev/profiles/7.png");
+        storage.delete("dev/profiles/7.png");
+        storage.delete(null);
+
+        assertThat(root.resolve("dev/profiles/7.png")).doesNotExist();
+    }
+
+    @Test
+    void deleteAll_removesExistingObjectsAndSkipsMissingOnes() throws Exception {
+        storage.put("dev/profiles/7.png", new ByteArrayInputStream(new byte[] { 1 }), 1, "image/png");
+        storage.put("dev/profiles/7_thumb.jpg", new ByteArrayInputStream(new byte[] { 1 }), 1, "image/jpeg");
+
+        storage.deleteAll(List.of("dev/profiles/7.png", "dev/profiles/7_thumb.jpg", "dev/profiles/missing.png", "../escape.txt"));
+
+        assertThat(root.resolve("dev/profiles")).isEmptyDirectory();
+    }
+
+    @Test
+    void put_rejectsNamesOutsideTheRoot() {
+        assertThatThrownBy(() -> storage.put("../escape.txt", new ByteArrayInputStream(new byte[0]), 0, null))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void uploadUrl_isBoundToObjectContentTypeAndSize() {
+        SignedUpload upload = storage.uploadUrl("dev/cvs/application_1.pdf", "application/pdf", 1000, Duration.ofMinutes(15));
+        String url = upload.url();
+
+        assertThat(url).startsWith("http://localhost:8080/files/dev/cvs/application_1.pdf?expires=");
+        assertThat(upload.headers()).containsEntry("Content-Type", "application/pdf");
+        long expires = Long.parseLong(url.replaceAll(".*expires=(\\d+)&.*", "$1"));
+        assertThat(url).contains("&maxBytes=1000&");
+        String signature = url.substring(url.indexOf("signature=") + "signature=".length());
+
+        assertThat(storage.verifyUpload("dev/cvs/application_1.pdf", "application/pdf", 1000, expires, signature)).isTrue();
+        assertThat(storage.verifyUpload("dev/cvs/application_2.pdf", "application/pdf", 1000, expires, signature)).isFalse();
+        assertThat(storage.verifyUpload("dev/cvs/application_1.pdf", "text/html", 1000, expires, signature)).isFalse();
+        assertThat(storage.verifyUpload("dev/cvs/application_1.pdf", "application/pdf", 1001, expires, signature)).isFalse();
+        assertThat(storage.verifyUpload("dev/cvs/application_1.pdf", "application/pdf", 1000, expires + 1, signature)).isFalse();
+    }
+
+    @Test
+    void stat_reportsSizeOfStoredObjects() throws Exception {
+        storage.put("dev/profiles/7.png", new ByteArrayInputStream(new byte[] { 1, 2 }), 2, "image/png");
+
+        assertThat(storage.stat("dev/profiles/7.png")).hasValueSatisfying(o -> assertThat(o.size()).isEqualTo(2));
+        assertThat(storage.stat("dev/profiles/8.png")).isEmpty();
+        assertThat(storage.stat("../escape.txt")).isEmpty();
+    }
+}
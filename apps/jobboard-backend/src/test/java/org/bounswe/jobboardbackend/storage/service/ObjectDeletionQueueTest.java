@@ -0,0 +1,124 @@
+package org.bounswe.jobboardbackend.storage.service;
+
+import org.bounswe.jobboardbackend.storage.model.PendingObjectDeletion;
+import org.bounswe.jobboardbackend.storage.repository.PendingObjectDeletionRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ObjectDeletionQueueTest {
+
+    @Mock
+    private PendingObjectDeletionRepository pendingRepository;
+
+    @Mock
+    private ObjectStorage objectStorage;
+
+    @InjectMocks
+    private ObjectDeletionQueue deletionQueue;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(objectStorage.toObjectName(any())).thenCallRealMethod();
+    }
+
+    private static PendingObjectDeletion row(long id, String objectName, int attempts) {
+        return PendingObjectDeletion.builder()
+                .id(id)
+                .objectName(objectName)
+                .createdAt(1000L)
+                .nextAttemptAt(1000L)
+                .attempts(attempts)
+                .build();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void enqueue_ShouldSkipNullsAndDuplicates() {
+        deletionQueue.enqueue("dev/profiles/7.png", null, "dev/profiles/7.png", "dev/profiles/7_thumb.jpg");
+
+        ArgumentCaptor<List<PendingObjectDeletion>> saved = ArgumentCaptor.forClass(List.class);
+        verify(pendingRepository).saveAll(saved.capture());
+        assertEquals(List.of("dev/profiles/7.png", "dev/profiles/7_thumb.jpg"),
+                saved.getValue().stream().map(PendingObjectDeletion::getObjectName).toList());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void enqueue_ShouldMapLegacyUrlsToObjectNamesAndSkipForeignLinks() {
+        when(objectStorage.objectNameFromUrl("https://storage.googleapis.com/bucket/dev/cvs/1.pdf"))
+                .thenReturn("dev/cvs/1.pdf");
+
+        deletionQueue.enqueue("https://storage.googleapis.com/bucket/dev/cvs/1.pdf", "https://example.com/cv.pdf");
+
+        ArgumentCaptor<List<PendingObjectDeletion>> saved = ArgumentCaptor.forClass(List.class);
+        verify(pendingRepository).saveAll(saved.capture());
+        assertEquals(List.of("dev/cvs/1.pdf"),
+                saved.getValue().stream().map(PendingObjectDeletion::getObjectName).toList());
+    }
+
+    @Test
+    void enqueue_ShouldDoNothing_WhenThereIsNothingToDelete() {
+        deletionQueue.enqueue((String) null);
+        deletionQueue.cancel((String) null);
+
+        verifyNoInteractions(pendingRepository);
+    }
+
+    @Test
+    void cancel_ShouldDropQueuedDeletionsOfTheNames() {
+        deletionQueue.cancel("dev/cvs/application_1.pdf");
+
+        verify(pendingRepository).deleteByObjectNameIn(Set.of("dev/cvs/application_1.pdf"));
+    }
+
+    @Test
+    void deleteDue_ShouldDeleteTheBatchAndRemoveItsRows() throws Exception {
+        List<PendingObjectDeletion> due = List.of(row(1L, "a.pdf", 0), row(2L, "b.pdf", 0));
+        when(pendingRepository.findDue(anyLong(), any(Pageable.class))).thenReturn(due);
+
+        assertEquals(2, deletionQueue.deleteDue(100));
+
+        verify(objectStorage).deleteAll(List.of("a.pdf", "b.pdf"));
+        verify(pendingRepository).deleteAllInBatch(due);
+    }
+
+    @Test
+    void deleteDue_ShouldRescheduleTheBatch_WhenStorageFails() throws Exception {
+        PendingObjectDeletion first = row(1L, "a.pdf", 0);
+        PendingObjectDeletion exhausted = row(2L, "b.pdf", ObjectDeletionQueue.MAX_ATTEMPTS - 1);
+        when(pendingRepository.findDue(anyLong(), any(Pageable.class))).thenReturn(List.of(first, exhausted));
+        doThrow(new IOException("503 Service Unavailable")).when(objectStorage).deleteAll(anyList());
+
+        assertEquals(0, deletionQueue.deleteDue(100));
+
+        assertEquals(1, first.getAttempts());
+        assertTrue(first.getNextAttemptAt() > System.currentTimeMillis());
+        assertEquals("503 Service Unavailable", first.getLastError());
+        verify(pendingRepository).delete(exhausted);
+        verify(pendingRepository, never()).deleteAllInBatch(anyList());
+    }
+
+    @Test
+    void backoff_ShouldGrowExponentiallyUpToTheCap() {
+        assertEquals(5_000, ObjectDeletionQueue.backoffMs(1));
+        assertEquals(20_000, ObjectDeletionQueue.backoffMs(3));
+        assertEquals(60 * 60 * 1_000, ObjectDeletionQueue.backoffMs(30));
+    }
+}
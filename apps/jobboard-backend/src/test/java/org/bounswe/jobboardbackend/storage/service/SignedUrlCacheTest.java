@@ -0,0 +1,46 @@
+package org.bounswe.jobboardbackend.storage.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.*;
+
+class SignedUrlCacheTest {
+
+    private final AtomicReference<Instant> now = new AtomicReference<>(Instant.parse("2025-11-01T10:00:00Z"));
+    private final AtomicInteger signatures = new AtomicInteger();
+    private final Function<Duration, String> signer =
+            ttl -> "https://signed/" + signatures.incrementAndGet() + "?ttl=" + ttl.toSeconds();
+
+    @Test
+    void get_reusesUrlUntilShortlyBeforeExpiry() {
+        SignedUrlCache cache = new SignedUrlCache(10, 3_600_000, 600_000, now::get);
+
+        String first = cache.get("dev/cvs/1.pdf", signer);
+        assertThat(first).isEqualTo("https://signed/1?ttl=3600");
+
+        now.set(now.get().plus(Duration.ofMinutes(49)));
+        assertThat(cache.get("dev/cvs/1.pdf", signer)).isEqualTo(first);
+
+        now.set(now.get().plus(Duration.ofMinutes(2)));
+        assertThat(cache.get("dev/cvs/1.pdf", signer)).isEqualTo("https://signed/2?ttl=3600");
+    }
+
+    @Test
+    void evict_andCapacity_forceNewSignatures() {
+        SignedUrlCache cache = new SignedUrlCache(1, 3_600_000, 600_000, now::get);
+
+        cache.get("a", signer);
+        cache.evict("a");
+        assertThat(cache.get("a", signer)).isEqualTo("https://signed/2?ttl=3600");
+
+        cache.get("b", signer);
+        assertThat(cache.size()).isEqualTo(1);
+        assertThat(cache.get("a", signer)).isEqualTo("https://signed/4?ttl=3600");
+    }
+}
@@ -0,0 +1,168 @@
+package org.bounswe.jobboardbackend.storage.service;
+
+import org.bounswe.jobboardbackend.exception.ErrorCode;
+import org.bounswe.jobboardbackend.exception.HandleException;
+import org.bounswe.jobboardbackend.storage.dto.SignedUpload;
+import org.bounswe.jobboardbackend.storage.dto.StoredObject;
+import org.bounswe.jobboardbackend.storage.dto.UploadTicketResponse;
+import org.bounswe.jobboardbackend.storage.model.UploadPurpose;
+import org.bounswe.jobboardbackend.storage.model.UploadTicket;
+import org.bounswe.jobboardbackend.storage.repository.UploadTicketRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class UploadTicketServiceTest {
+
+    @Mock private UploadTicketRepository ticketRepository;
+    @Mock private ObjectStorage objectStorage;
+    @Mock private ObjectDeletionQueue deletionQueue;
+
+    @InjectMocks private UploadTicketService uploadTicketService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(uploadTicketService, "ticketTtlMs", 900000L);
+    }
+
+    private UploadTicket ticket(Instant expiresAt) {
+        return UploadTicket.builder()
+                .id(UUID.randomUUID())
+                .purpose(UploadPurpose.CV)
+                .targetId(5L)
+                .userId(1L)
+                .objectName("dev/cvs/application_5_1_ab12cd34.pdf")
+                .contentType("application/pdf")
+                .maxBytes(1000)
+                .createdAt(Instant.now())
+                .expiresAt(expiresAt)
+                .build();
+    }
+
+    @Test
+    void issue_savesTicketAndSignsUniqueObjectName() {
+        when(ticketRepository.save(any(UploadTicket.class))).thenAnswer(inv -> inv.getArgument(0));
+        when(objectStorage.uploadUrl(any(), eq("application/pdf"), eq(1000L), eq(Duration.ofMinutes(15))))
+                .thenReturn(new SignedUpload("https://signed", Map.of(
+                        "Content-Type", "application/pdf", "x-goog-content-length-range", "0,1000")));
+
+        UploadTicketResponse response = uploadTicketService.issue(UploadPurpose.CV, 5L, 1L,
+                "dev/cvs/application_5_1.pdf", "application/pdf", 1000);
+
+        ArgumentCaptor<UploadTicket> saved = ArgumentCaptor.forClass(UploadTicket.class);
+        verify(ticketRepository).save(saved.capture());
+        assertThat(saved.getValue().getObjectName()).matches("dev/cvs/application_5_1_[0-9a-f]{8}\\.pdf");
+        assertThat(response.getTicketId()).isEqualTo(saved.getValue().getId().toString());
+        assertThat(response.getUploadUrl()).isEqualTo("https://signed");
+        assertThat(response.getMethod()).isEqualTo("PUT");
+        assertThat(response.getHeaders()).containsEntry("Content-Type", "application/pdf")
+                .containsEntry("x-goog-content-length-range", "0,1000");
+        verify(objectStorage).uploadUrl(eq(saved.getValue().getObjectName()), eq("application/pdf"), eq(1000L), any());
+    }
+
+    @Test
+    void redeem_whenUploadMatches_consumesTicketAndReturnsObjectName() {
+        UploadTicket ticket = ticket(Instant.now().plusSeconds(60));
+        when(ticketRepository.findById(ticket.getId())).thenReturn(Optional.of(ticket));
+        when(objectStorage.stat(ticket.getObjectName())).thenReturn(Optional.of(new StoredObject(500, "application/pdf")));
+
+        String objectName = uploadTicketService.redeem(ticket.getId().toString(), UploadPurpose.CV, 5L, 1L);
+
+        assertThat(objectName).isEqualTo(ticket.getObjectName());
+        verify(ticketRepository).delete(ticket);
+        verify(objectStorage, never()).delete(any());
+    }
+
+    @Test
+    void redeem_whenTicketBelongsToAnotherTarget_throws() {
+        UploadTicket ticket = ticket(Instant.now().plusSeconds(60));
+        when(ticketRepository.findById(ticket.getId())).thenReturn(Optional.of(ticket));
+
+        assertThatThrownBy(() -> uploadTicketService.redeem(ticket.getId().toString(), UploadPurpose.CV, 6L, 1L))
+                .isInstanceOf(HandleException.class)
+                .extracting("code")
+                .isEqualTo(ErrorCode.UPLOAD_TICKET_INVALID);
+        verifyNoInteractions(objectStorage);
+    }
+
+    @Test
+    void redeem_whenTicketIdMalformed_throws() {
+        assertThatThrownBy(() -> uploadTicketService.redeem("not-a-uuid", UploadPurpose.CV, 5L, 1L))
+                .isInstanceOf(HandleException.class)
+                .extracting("code")
+                .isEqualTo(ErrorCode.UPLOAD_TICKET_INVALID);
+    }
+
+    @Test
+    void redeem_whenExpired_throws() {
+        UploadTicket ticket = ticket(Instant.now().minusSeconds(1));
+        when(ticketRepository.findById(ticket.getId())).thenReturn(Optional.of(ticket));
+
+        assertThatThrownBy(() -> uploadTicketService.redeem(ticket.getId().toString(), UploadPurpose.CV, 5L, 1L))
+                .isInstanceOf(HandleException.class)
+                .extracting("code")
+                .isEqualTo(ErrorCode.UPLOAD_TICKET_INVALID);
+    }
+
+    @Test
+    void redeem_whenNothingUploaded_keepsTicket() {
+        UploadTicket ticket = ticket(Instant.now().plusSeconds(60));
+        when(ticketRepository.findById(ticket.getId())).thenReturn(Optional.of(ticket));
+        when(objectStorage.stat(ticket.getObjectName())).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> uploadTicketService.redeem(ticket.getId().toString(), UploadPurpose.CV, 5L, 1L))
+                .isInstanceOf(HandleException.class)
+                .extracting("code")
+                .isEqualTo(ErrorCode.UPLOAD_NOT_RECEIVED);
+        verify(ticketRepository, never()).delete(any());
+    }
+
+    @Test
+    void redeem_whenTooLarge_deletesObject() {
+        UploadTicket ticket = ticket(Instant.now().plusSeconds(60));
+        when(ticketRepository.findById(ticket.getId())).thenReturn(Optional.of(ticket));
+        when(objectStorage.stat(ticket.getObjectName())).thenReturn(Optional.of(new StoredObject(1001, "application/pdf")));
+
+        assertThatThrownBy(() -> uploadTicketService.redeem(ticket.getId().toString(), UploadPurpose.CV, 5L, 1L))
+                .isInstanceOf(HandleException.class)
+                .extracting("code")
+                .isEqualTo(ErrorCode.UPLOAD_REJECTED);
+        verify(objectStorage).delete(ticket.getObjectName());
+    }
+
+    @Test
+    void redeem_whenContentTypeDiffers_deletesObject() {
+        UploadTicket ticket = ticket(Instant.now().plusSeconds(60));
+        when(ticketRepository.findById(ticket.getId())).thenReturn(Optional.of(ticket));
+        when(objectStorage.stat(ticket.getObjectName())).thenReturn(Optional.of(new StoredObject(10, "text/html")));
+
+        assertThatThrownBy(() -> uploadTicketService.redeem(ticket.getId().toString(), UploadPurpose.CV, 5L, 1L))
+                .isInstanceOf(HandleException.class)
+                .extracting("code")
+                .isEqualTo(ErrorCode.UPLOAD_REJECTED);
+        verify(objectStorage).delete(ticket.getObjectName());
+    }
+
+    @Test
+    void uniqueName_insertsSuffixBeforeExtension() {
+        assertThat(UploadTicketService.uniqueName("dev/profiles/7.jpg")).matches("dev/profiles/7_[0-9a-f]{8}\\.jpg");
+        assertThat(UploadTicketService.uniqueName("dev/v1.2/profiles/7")).matches("dev/v1.2/profiles/7_[0-9a-f]{8}");
+    }
+}
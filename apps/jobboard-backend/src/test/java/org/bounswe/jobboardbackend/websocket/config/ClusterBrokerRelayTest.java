@@ -0,0 +1,109 @@
+package org.bounswe.jobboardbackend.websocket.config;
+
+import org.bounswe.jobboardbackend.websocket.dto.ClusterEnvelope;
+import org.bounswe.jobboardbackend.websocket.service.ClusterTransport;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.util.MimeTypeUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ClusterBrokerRelayTest {
+
+    @Mock
+    private ClusterTransport clusterTransport;
+
+    @Mock
+    private MessageChannel brokerChannel;
+
+    private ClusterBrokerRelay relay;
+
+    @BeforeEach
+    void setUp() {
+        relay = new ClusterBrokerRelay(clusterTransport, brokerChannel);
+    }
+
+    private static Message<byte[]> message(SimpMessageType type, String destination) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(type);
+        accessor.setDestination(destination);
+        accessor.setContentType(MimeTypeUtils.APPLICATION_JSON);
+        return MessageBuilder.createMessage("{\"a\":1}".getBytes(StandardCharsets.UTF_8), accessor.getMessageHeaders());
+    }
+
+    @Test
+    void preSend_ShouldPublishTopicMessages_WhenClustered() {
+        when(clusterTransport.isClustered()).thenReturn(true);
+        when(clusterTransport.nodeId()).thenReturn("node-a");
+        Message<byte[]> message = message(SimpMessageType.MESSAGE, "/topic/conversation/1");
+
+        assertSame(message, relay.preSend(message, brokerChannel));
+
+        ArgumentCaptor<ClusterEnvelope> captor = ArgumentCaptor.forClass(ClusterEnvelope.class);
+        verify(clusterTransport).publish(captor.capture());
+        ClusterEnvelope envelope = captor.getValue();
+        assertEquals("node-a", envelope.origin());
+        assertEquals("/topic/conversation/1", envelope.destination());
+        assertEquals("application/json", envelope.contentType());
+        assertEquals("{\"a\":1}", new String(Base64.getDecoder().decode(envelope.payload()), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void preSend_ShouldNotPublish_ResolvedQueuesOrControlFrames() {
+        when(clusterTransport.isClustered()).thenReturn(true);
+
+        relay.preSend(message(SimpMessageType.MESSAGE, "/queue/notifications-user1"), brokerChannel);
+        relay.preSend(message(SimpMessageType.SUBSCRIBE, "/topic/notifications"), brokerChannel);
+
+        verify(clusterTransport, never()).publish(any());
+    }
+
+    @Test
+    void preSend_ShouldNotPublish_WhenSingleNode() {
+        when(clusterTransport.isClustered()).thenReturn(false);
+
+        relay.preSend(message(SimpMessageType.MESSAGE, "/topic/notifications"), brokerChannel);
+
+        verify(clusterTransport, never()).publish(any());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void deliver_ShouldReplayRemoteMessagesOnce() {
+        ArgumentCaptor<Consumer<ClusterEnvelope>> handler = ArgumentCaptor.forClass(Consumer.class);
+        verify(clusterTransport).onMessage(handler.capture());
+        when(clusterTransport.nodeId()).thenReturn("node-a");
+        String payload = Base64.getEncoder().encodeToString("hi".getBytes(StandardCharsets.UTF_8));
+
+        handler.getValue().accept(new ClusterEnvelope("node-a", "/topic/notifications", null, payload));
+        handler.getValue().accept(new ClusterEnvelope("node-b", "cache:principals", null, "alice"));
+        verifyNoInteractions(brokerChannel);
+
+        handler.getValue().accept(new ClusterEnvelope("node-b", "/user/alice/queue/notifications", "application/json", payload));
+
+        ArgumentCaptor<Message<?>> sent = ArgumentCaptor.forClass(Message.class);
+        verify(brokerChannel).send(sent.capture());
+        Message<?> replayed = sent.getValue();
+        assertEquals("/user/alice/queue/notifications", SimpMessageHeaderAccessor.getDestination(replayed.getHeaders()));
+        assertArrayEquals("hi".getBytes(StandardCharsets.UTF_8), (byte[]) replayed.getPayload());
+
+        when(clusterTransport.isClustered()).thenReturn(true);
+        relay.preSend(replayed, brokerChannel);
+        verify(clusterTransport, never()).publish(any());
+    }
+}
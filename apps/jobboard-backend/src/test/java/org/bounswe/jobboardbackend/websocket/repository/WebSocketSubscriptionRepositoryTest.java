@@ -0,0 +1,50 @@
+package org.bounswe.jobboardbackend.websocket.repository;
+
+import org.bounswe.jobboardbackend.websocket.model.WebSocketSubscription;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.ANY) // Uses H2 in-memory DB
+class WebSocketSubscriptionRepositoryTest {
+
+    @Autowired
+    private WebSocketSubscriptionRepository subscriptionRepository;
+
+    private void subscribe(String node, String session, String sub, String destination, long heartbeatAt) {
+        subscriptionRepository.save(WebSocketSubscription.builder()
+                .nodeId(node)
+                .sessionId(session)
+                .subscriptionId(sub)
+                .username("alice")
+                .destination(destination)
+                .heartbeatAt(heartbeatAt)
+                .build());
+    }
+
+    @Test
+    void existsByUsernameAndDestination_ShouldIgnoreStaleRows() {
+        subscribe("node-b", "s1", "sub-0", "/topic/conversation/1", 100L);
+
+        assertThat(subscriptionRepository.existsByUsernameAndDestinationAndHeartbeatAtGreaterThan("alice", "/topic/conversation/1", 50L)).isTrue();
+        assertThat(subscriptionRepository.existsByUsernameAndDestinationAndHeartbeatAtGreaterThan("alice", "/topic/conversation/1", 100L)).isFalse();
+        assertThat(subscriptionRepository.existsByUsernameAndDestinationAndHeartbeatAtGreaterThan("alice", "/topic/conversation/2", 50L)).isFalse();
+    }
+
+    @Test
+    void heartbeatAndCleanup_ShouldOnlyTouchTheirOwnRows() {
+        subscribe("node-a", "s1", "sub-0", "/topic/conversation/1", 100L);
+        subscribe("node-a", "s1", "sub-1", "/topic/conversation/2", 100L);
+        subscribe("node-b", "s1", "sub-0", "/topic/conversation/3", 100L);
+
+        assertThat(subscriptionRepository.refreshNode("node-a", 500L)).isEqualTo(2);
+        assertThat(subscriptionRepository.deleteStale(200L)).isEqualTo(1);
+        assertThat(subscriptionRepository.deleteSubscription("node-a", "s1", "sub-1")).isEqualTo(1);
+        assertThat(subscriptionRepository.deleteSession("node-a", "s1")).isEqualTo(1);
+        assertThat(subscriptionRepository.count()).isZero();
+    }
+}
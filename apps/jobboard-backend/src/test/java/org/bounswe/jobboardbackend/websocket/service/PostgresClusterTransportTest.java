@@ -0,0 +1,105 @@
+package org.bounswe.jobboardbackend.websocket.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.bounswe.jobboardbackend.websocket.dto.ClusterEnvelope;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.sql.DataSource;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PostgresClusterTransportTest {
+
+    @Mock
+    private DataSource dataSource;
+
+    /** Shared by both nodes, as the database is. */
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private PostgresClusterTransport nodeA;
+    private PostgresClusterTransport nodeB;
+    private final List<ClusterEnvelope> receivedByB = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        nodeA = new PostgresClusterTransport(dataSource, jdbcTemplate, objectMapper, 10);
+        nodeB = new PostgresClusterTransport(dataSource, jdbcTemplate, objectMapper, 10);
+        ReflectionTestUtils.setField(nodeA, "relayTtlMs", 60_000L);
+        nodeB.onMessage(receivedByB::add);
+    }
+
+    private static ClusterEnvelope envelope(String body) {
+        return new ClusterEnvelope("node-a", "/topic/conversation/1", "application/json",
+                Base64.getEncoder().encodeToString(body.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    /** Publishes on node A and returns what it notified, as node B's listener would receive it. */
+    @SuppressWarnings("unchecked")
+    private String publishFromA(ClusterEnvelope envelope) {
+        nodeA.publish(envelope);
+        BlockingQueue<String> outgoing = (BlockingQueue<String>) ReflectionTestUtils.getField(nodeA, "outgoing");
+        nodeA.send(outgoing.poll());
+
+        ArgumentCaptor<String> notified = ArgumentCaptor.forClass(String.class);
+        verify(jdbcTemplate).query(eq("SELECT pg_notify(?, ?)"), any(ResultSetExtractor.class),
+                eq(PostgresClusterTransport.CHANNEL), notified.capture());
+        return notified.getValue();
+    }
+
+    @Test
+    void smallMessage_ShouldTravelInTheNotificationItself() throws Exception {
+        ClusterEnvelope envelope = envelope("{\"content\":\"hi\"}");
+
+        String notified = publishFromA(envelope);
+        nodeB.dispatch(notified);
+
+        assertEquals(objectMapper.writeValueAsString(envelope), notified);
+        assertEquals(List.of(envelope), receivedByB);
+        verify(jdbcTemplate, never()).queryForObject(startsWith("INSERT"), eq(Long.class), any(), any());
+    }
+
+    @Test
+    void oversizedMessage_ShouldReachOtherNodesThroughTheRelayTable() {
+        Map<Long, String> relayTable = new HashMap<>();
+        when(jdbcTemplate.queryForObject(startsWith("INSERT INTO cluster_relay_messages"), eq(Long.class), any(), any()))
+                .thenAnswer(inv -> {
+                    long id = relayTable.size() + 1L;
+                    relayTable.put(id, inv.getArgument(2));
+                    return id;
+                });
+        when(jdbcTemplate.queryForObject(startsWith("SELECT payload FROM cluster_relay_messages"), eq(String.class), any()))
+                .thenAnswer(inv -> relayTable.get((Long) inv.getArgument(2)));
+        ClusterEnvelope envelope = envelope("{\"content\":\"" + "a".repeat(3 * PostgresClusterTransport.MAX_PAYLOAD_BYTES) + "\"}");
+
+        String notified = publishFromA(envelope);
+        nodeB.dispatch(notified);
+
+        assertEquals(PostgresClusterTransport.RELAY_PREFIX + 1, notified);
+        assertEquals(List.of(envelope), receivedByB);
+        verify(jdbcTemplate).update(startsWith("DELETE FROM cluster_relay_messages"), anyLong());
+    }
+}
@@ -0,0 +1,104 @@
+package org.bounswe.jobboardbackend.workplace.repository;
+
+import org.bounswe.jobboardbackend.workplace.model.Workplace;
+import org.bounswe.jobboardbackend.workplace.model.enums.EthicalPolicy;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.ANY) // Uses H2 in-memory DB
+class WorkplaceSpecificationsTest {
+
+    @Autowired
+    private WorkplaceRepository workplaceRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @BeforeEach
+    void setUp() {
+        workplaceRepository.deleteAll();
+
+        save("Acme Tech", "IT", "Istanbul", 45, 10, EnumSet.of(EthicalPolicy.SALARY_TRANSPARENCY, EthicalPolicy.REMOTE_FRIENDLY), false);
+        save("Acme Foods", "Food", "Istanbul", 30, 10, EnumSet.of(EthicalPolicy.SALARY_TRANSPARENCY), false);
+        save("Beta Tech", "IT", "Ankara", 50, 10, EnumSet.of(EthicalPolicy.SALARY_TRANSPARENCY, EthicalPolicy.REMOTE_FRIENDLY), false);
+        save("Acme Labs", "IT", "Istanbul", 0, 0, EnumSet.of(EthicalPolicy.SALARY_TRANSPARENCY, EthicalPolicy.REMOTE_FRIENDLY), false);
+        save("Acme Old", "IT", "Istanbul", 50, 10, EnumSet.of(EthicalPolicy.SALARY_TRANSPARENCY, EthicalPolicy.REMOTE_FRIENDLY), true);
+    }
+
+    private void save(String name, String sector, String location, long ratingSum, long ratingCount,
+                      Set<EthicalPolicy> tags, boolean deleted) {
+        workplaceRepository.save(Workplace.builder()
+                .companyName(name)
+                .sector(sector)
+                .location(location)
+                .shortDescription("Short")
+                .detailedDescription("Detailed")
+                .ethicalTags(tags)
+                .ratingSum(ratingSum)
+                .ratingCount(ratingCount)
+                .ratingAvg(ratingCount == 0 ? 0.0 : (double) ratingSum / ratingCount)
+                .deleted(deleted)
+                .build());
+    }
+
+    @Test
+    @DisplayName("Should apply every filter together and count only matching rows")
+    void combinedFilters_ApplyTogetherWithAccurateTotal() {
+        Specification<Workplace> spec = WorkplaceSpecifications.notDeleted()
+                .and(WorkplaceSpecifications.companyNameContains("acme"))
+                .and(WorkplaceSpecifications.sectorEquals("it"))
+                .and(WorkplaceSpecifications.locationEquals("istanbul"))
+                .and(WorkplaceSpecifications.hasAllEthicalTags(EnumSet.of(EthicalPolicy.REMOTE_FRIENDLY)));
+
+        Page<Workplace> page = workplaceRepository.findAll(spec, PageRequest.of(0, 10, Sort.by("companyName")));
+
+        assertThat(page.getTotalElements()).isEqualTo(2);
+        assertThat(page.getContent()).extracting(Workplace::getCompanyName)
+                .containsExactly("Acme Labs", "Acme Tech");
+    }
+
+    @Test
+    @DisplayName("Should filter by minimum rating and sort by stored average across pages")
+    void ratingFilterAndSort_RunInQuery() {
+        Specification<Workplace> spec = WorkplaceSpecifications.notDeleted()
+                .and(WorkplaceSpecifications.ratingAtLeast(3.0));
+        Sort byRating = Sort.by(Sort.Direction.DESC, "ratingAvg").and(Sort.by(Sort.Direction.DESC, "id"));
+
+        Page<Workplace> first = workplaceRepository.findAll(spec, PageRequest.of(0, 2, byRating));
+        Page<Workplace> second = workplaceRepository.findAll(spec, PageRequest.of(1, 2, byRating));
+
+        assertThat(first.getTotalElements()).isEqualTo(3);
+        assertThat(first.getContent()).extracting(Workplace::getCompanyName)
+                .containsExactly("Beta Tech", "Acme Tech");
+        assertThat(second.getContent()).extracting(Workplace::getCompanyName)
+                .containsExactly("Acme Foods");
+    }
+
+    @Test
+    @DisplayName("Should never drive the review count below zero")
+    void adjustReviewCount_ClampsAtZero() {
+        Workplace wp = workplaceRepository.findAll().getFirst();
+
+        workplaceRepository.adjustReviewCount(wp.getId(), 1);
+        workplaceRepository.adjustReviewCount(wp.getId(), -1);
+        workplaceRepository.adjustReviewCount(wp.getId(), -1);
+        entityManager.clear();
+
+        assertThat(workplaceRepository.findById(wp.getId()).orElseThrow().getReviewCount()).isZero();
+    }
+}
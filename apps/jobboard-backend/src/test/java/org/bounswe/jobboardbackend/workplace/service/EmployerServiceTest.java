@@ -224,7 +224,8 @@ class EmployerServiceTest {
                 .id(wpActive.getId())
                 .companyName(wpActive.getCompanyName())
                 .build();
-        when(workplaceService.toBriefResponse(wpActive)).thenReturn(brief);
+        when(workplaceService.toBriefResponses(List.of(wpActive.getId())))
+                .thenReturn(Map.of(wpActive.getId(), brief));
 
         List<EmployerWorkplaceBrief> result = employerService.listWorkplacesOfEmployer(userId);
 
@@ -59,6 +59,9 @@ class ReviewServiceTest {
         @Mock
         private org.bounswe.jobboardbackend.activity.service.ActivityService activityService;
 
+        @Mock
+        private WorkplaceRatingService workplaceRatingService;
+
         @InjectMocks
         private ReviewService reviewService;
 
@@ -165,7 +168,9 @@ class ReviewServiceTest {
                 assertThat(res.getEthicalPolicyRatings())
                                 .containsEntry(EthicalPolicy.SALARY_TRANSPARENCY.getLabel(), 4);
 
-                verify(workplaceRepository).save(wp);
+                verify(workplaceRepository).adjustReviewCount(workplaceId, 1);
+                verify(workplaceRatingService).addScore(workplaceId, EthicalPolicy.SALARY_TRANSPARENCY, 4);
+                verify(workplaceRepository, never()).save(any(Workplace.class));
                 verify(reviewPolicyRatingRepository, times(1)).findByReview_Id(anyLong());
         }
 
@@ -629,6 +634,7 @@ class ReviewServiceTest {
 
                 verify(reviewPolicyRatingRepository, atLeastOnce()).findByReview_Id(200L);
                 verify(reviewRepository, atLeastOnce()).save(existing);
+                verify(workplaceRatingService).changeScore(workplaceId, EthicalPolicy.SALARY_TRANSPARENCY, 3, 5);
         }
 
         @Test
@@ -779,8 +785,8 @@ class ReviewServiceTest {
                 verify(reviewReplyRepository).delete(reply);
                 verify(reviewPolicyRatingRepository).deleteAll(List.of(rating1));
                 verify(reviewRepository).delete(review);
-                verify(workplaceRepository).save(wp);
-                assertThat(wp.getReviewCount()).isGreaterThanOrEqualTo(0L);
+                verify(workplaceRatingService).removeScore(workplaceId, EthicalPolicy.SALARY_TRANSPARENCY, 4);
+                verify(workplaceRepository).adjustReviewCount(workplaceId, -1);
         }
 
         @Test
@@ -935,7 +941,6 @@ class ReviewServiceTest {
                 verify(reviewReplyRepository).delete(reply);
                 verify(reviewPolicyRatingRepository).deleteAll(List.of(rating));
                 verify(reviewRepository).delete(review);
-                verify(workplaceRepository).save(wp);
-                assertThat(wp.getReviewCount()).isGreaterThanOrEqualTo(0L);
+                verify(workplaceRepository).adjustReviewCount(workplaceId, -1);
         }
 }
\ No newline at end of file
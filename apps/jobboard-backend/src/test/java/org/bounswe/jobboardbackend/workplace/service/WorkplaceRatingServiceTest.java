@@ -0,0 +1,95 @@
+package org.bounswe.jobboardbackend.workplace.service;
+
+import org.bounswe.jobboardbackend.workplace.model.RatingAggregate;
+import org.bounswe.jobboardbackend.workplace.model.Workplace;
+import org.bounswe.jobboardbackend.workplace.model.enums.EthicalPolicy;
+import org.bounswe.jobboardbackend.workplace.repository.ReviewPolicyRatingRepository;
+import org.bounswe.jobboardbackend.workplace.repository.WorkplaceRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class WorkplaceRatingServiceTest {
+
+    @Mock private WorkplaceRepository workplaceRepository;
+    @Mock private ReviewPolicyRatingRepository reviewPolicyRatingRepository;
+
+    @InjectMocks private WorkplaceRatingService workplaceRatingService;
+
+    private Workplace wp;
+
+    @BeforeEach
+    void setUp() {
+        wp = Workplace.builder()
+                .id(1L)
+                .companyName("Acme")
+                .build();
+    }
+
+    @Test
+    void addChangeAndRemoveScore_adjustTotalsInPlace() {
+        workplaceRatingService.addScore(1L, EthicalPolicy.SALARY_TRANSPARENCY, 4);
+        workplaceRatingService.changeScore(1L, EthicalPolicy.EQUAL_PAY_POLICY, 2, 5);
+        workplaceRatingService.removeScore(1L, EthicalPolicy.SALARY_TRANSPARENCY, 4);
+
+        InOrder inOrder = inOrder(workplaceRepository);
+        inOrder.verify(workplaceRepository).adjustRatingTotals(1L, 4, 1);
+        inOrder.verify(workplaceRepository).adjustPolicyRating(1L, "SALARY_TRANSPARENCY", 4, 1);
+        inOrder.verify(workplaceRepository).adjustRatingTotals(1L, 3, 0);
+        inOrder.verify(workplaceRepository).adjustPolicyRating(1L, "EQUAL_PAY_POLICY", 3, 0);
+        inOrder.verify(workplaceRepository).adjustRatingTotals(1L, -4, -1);
+        inOrder.verify(workplaceRepository).adjustPolicyRating(1L, "SALARY_TRANSPARENCY", -4, -1);
+        inOrder.verify(workplaceRepository).deleteEmptyPolicyRating(1L, "SALARY_TRANSPARENCY");
+        verify(workplaceRepository, never()).save(any());
+    }
+
+    @Test
+    void recompute_whenTotalsDrifted_rebuildsFromPolicyScores() {
+        wp.setRatingSum(100L);
+        wp.setRatingCount(1L);
+        wp.getPolicyRatings().put(EthicalPolicy.FLEXIBLE_HOURS, new RatingAggregate(100L, 1L));
+
+        when(reviewPolicyRatingRepository.sumAndCountByPolicyForWorkplaces(List.of(1L)))
+                .thenReturn(List.<Object[]>of(
+                        new Object[] { 1L, EthicalPolicy.SALARY_TRANSPARENCY, 7L, 2L },
+                        new Object[] { 1L, EthicalPolicy.EQUAL_PAY_POLICY, 5L, 1L }));
+        when(workplaceRepository.findAllWithPolicyRatingsByIdIn(List.of(1L))).thenReturn(List.of(wp));
+
+        int repaired = workplaceRatingService.recompute(List.of(1L));
+
+        assertThat(repaired).isEqualTo(1);
+        verify(workplaceRepository).lockAllByIdIn(List.of(1L));
+        assertThat(wp.getRatingSum()).isEqualTo(12L);
+        assertThat(wp.getRatingCount()).isEqualTo(3L);
+        assertThat(wp.getRatingAvg()).isEqualTo(4.0);
+        assertThat(wp.getPolicyRatings()).containsOnlyKeys(
+                EthicalPolicy.SALARY_TRANSPARENCY, EthicalPolicy.EQUAL_PAY_POLICY);
+        verify(workplaceRepository).save(wp);
+    }
+
+    @Test
+    void recompute_whenTotalsMatch_doesNotSave() {
+        wp.setRatingSum(3L);
+        wp.setRatingCount(1L);
+        wp.setRatingAvg(3.0);
+        wp.getPolicyRatings().put(EthicalPolicy.SALARY_TRANSPARENCY, new RatingAggregate(3L, 1L));
+
+        when(reviewPolicyRatingRepository.sumAndCountByPolicyForWorkplaces(List.of(1L)))
+                .thenReturn(List.<Object[]>of(new Object[] { 1L, EthicalPolicy.SALARY_TRANSPARENCY, 3L, 1L }));
+        when(workplaceRepository.findAllWithPolicyRatingsByIdIn(List.of(1L))).thenReturn(List.of(wp));
+
+        assertThat(workplaceRatingService.recompute(List.of(1L))).isZero();
+        verify(workplaceRepository, never()).save(any());
+    }
+}
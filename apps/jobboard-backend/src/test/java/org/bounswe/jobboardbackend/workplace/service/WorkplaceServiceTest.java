@@ -8,6 +8,7 @@ import org.bounswe.jobboardbackend.exception.ErrorCode;
 import org.bounswe.jobboardbackend.profile.repository.ProfileRepository;
 import org.bounswe.jobboardbackend.workplace.dto.*;
 import org.bounswe.jobboardbackend.workplace.model.EmployerWorkplace;
+import org.bounswe.jobboardbackend.workplace.model.RatingAggregate;
 import org.bounswe.jobboardbackend.workplace.model.Workplace;
 import org.bounswe.jobboardbackend.workplace.model.enums.EthicalPolicy;
 import org.bounswe.jobboardbackend.workplace.model.enums.EmployerRole;
@@ -16,6 +17,9 @@ import org.bounswe.jobboardbackend.workplace.repository.EmployerWorkplaceReposit
 import org.bounswe.jobboardbackend.workplace.repository.ReviewPolicyRatingRepository;
 import org.bounswe.jobboardbackend.workplace.repository.ReviewRepository;
 import org.bounswe.jobboardbackend.workplace.repository.WorkplaceRepository;
+import org.bounswe.jobboardbackend.storage.event.ImageDerivativesReadyEvent;
+import org.bounswe.jobboardbackend.storage.model.ImageVariant;
+import org.bounswe.jobboardbackend.storage.model.UploadPurpose;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -24,6 +28,7 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.*;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.time.Instant;
@@ -52,6 +57,12 @@ class WorkplaceServiceTest {
         private ReviewService reviewService;
         @Mock
         private org.bounswe.jobboardbackend.activity.service.ActivityService activityService;
+        @Mock
+        private org.springframework.context.ApplicationEventPublisher eventPublisher;
+        @Mock
+        private org.bounswe.jobboardbackend.storage.service.ObjectStorage objectStorage;
+        @Mock
+        private org.bounswe.jobboardbackend.storage.service.ObjectDeletionQueue deletionQueue;
 
         @InjectMocks
         private WorkplaceService workplaceService;
@@ -79,7 +90,7 @@ class WorkplaceServiceTest {
                                                 EthicalPolicy.SALARY_TRANSPARENCY,
                                                 EthicalPolicy.EQUAL_PAY_POLICY))
                                 .website("https://ethica.example")
-                                .imageUrl(null)
+                                .imageObjectName(null)
                                 .createdAt(Instant.now())
                                 .updatedAt(Instant.now())
                                 .reviewCount(5L)
@@ -149,6 +160,61 @@ class WorkplaceServiceTest {
                                 .isEqualTo(ErrorCode.ACCESS_DENIED);
         }
 
+        @Test
+        void uploadImage_whenReplacingImage_storesUnderFreshNameAndQueuesOldOne() throws Exception {
+                Long workplaceId = 42L;
+                Long userId = 100L;
+                wp.setImageObjectName("workplaces/42.png");
+                wp.setImageThumbnailObjectName("workplaces/42_thumb.png");
+
+                MultipartFile file = mock(MultipartFile.class);
+                when(file.isEmpty()).thenReturn(false);
+                when(file.getContentType()).thenReturn("image/png");
+                when(file.getOriginalFilename()).thenReturn("logo.png");
+                when(workplaceRepository.findById(workplaceId)).thenReturn(Optional.of(wp));
+                when(employerWorkplaceRepository.existsByWorkplace_IdAndUser_Id(workplaceId, userId))
+                                .thenReturn(true);
+                when(objectStorage.upload(anyString(), eq(file), eq("image/png"))).thenReturn("https://cdn/new.png");
+                when(objectStorage.toObjectName("workplaces/42.png")).thenCallRealMethod();
+
+                workplaceService.uploadImage(workplaceId, file, userId);
+
+                ArgumentCaptor<String> name = ArgumentCaptor.forClass(String.class);
+                verify(objectStorage).upload(name.capture(), eq(file), eq("image/png"));
+                assertThat(name.getValue()).isNotEqualTo("workplaces/42.png").matches(".*_[0-9a-f]{8}\\.png");
+                assertThat(wp.getImageObjectName()).isEqualTo(name.getValue());
+                verify(deletionQueue).enqueue("workplaces/42.png", "workplaces/42_thumb.png", null);
+        }
+
+        @Test
+        void onImageDerivativesReady_whenSourceIsCurrent_recordsDerivatives() {
+                Map<ImageVariant, String> derivatives = Map.of(
+                                ImageVariant.THUMBNAIL, "workplaces/42_thumb.jpg",
+                                ImageVariant.MEDIUM, "workplaces/42_medium.jpg");
+                when(workplaceRepository.attachImageDerivatives(42L, "workplaces/42.png",
+                                "workplaces/42_thumb.jpg", "workplaces/42_medium.jpg")).thenReturn(1);
+
+                workplaceService.onImageDerivativesReady(new ImageDerivativesReadyEvent(
+                                UploadPurpose.WORKPLACE_IMAGE, 42L, "workplaces/42.png", derivatives));
+
+                verify(deletionQueue, never()).enqueueAll(any());
+                verify(workplaceRepository, never()).findById(any());
+        }
+
+        @Test
+        void onImageDerivativesReady_whenImageWasReplaced_deletesDerivatives() {
+                Map<ImageVariant, String> derivatives = Map.of(
+                                ImageVariant.THUMBNAIL, "workplaces/42_thumb.jpg",
+                                ImageVariant.MEDIUM, "workplaces/42_medium.jpg");
+                when(workplaceRepository.attachImageDerivatives(any(), any(), any(), any())).thenReturn(0);
+
+                workplaceService.onImageDerivativesReady(new ImageDerivativesReadyEvent(
+                                UploadPurpose.WORKPLACE_IMAGE, 42L, "workplaces/42.png", derivatives));
+
+                verify(deletionQueue).enqueueAll(argThat(names -> names.size() == 2
+                                && names.containsAll(derivatives.values())));
+        }
+
         @Test
         void deleteImage_whenEmployerAndNoImageUrl_succeedsWithoutError() {
                 Long workplaceId = 42L;
@@ -156,7 +222,7 @@ class WorkplaceServiceTest {
                 Workplace w = Workplace.builder()
                                 .id(workplaceId)
                                 .companyName("No Image Corp")
-                                .imageUrl(null)
+                                .imageObjectName(null)
                                 .build();
 
                 when(workplaceRepository.findById(workplaceId))
@@ -202,13 +268,13 @@ class WorkplaceServiceTest {
         }
 
         @Test
-        void deleteImage_whenEmployerAndHasImageUrl_clearsImageUrl() {
+        void deleteImage_whenEmployerAndHasImage_clearsImageAndDeletesObject() {
                 Long workplaceId = 42L;
                 Long userId = 100L;
                 Workplace w = Workplace.builder()
                                 .id(workplaceId)
                                 .companyName("Image Corp")
-                                .imageUrl("https://storage.googleapis.com/bounswe-jobboard/workplaces/42.jpg")
+                                .imageObjectName("workplaces/42.jpg")
                                 .build();
 
                 when(workplaceRepository.findById(workplaceId))
@@ -218,7 +284,9 @@ class WorkplaceServiceTest {
 
                 workplaceService.deleteImage(workplaceId, userId);
 
-                assertThat(w.getImageUrl()).isNull();
+                assertThat(w.getImageObjectName()).isNull();
+                verify(deletionQueue).enqueue("workplaces/42.jpg", null, null);
+                verify(objectStorage, never()).delete(any());
         }
 
         // =========
@@ -252,10 +320,6 @@ class WorkplaceServiceTest {
                 when(employerWorkplaceRepository.save(any(EmployerWorkplace.class)))
                                 .thenAnswer(inv -> inv.getArgument(0));
 
-                when(reviewRepository.averageOverallByWorkplaceUsingPolicies(anyLong()))
-                                .thenReturn(null);
-                when(reviewPolicyRatingRepository.averageByPolicyForWorkplace(anyLong()))
-                                .thenReturn(Collections.emptyList());
                 when(employerWorkplaceRepository.findByWorkplace_Id(anyLong()))
                                 .thenReturn(Collections.emptyList());
 
@@ -316,56 +380,46 @@ class WorkplaceServiceTest {
         // =========
 
         @Test
-        void listBrief_appliesFiltersByEthicalTagAndMinRating() {
+        void listBrief_appliesEthicalTagAndMinRatingInQuery() {
+                // tag and rating filters are part of the query, so only matching workplaces come back
                 Workplace w1 = Workplace.builder()
                                 .id(1L)
                                 .companyName("A Corp")
                                 .ethicalTags(EnumSet.of(EthicalPolicy.SALARY_TRANSPARENCY))
                                 .reviewCount(3L)
                                 .build();
+                rate(w1, EthicalPolicy.SALARY_TRANSPARENCY, 40, 10);
 
-                Workplace w2 = Workplace.builder()
-                                .id(2L)
-                                .companyName("B Corp")
-                                .ethicalTags(EnumSet.of(EthicalPolicy.EQUAL_PAY_POLICY))
-                                .reviewCount(1L)
-                                .build();
+                Page<Workplace> page = new PageImpl<>(List.of(w1), PageRequest.of(0, 10), 1);
 
-                Page<Workplace> page = new PageImpl<>(List.of(w1, w2), PageRequest.of(0, 10), 2);
-
-                when(workplaceRepository.findByDeletedFalse(any(Pageable.class)))
+                when(workplaceRepository.findAll(any(Specification.class), any(Pageable.class)))
                                 .thenReturn(page);
-
-                when(reviewRepository.averageOverallByWorkplaceUsingPolicies(1L))
-                                .thenReturn(4.0);
-                when(reviewRepository.averageOverallByWorkplaceUsingPolicies(2L))
-                                .thenReturn(2.0);
-
-                when(reviewPolicyRatingRepository.averageByPolicyForWorkplace(anyLong()))
-                                .thenReturn(Collections.emptyList());
+                when(workplaceRepository.findAllForBriefByIdIn(anyCollection())).thenReturn(page.getContent());
 
                 PaginatedResponse<WorkplaceBriefResponse> res = workplaceService.listBrief(
                                 0, 10,
-                                null, // sector
-                                null, // location
+                                "Tech", // sector
+                                "Istanbul", // location
                                 EthicalPolicy.SALARY_TRANSPARENCY.getLabel(), // filter only this tag
                                 3.0, // min rating
                                 null, // sortBy
-                                null // search
+                                "A" // search
                 );
 
                 assertThat(res).isNotNull();
                 assertThat(res.getContent()).hasSize(1);
+                assertThat(res.getTotalElements()).isEqualTo(1);
                 WorkplaceBriefResponse brief = res.getContent().getFirst();
                 assertThat(brief.getId()).isEqualTo(1L);
                 assertThat(brief.getCompanyName()).isEqualTo("A Corp");
                 assertThat(brief.getOverallAvg()).isEqualTo(4.0);
                 assertThat(brief.getEthicalTags())
                                 .contains(EthicalPolicy.SALARY_TRANSPARENCY.getLabel());
+                verify(workplaceRepository).findAll(any(Specification.class), any(Pageable.class));
         }
 
         @Test
-        void listBrief_whenSortByRating_sortsByOverallAvgDescAndNullsLast() {
+        void listBrief_whenSortByRating_sortsInQueryByStoredAverage() {
                 Workplace w1 = Workplace.builder()
                                 .id(1L)
                                 .companyName("A Corp")
@@ -375,7 +429,7 @@ class WorkplaceServiceTest {
                 Workplace w2 = Workplace.builder()
                                 .id(2L)
                                 .companyName("B Corp")
-                                .reviewCount(1L)
+                                .reviewCount(0L)
                                 .build();
 
                 Workplace w3 = Workplace.builder()
@@ -384,20 +438,16 @@ class WorkplaceServiceTest {
                                 .reviewCount(1L)
                                 .build();
 
-                Page<Workplace> page = new PageImpl<>(List.of(w1, w2, w3), PageRequest.of(0, 10), 3);
+                rate(w1, EthicalPolicy.SALARY_TRANSPARENCY, 35, 10);
+                rate(w3, EthicalPolicy.SALARY_TRANSPARENCY, 47, 10);
 
-                when(workplaceRepository.findByDeletedFalse(any(Pageable.class)))
-                                .thenReturn(page);
-
-                when(reviewRepository.averageOverallByWorkplaceUsingPolicies(1L))
-                                .thenReturn(3.5); // middle
-                when(reviewRepository.averageOverallByWorkplaceUsingPolicies(2L))
-                                .thenReturn(null); // should go last
-                when(reviewRepository.averageOverallByWorkplaceUsingPolicies(3L))
-                                .thenReturn(4.7); // highest
+                // database order for ratingAvg desc, unrated (ratingAvg = 0) last
+                Page<Workplace> page = new PageImpl<>(List.of(w3, w1, w2), PageRequest.of(0, 10), 3);
 
-                when(reviewPolicyRatingRepository.averageByPolicyForWorkplace(anyLong()))
-                                .thenReturn(Collections.emptyList());
+                ArgumentCaptor<Pageable> pageableCaptor = ArgumentCaptor.forClass(Pageable.class);
+                when(workplaceRepository.findAll(any(Specification.class), pageableCaptor.capture()))
+                                .thenReturn(page);
+                when(workplaceRepository.findAllForBriefByIdIn(anyCollection())).thenReturn(page.getContent());
 
                 PaginatedResponse<WorkplaceBriefResponse> res = workplaceService.listBrief(
                                 0, 10,
@@ -408,101 +458,50 @@ class WorkplaceServiceTest {
                                 "ratingDesc",
                                 null);
 
-                assertThat(res).isNotNull();
-                assertThat(res.getContent()).hasSize(3);
+                Sort.Order order = pageableCaptor.getValue().getSort().getOrderFor("ratingAvg");
+                assertThat(order).isNotNull();
+                assertThat(order.getDirection()).isEqualTo(Sort.Direction.DESC);
 
                 List<WorkplaceBriefResponse> items = res.getContent();
-
-                assertThat(items.getFirst().getId()).isEqualTo(3L);
-                assertThat(items.get(1).getId()).isEqualTo(1L);
-                assertThat(items.get(2).getId()).isEqualTo(2L);
-
+                assertThat(items).extracting(WorkplaceBriefResponse::getId).containsExactly(3L, 1L, 2L);
                 assertThat(items.get(0).getOverallAvg()).isEqualTo(4.7);
                 assertThat(items.get(1).getOverallAvg()).isEqualTo(3.5);
                 assertThat(items.get(2).getOverallAvg()).isNull();
         }
 
         @Test
-        void listBrief_whenSortByReviewCountDesc_sortsByReviewCountThenRating() {
-                Workplace w1 = Workplace.builder()
-                                .id(1L)
-                                .companyName("A Corp")
-                                .reviewCount(5L)
-                                .build();
-                Workplace w2 = Workplace.builder()
-                                .id(2L)
-                                .companyName("B Corp")
-                                .reviewCount(10L)
-                                .build();
-
-                Page<Workplace> page = new PageImpl<>(List.of(w1, w2), PageRequest.of(0, 10), 2);
-
-                when(workplaceRepository.findByDeletedFalse(any(Pageable.class)))
-                                .thenReturn(page);
-                when(reviewRepository.averageOverallByWorkplaceUsingPolicies(1L)).thenReturn(3.0);
-                when(reviewRepository.averageOverallByWorkplaceUsingPolicies(2L)).thenReturn(4.0);
-                when(reviewPolicyRatingRepository.averageByPolicyForWorkplace(anyLong()))
-                                .thenReturn(Collections.emptyList());
+        void listBrief_whenSortByReviewCountDesc_sortsInQueryByReviewCountThenRating() {
+                Pageable pageable = listBriefPageable("reviewCountDesc");
 
-                PaginatedResponse<WorkplaceBriefResponse> res = workplaceService.listBrief(
-                                0, 10,
-                                null,
-                                null,
-                                null,
-                                null,
-                                "reviewCountDesc",
-                                null);
-
-                assertThat(res.getContent()).hasSize(2);
-                assertThat(res.getContent().getFirst().getId()).isEqualTo(2L);
+                assertThat(pageable.getSort().getOrderFor("reviewCount").getDirection()).isEqualTo(Sort.Direction.DESC);
+                assertThat(pageable.getSort().getOrderFor("ratingAvg").getDirection()).isEqualTo(Sort.Direction.DESC);
         }
 
         @Test
-        void listBrief_whenSortByReviewCountAsc_sortsByReviewCountThenRating() {
-                Workplace w1 = Workplace.builder()
-                                .id(1L)
-                                .companyName("A Corp")
-                                .reviewCount(5L)
-                                .build();
-                Workplace w2 = Workplace.builder()
-                                .id(2L)
-                                .companyName("B Corp")
-                                .reviewCount(10L)
-                                .build();
+        void listBrief_whenSortByReviewCountAsc_sortsInQueryByReviewCountThenRating() {
+                Pageable pageable = listBriefPageable("reviewCountAsc");
 
-                Page<Workplace> page = new PageImpl<>(List.of(w1, w2), PageRequest.of(0, 10), 2);
+                assertThat(pageable.getSort().getOrderFor("reviewCount").getDirection()).isEqualTo(Sort.Direction.ASC);
+                assertThat(pageable.getSort().getOrderFor("ratingAvg").getDirection()).isEqualTo(Sort.Direction.ASC);
+        }
 
-                when(workplaceRepository.findByDeletedFalse(any(Pageable.class)))
-                                .thenReturn(page);
-                when(reviewRepository.averageOverallByWorkplaceUsingPolicies(1L)).thenReturn(3.0);
-                when(reviewRepository.averageOverallByWorkplaceUsingPolicies(2L)).thenReturn(4.0);
-                when(reviewPolicyRatingRepository.averageByPolicyForWorkplace(anyLong()))
-                                .thenReturn(Collections.emptyList());
+        private Pageable listBriefPageable(String sortBy) {
+                ArgumentCaptor<Pageable> pageableCaptor = ArgumentCaptor.forClass(Pageable.class);
+                when(workplaceRepository.findAll(any(Specification.class), pageableCaptor.capture()))
+                                .thenReturn(Page.empty());
 
-                PaginatedResponse<WorkplaceBriefResponse> res = workplaceService.listBrief(
-                                0, 10,
-                                null,
-                                null,
-                                null,
-                                null,
-                                "reviewCountAsc",
-                                null);
+                workplaceService.listBrief(0, 10, null, null, null, null, sortBy, null);
 
-                assertThat(res.getContent()).hasSize(2);
-                assertThat(res.getContent().getFirst().getId()).isEqualTo(1L);
+                return pageableCaptor.getValue();
         }
 
         @Test
-        void listBrief_whenSearchProvided_usesSearchRepositoryMethod() {
+        void listBrief_whenSearchProvided_queriesWithSpecification() {
                 Page<Workplace> page = new PageImpl<>(List.of(wp), PageRequest.of(0, 10), 1);
 
-                when(workplaceRepository.findByDeletedFalseAndCompanyNameContainingIgnoreCase(eq("Ethica"),
-                                any(Pageable.class)))
+                when(workplaceRepository.findAll(any(Specification.class), any(Pageable.class)))
                                 .thenReturn(page);
-                when(reviewRepository.averageOverallByWorkplaceUsingPolicies(anyLong()))
-                                .thenReturn(null);
-                when(reviewPolicyRatingRepository.averageByPolicyForWorkplace(anyLong()))
-                                .thenReturn(Collections.emptyList());
+                when(workplaceRepository.findAllForBriefByIdIn(anyCollection())).thenReturn(page.getContent());
 
                 PaginatedResponse<WorkplaceBriefResponse> res = workplaceService.listBrief(
                                 0, 10,
@@ -514,20 +513,16 @@ class WorkplaceServiceTest {
                                 "Ethica");
 
                 assertThat(res.getContent()).hasSize(1);
-                verify(workplaceRepository).findByDeletedFalseAndCompanyNameContainingIgnoreCase(eq("Ethica"),
-                                any(Pageable.class));
+                verify(workplaceRepository).findAll(any(Specification.class), any(Pageable.class));
         }
 
         @Test
-        void listBrief_whenSectorProvided_usesSectorRepositoryMethod() {
+        void listBrief_whenSectorProvided_queriesWithSpecification() {
                 Page<Workplace> page = new PageImpl<>(List.of(wp), PageRequest.of(0, 10), 1);
 
-                when(workplaceRepository.findByDeletedFalseAndSectorIgnoreCase(eq("Tech"), any(Pageable.class)))
+                when(workplaceRepository.findAll(any(Specification.class), any(Pageable.class)))
                                 .thenReturn(page);
-                when(reviewRepository.averageOverallByWorkplaceUsingPolicies(anyLong()))
-                                .thenReturn(null);
-                when(reviewPolicyRatingRepository.averageByPolicyForWorkplace(anyLong()))
-                                .thenReturn(Collections.emptyList());
+                when(workplaceRepository.findAllForBriefByIdIn(anyCollection())).thenReturn(page.getContent());
 
                 PaginatedResponse<WorkplaceBriefResponse> res = workplaceService.listBrief(
                                 0, 10,
@@ -539,19 +534,16 @@ class WorkplaceServiceTest {
                                 null);
 
                 assertThat(res.getContent()).hasSize(1);
-                verify(workplaceRepository).findByDeletedFalseAndSectorIgnoreCase(eq("Tech"), any(Pageable.class));
+                verify(workplaceRepository).findAll(any(Specification.class), any(Pageable.class));
         }
 
         @Test
-        void listBrief_whenLocationProvided_usesLocationRepositoryMethod() {
+        void listBrief_whenLocationProvided_queriesWithSpecification() {
                 Page<Workplace> page = new PageImpl<>(List.of(wp), PageRequest.of(0, 10), 1);
 
-                when(workplaceRepository.findByDeletedFalseAndLocationIgnoreCase(eq("Istanbul"), any(Pageable.class)))
+                when(workplaceRepository.findAll(any(Specification.class), any(Pageable.class)))
                                 .thenReturn(page);
-                when(reviewRepository.averageOverallByWorkplaceUsingPolicies(anyLong()))
-                                .thenReturn(null);
-                when(reviewPolicyRatingRepository.averageByPolicyForWorkplace(anyLong()))
-                                .thenReturn(Collections.emptyList());
+                when(workplaceRepository.findAllForBriefByIdIn(anyCollection())).thenReturn(page.getContent());
 
                 PaginatedResponse<WorkplaceBriefResponse> res = workplaceService.listBrief(
                                 0, 10,
@@ -563,8 +555,46 @@ class WorkplaceServiceTest {
                                 null);
 
                 assertThat(res.getContent()).hasSize(1);
-                verify(workplaceRepository).findByDeletedFalseAndLocationIgnoreCase(eq("Istanbul"),
-                                any(Pageable.class));
+                verify(workplaceRepository).findAll(any(Specification.class), any(Pageable.class));
+        }
+
+        private static void rate(Workplace w, EthicalPolicy policy, long sum, long count) {
+                w.getPolicyRatings().put(policy, new RatingAggregate(sum, count));
+                w.setRatingSum(w.getRatingSum() + sum);
+                w.setRatingCount(w.getRatingCount() + count);
+                w.setRatingAvg((double) w.getRatingSum() / w.getRatingCount());
+        }
+
+        @Test
+        void toBriefResponses_assemblesAllWorkplacesWithOneQuery() {
+                Workplace other = Workplace.builder()
+                                .id(43L)
+                                .companyName("Other Corp")
+                                .reviewCount(0L)
+                                .build();
+                rate(wp, EthicalPolicy.SALARY_TRANSPARENCY, 8, 2);
+                rate(wp, EthicalPolicy.EQUAL_PAY_POLICY, 9, 2);
+
+                when(workplaceRepository.findAllForBriefByIdIn(anyCollection()))
+                                .thenReturn(List.of(wp, other));
+
+                Map<Long, WorkplaceBriefResponse> res = workplaceService.toBriefResponses(List.of(42L, 43L, 42L));
+
+                assertThat(res).containsOnlyKeys(42L, 43L);
+                assertThat(res.get(42L).getOverallAvg()).isEqualTo(4.3);
+                assertThat(res.get(42L).getEthicalAverages())
+                                .containsEntry(EthicalPolicy.SALARY_TRANSPARENCY.getLabel(), 4.0)
+                                .containsEntry(EthicalPolicy.EQUAL_PAY_POLICY.getLabel(), 4.5);
+                assertThat(res.get(43L).getOverallAvg()).isNull();
+                assertThat(res.get(43L).getEthicalAverages()).isEmpty();
+                verify(workplaceRepository).findAllForBriefByIdIn(Set.of(42L, 43L));
+                verifyNoInteractions(reviewRepository);
+        }
+
+        @Test
+        void toBriefResponses_whenNoIds_runsNoQueries() {
+                assertThat(workplaceService.toBriefResponses(List.of())).isEmpty();
+                verifyNoInteractions(workplaceRepository, reviewRepository);
         }
 
         @Test
@@ -585,10 +615,6 @@ class WorkplaceServiceTest {
 
                 when(workplaceRepository.findById(workplaceId))
                                 .thenReturn(Optional.of(wp));
-                when(reviewRepository.averageOverallByWorkplaceUsingPolicies(workplaceId))
-                                .thenReturn(4.0);
-                when(reviewPolicyRatingRepository.averageByPolicyForWorkplace(workplaceId))
-                                .thenReturn(Collections.emptyList());
                 when(employerWorkplaceRepository.findByWorkplace_Id(workplaceId))
                                 .thenReturn(Collections.emptyList());
 
@@ -610,11 +636,7 @@ class WorkplaceServiceTest {
                 when(workplaceRepository.findById(workplaceId))
                                 .thenReturn(Optional.of(wp));
 
-                when(reviewRepository.averageOverallByWorkplaceUsingPolicies(workplaceId))
-                                .thenReturn(4.5);
-                when(reviewPolicyRatingRepository.averageByPolicyForWorkplace(workplaceId))
-                                .thenReturn(List.<Object[]>of(
-                                                new Object[] { EthicalPolicy.SALARY_TRANSPARENCY, 4.5d }));
+                rate(wp, EthicalPolicy.SALARY_TRANSPARENCY, 9, 2);
 
                 User reviewer = User.builder()
                                 .id(300L)
@@ -696,10 +718,6 @@ class WorkplaceServiceTest {
                 when(workplaceRepository.save(any(Workplace.class)))
                                 .thenAnswer(inv -> inv.getArgument(0));
 
-                when(reviewRepository.averageOverallByWorkplaceUsingPolicies(workplaceId))
-                                .thenReturn(3.5);
-                when(reviewPolicyRatingRepository.averageByPolicyForWorkplace(workplaceId))
-                                .thenReturn(Collections.emptyList());
                 when(employerWorkplaceRepository.findByWorkplace_Id(workplaceId))
                                 .thenReturn(Collections.emptyList());
 
@@ -787,13 +805,8 @@ class WorkplaceServiceTest {
                 when(workplaceRepository.findById(workplaceId))
                                 .thenReturn(Optional.of(wp));
 
-                when(reviewRepository.averageOverallByWorkplaceUsingPolicies(workplaceId))
-                                .thenReturn(4.0);
-
-                when(reviewPolicyRatingRepository.averageByPolicyForWorkplace(workplaceId))
-                                .thenReturn(List.of(
-                                                new Object[] { EthicalPolicy.SALARY_TRANSPARENCY, 4.2d },
-                                                new Object[] { EthicalPolicy.EQUAL_PAY_POLICY, 3.6d }));
+                rate(wp, EthicalPolicy.SALARY_TRANSPARENCY, 42, 10);
+                rate(wp, EthicalPolicy.EQUAL_PAY_POLICY, 18, 5);
 
                 WorkplaceRatingResponse res = workplaceService.getRating(workplaceId);
 
@@ -807,9 +820,8 @@ class WorkplaceServiceTest {
                 assertThat(res.getOverallAvg()).isEqualTo(4.0);
                 assertThat(res.getReviewCount()).isEqualTo(5L);
 
-                verify(reviewPolicyRatingRepository).averageByPolicyForWorkplace(workplaceId);
-                verify(reviewRepository).averageOverallByWorkplaceUsingPolicies(workplaceId);
                 verify(workplaceRepository).findById(workplaceId);
+                verifyNoInteractions(reviewRepository);
         }
 
         // =========
@@ -865,4 +877,20 @@ class WorkplaceServiceTest {
                                 .extracting("code")
                                 .isEqualTo(ErrorCode.WORKPLACE_NOT_FOUND);
         }
-}
\ No newline at end of file
+
+        @Test
+        void listBrief_whenEthicalTagUnknown_returnsEmptyPageWithoutQuery() {
+                PaginatedResponse<WorkplaceBriefResponse> res = workplaceService.listBrief(
+                                0, 10,
+                                null,
+                                null,
+                                "Not A Real Policy",
+                                null,
+                                null,
+                                null);
+
+                assertThat(res.getContent()).isEmpty();
+                assertThat(res.getTotalElements()).isZero();
+                verifyNoInteractions(workplaceRepository);
+        }
+}